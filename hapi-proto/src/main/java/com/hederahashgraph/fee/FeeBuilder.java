@@ -23,7 +23,6 @@ package com.hederahashgraph.fee;
 import com.hederahashgraph.api.proto.java.*;
 import com.hederahashgraph.exception.InvalidTxBodyException;
 
-import java.math.BigInteger;
 import java.util.List;
 
 /**
@@ -49,6 +48,7 @@ public class FeeBuilder {
   public static final int FEE_DIVISOR_FACTOR = 1000;
   public static final int SIGNATURE_SIZE = 64;
   public static final int HRS_DIVISOR = 3600;
+  private static final long LOW_32_BITS = 0xFFFF_FFFFL;
   public static final int BASIC_ACCT_AMT_SIZE = (4 * LONG_SIZE);
   public static final int BASIC_ACCTID_SIZE = (3 * LONG_SIZE);
   public static final int BASIC_TX_ID_SIZE = BASIC_ACCTID_SIZE + LONG_SIZE;
@@ -354,14 +354,54 @@ public class FeeBuilder {
    * @return tinyHbars
    */
   public static long getTinybarsFromTinyCents(ExchangeRate exchangeRate, long tinyCentsFee) {
-    BigInteger hbarMultiplier = BigInteger.valueOf(Long.valueOf(exchangeRate.getHbarEquiv()));
-    BigInteger centsDivisor = BigInteger.valueOf(Long.valueOf(exchangeRate.getCentEquiv()));
-    BigInteger feeInBigInt = BigInteger.valueOf(tinyCentsFee);
-    feeInBigInt = feeInBigInt.multiply(hbarMultiplier);
-    feeInBigInt = feeInBigInt.divide(centsDivisor);
-    return feeInBigInt.longValue();
+    return getTinybarsFromTinyCents(exchangeRate.getHbarEquiv(), exchangeRate.getCentEquiv(), tinyCentsFee);
   }
 
+  /**
+   * Convert tinyCents to tinybars given the hbar and cent equivalents of an exchange rate. The
+   * result is exactly that of the {@code BigInteger} computation {@code (tinyCentsFee * hbarEquiv)
+   * / centEquiv} truncated to a {@code long}; but the product is only widened past 64 bits (using
+   * {@link Math#multiplyHigh(long, long)}) in the rare case it overflows, and nothing is allocated.
+   *
+   * @return tinyHbars
+   * @throws ArithmeticException if {@code centEquiv} is zero
+   */
+  public static long getTinybarsFromTinyCents(int hbarEquiv, int centEquiv, long tinyCentsFee) {
+    long product = tinyCentsFee * hbarEquiv;
+    long high = Math.multiplyHigh(tinyCentsFee, hbarEquiv);
+    if (high == (product >> 63)) {
+      return product / centEquiv;
+    }
+    return low64OfQuotient(high, product, centEquiv);
+  }
+
+  /**
+   * Returns the low 64 bits of the quotient (truncated toward zero) of the signed 128-bit
+   * dividend {@code high:low} by a divisor whose magnitude is at most 2^31.
+   */
+  private static long low64OfQuotient(long high, long low, long divisor) {
+    if (divisor == 0) {
+      throw new ArithmeticException("/ by zero");
+    }
+    boolean isNegative = (high < 0) != (divisor < 0);
+    if (high < 0) {
+      high = ~high + (low == 0 ? 1 : 0);
+      low = -low;
+    }
+    long d = Math.abs(divisor);
+    /* The remainder is always below 2^31, so each 64-bit partial dividend is non-negative. */
+    long partial = high >>> 32;
+    long rem = partial % d;
+    partial = (rem << 32) | (high & LOW_32_BITS);
+    rem = partial % d;
+    partial = (rem << 32) | (low >>> 32);
+    long upperQuotient = partial / d;
+    rem = partial % d;
+    partial = (rem << 32) | (low & LOW_32_BITS);
+    long lowerQuotient = partial / d;
+    long quotient = (upperQuotient << 32) | lowerQuotient;
+    return isNegative ? -quotient : quotient;
+  }
 
   public static FeeData getFeeDataMatrices(FeeComponents feeComponents, int payerVpt, long rbsNetwork) {
 
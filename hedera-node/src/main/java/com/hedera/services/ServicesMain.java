@@ -150,16 +150,14 @@ public class ServicesMain implements SwirldMain {
 		log.info("Record stream started.");
 		startNettyIfAppropriate();
 		log.info("Netty started.");
-		createSystemAccountsIfNeeded();
-		log.info("System accounts rationalized.");
-		validateLedgerState();
-		log.info("Ledger state ok.");
+		timed(this::scanAccounts, "Accounts scanned");
+		timed(this::createSystemAccountsIfNeeded, "System accounts rationalized");
+		timed(this::validateLedgerState, "Ledger state ok");
 		createSystemFilesIfNeeded();
 		log.info("System files rationalized.");
-		exportAccountsIfDesired();
-		log.info("Accounts exported.");
-		reviewRecordExpirations();
-		log.info("Record expiration reviewed.");
+		timed(this::exportAccountsIfDesired, "Accounts exported");
+		timed(this::reviewRecordExpirations, "Record expiration reviewed");
+		ctx.releaseAccountsScan();
 		loadFeeSchedule();
 		log.info("Fee schedule loaded.");
 		sanitizeProperties();
@@ -168,6 +166,16 @@ public class ServicesMain implements SwirldMain {
 		startTimerTasksIfNeeded();
 	}
 
+	private void timed(Runnable phase, String desc) {
+		long start = System.nanoTime();
+		phase.run();
+		log.info("{} in {}ms.", desc, (System.nanoTime() - start) / 1_000_000L);
+	}
+
+	private void scanAccounts() {
+		ctx.accountsScan();
+	}
+
 	private void startRecordStreamThread() {
 		ctx.recordStreamThread().start();
 	}
@@ -175,7 +183,7 @@ public class ServicesMain implements SwirldMain {
 	private void exportAccountsIfDesired() {
 		try {
 			String path = ctx.properties().getStringProperty("hedera.accountsExportPath");
-			ctx.accountsExporter().toFile(ctx.accounts(), path);
+			ctx.accountsExporter().toFile(ctx.accountsScan(), path);
 		} catch (Exception e) {
 			throw new IllegalStateException("Could not export accounts!", e);
 		}
@@ -205,6 +213,10 @@ public class ServicesMain implements SwirldMain {
 		try {
 			ctx.systemAccountsCreator().ensureSystemAccounts(ctx.backingAccounts(), ctx.addressBook());
 			ctx.pause().forMs(SUGGESTED_POST_CREATION_PAUSE_MS);
+			if (ctx.accounts().size() != ctx.accountsScan().size()) {
+				/* Accounts were just created (e.g. at genesis), so the next use of the scan must repeat it. */
+				ctx.releaseAccountsScan();
+			}
 		} catch (Exception e) {
 			throw new IllegalStateException("Could not create system accounts!", e);
 		}
@@ -266,8 +278,9 @@ public class ServicesMain implements SwirldMain {
 	}
 
 	private void validateLedgerState() {
-		ctx.ledgerValidator().assertIdsAreValid(ctx.accounts());
-		if (!ctx.ledgerValidator().hasExpectedTotalBalance(ctx.accounts())) {
+		var scan = ctx.accountsScan();
+		ctx.ledgerValidator().assertIdsAreValid(scan);
+		if (!ctx.ledgerValidator().hasExpectedTotalBalance(scan)) {
 			log.error("Unexpected total balance in ledger, nodeId={}!", ctx.id());
 			throw new IllegalStateException("Invalid total tinyBar float!");
 		}
@@ -277,7 +290,7 @@ public class ServicesMain implements SwirldMain {
 	}
 
 	private void reviewRecordExpirations() {
-		ctx.recordsHistorian().reviewExistingRecords();
+		ctx.recordsHistorian().reviewExistingRecords(ctx.accountsScan());
 	}
 
 	void logInfoWithConsoleEcho(String s) {
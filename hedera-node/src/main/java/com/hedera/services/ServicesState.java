@@ -32,6 +32,7 @@ import com.hedera.services.state.merkle.MerkleEntityId;
 import com.hedera.services.state.merkle.MerkleBlobMeta;
 import com.hedera.services.state.merkle.MerkleOptionalBlob;
 import com.hedera.services.state.submerkle.ExchangeRates;
+import com.hedera.services.state.submerkle.ExpirableTxnRecord;
 import com.hedera.services.state.submerkle.SequenceNumber;
 import com.hedera.services.utils.JvmSystemExits;
 import com.hedera.services.utils.PlatformTxnAccessor;
@@ -51,6 +52,7 @@ import com.swirlds.common.io.SerializableDataOutputStream;
 import com.swirlds.common.merkle.MerkleNode;
 import com.swirlds.common.merkle.utility.AbstractMerkleInternal;
 import com.swirlds.fcmap.FCMap;
+import com.swirlds.fcqueue.FCQueue;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -71,7 +73,9 @@ import static com.hedera.services.utils.EntityIdUtils.accountParsedFromString;
 public class ServicesState extends AbstractMerkleInternal implements SwirldState.SwirldState2 {
 	private static final Logger log = LogManager.getLogger(ServicesState.class);
 
-	static final int MERKLE_VERSION = 1;
+	static final int RELEASE_070_VERSION = 1;
+	static final int RELEASE_080_VERSION = 2;
+	static final int MERKLE_VERSION = RELEASE_080_VERSION;
 	static final long RUNTIME_CONSTRUCTABLE_ID = 0x8e300b0dfdafbb1aL;
 
 	static Consumer<MerkleNode> merkleDigest = CryptoFactory.getInstance()::digestTreeSync;
@@ -80,7 +84,7 @@ public class ServicesState extends AbstractMerkleInternal implements SwirldState
 	NodeId nodeId = null;
 	boolean immutable = true;
 
-	/* Order of v1 Merkle node children */
+	/* Order of Merkle node children; v2 appended the payer records */
 	static class ChildIndices {
 		static final int ADDRESS_BOOK = 0;
 		static final int NETWORK_CTX = 1;
@@ -88,6 +92,8 @@ public class ServicesState extends AbstractMerkleInternal implements SwirldState
 		static final int STORAGE = 3;
 		static final int ACCOUNTS = 4;
 		static final int NUM_V1_CHILDREN = 5;
+		static final int PAYER_RECORDS = 5;
+		static final int NUM_V2_CHILDREN = 6;
 	}
 
 	ServicesContext ctx;
@@ -96,7 +102,7 @@ public class ServicesState extends AbstractMerkleInternal implements SwirldState
 	}
 
 	public ServicesState(List<MerkleNode> children) {
-		super(ChildIndices.NUM_V1_CHILDREN);
+		super(ChildIndices.NUM_V2_CHILDREN);
 		addDeserializedChildren(children, MERKLE_VERSION);
 	}
 
@@ -122,7 +128,7 @@ public class ServicesState extends AbstractMerkleInternal implements SwirldState
 
 	@Override
 	public int getMinimumChildCount(int version) {
-		return ChildIndices.NUM_V1_CHILDREN;
+		return (version == RELEASE_070_VERSION) ? ChildIndices.NUM_V1_CHILDREN : ChildIndices.NUM_V2_CHILDREN;
 	}
 
 	/* --- SwirldState --- */
@@ -146,9 +152,15 @@ public class ServicesState extends AbstractMerkleInternal implements SwirldState
 			setChild(ChildIndices.STORAGE,
 					new FCMap<>(new MerkleBlobMeta.Provider(), new MerkleOptionalBlob.Provider()));
 			setChild(ChildIndices.ACCOUNTS, new FCMap<>(new MerkleEntityId.Provider(), MerkleAccount.LEGACY_PROVIDER));
+			setChild(ChildIndices.PAYER_RECORDS, new FCQueue<>(ExpirableTxnRecord.LEGACY_PROVIDER));
 			log.info("Init called on Services node {} WITHOUT Merkle saved state", nodeId);
 		} else {
 			log.info("Init called on Services node {} WITH Merkle saved state", nodeId);
+			if (getNumberOfChildren() < ChildIndices.NUM_V2_CHILDREN) {
+				/* Payer records in a v1 state are still in the accounts, and will expire from there. */
+				setChild(ChildIndices.PAYER_RECORDS, new FCQueue<>(ExpirableTxnRecord.LEGACY_PROVIDER));
+				log.info("  --> Added an empty payer record store to the v1 saved state");
+			}
 			merkleDigest.accept(this);
 			printHashes();
 		}
@@ -183,6 +195,7 @@ public class ServicesState extends AbstractMerkleInternal implements SwirldState
 		try {
 			var accessor = new PlatformTxnAccessor(platformTxn);
 			expandIn(accessor, ctx.lookupRetryingKeyOrder(), DEFAULT_SIG_BYTES);
+			ctx.txnAccessorCache().offer(accessor);
 		} catch (InvalidProtocolBufferException e) {
 			log.warn("expandSignatures called with non-gRPC txn!", e);
 		}
@@ -195,12 +208,16 @@ public class ServicesState extends AbstractMerkleInternal implements SwirldState
 	/* --- FastCopyable --- */
 	@Override
 	public synchronized ServicesState copy() {
+		if (ctx != null) {
+			ctx.flushDeferredCommitsBeforeCopying(this);
+		}
 		return new ServicesState(ctx, nodeId, List.of(
 				addressBook().copy(),
 				networkCtx().copy(),
 				topics().copy(),
 				storage().copy(),
-				accounts().copy()));
+				accounts().copy(),
+				payerRecords().copy()));
 	}
 
 	@Override
@@ -208,6 +225,7 @@ public class ServicesState extends AbstractMerkleInternal implements SwirldState
 		storage().delete();
 		accounts().delete();
 		topics().delete();
+		payerRecords().delete();
 	}
 
 	@Override
@@ -259,12 +277,14 @@ public class ServicesState extends AbstractMerkleInternal implements SwirldState
 						"  Accounts       :: %s\n" +
 						"  Storage        :: %s\n" +
 						"  Topics         :: %s\n" +
+						"  PayerRecords   :: %s\n" +
 						"  NetworkContext :: %s\n" +
 						"  AddressBook    :: %s",
 				getHash(),
 				accounts().getHash(),
 				storage().getHash(),
 				topics().getHash(),
+				payerRecords().getHash(),
 				networkCtx().getHash(),
 				addressBook().getHash()));
 	}
@@ -281,6 +301,10 @@ public class ServicesState extends AbstractMerkleInternal implements SwirldState
 		return getChild(ChildIndices.TOPICS);
 	}
 
+	public FCQueue<ExpirableTxnRecord> payerRecords() {
+		return getChild(ChildIndices.PAYER_RECORDS);
+	}
+
 	public MerkleNetworkContext networkCtx() {
 		return getChild(ChildIndices.NETWORK_CTX);
 	}
@@ -36,29 +36,35 @@ import com.hedera.services.fees.calculation.contract.queries.GetContractInfoReso
 import com.hedera.services.files.EntityExpiryMapFactory;
 import com.hedera.services.keys.LegacyEd25519KeyReader;
 import com.hedera.services.ledger.accounts.BackingAccounts;
-import com.hedera.services.ledger.accounts.PureFCMapBackingAccounts;
+import com.hedera.services.ledger.accounts.CreatedAccountRegistry;
 import com.hedera.services.queries.answering.ZeroStakeAnswerFlow;
 import com.hedera.services.queries.contract.ContractAnswers;
 import com.hedera.services.queries.contract.GetBytecodeAnswer;
 import com.hedera.services.queries.contract.GetContractInfoAnswer;
 import com.hedera.services.records.TxnIdRecentHistory;
+import com.hedera.services.records.TxnIdRecentHistories;
 import com.hedera.services.security.ops.SystemOpPolicies;
 import com.hedera.services.sigs.metadata.DelegatingSigMetadataLookup;
 import com.hedera.services.state.expiry.ExpiringCreations;
 import com.hedera.services.state.expiry.ExpiryManager;
+import com.hedera.services.state.initialization.AccountsScan;
 import com.hedera.services.state.initialization.BackedSystemAccountsCreator;
 import com.hedera.services.state.merkle.MerkleTopic;
+import com.hedera.services.context.primitives.SnapshotStateViews;
 import com.hedera.services.context.primitives.StateView;
+import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.context.properties.PropertySanitizer;
 import com.hedera.services.context.properties.StandardizedPropertySources;
 import com.hedera.services.contracts.execution.SolidityLifecycle;
 import com.hedera.services.contracts.execution.SoliditySigsVerifier;
 import com.hedera.services.contracts.execution.TxnAwareSoliditySigsVerifier;
 import com.hedera.services.contracts.persistence.BlobStoragePersistence;
+import com.hedera.services.contracts.sources.PagedStorageMap;
 import com.hedera.services.fees.FeeCalculator;
 import com.hedera.services.fees.FeeExemptions;
 import com.hedera.services.fees.HbarCentExchange;
 import com.hedera.services.fees.calculation.AwareFcfsUsagePrices;
+import com.hedera.services.fees.calculation.FeeResultCache;
 import com.hedera.services.fees.calculation.UsagePricesProvider;
 import com.hedera.services.fees.calculation.UsageBasedFeeCalculator;
 import com.hedera.services.fees.calculation.consensus.queries.GetTopicInfoResourceUsage;
@@ -98,9 +104,11 @@ import com.hedera.services.files.interceptors.ConfigListUtils;
 import com.hedera.services.files.interceptors.FeeSchedulesManager;
 import com.hedera.services.files.interceptors.TxnAwareRatesManager;
 import com.hedera.services.files.interceptors.ValidatingCallbackInterceptor;
+import com.hedera.services.files.store.ContentAddressedChunks;
 import com.hedera.services.files.store.FcBlobsBytesStore;
 import com.hedera.services.grpc.GrpcServerManager;
 import com.hedera.services.grpc.NettyGrpcServerManager;
+import com.hedera.services.grpc.WorkerPools;
 import com.hedera.services.grpc.controllers.ConsensusController;
 import com.hedera.services.grpc.controllers.CryptoController;
 import com.hedera.services.grpc.controllers.FileController;
@@ -133,7 +141,6 @@ import static com.hedera.services.context.ServicesNodeType.STAKED_NODE;
 import static com.hedera.services.context.ServicesNodeType.ZERO_STAKE_NODE;
 import static com.hedera.services.security.ops.SystemOpAuthorization.AUTHORIZED;
 import static com.hedera.services.sigs.metadata.DelegatingSigMetadataLookup.backedLookupsFor;
-import static com.hedera.services.state.expiry.NoopExpiringCreations.NOOP_EXPIRING_CREATIONS;
 import static com.hedera.services.throttling.bucket.BucketConfig.bucketsIn;
 import static com.hedera.services.throttling.bucket.BucketConfig.namedIn;
 
@@ -177,11 +184,15 @@ import com.hedera.services.queries.meta.GetTxnRecordAnswer;
 import com.hedera.services.queries.meta.MetaAnswers;
 import com.hedera.services.records.AccountRecordsHistorian;
 import com.hedera.services.records.FeeChargingRecordsHistorian;
+import com.hedera.services.records.PayerRecordStore;
 import com.hedera.services.records.RecordCache;
 import com.hedera.services.records.RecordCacheFactory;
+import com.hedera.services.sigs.order.CachingSigningOrder;
 import com.hedera.services.sigs.order.HederaSigningOrder;
+import com.hedera.services.sigs.order.SigningOrderResultCache;
 import com.hedera.services.sigs.sourcing.DefaultSigBytesProvider;
 import com.hedera.services.sigs.verification.PrecheckKeyReqs;
+import com.hedera.services.sigs.verification.PooledSyncVerifier;
 import com.hedera.services.sigs.verification.PrecheckVerifier;
 import com.hedera.services.sigs.verification.SyncVerifier;
 import com.hedera.services.state.exports.BalancesExporter;
@@ -191,9 +202,10 @@ import com.hedera.services.state.exports.AccountsExporter;
 import com.hedera.services.utils.EntityIdUtils;
 
 import static com.hedera.services.contracts.sources.AddressKeyedMapFactory.bytecodeMapFrom;
-import static com.hedera.services.contracts.sources.AddressKeyedMapFactory.storageMapFrom;
-import static com.hedera.services.ledger.ids.ExceptionalEntityIdSource.NOOP_ID_SOURCE;
-import static com.hedera.services.records.NoopRecordsHistorian.NOOP_RECORDS_HISTORIAN;
+import static com.hedera.services.ledger.properties.AccountProperty.IS_DELETED;
+import static com.hedera.services.ledger.properties.AccountProperty.IS_RECEIVER_SIG_REQUIRED;
+import static com.hedera.services.ledger.properties.AccountProperty.IS_SMART_CONTRACT;
+import static com.hedera.services.ledger.properties.AccountProperty.KEY;
 import static com.hedera.services.utils.MiscUtils.lookupInCustomStore;
 
 import com.hedera.services.utils.Pause;
@@ -213,11 +225,14 @@ import com.hedera.services.legacy.handler.TransactionHandler;
 import com.hedera.services.legacy.netty.NettyServerManager;
 import com.hedera.services.contracts.sources.LedgerAccountsSource;
 import com.hedera.services.contracts.sources.BlobStorageSource;
+import com.hedera.services.contracts.sources.SnapshotAccountsSource;
+import com.hedera.services.contracts.sources.SnapshotCachingMap;
 import com.hedera.services.legacy.service.FreezeServiceImpl;
 import com.hedera.services.legacy.service.GlobalFlag;
 import com.hedera.services.legacy.service.SmartContractServiceImpl;
 import com.hedera.services.legacy.services.context.ContextPlatformStatus;
 import com.hedera.services.state.submerkle.ExchangeRates;
+import com.hedera.services.state.submerkle.ExpirableTxnRecord;
 import com.hedera.services.state.submerkle.SequenceNumber;
 import com.hedera.services.context.properties.PropertySources;
 import com.hedera.services.state.migration.DefaultStateMigrations;
@@ -227,6 +242,7 @@ import com.hedera.services.legacy.services.state.AwareProcessLogic;
 import com.hedera.services.legacy.services.state.export.DefaultBalancesExporter;
 import com.hedera.services.state.migration.StateMigrations;
 import com.hedera.services.utils.SleepingPause;
+import com.hedera.services.utils.TxnAccessorCache;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hedera.services.state.merkle.MerkleEntityId;
 import com.hedera.services.state.merkle.MerkleAccount;
@@ -241,6 +257,7 @@ import com.swirlds.common.Console;
 import com.swirlds.common.NodeId;
 import com.swirlds.common.Platform;
 import com.swirlds.fcmap.FCMap;
+import com.swirlds.fcqueue.FCQueue;
 import org.ethereum.core.AccountState;
 import org.ethereum.datasource.Source;
 import org.ethereum.datasource.StoragePersistence;
@@ -250,10 +267,11 @@ import com.hedera.services.context.properties.PropertySource;
 import java.io.PrintStream;
 import java.time.Instant;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -300,6 +318,7 @@ public class ServicesContext {
 	private RecordCache recordCache;
 	private HederaLedger ledger;
 	private SyncVerifier syncVerifier;
+	private SyncVerifier precheckSyncVerifier;
 	private IssEventInfo issEventInfo;
 	private ProcessLogic logic;
 	private RecordStream recordStream;
@@ -314,9 +333,11 @@ public class ServicesContext {
 	private AccountNumbers accountNums;
 	private SubmissionFlow submissionFlow;
 	private PropertySource properties;
+	private GlobalDynamicProperties globalDynamicProperties;
 	private EntityIdSource ids;
 	private FileController fileGrpc;
 	private AnswerFunctions answerFunctions;
+	private PayerRecordStore payerRecordStore;
 	private ContractAnswers contractAnswers;
 	private OptionValidator validator;
 	private LedgerValidator ledgerValidator;
@@ -332,6 +353,7 @@ public class ServicesContext {
 	private ExpiringCreations creator;
 	private NetworkController networkGrpc;
 	private GrpcServerManager grpc;
+	private WorkerPools workerPools;
 	private FreezeServiceImpl freezeGrpc;
 	private TxnResponseHelper txnResponseHelper;
 	private TransactionContext txnCtx;
@@ -340,17 +362,23 @@ public class ServicesContext {
 	private HederaSigningOrder keyOrder;
 	private HederaSigningOrder backedKeyOrder;
 	private HederaSigningOrder lookupRetryingKeyOrder;
+	private SigningOrderResultCache signingOrderCache;
+	private TxnAccessorCache txnAccessorCache;
+	private CreatedAccountRegistry createdAccounts;
 	private StoragePersistence storagePersistence;
+	private StoragePersistence pureStoragePersistence;
 	private ConsensusController consensusGrpc;
 	private QueryResponseHelper queryResponseHelper;
 	private UsagePricesProvider usagePrices;
 	private Supplier<StateView> stateViews;
 	private FeeSchedulesManager feeSchedulesManager;
-	private Map<String, byte[]> blobStore;
+	private FcBlobsBytesStore blobStore;
+	private Map<String, byte[]> queryableBlobStore;
 	private Map<EntityId, Long> entityExpiries;
 	private TxnFeeChargingPolicy txnChargingPolicy;
 	private TxnAwareRatesManager exchangeRatesManager;
 	private LedgerAccountsSource accountSource;
+	private AccountsScan accountsScan;
 	private FCMapBackingAccounts backingAccounts;
 	private TransitionLogicLookup transitionLogic;
 	private TransactionThrottling txnThrottling;
@@ -431,14 +459,21 @@ public class ServicesContext {
 
 	public Map<String, byte[]> blobStore() {
 		if (blobStore == null) {
-			blobStore = new FcBlobsBytesStore(MerkleOptionalBlob::new, this::storage);
+			blobStore = new FcBlobsBytesStore(MerkleOptionalBlob::new, this::storage, new ContentAddressedChunks());
 		}
 		return blobStore;
 	}
 
+	public Map<String, byte[]> queryableBlobStore() {
+		if (queryableBlobStore == null) {
+			queryableBlobStore = new FcBlobsBytesStore(MerkleOptionalBlob::new, () -> queryableStorage().get());
+		}
+		return queryableBlobStore;
+	}
+
 	public Supplier<StateView> stateViews() {
 		if (stateViews == null) {
-			stateViews = () -> new StateView(
+			stateViews = new SnapshotStateViews(
 					() -> queryableTopics().get(),
 					() -> queryableAccounts().get(),
 					() -> queryableStorage().get());
@@ -448,11 +483,19 @@ public class ServicesContext {
 
 	public StateView currentView() {
 		if (currentView == null) {
-			currentView = new StateView(this::topics, this::accounts, this::storage);
+			currentView = new StateView(this::topics, this::flushedAccounts, this::storage);
 		}
 		return currentView;
 	}
 
+	/* The current view prices handle-time fees, so it must see any account changes still batched by the ledger. */
+	private FCMap<MerkleEntityId, MerkleAccount> flushedAccounts() {
+		if (backingAccounts != null) {
+			backingAccounts.flushDeferredRefs();
+		}
+		return accounts();
+	}
+
 	public HederaNumbers hederaNums() {
 		if (hederaNums == null) {
 			hederaNums = new HederaNumbers(properties());
@@ -476,7 +519,7 @@ public class ServicesContext {
 
 	public TxnResponseHelper txnResponseHelper() {
 		if (txnResponseHelper == null) {
-			txnResponseHelper = new TxnResponseHelper(submissionFlow(), stats());
+			txnResponseHelper = new TxnResponseHelper(submissionFlow(), stats(), workerPools());
 		}
 		return txnResponseHelper;
 	}
@@ -501,7 +544,7 @@ public class ServicesContext {
 
 	public ItemizableFeeCharging charging() {
 		if (itemizableFeeCharging == null) {
-			itemizableFeeCharging = new ItemizableFeeCharging(exemptions(), properties());
+			itemizableFeeCharging = new ItemizableFeeCharging(exemptions(), globalDynamicProperties());
 		}
 		return itemizableFeeCharging;
 	}
@@ -519,7 +562,7 @@ public class ServicesContext {
 
 	public QueryResponseHelper queryResponseHelper() {
 		if (queryResponseHelper == null) {
-			queryResponseHelper = new QueryResponseHelper(answerFlow(), stats());
+			queryResponseHelper = new QueryResponseHelper(answerFlow(), stats(), workerPools());
 		}
 		return queryResponseHelper;
 	}
@@ -606,7 +649,7 @@ public class ServicesContext {
 			SmartContractFeeBuilder contractFees = new SmartContractFeeBuilder();
 
 			fees = new UsageBasedFeeCalculator(
-					properties(),
+					globalDynamicProperties(),
 					exchange(),
 					usagePrices(),
 					List.of(
@@ -625,7 +668,8 @@ public class ServicesContext {
 							new GetBytecodeResourceUsage(contractFees),
 							new GetContractInfoResourceUsage(contractFees)
 					),
-					txnUsageEstimators(fileFees, cryptoFees, contractFees)
+					txnUsageEstimators(fileFees, cryptoFees, contractFees),
+					new FeeResultCache(Math.max(0, properties().getIntProperty("fees.resultCache.maxSize")))
 			);
 		}
 		return fees;
@@ -636,7 +680,7 @@ public class ServicesContext {
 			CryptoFeeBuilder cryptoFees,
 			SmartContractFeeBuilder contractFees
 	) {
-		Map<HederaFunctionality, List<TxnResourceUsageEstimator>> estimatorsMap = Map.ofEntries(
+		Map<HederaFunctionality, List<TxnResourceUsageEstimator>> estimatorsMap = new EnumMap<>(Map.ofEntries(
 				/* Crypto */
 				entry(CryptoCreate, List.of(new CryptoCreateResourceUsage(cryptoFees))),
 				entry(CryptoDelete, List.of(new CryptoDeleteResourceUsage(cryptoFees))),
@@ -661,7 +705,7 @@ public class ServicesContext {
 				entry(Freeze, List.of(new FreezeResourceUsage())),
 				entry(SystemDelete, List.of(new SystemDeleteFileResourceUsage(fileFees))),
 				entry(SystemUndelete, List.of(new SystemUndeleteFileResourceUsage(fileFees)))
-		);
+		));
 		return estimatorsMap::get;
 	}
 
@@ -692,7 +736,7 @@ public class ServicesContext {
 
 	public HederaSigningOrder backedKeyOrder() {
 		if (backedKeyOrder == null) {
-			var lookups = backedLookupsFor(hfs(), backingAccounts(), this::topics, this::accounts);
+			var lookups = backedLookupsFor(hfs(), backingAccounts(), this::topics);
 			backedKeyOrder = keyOrderWith(lookups);
 		}
 		return backedKeyOrder;
@@ -700,7 +744,8 @@ public class ServicesContext {
 
 	public HederaSigningOrder lookupRetryingKeyOrder() {
 		if (lookupRetryingKeyOrder == null) {
-			var lookups = defaultAccountRetryingLookupsFor(hfs(), properties(), stats(), this::accounts, this::topics);
+			var lookups = defaultAccountRetryingLookupsFor(
+					hfs(), properties(), stats(), createdAccounts(), this::accounts, this::topics);
 			lookupRetryingKeyOrder = keyOrderWith(lookups);
 		}
 		return lookupRetryingKeyOrder;
@@ -715,6 +760,14 @@ public class ServicesContext {
 
 	private HederaSigningOrder keyOrderWith(DelegatingSigMetadataLookup lookups) {
 		var policies = systemOpPolicies();
+		if (isSigningOrderCacheEnabled()) {
+			return new CachingSigningOrder(
+					entityNums(),
+					lookups,
+					txn -> policies.check(txn, CryptoUpdate) != AUTHORIZED,
+					(txn, function) -> policies.check(txn, function) != AUTHORIZED,
+					signingOrderCache());
+		}
 		return new HederaSigningOrder(
 				entityNums(),
 				lookups,
@@ -722,13 +775,83 @@ public class ServicesContext {
 				(txn, function) -> policies.check(txn, function) != AUTHORIZED);
 	}
 
+	public SigningOrderResultCache signingOrderCache() {
+		if (signingOrderCache == null) {
+			signingOrderCache = new SigningOrderResultCache(
+					Math.max(0, properties().getIntProperty("sigs.orderCache.maxSize")));
+		}
+		return signingOrderCache;
+	}
+
+	public CreatedAccountRegistry createdAccounts() {
+		if (createdAccounts == null) {
+			createdAccounts = new CreatedAccountRegistry();
+		}
+		return createdAccounts;
+	}
+
+	public TxnAccessorCache txnAccessorCache() {
+		if (txnAccessorCache == null) {
+			txnAccessorCache = new TxnAccessorCache(
+					Math.max(0, properties().getIntProperty("txns.accessorCache.maxSize")));
+		}
+		return txnAccessorCache;
+	}
+
+	private boolean isSigningOrderCacheEnabled() {
+		/* Pre-consensus lookups read the accounts map itself; so with round batching
+		they could re-cache keys that were already changed in the ledger's overlay. */
+		return properties().getIntProperty("sigs.orderCache.maxSize") > 0 && !isLedgerBatchingEnabled();
+	}
+
+	private boolean isLedgerBatchingEnabled() {
+		return maxTxnsPerLedgerFlush() > 1;
+	}
+
+	private int maxTxnsPerLedgerFlush() {
+		return properties().getIntProperty("ledger.batching.maxTxnsPerFlush");
+	}
+
+	/**
+	 * Flushes any account changes the ledger deferred while batching a consensus round,
+	 * if the given state (which is about to be copied) is the one the ledger is changing.
+	 *
+	 * @param copied the state about to be copied.
+	 */
+	public void flushDeferredCommitsBeforeCopying(ServicesState copied) {
+		if (copied == state && ledger != null) {
+			ledger.flushDeferredCommits();
+		}
+	}
+
 	public StoragePersistence storagePersistence() {
 		if (storagePersistence == null) {
-			storagePersistence = new BlobStoragePersistence(storageMapFrom(blobStore()));
+			storagePersistence = new BlobStoragePersistence(new PagedStorageMap(
+					blobStore(),
+					PagedStorageMap.DEFAULT_PAGE_SIZE,
+					this::storage,
+					PagedStorageMap.DEFAULT_MEMO_CAPACITY));
 		}
 		return storagePersistence;
 	}
 
+	public StoragePersistence pureStoragePersistence() {
+		if (pureStoragePersistence == null) {
+			pureStoragePersistence = new BlobStoragePersistence(invalidatedByBlobWrites(new SnapshotCachingMap(
+					new PagedStorageMap(queryableBlobStore()),
+					() -> queryableStorage().get(),
+					SnapshotCachingMap.DEFAULT_CAPACITY)));
+		}
+		return pureStoragePersistence;
+	}
+
+	/* The queryable storage is the map the handle thread writes through the blob store. */
+	private SnapshotCachingMap invalidatedByBlobWrites(SnapshotCachingMap cachingMap) {
+		blobStore();
+		blobStore.addWriteListener(cachingMap::invalidate);
+		return cachingMap;
+	}
+
 	public SyncVerifier syncVerifier() {
 		if (syncVerifier == null) {
 			syncVerifier = platform().getCryptography()::verifySync;
@@ -740,11 +863,31 @@ public class ServicesContext {
 		if (precheckVerifier == null) {
 			Predicate<TransactionBody> isQueryPayment = queryPaymentTestFor(nodeAccount());
 			PrecheckKeyReqs reqs = new PrecheckKeyReqs(keyOrder(), lookupRetryingKeyOrder(), isQueryPayment);
-			precheckVerifier = new PrecheckVerifier(syncVerifier(), reqs, DefaultSigBytesProvider.DEFAULT_SIG_BYTES);
+			precheckVerifier = new PrecheckVerifier(
+					precheckSyncVerifier(),
+					reqs,
+					DefaultSigBytesProvider.DEFAULT_SIG_BYTES);
 		}
 		return precheckVerifier;
 	}
 
+	public SyncVerifier precheckSyncVerifier() {
+		if (precheckSyncVerifier == null) {
+			int workers = properties().getIntProperty("precheck.sigVerification.workers");
+			if (workers > 0) {
+				precheckSyncVerifier = new PooledSyncVerifier(
+						syncVerifier(),
+						stats(),
+						workers,
+						properties().getIntProperty("precheck.sigVerification.queueCapacity"),
+						properties().getIntProperty("precheck.sigVerification.maxBatchSize"));
+			} else {
+				precheckSyncVerifier = syncVerifier();
+			}
+		}
+		return precheckSyncVerifier;
+	}
+
 	public PrintStream consoleOut() {
 		return Optional.ofNullable(console()).map(c -> c.out).orElse(null);
 	}
@@ -767,7 +910,7 @@ public class ServicesContext {
 		if (hfs == null) {
 			hfs = new TieredHederaFs(
 					ids(),
-					properties(),
+					globalDynamicProperties(),
 					txnCtx()::consensusTime,
 					DataMapFactory.dataMapFrom(blobStore()),
 					MetadataMapFactory.metaMapFrom(blobStore()));
@@ -785,7 +928,7 @@ public class ServicesContext {
 					syncVerifier(),
 					txnCtx(),
 					StandardSyncActivationCheck::allKeysAreActive,
-					this::accounts);
+					backingAccounts());
 		}
 		return soliditySigsVerifier;
 	}
@@ -800,6 +943,7 @@ public class ServicesContext {
 						var config = uncheckedParse(contents);
 						((StandardizedPropertySources) propertySources()).updateThrottlePropsFrom(config);
 						populateApplicationPropertiesWithProto(config);
+						globalDynamicProperties().reload();
 					},
 					ConfigListUtils::isConfigList
 			);
@@ -850,10 +994,10 @@ public class ServicesContext {
 				/* Consensus */
 				entry(ConsensusCreateTopic,
 						List.of(new TopicCreateTransitionLogic(
-								this::accounts, this::topics, ids(), validator(), txnCtx()))),
+								backingAccounts(), this::topics, ids(), validator(), txnCtx()))),
 				entry(ConsensusUpdateTopic,
 						List.of(new TopicUpdateTransitionLogic(
-								this::accounts, this::topics, validator(), txnCtx()))),
+								backingAccounts(), this::topics, validator(), txnCtx()))),
 				entry(ConsensusDeleteTopic,
 						List.of(new TopicDeleteTransitionLogic(
 								this::topics, validator(), txnCtx()))),
@@ -888,7 +1032,7 @@ public class ServicesContext {
 
 	public Map<TransactionID, TxnIdRecentHistory> txnHistories() {
 		if (txnHistories == null) {
-			txnHistories = new ConcurrentHashMap<>();
+			txnHistories = new TxnIdRecentHistories();
 		}
 		return txnHistories;
 	}
@@ -932,11 +1076,30 @@ public class ServicesContext {
 
 	public BackingAccounts<AccountID, MerkleAccount> backingAccounts() {
 		if (backingAccounts == null) {
-			backingAccounts = new FCMapBackingAccounts(this::accounts);
+			backingAccounts = new FCMapBackingAccounts(this::accounts, accountsScan().existingIds());
+			backingAccounts.setMaxTxnsPerFlush(maxTxnsPerLedgerFlush());
 		}
 		return backingAccounts;
 	}
 
+	/**
+	 * Returns a scan of the accounts in the current state, performing it on first use.
+	 * The scan is only meant to be kept while the node initializes, and should be
+	 * released via {@link ServicesContext#releaseAccountsScan()} afterwards.
+	 *
+	 * @return a scan of the current accounts.
+	 */
+	public AccountsScan accountsScan() {
+		if (accountsScan == null) {
+			accountsScan = AccountsScan.of(accounts());
+		}
+		return accountsScan;
+	}
+
+	public void releaseAccountsScan() {
+		accountsScan = null;
+	}
+
 	public HederaLedger ledger() {
 		if (ledger == null) {
 			TransactionalLedger<AccountID, AccountProperty, MerkleAccount> delegate = new TransactionalLedger<>(
@@ -945,28 +1108,42 @@ public class ServicesContext {
 					backingAccounts(),
 					new ChangeSummaryManager<>());
 			delegate.setKeyComparator(HederaLedger.ACCOUNT_ID_COMPARATOR);
+			delegate.observeCreations(createdAccounts()::publish);
+			if (isSigningOrderCacheEnabled()) {
+				delegate.observeCommitsTo(
+						EnumSet.of(KEY, IS_RECEIVER_SIG_REQUIRED, IS_DELETED, IS_SMART_CONTRACT),
+						signingOrderCache()::invalidate);
+			}
 			ledger = new HederaLedger(ids(), creator(), recordsHistorian(), delegate);
+			ledger.setPayerRecords(payerRecordStore());
 		}
 		return ledger;
 	}
 
 	public ExpiryManager expiries() {
 		if (expiries == null) {
-			expiries = new ExpiryManager(txnHistories());
+			expiries = new ExpiryManager(payerRecordStore(), txnHistories(), stats());
 		}
 		return expiries;
 	}
 
+	public PayerRecordStore payerRecordStore() {
+		if (payerRecordStore == null) {
+			payerRecordStore = new PayerRecordStore(this::payerRecords);
+		}
+		return payerRecordStore;
+	}
+
 	public ExpiringCreations creator() {
 		if (creator == null) {
-			creator = new ExpiringCreations(expiries(), properties());
+			creator = new ExpiringCreations(expiries(), globalDynamicProperties());
 		}
 		return creator;
 	}
 
 	public OptionValidator validator() {
 		if (validator == null) {
-			validator = new ContextOptionValidator(ledger(), properties(), txnCtx());
+			validator = new ContextOptionValidator(ledger(), globalDynamicProperties(), txnCtx());
 		}
 		return validator;
 	}
@@ -1013,7 +1190,8 @@ public class ServicesContext {
 					stats(),
 					nodeAccount(),
 					properties().getStringProperty("hedera.recordStream.logDir"),
-					properties());
+					properties(),
+					globalDynamicProperties());
 		}
 		return recordStream;
 	}
@@ -1023,7 +1201,7 @@ public class ServicesContext {
 			exchangeRatesManager = new TxnAwareRatesManager(
 					fileNums(),
 					accountNums(),
-					properties(),
+					globalDynamicProperties(),
 					txnCtx(),
 					this::midnightRates,
 					GlobalFlag.getInstance()::setExchangeRateSet,
@@ -1089,7 +1267,8 @@ public class ServicesContext {
 					nodeType(),
 					submissionManager(),
 					contractAnswers(),
-					queryResponseHelper());
+					queryResponseHelper(),
+					workerPools());
 		}
 		return contractsGrpc;
 	}
@@ -1108,6 +1287,13 @@ public class ServicesContext {
 		return consensusGrpc;
 	}
 
+	public WorkerPools workerPools() {
+		if (workerPools == null) {
+			workerPools = new WorkerPools(properties(), stats());
+		}
+		return workerPools;
+	}
+
 	public GrpcServerManager grpc() {
 		if (grpc == null) {
 			grpc = new NettyGrpcServerManager(
@@ -1142,11 +1328,18 @@ public class ServicesContext {
 
 	public SolidityLifecycle solidityLifecycle() {
 		if (solidityLifecycle == null) {
-			solidityLifecycle = new SolidityLifecycle(properties());
+			solidityLifecycle = new SolidityLifecycle(globalDynamicProperties());
 		}
 		return solidityLifecycle;
 	}
 
+	public GlobalDynamicProperties globalDynamicProperties() {
+		if (globalDynamicProperties == null) {
+			globalDynamicProperties = new GlobalDynamicProperties(properties());
+		}
+		return globalDynamicProperties;
+	}
+
 	public PropertySource properties() {
 		if (properties == null) {
 			properties = propertySources().asResolvingSource();
@@ -1174,6 +1367,7 @@ public class ServicesContext {
 					config -> {
 						((StandardizedPropertySources) propertySources()).updateThrottlePropsFrom(config);
 						PropertiesLoader.populateApplicationPropertiesWithProto(config);
+						globalDynamicProperties().reload();
 					},
 					PropertiesLoader::populateAPIPropertiesWithProto);
 			/* We must force eager evaluation of the throttle construction here,
@@ -1196,20 +1390,14 @@ public class ServicesContext {
 
 	public Supplier<ServicesRepositoryRoot> newPureRepo() {
 		if (newPureRepo == null) {
-			TransactionalLedger<AccountID, AccountProperty, MerkleAccount> pureDelegate = new TransactionalLedger<>(
-					AccountProperty.class,
-					MerkleAccount::new,
-					new PureFCMapBackingAccounts(this::accounts),
-					new ChangeSummaryManager<>());
-			HederaLedger pureLedger = new HederaLedger(
-					NOOP_ID_SOURCE,
-					NOOP_EXPIRING_CREATIONS,
-					NOOP_RECORDS_HISTORIAN,
-					pureDelegate);
-			Source<byte[], AccountState> pureAccountSource = new LedgerAccountsSource(pureLedger, properties());
+			Source<byte[], AccountState> pureAccountSource = new SnapshotAccountsSource(() -> queryableAccounts().get());
+			var pureBytecodeDb = new BlobStorageSource(invalidatedByBlobWrites(new SnapshotCachingMap(
+					bytecodeMapFrom(queryableBlobStore()),
+					() -> queryableStorage().get(),
+					SnapshotCachingMap.DEFAULT_CAPACITY)));
 			newPureRepo = () -> {
-				var pureRepository = new ServicesRepositoryRoot(pureAccountSource, bytecodeDb());
-				pureRepository.setStoragePersistence(storagePersistence());
+				var pureRepository = new ServicesRepositoryRoot(pureAccountSource, pureBytecodeDb);
+				pureRepository.setStoragePersistence(pureStoragePersistence());
 				return pureRepository;
 			};
 		}
@@ -1225,7 +1413,7 @@ public class ServicesContext {
 
 	public LedgerAccountsSource accountSource() {
 		if (accountSource == null) {
-			accountSource = new LedgerAccountsSource(ledger(), properties());
+			accountSource = new LedgerAccountsSource(ledger(), globalDynamicProperties());
 		}
 		return accountSource;
 	}
@@ -1249,7 +1437,7 @@ public class ServicesContext {
 					exchange(),
 					fees(),
 					stateViews(),
-					new BasicPrecheck(properties(), validator()),
+					new BasicPrecheck(globalDynamicProperties(), validator()),
 					queryFeeCheck(),
 					bucketThrottling(),
 					accountNums(),
@@ -1412,4 +1600,8 @@ public class ServicesContext {
 	public FCMap<MerkleBlobMeta, MerkleOptionalBlob> storage() {
 		return state.storage();
 	}
+
+	public FCQueue<ExpirableTxnRecord> payerRecords() {
+		return state.payerRecords();
+	}
 }
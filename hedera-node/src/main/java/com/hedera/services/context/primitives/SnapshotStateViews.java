@@ -0,0 +1,101 @@
+package com.hedera.services.context.primitives;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.state.merkle.MerkleAccount;
+import com.hedera.services.state.merkle.MerkleBlobMeta;
+import com.hedera.services.state.merkle.MerkleEntityId;
+import com.hedera.services.state.merkle.MerkleOptionalBlob;
+import com.hedera.services.state.merkle.MerkleTopic;
+import com.swirlds.fcmap.FCMap;
+
+import java.util.function.Supplier;
+
+/**
+ * Supplies a {@link StateView} of the maps currently made available for answering
+ * queries, re-using a single view (and so a single set of blob store adapters) for
+ * as long as those maps are unchanged. A new view is only constructed when at least
+ * one of the topics, accounts, or storage maps is replaced, which happens once per
+ * state update rather than once per query.
+ *
+ * <p>Each view is bound to the exact map instances it was created from, so a caller
+ * holding a view keeps a consistent picture of that snapshot even if the maps are
+ * swapped while it is answering a query.
+ *
+ * @author Michael Tinker
+ */
+public class SnapshotStateViews implements Supplier<StateView> {
+	private final Supplier<FCMap<MerkleEntityId, MerkleTopic>> topics;
+	private final Supplier<FCMap<MerkleEntityId, MerkleAccount>> accounts;
+	private final Supplier<FCMap<MerkleBlobMeta, MerkleOptionalBlob>> storage;
+
+	private volatile Snapshot latest;
+
+	private static class Snapshot {
+		private final FCMap<MerkleEntityId, MerkleTopic> topics;
+		private final FCMap<MerkleEntityId, MerkleAccount> accounts;
+		private final FCMap<MerkleBlobMeta, MerkleOptionalBlob> storage;
+		private final StateView view;
+
+		private Snapshot(
+				FCMap<MerkleEntityId, MerkleTopic> topics,
+				FCMap<MerkleEntityId, MerkleAccount> accounts,
+				FCMap<MerkleBlobMeta, MerkleOptionalBlob> storage
+		) {
+			this.topics = topics;
+			this.accounts = accounts;
+			this.storage = storage;
+			this.view = new StateView(() -> topics, () -> accounts, () -> storage);
+		}
+
+		private boolean isOf(
+				FCMap<MerkleEntityId, MerkleTopic> topics,
+				FCMap<MerkleEntityId, MerkleAccount> accounts,
+				FCMap<MerkleBlobMeta, MerkleOptionalBlob> storage
+		) {
+			return this.topics == topics && this.accounts == accounts && this.storage == storage;
+		}
+	}
+
+	public SnapshotStateViews(
+			Supplier<FCMap<MerkleEntityId, MerkleTopic>> topics,
+			Supplier<FCMap<MerkleEntityId, MerkleAccount>> accounts,
+			Supplier<FCMap<MerkleBlobMeta, MerkleOptionalBlob>> storage
+	) {
+		this.topics = topics;
+		this.accounts = accounts;
+		this.storage = storage;
+	}
+
+	@Override
+	public StateView get() {
+		var currentTopics = topics.get();
+		var currentAccounts = accounts.get();
+		var currentStorage = storage.get();
+
+		var snapshot = latest;
+		if (snapshot == null || !snapshot.isOf(currentTopics, currentAccounts, currentStorage)) {
+			snapshot = new Snapshot(currentTopics, currentAccounts, currentStorage);
+			latest = snapshot;
+		}
+		return snapshot.view;
+	}
+}
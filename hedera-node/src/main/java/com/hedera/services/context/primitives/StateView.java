@@ -25,6 +25,7 @@ import com.hedera.services.state.merkle.MerkleTopic;
 import com.hedera.services.files.DataMapFactory;
 import com.hedera.services.files.MetadataMapFactory;
 import com.hedera.services.files.store.FcBlobsBytesStore;
+import com.hedera.services.contracts.sources.PagedStorageMap;
 import com.hederahashgraph.api.proto.java.ContractGetInfoResponse;
 import com.hederahashgraph.api.proto.java.ContractID;
 import com.hederahashgraph.api.proto.java.Duration;
@@ -78,7 +79,7 @@ public class StateView {
 
 	public static final StateView EMPTY_VIEW = new StateView(EMPTY_TOPICS_SUPPLIER, EMPTY_ACCOUNTS_SUPPLIER);
 
-	Map<byte[], byte[]> contractStorage;
+	PagedStorageMap contractStorage;
 	Map<byte[], byte[]> contractBytecode;
 	Map<FileID, byte[]> fileContents;
 	Map<FileID, JFileInfo> fileAttrs;
@@ -104,7 +105,7 @@ public class StateView {
 
 		fileContents = DataMapFactory.dataMapFrom(blobStore);
 		fileAttrs = MetadataMapFactory.metaMapFrom(blobStore);
-		contractStorage = AddressKeyedMapFactory.storageMapFrom(blobStore);
+		contractStorage = new PagedStorageMap(blobStore);
 		contractBytecode = AddressKeyedMapFactory.bytecodeMapFrom(blobStore);
 	}
 
@@ -153,9 +154,10 @@ public class StateView {
 		}
 
 		var mirrorId = asAccount(id);
+		var address = asSolidityAddress(id);
 
-		var	storageSize = storageOf(id).orElse(EMPTY_BYTES).length;
-		var bytecodeSize = bytecodeOf(id).orElse(EMPTY_BYTES).length;
+		var storageSize = contractStorage.sizeOf(address);
+		var bytecodeSize = Optional.ofNullable(contractBytecode.get(address)).orElse(EMPTY_BYTES).length;
 		var totalBytesUsed = storageSize + bytecodeSize;
 		var info = ContractGetInfoResponse.ContractInfo.newBuilder()
 				.setAccountID(mirrorId)
@@ -0,0 +1,157 @@
+package com.hedera.services.context.properties;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hederahashgraph.api.proto.java.AccountID;
+
+/**
+ * Holds the properties that are read while handling (or prechecking) every transaction
+ * as primitive fields of an immutable snapshot; so such a read is a field load, instead
+ * of a map lookup, cast, and unboxing in the {@link PropertySource}.
+ *
+ * The snapshot is rebuilt from the given {@link PropertySource} and swapped in as a whole
+ * by {@link GlobalDynamicProperties#reload()}, which must be called whenever the network
+ * properties file changes.
+ *
+ * @author Michael Tinker
+ */
+public class GlobalDynamicProperties {
+	private final PropertySource properties;
+
+	private volatile Snapshot snapshot;
+
+	public GlobalDynamicProperties(PropertySource properties) {
+		this.properties = properties;
+		reload();
+	}
+
+	public void reload() {
+		snapshot = new Snapshot(properties);
+	}
+
+	public int cacheRecordsTtl() {
+		return snapshot.cacheRecordsTtl;
+	}
+
+	public int ledgerRecordsTtl() {
+		return snapshot.ledgerRecordsTtl;
+	}
+
+	public int maxContractStorageKb() {
+		return snapshot.maxContractStorageKb;
+	}
+
+	public long defaultContractSendThreshold() {
+		return snapshot.defaultContractSendThreshold;
+	}
+
+	public long defaultContractReceiveThreshold() {
+		return snapshot.defaultContractReceiveThreshold;
+	}
+
+	public int ratesIntradayChangeLimitPercent() {
+		return snapshot.ratesIntradayChangeLimitPercent;
+	}
+
+	public int maxFileSizeKb() {
+		return snapshot.maxFileSizeKb;
+	}
+
+	public int maxMemoUtf8Bytes() {
+		return snapshot.maxMemoUtf8Bytes;
+	}
+
+	public long maxTxnDuration() {
+		return snapshot.maxTxnDuration;
+	}
+
+	public long minTxnDuration() {
+		return snapshot.minTxnDuration;
+	}
+
+	public int minValidityBuffer() {
+		return snapshot.minValidityBuffer;
+	}
+
+	public long maxAutoRenewDuration() {
+		return snapshot.maxAutoRenewDuration;
+	}
+
+	public long minAutoRenewDuration() {
+		return snapshot.minAutoRenewDuration;
+	}
+
+	public int maxTransferListSize() {
+		return snapshot.maxTransferListSize;
+	}
+
+	public AccountID fundingAccount() {
+		return snapshot.fundingAccount;
+	}
+
+	public int issResetPeriod() {
+		return snapshot.issResetPeriod;
+	}
+
+	public long recordStreamLogPeriod() {
+		return snapshot.recordStreamLogPeriod;
+	}
+
+	private static class Snapshot {
+		private final int cacheRecordsTtl;
+		private final int ledgerRecordsTtl;
+		private final int maxContractStorageKb;
+		private final long defaultContractSendThreshold;
+		private final long defaultContractReceiveThreshold;
+		private final int ratesIntradayChangeLimitPercent;
+		private final int maxFileSizeKb;
+		private final int maxMemoUtf8Bytes;
+		private final long maxTxnDuration;
+		private final long minTxnDuration;
+		private final int minValidityBuffer;
+		private final long maxAutoRenewDuration;
+		private final long minAutoRenewDuration;
+		private final int maxTransferListSize;
+		private final AccountID fundingAccount;
+		private final int issResetPeriod;
+		private final long recordStreamLogPeriod;
+
+		private Snapshot(PropertySource properties) {
+			cacheRecordsTtl = properties.getIntProperty("cache.records.ttl");
+			ledgerRecordsTtl = properties.getIntProperty("ledger.records.ttl");
+			maxContractStorageKb = properties.getIntProperty("contracts.maxStorageKb");
+			defaultContractSendThreshold = properties.getLongProperty("contracts.defaultSendThreshold");
+			defaultContractReceiveThreshold = properties.getLongProperty("contracts.defaultReceiveThreshold");
+			ratesIntradayChangeLimitPercent = properties.getIntProperty("exchangeRates.intradayChange.limitPercent");
+			maxFileSizeKb = properties.getIntProperty("files.maxSizeKb");
+			maxMemoUtf8Bytes = properties.getIntProperty("hedera.transaction.maxMemoUtf8Bytes");
+			maxTxnDuration = properties.getLongProperty("hedera.transaction.maxValidDuration");
+			minTxnDuration = properties.getLongProperty("hedera.transaction.minValidDuration");
+			minValidityBuffer = properties.getIntProperty("hedera.transaction.minValidityBufferSecs");
+			maxAutoRenewDuration = properties.getLongProperty("ledger.autoRenewPeriod.maxDuration");
+			minAutoRenewDuration = properties.getLongProperty("ledger.autoRenewPeriod.minDuration");
+			maxTransferListSize = properties.getIntProperty("ledger.transfers.maxLen");
+			fundingAccount = properties.getAccountProperty("ledger.funding.account");
+			issResetPeriod = properties.getIntProperty("iss.reset.periodSecs");
+			recordStreamLogPeriod = properties.getLongProperty("hedera.recordStream.logPeriod");
+		}
+	}
+}
@@ -185,6 +185,7 @@ public class StandardizedPropertySources implements PropertySources {
 		source.put("ledger.maxAccountNum", PropertiesLoader::getConfigAccountNum);
 		source.put("ledger.records.ttl", PropertiesLoader::getThresholdTxRecordTTL);
 		source.put("ledger.transfers.maxLen", PropertiesLoader::getTransferAccountListSize);
+		source.put("hedera.recordStream.compression", PropertiesLoader::getRecordStreamCompression);
 		source.put("hedera.recordStream.logDir", PropertiesLoader::getRecordLogDir);
 		source.put("hedera.recordStream.logPeriod", PropertiesLoader::getRecordLogPeriod);
 		source.put("throttlingTps", PropertiesLoader::getThrottlingTps);
@@ -205,8 +206,15 @@ public class StandardizedPropertySources implements PropertySources {
 		/* Node-local/static properties. */
 		source.put("dev.defaultListeningNodeAccount", PropertiesLoader::getDefaultListeningNodeAccount);
 		source.put("dev.onlyDefaultNodeListens", () -> getUniqueListeningPortFlag() != 1);
+		source.put("fees.resultCache.maxSize", PropertiesLoader::getFeeResultCacheMaxSize);
 		source.put("grpc.port", PropertiesLoader::getPort);
 		source.put("grpc.tlsPort", PropertiesLoader::getTlsPort);
+		source.put("grpc.workers.txns.threads", PropertiesLoader::getGrpcTxnWorkers);
+		source.put("grpc.workers.txns.queueCapacity", PropertiesLoader::getGrpcTxnQueueCapacity);
+		source.put("grpc.workers.queries.threads", PropertiesLoader::getGrpcQueryWorkers);
+		source.put("grpc.workers.queries.queueCapacity", PropertiesLoader::getGrpcQueryQueueCapacity);
+		source.put("grpc.workers.expensiveQueries.threads", PropertiesLoader::getGrpcExpensiveQueryWorkers);
+		source.put("grpc.workers.expensiveQueries.queueCapacity", PropertiesLoader::getGrpcExpensiveQueryQueueCapacity);
 		source.put("hedera.accountsExportPath", PropertiesLoader::getExportedAccountPath);
 		source.put("hedera.exportAccountsOnStartup", () -> getSaveAccounts().equals("YES"));
 		source.put("hedera.exportBalancesOnNewSignedState", PropertiesLoader::isAccountBalanceExportEnabled);
@@ -216,6 +224,12 @@ public class StandardizedPropertySources implements PropertySources {
 		source.put("hedera.versionInfo.servicesKey", () -> VERSION_INFO_PROPERTIES_SERVICES_KEY);
 		source.put("iss.reset.periodSecs", () -> ISS_RESET_PERIOD_SECS);
 		source.put("iss.roundsToDump", () -> ISS_ROUNDS_TO_DUMP);
+		source.put("ledger.batching.maxTxnsPerFlush", PropertiesLoader::getLedgerBatchingMaxTxnsPerFlush);
+		source.put("precheck.sigVerification.maxBatchSize", PropertiesLoader::getPrecheckSigVerifyMaxBatchSize);
+		source.put("precheck.sigVerification.queueCapacity", PropertiesLoader::getPrecheckSigVerifyQueueCapacity);
+		source.put("precheck.sigVerification.workers", PropertiesLoader::getPrecheckSigVerifyWorkers);
+		source.put("sigs.orderCache.maxSize", PropertiesLoader::getSigningOrderCacheMaxSize);
+		source.put("txns.accessorCache.maxSize", PropertiesLoader::getTxnAccessorCacheMaxSize);
 		source.put("validation.preConsensus.accountKey.maxLookupRetries", maxLookupRetries);
 		source.put("validation.preConsensus.accountKey.retryBackoffIncrementMs", retryBackoffIncrementMs);
 
@@ -24,36 +24,33 @@ import com.hedera.services.context.TransactionContext;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.keys.HederaKeyActivation;
 import com.hedera.services.keys.SyncActivationCheck;
+import com.hedera.services.ledger.accounts.BackingAccounts;
 import com.hedera.services.sigs.PlatformSigOps;
 import com.hedera.services.sigs.factories.BodySigningSigFactory;
 import com.hedera.services.sigs.verification.SyncVerifier;
 import com.hederahashgraph.api.proto.java.AccountID;
-import com.hedera.services.state.merkle.MerkleEntityId;
 import com.hedera.services.legacy.core.jproto.JKey;
-import com.swirlds.fcmap.FCMap;
 
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import static com.hedera.services.keys.HederaKeyActivation.ONLY_IF_SIG_IS_VALID;
 import static com.hedera.services.keys.HederaKeyActivation.isActive;
 import static com.hedera.services.sigs.sourcing.DefaultSigBytesProvider.DEFAULT_SIG_BYTES;
-import static com.hedera.services.state.merkle.MerkleEntityId.fromAccountId;
 import static java.util.stream.Collectors.toList;
 
 public class TxnAwareSoliditySigsVerifier implements SoliditySigsVerifier {
 	private final SyncVerifier syncVerifier;
 	private final TransactionContext txnCtx;
 	private final SyncActivationCheck check;
-	private final Supplier<FCMap<MerkleEntityId, MerkleAccount>> accounts;
+	private final BackingAccounts<AccountID, MerkleAccount> accounts;
 
 	public TxnAwareSoliditySigsVerifier(
 			SyncVerifier syncVerifier,
 			TransactionContext txnCtx,
 			SyncActivationCheck check,
-			Supplier<FCMap<MerkleEntityId, MerkleAccount>> accounts
+			BackingAccounts<AccountID, MerkleAccount> accounts
 	) {
 		this.txnCtx = txnCtx;
 		this.accounts = accounts;
@@ -84,7 +81,7 @@ public class TxnAwareSoliditySigsVerifier implements SoliditySigsVerifier {
 	}
 
 	private Stream<JKey> keyRequirement(AccountID id) {
-		return Optional.ofNullable(accounts.get().get(fromAccountId(id)))
+		return Optional.ofNullable(accounts.getUnsafeRef(id))
 				.filter(account -> !account.isSmartContract())
 				.filter(MerkleAccount::isReceiverSigRequired)
 				.map(MerkleAccount::getKey)
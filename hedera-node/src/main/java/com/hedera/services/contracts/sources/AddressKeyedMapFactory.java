@@ -35,6 +35,8 @@ public class AddressKeyedMapFactory {
 	static final String LEGACY_STORAGE_PATH_TEMPLATE = "/%d/d%d";
 	static final Pattern LEGACY_STORAGE_PATH_PATTERN = Pattern.compile("/(\\d+)/d(\\d+)");
 
+	private static final String TEMPLATE_PREFIX = "/%d";
+
 	public static Map<byte[], byte[]> bytecodeMapFrom(Map<String, byte[]> store) {
 		var storageMap = new BytesStoreAdapter<>(
 				byte[].class,
@@ -63,10 +65,19 @@ public class AddressKeyedMapFactory {
 		return key -> legacyPathPattern.matcher(key).matches();
 	}
 
+	/**
+	 * Returns a mapping from a contract address to its path in the blob store, given a
+	 * template of the form {@code /%d/<infix>%d}. The template is only inspected once, so
+	 * the mapping itself is a plain concatenation.
+	 *
+	 * @param legacyPathTemplate the template for the path
+	 * @return the mapping from address to path
+	 */
 	static Function<byte[], String> toKeyMapping(final String legacyPathTemplate) {
+		final var infix = legacyPathTemplate.substring(TEMPLATE_PREFIX.length(), legacyPathTemplate.length() - 2);
 		return address -> {
 			var id = accountParsedFromSolidityAddress(address);
-			return String.format(legacyPathTemplate, id.getRealmNum(), id.getAccountNum());
+			return "/" + id.getRealmNum() + infix + id.getAccountNum();
 		};
 	}
 
@@ -20,9 +20,10 @@ package com.hedera.services.contracts.sources;
  * ‍
  */
 
-import com.hedera.services.context.properties.PropertySource;
+import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.ledger.HederaLedger;
 import com.hedera.services.ledger.accounts.HederaAccountCustomizer;
+import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.submerkle.EntityId;
 import com.hedera.services.legacy.core.jproto.JContractIDKey;
 import com.hederahashgraph.api.proto.java.AccountID;
@@ -44,12 +45,12 @@ public class LedgerAccountsSource implements Source<byte[], AccountState> {
 	static Logger log = LogManager.getLogger(LedgerAccountsSource.class);
 
 	private final HederaLedger ledger;
-	private final PropertySource properties;
+	private final GlobalDynamicProperties properties;
 	private final ReadWriteLock rwLock = new ReentrantReadWriteLock();
 	private final ALock rLock = new ALock(rwLock.readLock());
 	private final ALock wLock = new ALock(rwLock.writeLock());
 
-	public LedgerAccountsSource(HederaLedger ledger, PropertySource properties) {
+	public LedgerAccountsSource(HederaLedger ledger, GlobalDynamicProperties properties) {
 		this.ledger = ledger;
 		this.properties = properties;
 	}
@@ -70,30 +71,33 @@ public class LedgerAccountsSource implements Source<byte[], AccountState> {
 				return null;
 			}
 
-			var hederaAccount = ledger.get(id);
-			var evmState = new AccountState(
-					BigInteger.ZERO,
-					BigInteger.valueOf(hederaAccount.getBalance()));
-
-			evmState.setShardId(id.getShardNum());
-			evmState.setRealmId(id.getRealmNum());
-			evmState.setAccountNum(id.getAccountNum());
-			evmState.setAutoRenewPeriod(hederaAccount.getAutoRenewSecs());
-			if (hederaAccount.getProxy() != null) {
-				var proxy = hederaAccount.getProxy();
-				evmState.setProxyAccountShard(proxy.shard());
-				evmState.setProxyAccountRealm(proxy.realm());
-				evmState.setProxyAccountNum(proxy.num());
-			}
-			evmState.setSenderThreshold(hederaAccount.getSenderThreshold());
-			evmState.setReceiverThreshold(hederaAccount.getReceiverThreshold());
-			evmState.setReceiverSigRequired(hederaAccount.isReceiverSigRequired());
-			evmState.setDeleted(hederaAccount.isDeleted());
-			evmState.setExpirationTime(hederaAccount.getExpiry());
-			evmState.setSmartContract(hederaAccount.isSmartContract());
-
-			return evmState;
+			return evmStateOf(id, ledger.get(id));
+		}
+	}
+
+	static AccountState evmStateOf(AccountID id, MerkleAccount hederaAccount) {
+		var evmState = new AccountState(
+				BigInteger.ZERO,
+				BigInteger.valueOf(hederaAccount.getBalance()));
+
+		evmState.setShardId(id.getShardNum());
+		evmState.setRealmId(id.getRealmNum());
+		evmState.setAccountNum(id.getAccountNum());
+		evmState.setAutoRenewPeriod(hederaAccount.getAutoRenewSecs());
+		if (hederaAccount.getProxy() != null) {
+			var proxy = hederaAccount.getProxy();
+			evmState.setProxyAccountShard(proxy.shard());
+			evmState.setProxyAccountRealm(proxy.realm());
+			evmState.setProxyAccountNum(proxy.num());
 		}
+		evmState.setSenderThreshold(hederaAccount.getSenderThreshold());
+		evmState.setReceiverThreshold(hederaAccount.getReceiverThreshold());
+		evmState.setReceiverSigRequired(hederaAccount.isReceiverSigRequired());
+		evmState.setDeleted(hederaAccount.isDeleted());
+		evmState.setExpirationTime(hederaAccount.getExpiry());
+		evmState.setSmartContract(hederaAccount.isSmartContract());
+
+		return evmState;
 	}
 
 	@Override
@@ -136,10 +140,10 @@ public class LedgerAccountsSource implements Source<byte[], AccountState> {
 				evmState.getProxyAccountRealm(),
 				evmState.getProxyAccountNum());
 		long fundsSentRecordThreshold = (evmState.getSenderThreshold() == 0)
-				? properties.getLongProperty("contracts.defaultSendThreshold")
+				? properties.defaultContractSendThreshold()
 				: evmState.getSenderThreshold();
 		long fundsReceivedRecordThreshold = (evmState.getReceiverThreshold() == 0)
-				? properties.getLongProperty("contracts.defaultReceiveThreshold")
+				? properties.defaultContractReceiveThreshold()
 				: evmState.getReceiverThreshold();
 		var key = new JContractIDKey(asContract(id));
 		HederaAccountCustomizer customizer = new HederaAccountCustomizer()
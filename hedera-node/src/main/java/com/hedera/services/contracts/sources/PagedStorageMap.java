@@ -0,0 +1,409 @@
+package com.hedera.services.contracts.sources;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.nio.ByteBuffer;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static com.hedera.services.contracts.sources.AddressKeyedMapFactory.LEGACY_STORAGE_PATH_PATTERN;
+import static com.hedera.services.contracts.sources.AddressKeyedMapFactory.LEGACY_STORAGE_PATH_TEMPLATE;
+import static com.hedera.services.contracts.sources.AddressKeyedMapFactory.toAddressMapping;
+import static com.hedera.services.contracts.sources.AddressKeyedMapFactory.toKeyMapping;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+
+/**
+ * A {@code Map} from contract address to the serialized storage of the contract, which
+ * keeps that storage in the blob store as a sequence of fixed-size pages at
+ * {@code /{realm}/d{num}/p{k}g{generation}}, plus a small manifest at {@code /{realm}/m{num}}
+ * giving the page size, the total length, and the generation of each page. Putting new
+ * storage for a contract only rewrites (and so only re-hashes) the pages whose bytes
+ * actually changed.
+ *
+ * <p>Pages are copy-on-write: a changed page is written under a new generation, the new
+ * manifest is published only after all its pages, and superseded pages are removed last.
+ * So a page path never changes contents while the contract's storage exists, and a reader
+ * off the handle thread either assembles exactly the pages of one manifest, or finds one
+ * missing (because it raced a put) and retries with the newer manifest.
+ *
+ * <p>Storage still in the legacy layout, as a single blob at {@code /{realm}/d{num}}, is
+ * read transparently, and migrated to the paged layout the first time it is put.
+ *
+ * <p>Changed pages are found by comparing with the stored pages; or, to avoid reading
+ * them back from the blob store, the map can remember the contents it most recently
+ * read or wrote for a bounded number of contracts. Remembered contents are only trusted
+ * while the given scope (the storage {@code FCMap} in use) is unchanged; so a remembering
+ * map should only be used from the thread handling transactions.
+ *
+ * <b>NOTE:</b> Like {@link com.hedera.services.files.store.FcBlobsBytesStore}, this
+ * map's {@code put} and {@code remove} do not return the previous contents.
+ *
+ * @author Michael Tinker
+ */
+public class PagedStorageMap extends AbstractMap<byte[], byte[]> {
+	private static final Logger log = LogManager.getLogger(PagedStorageMap.class);
+
+	public static final int DEFAULT_PAGE_SIZE = 2048;
+	public static final int DEFAULT_MEMO_CAPACITY = 32;
+
+	static final int MANIFEST_VERSION = 1;
+	static final int MANIFEST_HEADER_LEN = 4 * Integer.BYTES;
+	static final String MANIFEST_PATH_TEMPLATE = "/%d/m%d";
+
+	static final int LAYOUT_VERSION = 1;
+	static final String LAYOUT_VERSION_PATH = "/0/pagedStorageLayout";
+
+	private static final Function<byte[], String> LEGACY_PATHS = toKeyMapping(LEGACY_STORAGE_PATH_TEMPLATE);
+	private static final Function<byte[], String> MANIFEST_PATHS = toKeyMapping(MANIFEST_PATH_TEMPLATE);
+
+	private final int pageSize;
+	private final Map<String, byte[]> blobs;
+	private final Supplier<?> memoScope;
+	private final Map<String, Memo> memos;
+
+	private static class Memo {
+		private final Object scope;
+		private final byte[] contents;
+
+		private Memo(Object scope, byte[] contents) {
+			this.scope = scope;
+			this.contents = contents;
+		}
+	}
+
+	/**
+	 * Creates a map that does not remember contents, and so is safe to read concurrently
+	 * with a writer (to the extent the underlying blob store is).
+	 *
+	 * @param blobs the blob store
+	 */
+	public PagedStorageMap(Map<String, byte[]> blobs) {
+		this(blobs, DEFAULT_PAGE_SIZE, null, 0);
+	}
+
+	public PagedStorageMap(Map<String, byte[]> blobs, int pageSize, Supplier<?> memoScope, int memoCapacity) {
+		if (pageSize < 1) {
+			throw new IllegalArgumentException("Page size must be positive, not " + pageSize + "!");
+		}
+		this.blobs = blobs;
+		this.pageSize = pageSize;
+		this.memoScope = memoScope;
+		this.memos = (memoScope == null || memoCapacity < 1) ? null : new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Memo> eldest) {
+				return size() > memoCapacity;
+			}
+		};
+	}
+
+	@Override
+	public boolean containsKey(Object address) {
+		if (!(address instanceof byte[])) {
+			return false;
+		}
+		var layout = new Layout((byte[])address);
+		/* A migrating put publishes the manifest before removing the legacy blob. */
+		return blobs.containsKey(layout.legacyPath) || blobs.containsKey(layout.manifestPath);
+	}
+
+	@Override
+	public byte[] get(Object address) {
+		if (!(address instanceof byte[])) {
+			return null;
+		}
+		var layout = new Layout((byte[])address);
+		while (true) {
+			var manifest = blobs.get(layout.manifestPath);
+			if (manifest == null) {
+				var legacy = blobs.get(layout.legacyPath);
+				if (legacy != null || !blobs.containsKey(layout.manifestPath)) {
+					return legacy;
+				}
+				/* The legacy blob was migrated while we were looking for it. */
+				continue;
+			}
+			var contents = assemble(layout, manifest);
+			if (contents != null) {
+				remember(layout, contents);
+				return contents;
+			}
+			if (Arrays.equals(manifest, blobs.get(layout.manifestPath))) {
+				throw new IllegalStateException("Inconsistent paged storage at " + layout.manifestPath);
+			}
+			/* Otherwise a put superseded the manifest we read, so read the new one. */
+		}
+	}
+
+	/**
+	 * Returns the length of the storage at the given address, reading only its manifest
+	 * if it has been migrated to the paged layout.
+	 *
+	 * @param address the contract address
+	 * @return the length of its storage, or 0 if it has none
+	 */
+	public int sizeOf(byte[] address) {
+		var layout = new Layout(address);
+		var manifest = blobs.get(layout.manifestPath);
+		if (manifest != null) {
+			return ByteBuffer.wrap(manifest).getInt(2 * Integer.BYTES);
+		}
+		var legacy = blobs.get(layout.legacyPath);
+		return (legacy == null) ? 0 : legacy.length;
+	}
+
+	@Override
+	public byte[] put(byte[] address, byte[] contents) {
+		var layout = new Layout(address);
+		var manifest = blobs.get(layout.manifestPath);
+		var prior = (manifest == null) ? null : priorIfKnown(layout, manifest);
+		boolean samePaging = manifest != null && pageSizeIn(manifest) == pageSize;
+		int numPriorPages = (manifest == null) ? 0 : pagesFor(lengthIn(manifest), pageSizeIn(manifest));
+		int priorGeneration = (manifest == null) ? 0 : generationIn(manifest);
+		int generation = priorGeneration + 1;
+
+		int numPages = pagesFor(contents.length);
+		var pageGenerations = new int[numPages];
+		List<String> superseded = new ArrayList<>();
+		boolean anyWritten = false;
+		for (int k = 0, from = 0; k < numPages; k++, from += pageSize) {
+			int to = Math.min(contents.length, from + pageSize);
+			int priorPageGeneration = (samePaging && k < numPriorPages) ? pageGenerationIn(manifest, k) : -1;
+			boolean unchanged = priorPageGeneration >= 0 && ((prior != null)
+					? samePage(prior, contents, from, to)
+					: sameAsStored(layout.pagePath(k, priorPageGeneration), contents, from, to));
+			if (unchanged) {
+				pageGenerations[k] = priorPageGeneration;
+			} else {
+				blobs.put(layout.pagePath(k, generation), Arrays.copyOfRange(contents, from, to));
+				pageGenerations[k] = generation;
+				anyWritten = true;
+				if (priorPageGeneration >= 0) {
+					superseded.add(layout.pagePath(k, priorPageGeneration));
+				}
+			}
+		}
+		for (int k = samePaging ? numPages : 0; k < numPriorPages; k++) {
+			superseded.add(layout.pagePath(k, pageGenerationIn(manifest, k)));
+		}
+
+		var newManifest = manifestFor(contents.length, anyWritten ? generation : priorGeneration, pageGenerations);
+		if (manifest == null || !Arrays.equals(manifest, newManifest)) {
+			blobs.put(layout.manifestPath, newManifest);
+		}
+		superseded.forEach(blobs::remove);
+		if (manifest == null && blobs.containsKey(layout.legacyPath)) {
+			blobs.remove(layout.legacyPath);
+		}
+		remember(layout, contents);
+		return null;
+	}
+
+	@Override
+	public byte[] remove(Object address) {
+		if (!(address instanceof byte[])) {
+			return null;
+		}
+		var layout = new Layout((byte[])address);
+		var manifest = blobs.get(layout.manifestPath);
+		if (manifest != null) {
+			/* Unpublish the manifest first, so readers never see it without its pages. */
+			blobs.remove(layout.manifestPath);
+			int numPages = pagesFor(lengthIn(manifest), pageSizeIn(manifest));
+			for (int k = 0; k < numPages; k++) {
+				blobs.remove(layout.pagePath(k, pageGenerationIn(manifest, k)));
+			}
+		}
+		blobs.remove(layout.legacyPath);
+		forget(layout);
+		return null;
+	}
+
+	/**
+	 * Returns whether {@link PagedStorageMap#migrateLegacy(Collection)} has already run
+	 * to completion on this blob store for the current layout version.
+	 *
+	 * @return if there is no legacy storage left to migrate
+	 */
+	public boolean isLegacyMigrated() {
+		var marker = blobs.get(LAYOUT_VERSION_PATH);
+		return marker != null && ByteBuffer.wrap(marker).getInt() >= LAYOUT_VERSION;
+	}
+
+	/**
+	 * Migrates the storage at each of the given blob paths that is in the legacy layout
+	 * to the paged layout, in path order (so the result is the same on every node); and
+	 * then records the layout version in the blob store, so the migration is skipped
+	 * for any later copy of this state.
+	 *
+	 * @param paths the blob paths to consider
+	 * @return the number of contracts migrated
+	 */
+	public int migrateLegacy(Collection<String> paths) {
+		var toAddress = toAddressMapping(LEGACY_STORAGE_PATH_PATTERN);
+		var legacyPaths = paths.stream()
+				.filter(path -> LEGACY_STORAGE_PATH_PATTERN.matcher(path).matches())
+				.sorted()
+				.collect(toList());
+		for (String path : legacyPaths) {
+			put(toAddress.apply(path), blobs.get(path));
+		}
+		blobs.put(LAYOUT_VERSION_PATH, ByteBuffer.allocate(Integer.BYTES).putInt(LAYOUT_VERSION).array());
+		return legacyPaths.size();
+	}
+
+	/**
+	 * Returns every contract's storage, in either layout. This reads every blob in the
+	 * store, and is not meant for use on a live node.
+	 *
+	 * @return the storage of each contract
+	 */
+	@Override
+	public Set<Entry<byte[], byte[]>> entrySet() {
+		var toAddress = toAddressMapping(LEGACY_STORAGE_PATH_PATTERN);
+		return blobs.keySet().stream()
+				.filter(path -> path.matches("/\\d+/[md]\\d+"))
+				.map(path -> toAddress.apply(path.replaceFirst("/m", "/d")))
+				.map(address -> (Entry<byte[], byte[]>)new SimpleImmutableEntry<>(address, get(address)))
+				.collect(toSet());
+	}
+
+	/* Returns null if a page is missing or malformed, as when racing a put off the handle thread. */
+	private byte[] assemble(Layout layout, byte[] manifest) {
+		int length = lengthIn(manifest);
+		int manifestPageSize = pageSizeIn(manifest);
+		var contents = new byte[length];
+		for (int k = 0, from = 0; from < length; k++, from += manifestPageSize) {
+			var pagePath = layout.pagePath(k, pageGenerationIn(manifest, k));
+			var page = blobs.get(pagePath);
+			int expectedLen = Math.min(manifestPageSize, length - from);
+			if (page == null || page.length != expectedLen) {
+				log.warn("Storage page {} is missing or malformed", pagePath);
+				return null;
+			}
+			System.arraycopy(page, 0, contents, from, expectedLen);
+		}
+		return contents;
+	}
+
+	private byte[] priorIfKnown(Layout layout, byte[] manifest) {
+		if (memos == null || pageSizeIn(manifest) != pageSize) {
+			return null;
+		}
+		Memo memo;
+		synchronized (memos) {
+			memo = memos.get(layout.manifestPath);
+		}
+		if (memo == null || memo.scope != memoScope.get() || memo.contents.length != lengthIn(manifest)) {
+			return null;
+		}
+		return memo.contents;
+	}
+
+	private void remember(Layout layout, byte[] contents) {
+		if (memos != null) {
+			synchronized (memos) {
+				memos.put(layout.manifestPath, new Memo(memoScope.get(), contents.clone()));
+			}
+		}
+	}
+
+	private void forget(Layout layout) {
+		if (memos != null) {
+			synchronized (memos) {
+				memos.remove(layout.manifestPath);
+			}
+		}
+	}
+
+	private boolean samePage(byte[] prior, byte[] contents, int from, int to) {
+		int priorTo = Math.min(prior.length, from + pageSize);
+		return priorTo == to && Arrays.equals(prior, from, to, contents, from, to);
+	}
+
+	private boolean sameAsStored(String pagePath, byte[] contents, int from, int to) {
+		var stored = blobs.get(pagePath);
+		return stored != null && Arrays.equals(stored, 0, stored.length, contents, from, to);
+	}
+
+	private int pagesFor(int length) {
+		return pagesFor(length, pageSize);
+	}
+
+	private static int pagesFor(int length, int pageSize) {
+		return (length + pageSize - 1) / pageSize;
+	}
+
+	private byte[] manifestFor(int length, int generation, int[] pageGenerations) {
+		var manifest = ByteBuffer.allocate(MANIFEST_HEADER_LEN + pageGenerations.length * Integer.BYTES)
+				.putInt(MANIFEST_VERSION)
+				.putInt(pageSize)
+				.putInt(length)
+				.putInt(generation);
+		for (int pageGeneration : pageGenerations) {
+			manifest.putInt(pageGeneration);
+		}
+		return manifest.array();
+	}
+
+	private static int pageSizeIn(byte[] manifest) {
+		return ByteBuffer.wrap(manifest).getInt(Integer.BYTES);
+	}
+
+	private static int lengthIn(byte[] manifest) {
+		return ByteBuffer.wrap(manifest).getInt(2 * Integer.BYTES);
+	}
+
+	private static int generationIn(byte[] manifest) {
+		return ByteBuffer.wrap(manifest).getInt(3 * Integer.BYTES);
+	}
+
+	private static int pageGenerationIn(byte[] manifest, int k) {
+		return ByteBuffer.wrap(manifest).getInt(MANIFEST_HEADER_LEN + k * Integer.BYTES);
+	}
+
+	private static class Layout {
+		private final String legacyPath;
+		private final String manifestPath;
+		private final String pagePathPrefix;
+
+		private Layout(byte[] address) {
+			legacyPath = LEGACY_PATHS.apply(address);
+			manifestPath = MANIFEST_PATHS.apply(address);
+			pagePathPrefix = legacyPath + "/p";
+		}
+
+		private String pagePath(int k, int generation) {
+			return pagePathPrefix + k + "g" + generation;
+		}
+	}
+}
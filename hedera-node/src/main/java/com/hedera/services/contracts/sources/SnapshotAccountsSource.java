@@ -0,0 +1,74 @@
+package com.hedera.services.contracts.sources;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.state.merkle.MerkleAccount;
+import com.hedera.services.state.merkle.MerkleEntityId;
+import com.swirlds.fcmap.FCMap;
+import org.ethereum.core.AccountState;
+import org.ethereum.datasource.Source;
+
+import java.util.function.Supplier;
+
+import static com.hedera.services.contracts.sources.LedgerAccountsSource.evmStateOf;
+import static com.hedera.services.state.merkle.MerkleEntityId.fromAccountId;
+import static com.hedera.services.utils.EntityIdUtils.accountParsedFromSolidityAddress;
+
+/**
+ * A read-only {@link Source} of EVM account states for local calls, which reads the
+ * queryable accounts directly instead of going through a (locked) ledger. So any number
+ * of local calls can run at once.
+ *
+ * Local calls are static, and the repositories built on this source are discarded
+ * without being flushed; so a {@code put} should never arrive here, and is ignored
+ * if it does.
+ *
+ * @author Michael Tinker
+ */
+public class SnapshotAccountsSource implements Source<byte[], AccountState> {
+	private final Supplier<FCMap<MerkleEntityId, MerkleAccount>> accounts;
+
+	public SnapshotAccountsSource(Supplier<FCMap<MerkleEntityId, MerkleAccount>> accounts) {
+		this.accounts = accounts;
+	}
+
+	@Override
+	public AccountState get(byte[] key) {
+		var id = accountParsedFromSolidityAddress(key);
+		var account = accounts.get().get(fromAccountId(id));
+		return (account == null) ? null : evmStateOf(id, account);
+	}
+
+	@Override
+	public void put(byte[] key, AccountState evmState) {
+		/* No-op. */
+	}
+
+	@Override
+	public void delete(byte[] key) {
+		throw new UnsupportedOperationException();
+	}
+
+	@Override
+	public boolean flush() {
+		return false;
+	}
+}
@@ -0,0 +1,136 @@
+package com.hedera.services.contracts.sources;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.protobuf.ByteString;
+
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * A view of a {@code Map} from contract address to bytecode or storage, that remembers
+ * what it has read for as long as the given snapshot (the queryable storage {@code FCMap})
+ * is the same, and nothing has been written to it. Local calls can then share the
+ * bytecode and (already assembled) storage of popular contracts, instead of each
+ * re-reading them from the blob store.
+ *
+ * The queryable storage is the same {@code FCMap} the handle thread is changing, so
+ * whatever writes to it must call {@link SnapshotCachingMap#invalidate()} after each write.
+ * (Writes through this map do so themselves.) A read that races a write may still cache
+ * what it read, but only in a cache that the invalidation has already retired.
+ *
+ * At most {@code capacity} addresses are remembered per cache; reads past that just
+ * go through to the delegate.
+ *
+ * @author Michael Tinker
+ */
+public class SnapshotCachingMap extends AbstractMap<byte[], byte[]> {
+	public static final int DEFAULT_CAPACITY = 1024;
+
+	private final int capacity;
+	private final Supplier<?> snapshot;
+	private final Map<byte[], byte[]> delegate;
+
+	private volatile Cache cache = new Cache(null);
+
+	private static class Cache {
+		private final Object snapshot;
+		private final Map<ByteString, Optional<byte[]>> contents = new ConcurrentHashMap<>();
+
+		private Cache(Object snapshot) {
+			this.snapshot = snapshot;
+		}
+	}
+
+	public SnapshotCachingMap(Map<byte[], byte[]> delegate, Supplier<?> snapshot, int capacity) {
+		this.delegate = delegate;
+		this.snapshot = snapshot;
+		this.capacity = capacity;
+	}
+
+	@Override
+	public byte[] get(Object address) {
+		if (!(address instanceof byte[])) {
+			return null;
+		}
+		var current = currentCache();
+		var key = ByteString.copyFrom((byte[])address);
+		var known = current.contents.get(key);
+		if (known != null) {
+			return known.orElse(null);
+		}
+		var contents = delegate.get(address);
+		if (current.contents.size() < capacity) {
+			current.contents.putIfAbsent(key, Optional.ofNullable(contents));
+		}
+		return contents;
+	}
+
+	@Override
+	public boolean containsKey(Object address) {
+		return get(address) != null;
+	}
+
+	@Override
+	public byte[] put(byte[] address, byte[] contents) {
+		var prior = delegate.put(address, contents);
+		invalidate();
+		return prior;
+	}
+
+	@Override
+	public byte[] remove(Object address) {
+		var prior = delegate.remove(address);
+		invalidate();
+		return prior;
+	}
+
+	@Override
+	public Set<Entry<byte[], byte[]>> entrySet() {
+		return delegate.entrySet();
+	}
+
+	/**
+	 * Forgets everything read so far. Must be called after every write to the
+	 * storage the delegate reads from.
+	 */
+	public void invalidate() {
+		cache = new Cache(null);
+	}
+
+	int numCached() {
+		return cache.contents.size();
+	}
+
+	private Cache currentCache() {
+		var current = cache;
+		var now = snapshot.get();
+		if (current.snapshot != now) {
+			current = new Cache(now);
+			cache = current;
+		}
+		return current;
+	}
+}
@@ -36,6 +36,7 @@ import com.hederahashgraph.api.proto.java.TransactionFeeSchedule;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.EnumMap;
 import java.util.Map;
 import java.util.Objects;
 
@@ -155,6 +156,12 @@ public class AwareFcfsUsagePrices implements UsagePricesProvider {
 	private Map<HederaFunctionality, FeeData> functionUsagePricesFrom(FeeSchedule feeSchedule) {
 		return feeSchedule.getTransactionFeeScheduleList()
 				.stream()
-				.collect(toMap(TransactionFeeSchedule::getHederaFunctionality, TransactionFeeSchedule::getFeeData));
+				.collect(toMap(
+						TransactionFeeSchedule::getHederaFunctionality,
+						TransactionFeeSchedule::getFeeData,
+						(a, b) -> {
+							throw new IllegalStateException("Duplicate usage prices in fee schedule!");
+						},
+						() -> new EnumMap<>(HederaFunctionality.class)));
 	}
 }
@@ -0,0 +1,129 @@
+package com.hedera.services.fees.calculation;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hederahashgraph.api.proto.java.ExchangeRate;
+import com.hederahashgraph.api.proto.java.FeeComponents;
+import com.hederahashgraph.api.proto.java.FeeData;
+import com.hederahashgraph.fee.FeeBuilder;
+import com.hederahashgraph.fee.FeeObject;
+
+import static com.hederahashgraph.fee.FeeBuilder.FEE_DIVISOR_FACTOR;
+import static com.hederahashgraph.fee.FeeBuilder.getTinybarsFromTinyCents;
+
+/**
+ * The usage prices of one {@link com.hederahashgraph.api.proto.java.HederaFunctionality},
+ * compiled once into a flat array of primitive coefficients; so a fee can be computed
+ * from them with no message traversal or allocation besides the returned {@link FeeObject}.
+ *
+ * The computed fees are <i>exactly</i> those of {@link FeeBuilder#getFeeObject(FeeData, FeeData, ExchangeRate)},
+ * including its wrapping {@code long} arithmetic and rounding of the transaction value fee.
+ *
+ * @author Michael Tinker
+ */
+public final class CompiledUsagePrices {
+	static final int NETWORK = 0;
+	static final int NODE = 1;
+	static final int SERVICE = 2;
+
+	private static final int CONSTANT = 0;
+	private static final int BPT = 1;
+	private static final int VPT = 2;
+	private static final int RBH = 3;
+	private static final int SBH = 4;
+	private static final int GAS = 5;
+	private static final int TV = 6;
+	private static final int BPR = 7;
+	private static final int SBPR = 8;
+	private static final int MIN = 9;
+	private static final int MAX = 10;
+	private static final int NUM_COEFFICIENTS = 11;
+
+	private final FeeData prices;
+	private final long[] coefficients = new long[3 * NUM_COEFFICIENTS];
+
+	private CompiledUsagePrices(FeeData prices) {
+		this.prices = prices;
+		compile(NETWORK, prices.getNetworkdata());
+		compile(NODE, prices.getNodedata());
+		compile(SERVICE, prices.getServicedata());
+	}
+
+	public static CompiledUsagePrices compile(FeeData prices) {
+		return new CompiledUsagePrices(prices);
+	}
+
+	/**
+	 * Returns the prices this instance was compiled from.
+	 *
+	 * @return the source prices
+	 */
+	public FeeData prices() {
+		return prices;
+	}
+
+	public FeeObject feeGiven(FeeData usage, ExchangeRate rate) {
+		int hbarEquiv = rate.getHbarEquiv();
+		int centEquiv = rate.getCentEquiv();
+		long networkFee = getTinybarsFromTinyCents(hbarEquiv, centEquiv, tinyCentsGiven(NETWORK, usage.getNetworkdata()));
+		long nodeFee = getTinybarsFromTinyCents(hbarEquiv, centEquiv, tinyCentsGiven(NODE, usage.getNodedata()));
+		long serviceFee = getTinybarsFromTinyCents(hbarEquiv, centEquiv, tinyCentsGiven(SERVICE, usage.getServicedata()));
+		return new FeeObject(nodeFee, networkFee, serviceFee);
+	}
+
+	long tinyCentsGiven(int component, FeeComponents usage) {
+		int i = component * NUM_COEFFICIENTS;
+		long bytesUsageFee = coefficients[i + BPT] * usage.getBpt();
+		long verificationFee = coefficients[i + VPT] * usage.getVpt();
+		long ramStorageFee = coefficients[i + RBH] * usage.getRbh();
+		long storageFee = coefficients[i + SBH] * usage.getSbh();
+		long evmGasFee = coefficients[i + GAS] * usage.getGas();
+		/* Mirrors FeeBuilder, where a long argument resolves to Math.round(float). */
+		long txValueFee = Math.round((coefficients[i + TV] * usage.getTv()) / 1000);
+		long bytesResponseFee = coefficients[i + BPR] * usage.getBpr();
+		long storageBytesResponseFee = coefficients[i + SBPR] * usage.getSbpr();
+		long componentUsage = coefficients[i + CONSTANT] * usage.getConstant();
+
+		long totalComponentFee = componentUsage + (bytesUsageFee + verificationFee + ramStorageFee
+				+ storageFee + evmGasFee + txValueFee + bytesResponseFee + storageBytesResponseFee);
+		if (totalComponentFee < coefficients[i + MIN]) {
+			totalComponentFee = coefficients[i + MIN];
+		} else if (totalComponentFee > coefficients[i + MAX]) {
+			totalComponentFee = coefficients[i + MAX];
+		}
+		return Math.max(totalComponentFee > 0 ? 1 : 0, totalComponentFee / FEE_DIVISOR_FACTOR);
+	}
+
+	private void compile(int component, FeeComponents prices) {
+		int i = component * NUM_COEFFICIENTS;
+		coefficients[i + CONSTANT] = prices.getConstant();
+		coefficients[i + BPT] = prices.getBpt();
+		coefficients[i + VPT] = prices.getVpt();
+		coefficients[i + RBH] = prices.getRbh();
+		coefficients[i + SBH] = prices.getSbh();
+		coefficients[i + GAS] = prices.getGas();
+		coefficients[i + TV] = prices.getTv();
+		coefficients[i + BPR] = prices.getBpr();
+		coefficients[i + SBPR] = prices.getSbpr();
+		coefficients[i + MIN] = prices.getMin();
+		coefficients[i + MAX] = prices.getMax();
+	}
+}
@@ -0,0 +1,109 @@
+package com.hedera.services.fees.calculation;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hederahashgraph.api.proto.java.ExchangeRate;
+import com.hederahashgraph.api.proto.java.FeeData;
+import com.hederahashgraph.api.proto.java.Transaction;
+import com.hederahashgraph.fee.FeeObject;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded, least-recently-used cache of the fees computed for signed transactions
+ * whose resource usage does not depend on the state of the world; so the fee computed
+ * at precheck can be re-used when the same transaction reaches consensus.
+ *
+ * <p>Each cached fee is only valid for the exact usage prices and exchange rate it was
+ * computed with. These are compared by identity, since a price or rate instance is
+ * only replaced when its fee schedule or exchange rate file is updated (or when the
+ * next schedule or rate becomes active); so a lookup after such a change always misses,
+ * and the entry is replaced by the next offer. A cache with a maximum size of zero
+ * caches nothing.
+ *
+ * @author Michael Tinker
+ */
+public class FeeResultCache {
+	private final int maxSize;
+	private final LinkedHashMap<Transaction, Entry> entries;
+
+	public FeeResultCache(int maxSize) {
+		if (maxSize < 0) {
+			throw new IllegalArgumentException(String.format("Cache size must be non-negative, not %d!", maxSize));
+		}
+		this.maxSize = maxSize;
+		entries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Transaction, Entry> eldest) {
+				return size() > FeeResultCache.this.maxSize;
+			}
+		};
+	}
+
+	/**
+	 * Returns the fee cached for the given signed txn, if it was computed with the same
+	 * number of payer keys, usage prices, and exchange rate; otherwise {@code null}.
+	 *
+	 * @param signedTxn the signed txn whose fee is needed.
+	 * @param numPayerKeys the number of simple keys in the payer's key.
+	 * @param prices the usage prices in effect.
+	 * @param rate the exchange rate in effect.
+	 * @return the cached fee, if still valid
+	 */
+	public synchronized FeeObject feeFor(Transaction signedTxn, int numPayerKeys, FeeData prices, ExchangeRate rate) {
+		var entry = entries.get(signedTxn);
+		if (entry == null || entry.numPayerKeys != numPayerKeys || entry.prices != prices || entry.rate != rate) {
+			return null;
+		}
+		return entry.fee;
+	}
+
+	public synchronized void offer(
+			Transaction signedTxn,
+			int numPayerKeys,
+			FeeData prices,
+			ExchangeRate rate,
+			FeeObject fee
+	) {
+		if (maxSize > 0) {
+			entries.put(signedTxn, new Entry(numPayerKeys, prices, rate, fee));
+		}
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	private static class Entry {
+		private final int numPayerKeys;
+		private final FeeData prices;
+		private final ExchangeRate rate;
+		private final FeeObject fee;
+
+		private Entry(int numPayerKeys, FeeData prices, ExchangeRate rate, FeeObject fee) {
+			this.numPayerKeys = numPayerKeys;
+			this.prices = prices;
+			this.rate = rate;
+			this.fee = fee;
+		}
+	}
+}
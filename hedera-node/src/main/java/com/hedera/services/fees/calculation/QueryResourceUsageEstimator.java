@@ -35,7 +35,8 @@ import java.util.Map;
  */
 public interface QueryResourceUsageEstimator {
 	/**
-	 * Flags whether the estimator applies to the given query.
+	 * Flags whether the estimator applies to the given query. The answer must
+	 * depend only on the query's case, so it can be remembered per case.
 	 *
 	 * @param query the query in question
 	 * @return if the estimator applies
@@ -52,4 +52,15 @@ public interface TxnResourceUsageEstimator {
 	 * @throws NullPointerException or analogous if the estimator does not apply to the txn
 	 */
 	FeeData usageGiven(TransactionBody txn, SigValueObj sigUsage, StateView view) throws InvalidTxBodyException;
+
+	/**
+	 * Flags whether the estimated usage of an applicable txn can depend on the
+	 * state of the world. If not, the estimate is a function of just the txn and
+	 * its signature usage, and a fee computed from it may be re-used.
+	 *
+	 * @return if the estimated usage can vary with the state of the world
+	 */
+	default boolean usageIsStateDependent() {
+		return true;
+	}
 }
@@ -21,7 +21,7 @@ package com.hedera.services.fees.calculation;
  */
 
 import com.hedera.services.context.primitives.StateView;
-import com.hedera.services.context.properties.PropertySource;
+import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.fees.FeeCalculator;
 import com.hedera.services.fees.HbarCentExchange;
 import com.hedera.services.keys.HederaKeyTraversal;
@@ -42,6 +42,7 @@ import com.hedera.services.legacy.exception.NoFeeScheduleExistsException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -56,25 +57,38 @@ import static com.hederahashgraph.fee.FeeBuilder.getTransactionRecordFeeInTinyCe
  * exchange rates, and collections of estimators which can infer the
  * resource usage of various transactions and queries.
  *
+ * Fees for transactions whose resource usage does not depend on the state of
+ * the world are cached; so a transaction is usually estimated just once, at
+ * precheck, unless its usage prices or exchange rate change before it is handled.
+ *
  * @author Michael Tinker
  */
 public class UsageBasedFeeCalculator implements FeeCalculator {
 	private static final Logger log = LogManager.getLogger(UsageBasedFeeCalculator.class);
 
-	private final PropertySource properties;
+	private final GlobalDynamicProperties properties;
 	private final HbarCentExchange exchange;
 	private final UsagePricesProvider usagePrices;
+	private final FeeResultCache feeCache;
 	private final List<QueryResourceUsageEstimator> queryUsageEstimators;
 	private final Function<HederaFunctionality, List<TxnResourceUsageEstimator>> txnUsageEstimators;
 
+	private volatile EnumMap<Query.QueryCase, QueryResourceUsageEstimator> queryEstimatorsByCase =
+			new EnumMap<>(Query.QueryCase.class);
+	/* Racy but benign; a compiled instance is immutable, so the worst case is a redundant compile. */
+	private final CompiledUsagePrices[] compiledPricesByFunction =
+			new CompiledUsagePrices[HederaFunctionality.values().length];
+
 	public UsageBasedFeeCalculator(
-			PropertySource properties,
+			GlobalDynamicProperties properties,
 			HbarCentExchange exchange,
 			UsagePricesProvider usagePrices,
 			List<QueryResourceUsageEstimator> queryUsageEstimators,
-			Function<HederaFunctionality, List<TxnResourceUsageEstimator>> txnUsageEstimators
+			Function<HederaFunctionality, List<TxnResourceUsageEstimator>> txnUsageEstimators,
+			FeeResultCache feeCache
 	) {
 		this.exchange = exchange;
+		this.feeCache = feeCache;
 		this.properties = properties;
 		this.usagePrices = usagePrices;
 		this.queryUsageEstimators = queryUsageEstimators;
@@ -92,12 +106,12 @@ public class UsageBasedFeeCalculator implements FeeCalculator {
 
 	@Override
 	public long computeCachingFee(TransactionRecord record) {
-		return priceForStorage(record, properties.getIntProperty("cache.records.ttl"));
+		return priceForStorage(record, properties.cacheRecordsTtl());
 	}
 
 	@Override
 	public long computeStorageFee(TransactionRecord record) {
-		return priceForStorage(record, properties.getIntProperty("ledger.records.ttl"));
+		return priceForStorage(record, properties.ledgerRecordsTtl());
 	}
 
 	private long priceForStorage(TransactionRecord record, int ttl) {
@@ -173,27 +187,66 @@ public class UsageBasedFeeCalculator implements FeeCalculator {
 			ExchangeRate rate
 	) {
 		try {
-			var sigUsage = getSigUsage(accessor, payerKey);
 			var usageEstimator = getTxnUsageEstimator(accessor);
+			var numPayerKeys = HederaKeyTraversal.numSimpleKeys(payerKey);
+			var isCacheable = !usageEstimator.usageIsStateDependent();
+			if (isCacheable) {
+				var cachedFee = feeCache.feeFor(accessor.getSignedTxn(), numPayerKeys, prices, rate);
+				if (cachedFee != null) {
+					return cachedFee;
+				}
+			}
+			var sigUsage = getSigUsage(accessor, numPayerKeys);
 			var metrics = usageEstimator.usageGiven(accessor.getTxn(), sigUsage, view);
-			return FeeBuilder.getFeeObject(prices, metrics, rate);
+			var fee = compiledFor(accessor.getFunction(), prices).feeGiven(metrics, rate);
+			if (isCacheable) {
+				feeCache.offer(accessor.getSignedTxn(), numPayerKeys, prices, rate, fee);
+			}
+			return fee;
 		} catch (Exception illegal) {
 			var msg = String.format("Unable to compute fee for %s, key %s!", accessor.getSignedTxn4Log(), payerKey);
 			throw new IllegalArgumentException(msg, illegal);
 		}
 	}
 
+	/**
+	 * Returns the compiled form of the given usage prices for the given function, re-compiling
+	 * only when the prices instance changes (that is, when a new fee schedule is loaded, or the
+	 * next schedule becomes active).
+	 */
+	private CompiledUsagePrices compiledFor(HederaFunctionality function, FeeData prices) {
+		int i = function.ordinal();
+		var compiled = compiledPricesByFunction[i];
+		if (compiled == null || compiled.prices() != prices) {
+			compiled = CompiledUsagePrices.compile(prices);
+			compiledPricesByFunction[i] = compiled;
+		}
+		return compiled;
+	}
+
 	private QueryResourceUsageEstimator getQueryUsageEstimator(Query query) {
-		Optional<QueryResourceUsageEstimator> usageEstimator = queryUsageEstimators
-				.stream()
-				.filter(estimator -> estimator.applicableTo(query))
-				.findAny();
-		if (usageEstimator.isPresent()) {
-			return usageEstimator.get();
+		var queryCase = query.getQueryCase();
+		var usageEstimator = queryEstimatorsByCase.get(queryCase);
+		if (usageEstimator != null) {
+			return usageEstimator;
+		}
+		for (QueryResourceUsageEstimator candidate : queryUsageEstimators) {
+			if (candidate.applicableTo(query)) {
+				if (queryCase != null) {
+					rememberEstimator(queryCase, candidate);
+				}
+				return candidate;
+			}
 		}
 		throw new IllegalArgumentException("Missing query usage estimator!");
 	}
 
+	private synchronized void rememberEstimator(Query.QueryCase queryCase, QueryResourceUsageEstimator estimator) {
+		var withEstimator = new EnumMap<>(queryEstimatorsByCase);
+		withEstimator.put(queryCase, estimator);
+		queryEstimatorsByCase = withEstimator;
+	}
+
 	private TxnResourceUsageEstimator getTxnUsageEstimator(SignedTxnAccessor accessor) {
 		var usageEstimator = Optional.ofNullable(txnUsageEstimators.apply(accessor.getFunction()))
 				.map(estimators -> from(estimators, accessor.getTxn()));
@@ -212,10 +265,10 @@ public class UsageBasedFeeCalculator implements FeeCalculator {
 		throw new IllegalArgumentException("Missing txn usage estimator!");
 	}
 
-	private SigValueObj getSigUsage(SignedTxnAccessor accessor, JKey payerKey) {
+	private SigValueObj getSigUsage(SignedTxnAccessor accessor, int numPayerKeys) {
 		return new SigValueObj(
 				FeeBuilder.getSignatureCount(accessor.getSignedTxn()),
-				HederaKeyTraversal.numSimpleKeys(payerKey),
+				numPayerKeys,
 				FeeBuilder.getSignatureSize(accessor.getSignedTxn()));
 	}
 }
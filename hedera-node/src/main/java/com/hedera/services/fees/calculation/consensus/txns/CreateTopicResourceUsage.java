@@ -38,4 +38,9 @@ public class CreateTopicResourceUsage implements TxnResourceUsageEstimator {
     public FeeData usageGiven(TransactionBody txn, SigValueObj sigUsage, StateView view) throws InvalidTxBodyException {
         return ConsensusServiceFeeBuilder.getConsensusCreateTopicFee(txn, sigUsage);
     }
+
+    @Override
+    public boolean usageIsStateDependent() {
+        return false;
+    }
 }
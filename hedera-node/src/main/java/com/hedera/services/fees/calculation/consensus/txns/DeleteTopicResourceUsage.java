@@ -38,4 +38,9 @@ public class DeleteTopicResourceUsage implements TxnResourceUsageEstimator {
     public FeeData usageGiven(TransactionBody txn, SigValueObj sigUsage, StateView view) throws InvalidTxBodyException {
         return ConsensusServiceFeeBuilder.getConsensusDeleteTopicFee(txn, sigUsage);
     }
+
+    @Override
+    public boolean usageIsStateDependent() {
+        return false;
+    }
 }
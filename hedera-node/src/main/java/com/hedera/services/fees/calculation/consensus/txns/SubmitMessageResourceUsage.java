@@ -38,4 +38,9 @@ public class SubmitMessageResourceUsage implements TxnResourceUsageEstimator {
     public FeeData usageGiven(TransactionBody txn, SigValueObj sigUsage, StateView view) throws InvalidTxBodyException {
         return ConsensusServiceFeeBuilder.getConsensusSubmitMessageFee(txn, sigUsage);
     }
+
+    @Override
+    public boolean usageIsStateDependent() {
+        return false;
+    }
 }
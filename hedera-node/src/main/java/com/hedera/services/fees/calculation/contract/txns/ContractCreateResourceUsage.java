@@ -44,4 +44,9 @@ public class ContractCreateResourceUsage implements TxnResourceUsageEstimator {
 	public FeeData usageGiven(TransactionBody txn, SigValueObj sigUsage, StateView view) throws InvalidTxBodyException {
 		return usageEstimator.getContractCreateTxFeeMatrices(txn, sigUsage);
 	}
+
+	@Override
+	public boolean usageIsStateDependent() {
+		return false;
+	}
 }
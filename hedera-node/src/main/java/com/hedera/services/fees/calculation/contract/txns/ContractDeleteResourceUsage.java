@@ -44,4 +44,9 @@ public class ContractDeleteResourceUsage implements TxnResourceUsageEstimator {
 	public FeeData usageGiven(TransactionBody txn, SigValueObj sigUsage, StateView view) throws InvalidTxBodyException {
 		return usageEstimator.getContractDeleteTxFeeMatrices(txn, sigUsage);
 	}
+
+	@Override
+	public boolean usageIsStateDependent() {
+		return false;
+	}
 }
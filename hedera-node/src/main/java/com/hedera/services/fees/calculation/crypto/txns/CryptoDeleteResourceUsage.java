@@ -44,4 +44,9 @@ public class CryptoDeleteResourceUsage implements TxnResourceUsageEstimator {
 	public FeeData usageGiven(TransactionBody txn, SigValueObj sigUsage, StateView view) throws InvalidTxBodyException {
 		return usageEstimator.getCryptoDeleteTxFeeMatrices(txn, sigUsage);
 	}
+
+	@Override
+	public boolean usageIsStateDependent() {
+		return false;
+	}
 }
@@ -45,4 +45,9 @@ public class SystemDeleteFileResourceUsage implements TxnResourceUsageEstimator
 	public FeeData usageGiven(TransactionBody txn, SigValueObj sigUsage, StateView view) throws InvalidTxBodyException {
 		return usageEstimator.getSystemDeleteFileTxFeeMatrices(txn, sigUsage);
 	}
+
+	@Override
+	public boolean usageIsStateDependent() {
+		return false;
+	}
 }
@@ -44,4 +44,9 @@ public class SystemUndeleteFileResourceUsage implements TxnResourceUsageEstimato
 	public FeeData usageGiven(TransactionBody txn, SigValueObj sigUsage, StateView view) throws InvalidTxBodyException {
 		return usageEstimator.getSystemUnDeleteFileTxFeeMatrices(txn, sigUsage);
 	}
+
+	@Override
+	public boolean usageIsStateDependent() {
+		return false;
+	}
 }
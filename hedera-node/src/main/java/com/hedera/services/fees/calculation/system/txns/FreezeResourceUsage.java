@@ -37,4 +37,9 @@ public class FreezeResourceUsage implements TxnResourceUsageEstimator {
 	public FeeData usageGiven(TransactionBody txn, SigValueObj sigUsage, StateView view) throws InvalidTxBodyException {
 		return FeeData.getDefaultInstance();
 	}
+
+	@Override
+	public boolean usageIsStateDependent() {
+		return false;
+	}
 }
@@ -28,7 +28,7 @@ import java.util.function.Function;
 import java.util.regex.Pattern;
 
 public class DataMapFactory {
-	private static final String LEGACY_PATH_TEMPLATE = "/%d/f%d";
+	private static final String LEGACY_PATH_INFIX = "/f";
 	private static final Pattern LEGACY_PATH_PATTERN = Pattern.compile("/(\\d+)/f(\\d+)");
 	private static final int REALM_INDEX = 1;
 	private static final int ACCOUNT_INDEX = 2;
@@ -60,6 +60,6 @@ public class DataMapFactory {
 	}
 
 	static String toKeyString(FileID fid) {
-		return String.format(LEGACY_PATH_TEMPLATE, fid.getRealmNum(), fid.getFileNum());
+		return "/" + fid.getRealmNum() + LEGACY_PATH_INFIX + fid.getFileNum();
 	}
 }
@@ -32,7 +32,7 @@ import java.util.regex.Pattern;
 public class MetadataMapFactory {
 	private static final Logger log = LogManager.getLogger(MetadataMapFactory.class);
 
-	private static final String LEGACY_PATH_TEMPLATE = "/%d/k%d";
+	private static final String LEGACY_PATH_INFIX = "/k";
 	private static final Pattern LEGACY_PATH_PATTERN = Pattern.compile("/(\\d+)/k(\\d+)");
 	private static final int REALM_INDEX = 1;
 	private static final int ACCOUNT_INDEX = 2;
@@ -64,7 +64,7 @@ public class MetadataMapFactory {
 	}
 
 	static String toKeyString(FileID fid) {
-		return String.format(LEGACY_PATH_TEMPLATE, fid.getRealmNum(), fid.getFileNum());
+		return "/" + fid.getRealmNum() + LEGACY_PATH_INFIX + fid.getFileNum();
 	}
 
 	static JFileInfo toAttr(byte[] bytes) {
@@ -24,7 +24,7 @@ import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.services.config.AccountNumbers;
 import com.hedera.services.config.FileNumbers;
 import com.hedera.services.context.TransactionContext;
-import com.hedera.services.context.properties.PropertySource;
+import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.files.FileUpdateInterceptor;
 import com.hederahashgraph.api.proto.java.ExchangeRateSet;
 import com.hederahashgraph.api.proto.java.FileID;
@@ -60,7 +60,7 @@ public class TxnAwareRatesManager implements FileUpdateInterceptor {
 
 	private final FileNumbers fileNums;
 	private final AccountNumbers accountNums;
-	private final PropertySource properties;
+	private final GlobalDynamicProperties properties;
 	private final TransactionContext txnCtx;
 	private final Supplier<ExchangeRates> midnightRates;
 	private final Consumer<ExchangeRateSet> postUpdateCb;
@@ -69,7 +69,7 @@ public class TxnAwareRatesManager implements FileUpdateInterceptor {
 	public TxnAwareRatesManager(
 			FileNumbers fileNums,
 			AccountNumbers accountNums,
-			PropertySource properties,
+			GlobalDynamicProperties properties,
 			TransactionContext txnCtx,
 			Supplier<ExchangeRates> midnightRates,
 			Consumer<ExchangeRateSet> postUpdateCb,
@@ -104,7 +104,7 @@ public class TxnAwareRatesManager implements FileUpdateInterceptor {
 	}
 
 	private Map.Entry<ResponseCodeEnum, Boolean> checkBound(Optional<ExchangeRateSet> rates){
-		var bound = properties.getIntProperty("exchangeRates.intradayChange.limitPercent");
+		var bound = properties.ratesIntradayChangeLimitPercent();
 		var intradayLimit = intradayLimitFactory.apply(bound);
 		if (isSudoer() || (rates.isPresent() && intradayLimit.test(midnightRates.get(), rates.get()))) {
 			return YES_VERDICT;
@@ -0,0 +1,254 @@
+package com.hedera.services.files.store;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.swirlds.common.crypto.Hash;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * An in-memory, content-addressed index of blob contents. Each indexed blob is kept as a
+ * list of fixed-size chunks, and each distinct chunk is stored once, keyed by its SHA-384
+ * digest and reference counted. So identical bytes at chunk boundaries—for example, the
+ * same bytecode uploaded as a file and then stored for a contract, or successive versions
+ * of a system file—share storage.
+ *
+ * <p>Re-indexing a path re-uses every chunk of its previous contents whose bytes are
+ * unchanged at the same offset, without re-hashing it; so indexing the result of an
+ * append only digests the (previously partial) last chunk and the new chunks.
+ *
+ * <p>Every indexed path records the {@link Hash} of the blob it mirrors, and its contents
+ * are only served while the caller presents that same hash; this keeps the index a pure
+ * cache, whose misses fall back to the blob store and whose hits cannot diverge from
+ * the hash of the blob in state. Paths are evicted least-recently-used once the distinct
+ * chunks retained exceed the given capacity.
+ *
+ * <p>The working blob store is read by the thread handling transactions, but also by
+ * signature lookups running on gRPC and platform threads; so every method synchronizes
+ * on the index, and each thread digests chunks with its own {@link MessageDigest}.
+ *
+ * @author Michael Tinker
+ */
+public class ContentAddressedChunks {
+	public static final int DEFAULT_CHUNK_SIZE = 4096;
+	public static final long DEFAULT_CAPACITY_BYTES = 64L * 1024 * 1024;
+
+	private static final String DIGEST_ALGORITHM = "SHA-384";
+	private static final ByteBuffer[] NO_CHUNKS = new ByteBuffer[0];
+	private static final ThreadLocal<MessageDigest> DIGESTS = ThreadLocal.withInitial(() -> {
+		try {
+			return MessageDigest.getInstance(DIGEST_ALGORITHM);
+		} catch (NoSuchAlgorithmException fatal) {
+			throw new IllegalStateException(fatal);
+		}
+	});
+
+	private final int chunkSize;
+	private final long capacityBytes;
+	private final Map<ByteBuffer, Chunk> chunks = new HashMap<>();
+	private final LinkedHashMap<String, Manifest> manifests = new LinkedHashMap<>(16, 0.75f, true);
+
+	private long retainedBytes = 0;
+
+	private static class Chunk {
+		private final byte[] data;
+		private int refs;
+
+		private Chunk(byte[] data) {
+			this.data = data;
+		}
+	}
+
+	private static class Manifest {
+		private final Hash version;
+		private final int length;
+		private final ByteBuffer[] keys;
+
+		private Manifest(Hash version, int length, ByteBuffer[] keys) {
+			this.version = version;
+			this.length = length;
+			this.keys = keys;
+		}
+	}
+
+	public ContentAddressedChunks() {
+		this(DEFAULT_CHUNK_SIZE, DEFAULT_CAPACITY_BYTES);
+	}
+
+	public ContentAddressedChunks(int chunkSize, long capacityBytes) {
+		if (chunkSize < 1) {
+			throw new IllegalArgumentException("Chunk size must be positive, not " + chunkSize + "!");
+		}
+		this.chunkSize = chunkSize;
+		this.capacityBytes = capacityBytes;
+	}
+
+	/**
+	 * Returns the indexed contents of the given path, if they mirror the blob with the
+	 * given hash; forgets the path if they do not.
+	 *
+	 * @param path the path of the blob
+	 * @param version the hash of the blob now at the path
+	 * @return the contents of the blob, or {@code null} if they are not indexed
+	 */
+	public synchronized byte[] get(String path, Hash version) {
+		var manifest = current(path, version);
+		if (manifest == null) {
+			return null;
+		}
+		var contents = new byte[manifest.length];
+		for (int k = 0, at = 0; k < manifest.keys.length; k++) {
+			var data = chunks.get(manifest.keys[k]).data;
+			System.arraycopy(data, 0, contents, at, data.length);
+			at += data.length;
+		}
+		return contents;
+	}
+
+	/**
+	 * Checks if the given contents are exactly those indexed for the given path, with
+	 * the blob now at the path having the given hash. Compares bytes, not digests.
+	 *
+	 * @param path the path of the blob
+	 * @param version the hash of the blob now at the path
+	 * @param contents the candidate contents
+	 * @return whether the blob at the path already has these contents
+	 */
+	public synchronized boolean holds(String path, Hash version, byte[] contents) {
+		var manifest = current(path, version);
+		if (manifest == null || manifest.length != contents.length) {
+			return false;
+		}
+		for (int k = 0, from = 0; k < manifest.keys.length; k++, from += chunkSize) {
+			if (!sameChunk(manifest.keys[k], contents, from)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Indexes the given contents for the given path, as mirroring the blob with the given hash.
+	 *
+	 * @param path the path of the blob
+	 * @param version the hash of the blob with these contents
+	 * @param contents the contents of the blob
+	 */
+	public synchronized void index(String path, Hash version, byte[] contents) {
+		var prior = manifests.remove(path);
+		if (contents.length > capacityBytes) {
+			release(prior);
+			return;
+		}
+
+		var digest = DIGESTS.get();
+		int numChunks = (contents.length + chunkSize - 1) / chunkSize;
+		var keys = (numChunks == 0) ? NO_CHUNKS : new ByteBuffer[numChunks];
+		for (int k = 0, from = 0; k < numChunks; k++, from += chunkSize) {
+			ByteBuffer key;
+			if (prior != null && k < prior.keys.length && sameChunk(prior.keys[k], contents, from)) {
+				key = prior.keys[k];
+			} else {
+				int to = Math.min(contents.length, from + chunkSize);
+				digest.update(contents, from, to - from);
+				key = ByteBuffer.wrap(digest.digest());
+				if (!chunks.containsKey(key)) {
+					chunks.put(key, new Chunk(Arrays.copyOfRange(contents, from, to)));
+					retainedBytes += to - from;
+				}
+			}
+			chunks.get(key).refs++;
+			keys[k] = key;
+		}
+		release(prior);
+		manifests.put(path, new Manifest(version, contents.length, keys));
+
+		evictAsNeeded();
+	}
+
+	/**
+	 * Forgets the contents indexed for the given path, if any.
+	 *
+	 * @param path the path of the blob
+	 */
+	public synchronized void forget(String path) {
+		release(manifests.remove(path));
+	}
+
+	public synchronized void clear() {
+		manifests.clear();
+		chunks.clear();
+		retainedBytes = 0;
+	}
+
+	public synchronized int numChunks() {
+		return chunks.size();
+	}
+
+	public synchronized long retainedBytes() {
+		return retainedBytes;
+	}
+
+	private Manifest current(String path, Hash version) {
+		var manifest = manifests.get(path);
+		if (manifest != null && !Objects.equals(manifest.version, version)) {
+			forget(path);
+			return null;
+		}
+		return manifest;
+	}
+
+	private boolean sameChunk(ByteBuffer key, byte[] contents, int from) {
+		var data = chunks.get(key).data;
+		int to = Math.min(contents.length, from + chunkSize);
+		return data.length == to - from && Arrays.equals(data, 0, data.length, contents, from, to);
+	}
+
+	private void release(Manifest manifest) {
+		if (manifest == null) {
+			return;
+		}
+		for (var key : manifest.keys) {
+			var chunk = chunks.get(key);
+			if (--chunk.refs == 0) {
+				chunks.remove(key);
+				retainedBytes -= chunk.data.length;
+			}
+		}
+	}
+
+	private void evictAsNeeded() {
+		Iterator<Manifest> lru = manifests.values().iterator();
+		while (retainedBytes > capacityBytes && lru.hasNext()) {
+			var eldest = lru.next();
+			lru.remove();
+			release(eldest);
+		}
+	}
+}
@@ -27,25 +27,58 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.AbstractMap;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 import static java.util.stream.Collectors.toSet;
 
+/**
+ * A {@code Map} from path to blob contents, backed by the {@link MerkleOptionalBlob}s in
+ * an {@code FCMap}. If given a {@link ContentAddressedChunks} index, serves reads of
+ * recently used blobs from it; and skips rewriting (and so re-hashing) a blob when
+ * it is put with exactly the contents it already has. The index may be shared by
+ * every thread reading through this store.
+ *
+ * <p>Readers that cache what they read from the same {@code FCMap} through another store
+ * can register a listener to be told, after the fact, of every write through this one.
+ */
 public class FcBlobsBytesStore extends AbstractMap<String, byte[]> {
 	public static Logger log = LogManager.getLogger(FcBlobsBytesStore.class);
 
 	private final Function<byte[], MerkleOptionalBlob> blobFactory;
 	private final Supplier<FCMap<MerkleBlobMeta, MerkleOptionalBlob>> pathedBlobs;
+	private final ContentAddressedChunks chunks;
+	private final List<Runnable> writeListeners = new CopyOnWriteArrayList<>();
 
 	public FcBlobsBytesStore(
 			Function<byte[], MerkleOptionalBlob> blobFactory,
 			Supplier<FCMap<MerkleBlobMeta, MerkleOptionalBlob>> pathedBlobs
+	) {
+		this(blobFactory, pathedBlobs, null);
+	}
+
+	public FcBlobsBytesStore(
+			Function<byte[], MerkleOptionalBlob> blobFactory,
+			Supplier<FCMap<MerkleBlobMeta, MerkleOptionalBlob>> pathedBlobs,
+			ContentAddressedChunks chunks
 	) {
 		this.blobFactory = blobFactory;
 		this.pathedBlobs = pathedBlobs;
+		this.chunks = chunks;
+	}
+
+	/**
+	 * Registers a listener to run (on the writing thread) after each change made
+	 * through this store.
+	 *
+	 * @param listener the listener to run
+	 */
+	public void addWriteListener(Runnable listener) {
+		writeListeners.add(listener);
 	}
 
 	private MerkleBlobMeta at(Object key) {
@@ -55,6 +88,10 @@ public class FcBlobsBytesStore extends AbstractMap<String, byte[]> {
 	@Override
 	public void clear() {
 		pathedBlobs.get().clear();
+		if (chunks != null) {
+			chunks.clear();
+		}
+		notifyWriteListeners();
 	}
 
 	/**
@@ -70,6 +107,10 @@ public class FcBlobsBytesStore extends AbstractMap<String, byte[]> {
 	@Override
 	public byte[] remove(Object path) {
 		pathedBlobs.get().remove(at(path));
+		if (chunks != null) {
+			chunks.forget((String)path);
+		}
+		notifyWriteListeners();
 		return null;
 	}
 
@@ -89,27 +130,64 @@ public class FcBlobsBytesStore extends AbstractMap<String, byte[]> {
 	public byte[] put(String path, byte[] value) {
 		var meta = at(path);
 		if (pathedBlobs.get().containsKey(meta)) {
+			if (chunks != null && chunks.holds(path, pathedBlobs.get().get(meta).getHash(), value)) {
+				log.debug("Skipping unchanged {} bytes @ '{}'", value.length, path);
+				return null;
+			}
 			var blob = pathedBlobs.get().getForModify(meta);
 			blob.modify(value);
 			if (log.isDebugEnabled()) {
 				log.debug("Modifying to {} new bytes (hash = {}) @ '{}'", value.length, blob.getHash(), path);
 			}
 			pathedBlobs.get().put(meta, blob);
+			indexIfChunking(path, blob, value);
+			notifyWriteListeners();
 		} else {
 			var blob = blobFactory.apply(value);
 			if (log.isDebugEnabled()) {
 				log.debug("Putting {} new bytes (hash = {}) @ '{}'", value.length, blob.getHash(), path);
 			}
 			pathedBlobs.get().put(at(path), blob);
+			indexIfChunking(path, blob, value);
+			notifyWriteListeners();
 		}
 		return null;
 	}
 
 	@Override
 	public byte[] get(Object path) {
-		return Optional.ofNullable(pathedBlobs.get().get(at(path)))
-				.map(MerkleOptionalBlob::getData)
-				.orElse(null);
+		if (chunks == null) {
+			return Optional.ofNullable(pathedBlobs.get().get(at(path)))
+					.map(MerkleOptionalBlob::getData)
+					.orElse(null);
+		}
+		var blob = pathedBlobs.get().get(at(path));
+		if (blob == null) {
+			chunks.forget((String)path);
+			return null;
+		}
+		var version = blob.getHash();
+		var contents = chunks.get((String)path, version);
+		if (contents == null) {
+			contents = blob.getData();
+			/* A lookup off the handle thread may race a modification of this blob. */
+			if (version.equals(blob.getHash())) {
+				chunks.index((String)path, version, contents);
+			}
+		}
+		return contents;
+	}
+
+	private void notifyWriteListeners() {
+		for (Runnable listener : writeListeners) {
+			listener.run();
+		}
+	}
+
+	private void indexIfChunking(String path, MerkleOptionalBlob blob, byte[] contents) {
+		if (chunks != null) {
+			chunks.index(path, blob.getHash(), contents);
+		}
 	}
 
 	@Override
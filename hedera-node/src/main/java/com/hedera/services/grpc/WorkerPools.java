@@ -0,0 +1,151 @@
+package com.hedera.services.grpc;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.context.properties.PropertySource;
+import com.hedera.services.legacy.services.stats.HederaNodeStats;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Moves the work of answering gRPC requests off the Netty event loop threads, which
+ * the server uses as its direct executor; so that one slow request (e.g., a
+ * {@code ContractCallLocal}) no longer stalls every connection on its loop.
+ *
+ * <p>There is one fixed-size pool for each {@link Pool} of requests, so that expensive
+ * queries cannot starve transaction submissions or cheap queries. Each pool has a bounded
+ * queue; when it is full, {@link WorkerPools#tryRun(Pool, Runnable)} returns false at once,
+ * and the caller should answer {@code BUSY} on the event loop thread.
+ *
+ * <p>A pool configured with zero threads runs its requests on the calling thread, as the
+ * server did before these pools existed.
+ *
+ * @author Michael Tinker
+ */
+public class WorkerPools {
+	private static final Logger log = LogManager.getLogger(WorkerPools.class);
+
+	public enum Pool {
+		TXNS("grpc.workers.txns", "grpcTxns"),
+		QUERIES("grpc.workers.queries", "grpcQueries"),
+		EXPENSIVE_QUERIES("grpc.workers.expensiveQueries", "grpcExpensiveQueries");
+
+		private final String propertyPrefix;
+		private final String statPrefix;
+
+		Pool(String propertyPrefix, String statPrefix) {
+			this.propertyPrefix = propertyPrefix;
+			this.statPrefix = statPrefix;
+		}
+
+		public String statPrefix() {
+			return statPrefix;
+		}
+	}
+
+	private final HederaNodeStats stats;
+	private final Map<Pool, ExecutorService> executors;
+
+	public WorkerPools(PropertySource properties, HederaNodeStats stats) {
+		this.stats = stats;
+		this.executors = new EnumMap<>(Pool.class);
+		for (Pool pool : Pool.values()) {
+			int numThreads = properties.getIntProperty(pool.propertyPrefix + ".threads");
+			if (numThreads > 0) {
+				int queueCapacity = properties.getIntProperty(pool.propertyPrefix + ".queueCapacity");
+				executors.put(pool, newPool(pool, numThreads, queueCapacity));
+				log.info("Answering {} requests with {} threads (queue capacity {})", pool, numThreads, queueCapacity);
+			} else {
+				log.info("Answering {} requests on the Netty event loop", pool);
+			}
+		}
+	}
+
+	WorkerPools(Map<Pool, ExecutorService> executors, HederaNodeStats stats) {
+		this.stats = stats;
+		this.executors = executors;
+	}
+
+	/**
+	 * Returns pools that run every request on the calling thread.
+	 *
+	 * @return inline worker pools
+	 */
+	public static WorkerPools inline() {
+		return new WorkerPools(new EnumMap<>(Pool.class), null);
+	}
+
+	/**
+	 * Runs the given work in the given pool, or returns false if that pool's queue is full.
+	 *
+	 * @param pool the pool that should do the work
+	 * @param work the work to do
+	 * @return whether the work was accepted
+	 */
+	public boolean tryRun(Pool pool, Runnable work) {
+		var executor = executors.get(pool);
+		if (executor == null) {
+			work.run();
+			return true;
+		}
+		long enqueuedAt = System.nanoTime();
+		try {
+			executor.execute(() -> {
+				stats.grpcWorkDequeued(pool, (System.nanoTime() - enqueuedAt) / 1_000_000.0);
+				work.run();
+			});
+			return true;
+		} catch (RejectedExecutionException busy) {
+			stats.grpcWorkRejected(pool);
+			return false;
+		}
+	}
+
+	public void shutdown() {
+		executors.values().forEach(ExecutorService::shutdown);
+	}
+
+	private static ExecutorService newPool(Pool pool, int numThreads, int queueCapacity) {
+		var nextId = new AtomicInteger(0);
+		var namePrefix = pool.statPrefix + "Worker-";
+		return new ThreadPoolExecutor(
+				numThreads,
+				numThreads,
+				0L,
+				TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity),
+				work -> {
+					var worker = new Thread(work, namePrefix + nextId.getAndIncrement());
+					worker.setDaemon(true);
+					return worker;
+				},
+				new ThreadPoolExecutor.AbortPolicy());
+	}
+}
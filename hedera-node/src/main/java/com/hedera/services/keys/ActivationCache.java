@@ -0,0 +1,95 @@
+package com.hedera.services.keys;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.protobuf.ByteString;
+import com.hedera.services.legacy.core.jproto.JKey;
+import com.swirlds.common.crypto.Signature;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiPredicate;
+
+import static com.hedera.services.keys.HederaKeyActivation.INVALID_SIG;
+
+/**
+ * Holds, for a single transaction, the work that repeated key activation tests would
+ * otherwise redo; namely, the index of the transaction's platform signatures by public
+ * key, and the verdict already reached for each node of each Hedera key tested.
+ *
+ * <p>Verdicts are remembered by the identity of the key node, and only for the
+ * activation test they were reached with; testing with a different
+ * {@link BiPredicate} discards them. The cache is not thread-safe, and must be
+ * discarded whenever the backing signatures change.
+ *
+ * @author Michael Tinker
+ */
+public class ActivationCache {
+	private final List<Signature> sigs;
+	private final Map<JKey, Boolean> verdicts = new IdentityHashMap<>();
+
+	private Map<ByteString, Signature> pkSigs;
+	private BiPredicate<JKey, Signature> memoizedTests;
+
+	public ActivationCache(List<Signature> sigs) {
+		this.sigs = sigs;
+	}
+
+	/**
+	 * Returns the first platform signature with the given expanded public key, or
+	 * {@link HederaKeyActivation#INVALID_SIG} if there is none.
+	 *
+	 * @param ed25519 the public key of interest.
+	 * @return the matching platform signature.
+	 */
+	public Signature sigFor(byte[] ed25519) {
+		if (pkSigs == null) {
+			pkSigs = indexByPk(sigs);
+		}
+		return pkSigs.getOrDefault(ByteString.copyFrom(ed25519), INVALID_SIG);
+	}
+
+	Boolean verdictFor(JKey key, BiPredicate<JKey, Signature> tests) {
+		return (tests == memoizedTests) ? verdicts.get(key) : null;
+	}
+
+	void record(JKey key, BiPredicate<JKey, Signature> tests, boolean verdict) {
+		if (tests != memoizedTests) {
+			verdicts.clear();
+			memoizedTests = tests;
+		}
+		verdicts.put(key, verdict);
+	}
+
+	int numMemoized() {
+		return verdicts.size();
+	}
+
+	static Map<ByteString, Signature> indexByPk(List<Signature> sigs) {
+		Map<ByteString, Signature> index = new HashMap<>(2 * sigs.size());
+		for (Signature sig : sigs) {
+			index.putIfAbsent(ByteString.copyFrom(sig.getExpandedPublicKeyDirect()), sig);
+		}
+		return index;
+	}
+}
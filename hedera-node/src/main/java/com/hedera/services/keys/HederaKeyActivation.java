@@ -37,11 +37,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 import static com.hedera.services.keys.DefaultActivationCharacteristics.DEFAULT_ACTIVATION_CHARACTERISTICS;
 import static com.swirlds.common.crypto.VerificationStatus.*;
 import static java.util.Arrays.copyOfRange;
-import static java.util.stream.Collectors.toMap;
 
 /**
  * Provides a static method to determine if a Hedera key is <i>active</i> relative to
@@ -78,8 +78,9 @@ public class HederaKeyActivation {
 
 		return isActive(
 				payerSummary.getPayerKey(),
-				pkToSigMapFrom(accessor.getPlatformTxn().getSignatures()),
-				ONLY_IF_SIG_IS_VALID);
+				accessor.activationCache(),
+				ONLY_IF_SIG_IS_VALID,
+				DEFAULT_ACTIVATION_CHARACTERISTICS);
 	}
 
 	/**
@@ -106,11 +107,11 @@ public class HederaKeyActivation {
 			KeyActivationCharacteristics characteristics
 	) {
 		TransactionBody txn = accessor.getTxn();
-		Function<byte[], Signature> sigsFn = pkToSigMapFrom(accessor.getPlatformTxn().getSignatures());
+		ActivationCache cache = accessor.activationCache();
 
 		SigningOrderResult<SignatureStatus> othersResult = keyOrder.keysForOtherParties(txn, summaryFactory);
 		for (JKey otherKey : othersResult.getOrderedKeys()) {
-			if (!isActive(otherKey, sigsFn, ONLY_IF_SIG_IS_VALID, characteristics)) {
+			if (!isActive(otherKey, cache, ONLY_IF_SIG_IS_VALID, characteristics)) {
 				return false;
 			}
 		}
@@ -153,10 +154,80 @@ public class HederaKeyActivation {
 			int M = key.hasKeyList()
 					? characteristics.sigsNeededForList((JKeyList)key)
 					: characteristics.sigsNeededForThreshold((JThresholdKey)key);
-			return children.stream().mapToInt(child -> isActive(child, sigsFn, tests) ? 1 : 0).sum() >= M;
+			return isActiveWithEarlyExit(children, M, child -> isActive(child, sigsFn, tests));
 		}
 	}
 
+	/**
+	 * Tests whether a Hedera key is active in the same way as
+	 * {@link HederaKeyActivation#isActive(JKey, Function, BiPredicate, KeyActivationCharacteristics)},
+	 * but takes signatures from the given {@link ActivationCache} and remembers there the
+	 * verdict for each key node it evaluates under the default activation characteristics.
+	 * So a key node already tested for this transaction (for example, a payer key that is
+	 * also the key of an account being updated) is never re-evaluated.
+	 *
+	 * @param key the top-level Hedera key to test for activation.
+	 * @param cache the activation state of the transaction whose signatures are used.
+	 * @param tests the logic deciding if a given simple key is activated by a given platform sig.
+	 * @param characteristics the activation characteristics of the top-level key.
+	 * @return whether the Hedera key is active.
+	 */
+	public static boolean isActive(
+			JKey key,
+			ActivationCache cache,
+			BiPredicate<JKey, Signature> tests,
+			KeyActivationCharacteristics characteristics
+	) {
+		boolean isMemoizable = (characteristics == DEFAULT_ACTIVATION_CHARACTERISTICS);
+		if (isMemoizable) {
+			Boolean verdict = cache.verdictFor(key, tests);
+			if (verdict != null) {
+				return verdict;
+			}
+		}
+
+		boolean verdict;
+		if (!key.hasKeyList() && !key.hasThresholdKey()) {
+			verdict = tests.test(key, cache.sigFor(key.getEd25519()));
+		} else {
+			List<JKey> children = key.hasKeyList()
+					? key.getKeyList().getKeysList()
+					: key.getThresholdKey().getKeys().getKeysList();
+			int M = key.hasKeyList()
+					? characteristics.sigsNeededForList((JKeyList)key)
+					: characteristics.sigsNeededForThreshold((JThresholdKey)key);
+			verdict = isActiveWithEarlyExit(
+					children, M, child -> isActive(child, cache, tests, DEFAULT_ACTIVATION_CHARACTERISTICS));
+		}
+
+		if (isMemoizable) {
+			cache.record(key, tests, verdict);
+		}
+		return verdict;
+	}
+
+	/**
+	 * Counts the active children of a key list or threshold key, but stops as soon as
+	 * the verdict is known; that is, once {@code M} children are active, or once too
+	 * few children remain for {@code M} to be reached. This matters when the given
+	 * signature source resolves signatures lazily, as unneeded signatures are never examined.
+	 */
+	private static boolean isActiveWithEarlyExit(List<JKey> children, int M, Predicate<JKey> childIsActive) {
+		int numActive = 0;
+		int numUnexamined = children.size();
+		for (JKey child : children) {
+			numUnexamined--;
+			if (childIsActive.test(child)) {
+				if (++numActive >= M) {
+					return true;
+				}
+			} else if (numActive + numUnexamined < M) {
+				return false;
+			}
+		}
+		return numActive >= M;
+	}
+
 	/**
 	 * Factory for a source of platform signatures backed by a list.
 	 *
@@ -164,9 +235,7 @@ public class HederaKeyActivation {
 	 * @return a supplier that produces the backing list sigs by public key.
 	 */
 	public static Function<byte[], Signature> pkToSigMapFrom(List<Signature> sigs) {
-		final Map<ByteString, Signature> pkSigs = sigs
-				.stream()
-				.collect(toMap(s -> ByteString.copyFrom(s.getExpandedPublicKeyDirect()), s -> s, (a, b) -> a));
+		final Map<ByteString, Signature> pkSigs = ActivationCache.indexByPk(sigs);
 
 		return ed25519 -> pkSigs.getOrDefault(ByteString.copyFrom(ed25519), INVALID_SIG);
 	}
@@ -28,6 +28,7 @@ import com.hedera.services.ledger.accounts.HederaAccountCustomizer;
 import com.hedera.services.ledger.ids.EntityIdSource;
 import com.hedera.services.ledger.properties.AccountProperty;
 import com.hedera.services.records.AccountRecordsHistorian;
+import com.hedera.services.records.PayerRecordStore;
 import com.hedera.services.state.EntityCreator;
 import com.hedera.services.state.merkle.MerkleEntityId;
 import com.hederahashgraph.api.proto.java.AccountAmount;
@@ -40,8 +41,6 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.Comparator;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -85,11 +84,10 @@ public class HederaLedger {
 
 	private final EntityIdSource ids;
 	private final AccountRecordsHistorian historian;
+	private PayerRecordStore payerRecords;
 	private final TransactionalLedger<AccountID, AccountProperty, MerkleAccount> ledger;
 
-	private final Map<AccountID, Long> priorBalances = new HashMap<>();
-
-	private final TransferList.Builder netTransfers = TransferList.newBuilder();
+	private final NetTransfers netTransfers = new NetTransfers();
 
 	public HederaLedger(
 			EntityIdSource ids,
@@ -111,8 +109,15 @@ public class HederaLedger {
 		ledger.begin();
 	}
 
+	public void setPayerRecords(PayerRecordStore payerRecords) {
+		this.payerRecords = payerRecords;
+	}
+
 	public void rollback() {
 		ledger.rollback();
+		if (payerRecords != null) {
+			payerRecords.discardStaged();
+		}
 		netTransfers.clear();
 	}
 
@@ -120,23 +125,19 @@ public class HederaLedger {
 		throwIfPendingStateIsInconsistent();
 		historian.addNewRecords();
 		ledger.commit();
+		if (payerRecords != null) {
+			payerRecords.commitStaged();
+		}
 		netTransfers.clear();
 	}
 
+	public void flushDeferredCommits() {
+		ledger.flushDeferredCommits();
+	}
+
 	public TransferList netTransfersInTxn() {
 		ledger.throwIfNotInTxn();
-		int lastZeroRemoved;
-		do {
-			lastZeroRemoved = -1;
-			for (int i = 0; i < netTransfers.getAccountAmountsCount(); i++) {
-				if (netTransfers.getAccountAmounts(i).getAmount() == 0) {
-					netTransfers.removeAccountAmounts(i);
-					lastZeroRemoved = i;
-					break;
-				}
-			}
-		} while (lastZeroRemoved != -1);
-		return netTransfers.build();
+		return netTransfers.toGrpc();
 	}
 
 	public String currentChangeSet() {
@@ -149,7 +150,7 @@ public class HederaLedger {
 
 	/* -- CURRENCY MANIPULATION -- */
 	public long getBalance(AccountID id) {
-		return (long)ledger.get(id, BALANCE);
+		return ledger.getLong(id, BALANCE);
 	}
 
 	public void adjustBalance(AccountID id, long adjustment) {
@@ -216,12 +217,7 @@ public class HederaLedger {
 
 	public void destroy(AccountID id) {
 		ledger.destroy(id);
-		for (int i = 0; i < netTransfers.getAccountAmountsCount(); i++) {
-			if (netTransfers.getAccountAmounts(i).getAccountID().equals(id)) {
-				netTransfers.removeAccountAmounts(i);
-				return;
-			}
-		}
+		netTransfers.remove(id);
 	}
 
 	/* -- ACCOUNT PROPERTY ACCESS -- */
@@ -230,15 +226,15 @@ public class HederaLedger {
 	}
 
 	public long expiry(AccountID id) {
-		return (long)ledger.get(id, EXPIRY);
+		return ledger.getLong(id, EXPIRY);
 	}
 
 	public long fundsSentRecordThreshold(AccountID id) {
-		return (long)ledger.get(id, FUNDS_SENT_RECORD_THRESHOLD);
+		return ledger.getLong(id, FUNDS_SENT_RECORD_THRESHOLD);
 	}
 
 	public long fundsReceivedRecordThreshold(AccountID id) {
-		return (long)ledger.get(id, FUNDS_RECEIVED_RECORD_THRESHOLD);
+		return ledger.getLong(id, FUNDS_RECEIVED_RECORD_THRESHOLD);
 	}
 
 	public boolean isSmartContract(AccountID id) {
@@ -262,8 +258,20 @@ public class HederaLedger {
 		return addReturningEarliestExpiry(id, HISTORY_RECORDS, record);
 	}
 
+	/**
+	 * Stages a payer record for the {@link PayerRecordStore}, to be appended iff the
+	 * current transaction commits. (Payer records are no longer kept in the payer's
+	 * account; the {@code id} is unused, and kept for symmetry with history records.)
+	 *
+	 * @param id the effective payer
+	 * @param record the payer record
+	 * @return the expiry of the record
+	 */
 	public long addPayerRecord(AccountID id, ExpirableTxnRecord record) {
-		return addReturningEarliestExpiry(id, PAYER_RECORDS, record);
+		if (payerRecords != null) {
+			payerRecords.stage(record);
+		}
+		return record.getExpiry();
 	}
 
 	private long addReturningEarliestExpiry(AccountID id, AccountProperty property, ExpirableTxnRecord record) {
@@ -353,36 +361,11 @@ public class HederaLedger {
 	}
 
 	private void setBalance(AccountID id, long newBalance) {
-		if (!priorBalances.containsKey(id)) {
-			priorBalances.put(id, isPendingCreation(id) ? 0L : getBalance(id));
-		}
-		ledger.set(id, BALANCE, newBalance);
+		ledger.setLong(id, BALANCE, newBalance);
 	}
 
 	private void updateXfers(AccountID account, long amount) {
-		int loc = 0, diff = -1;
-		var soFar = netTransfers.getAccountAmountsBuilderList();
-		for (; loc < soFar.size(); loc++) {
-			diff = ACCOUNT_ID_COMPARATOR.compare(account, soFar.get(loc).getAccountID());
-			if (diff <= 0) {
-				break;
-			}
-		}
-		if (diff == 0) {
-			var aa = soFar.get(loc);
-			long current = aa.getAmount();
-			aa.setAmount(current + amount);
-		} else {
-			if (loc == soFar.size()) {
-				netTransfers.addAccountAmounts(aaBuilderWith(account, amount));
-			} else {
-				netTransfers.addAccountAmounts(loc, aaBuilderWith(account, amount));
-			}
-		}
-	}
-
-	private AccountAmount.Builder aaBuilderWith(AccountID account, long amount) {
-		return AccountAmount.newBuilder().setAccountID(account).setAmount(amount);
+		netTransfers.adjust(account, amount);
 	}
 
 	public enum LedgerTxnEvictionStats {
@@ -0,0 +1,140 @@
+package com.hedera.services.ledger;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hederahashgraph.api.proto.java.AccountAmount;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.TransferList;
+
+import java.util.Arrays;
+
+import static com.hedera.services.ledger.HederaLedger.ACCOUNT_ID_COMPARATOR;
+
+/**
+ * Accumulates the net hbar adjustments made to each account in a transaction, in
+ * primitive arrays sorted by {@link HederaLedger#ACCOUNT_ID_COMPARATOR}; so finding an
+ * account's running total is a binary search, and no protobuf builders are touched
+ * until the {@link TransferList} is needed.
+ *
+ * <p>The list is built at most once per change, and omits accounts whose adjustments
+ * net to zero. (The sort order is part of the transfer list in each record, and hence of
+ * the record stream; so it cannot be relaxed to, e.g., insertion order.)
+ *
+ * @author Michael Tinker
+ */
+public class NetTransfers {
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private int size = 0;
+	private long[] amounts;
+	private AccountID[] accounts;
+	private TransferList built = null;
+
+	public NetTransfers() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	public NetTransfers(int capacity) {
+		amounts = new long[capacity];
+		accounts = new AccountID[capacity];
+	}
+
+	public void adjust(AccountID account, long amount) {
+		int loc = locate(account);
+		if (loc >= 0) {
+			amounts[loc] += amount;
+		} else {
+			insertAt(-loc - 1, account, amount);
+		}
+		built = null;
+	}
+
+	public void remove(AccountID account) {
+		int loc = locate(account);
+		if (loc >= 0) {
+			int numMoved = size - loc - 1;
+			System.arraycopy(accounts, loc + 1, accounts, loc, numMoved);
+			System.arraycopy(amounts, loc + 1, amounts, loc, numMoved);
+			accounts[--size] = null;
+			built = null;
+		}
+	}
+
+	public long netAdjustment(AccountID account) {
+		int loc = locate(account);
+		return (loc >= 0) ? amounts[loc] : 0L;
+	}
+
+	public TransferList toGrpc() {
+		if (built == null) {
+			var xfers = TransferList.newBuilder();
+			for (int i = 0; i < size; i++) {
+				if (amounts[i] != 0L) {
+					xfers.addAccountAmounts(AccountAmount.newBuilder()
+							.setAccountID(accounts[i])
+							.setAmount(amounts[i]));
+				}
+			}
+			built = xfers.build();
+		}
+		return built;
+	}
+
+	public void clear() {
+		Arrays.fill(accounts, 0, size, null);
+		size = 0;
+		built = null;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	private int locate(AccountID account) {
+		int lo = 0, hi = size - 1;
+		while (lo <= hi) {
+			int mid = (lo + hi) >>> 1;
+			int diff = ACCOUNT_ID_COMPARATOR.compare(accounts[mid], account);
+			if (diff < 0) {
+				lo = mid + 1;
+			} else if (diff > 0) {
+				hi = mid - 1;
+			} else {
+				return mid;
+			}
+		}
+		return -(lo + 1);
+	}
+
+	private void insertAt(int loc, AccountID account, long amount) {
+		if (size == accounts.length) {
+			int capacity = Math.max(DEFAULT_CAPACITY, 2 * size);
+			accounts = Arrays.copyOf(accounts, capacity);
+			amounts = Arrays.copyOf(amounts, capacity);
+		}
+		int numMoved = size - loc;
+		System.arraycopy(accounts, loc, accounts, loc + 1, numMoved);
+		System.arraycopy(amounts, loc, amounts, loc + 1, numMoved);
+		accounts[loc] = account;
+		amounts[loc] = amount;
+		size++;
+	}
+}
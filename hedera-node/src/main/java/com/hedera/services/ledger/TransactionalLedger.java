@@ -20,17 +20,20 @@ package com.hedera.services.ledger;
  * ‍
  */
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
-import java.util.EnumMap;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.function.Function;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
-import java.util.stream.Stream;
 
 import static com.hedera.services.utils.EntityIdUtils.readableId;
 import static com.hedera.services.utils.MiscUtils.readableProperty;
@@ -39,6 +42,7 @@ import com.hedera.services.exceptions.MissingAccountException;
 import com.hedera.services.ledger.accounts.BackingAccounts;
 import com.hedera.services.ledger.properties.BeanProperty;
 import com.hedera.services.ledger.properties.ChangeSummaryManager;
+import com.hedera.services.ledger.properties.PropertyChanges;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -48,6 +52,12 @@ import org.apache.logging.log4j.Logger;
  * backing store when the transaction is committed; or dropped with no effects
  * upon a rollback.
  *
+ * The per-account changesets are recycled across transactions, and values
+ * of primitive {@code long} properties are never boxed when accessed via
+ * {@link TransactionalLedger#getLong(Object, Enum)} and
+ * {@link TransactionalLedger#setLong(Object, Enum, long)}; so in steady
+ * state a begin/commit (or begin/rollback) cycle creates little garbage.
+ *
  * @param <K> the type of id used by the ledger.
  * @param <P> the family of properties associated to accounts in the ledger.
  * @param <A> the type of a ledger account.
@@ -62,12 +72,18 @@ public class TransactionalLedger<K, P extends Enum<P> & BeanProperty<A>, A> impl
 	private final Supplier<A> newAccount;
 	private final BackingAccounts<K, A> accounts;
 	private final ChangeSummaryManager<A, P> changeManager;
-	private final Function<K, EnumMap<P, Object>> changeFactory;
+	private final List<K> keysToCommit = new ArrayList<>();
+	private final Deque<PropertyChanges<A, P>> recycledChanges = new ArrayDeque<>();
+	private final List<K> observedCommits = new ArrayList<>();
+	private final List<K> createdCommits = new ArrayList<>();
 
-	final Map<K, EnumMap<P, Object>> changes = new HashMap<>();
+	final Map<K, PropertyChanges<A, P>> changes = new HashMap<>();
 
 	private boolean isInTransaction = false;
 	private Optional<Comparator<K>> keyComparator = Optional.empty();
+	private Set<P> observedProperties = Collections.emptySet();
+	private Consumer<K> commitObserver = ignore -> {};
+	private Consumer<K> creationObserver = null;
 
 	public TransactionalLedger(
 			Class<P> propertyType,
@@ -79,13 +95,35 @@ public class TransactionalLedger<K, P extends Enum<P> & BeanProperty<A>, A> impl
 		this.newAccount = newAccount;
 		this.accounts = accounts;
 		this.changeManager = changeManager;
-		this.changeFactory = ignore -> new EnumMap<>(propertyType);
 	}
 
 	public void setKeyComparator(Comparator<K> keyComparator) {
 		this.keyComparator = Optional.of(keyComparator);
 	}
 
+	/**
+	 * Arranges for the given observer to be told of each account whose committed changes
+	 * include any of the given properties, or which was destroyed; once the commit is
+	 * fully visible in the backing accounts.
+	 *
+	 * @param properties the properties whose changes are of interest.
+	 * @param commitObserver the observer to notify.
+	 */
+	public void observeCommitsTo(Set<P> properties, Consumer<K> commitObserver) {
+		this.observedProperties = properties;
+		this.commitObserver = commitObserver;
+	}
+
+	/**
+	 * Arranges for the given observer to be told of each account created by a
+	 * commit, once the creation is fully visible in the backing accounts.
+	 *
+	 * @param creationObserver the observer to notify.
+	 */
+	public void observeCreations(Consumer<K> creationObserver) {
+		this.creationObserver = creationObserver;
+	}
+
 	void begin() {
 		if (isInTransaction) {
 			throw new IllegalStateException("A transaction is already active!");
@@ -97,7 +135,7 @@ public class TransactionalLedger<K, P extends Enum<P> & BeanProperty<A>, A> impl
 		if (!isInTransaction) {
 			throw new IllegalStateException("Cannot perform rollback, no transaction is active!");
 		}
-		changes.clear();
+		recycleChanges();
 		deadAccounts.clear();
 		accounts.flushMutableRefs();
 		isInTransaction = false;
@@ -111,24 +149,33 @@ public class TransactionalLedger<K, P extends Enum<P> & BeanProperty<A>, A> impl
 		log.debug("Changes to be committed: {}", this::changeSetSoFar);
 
 		try {
-			Stream<K> changedKeys = keyComparator.isPresent()
-					? changes.keySet().stream().sorted(keyComparator.get())
-					: changes.keySet().stream();
 			/* Only explicitly update new accounts. */
-			changedKeys
-					.filter(id -> !deadAccounts.contains(id))
-					.forEach(id -> accounts.put(id, get(id)));
-			changes.clear();
-
-			Stream<K> deadKeys = keyComparator.isPresent()
-					? deadAccounts.stream().sorted(keyComparator.get())
-					: deadAccounts.stream();
-			deadKeys.forEach(accounts::remove);
+			for (K id : orderedForCommit(changes.keySet())) {
+				if (!deadAccounts.contains(id)) {
+					if (creationObserver != null && !accounts.contains(id)) {
+						createdCommits.add(id);
+					}
+					accounts.put(id, get(id));
+					if (hasObservedChange(changes.get(id))) {
+						observedCommits.add(id);
+					}
+				}
+			}
+			recycleChanges();
+
+			for (K id : orderedForCommit(deadAccounts)) {
+				accounts.remove(id);
+				if (!observedProperties.isEmpty()) {
+					observedCommits.add(id);
+				}
+			}
 			deadAccounts.clear();
+			keysToCommit.clear();
 
 			accounts.flushMutableRefs();
 
 			isInTransaction = false;
+			notifyObserver();
 		} catch (Exception e) {
 			String changeDesc = "<N/A>";
 			try {
@@ -141,6 +188,68 @@ public class TransactionalLedger<K, P extends Enum<P> & BeanProperty<A>, A> impl
 		}
 	}
 
+	/**
+	 * Flushes any committed changes the backing accounts deferred (for example, to
+	 * batch the flushes of a consensus round). This must not be done mid-transaction.
+	 */
+	void flushDeferredCommits() {
+		if (isInTransaction) {
+			throw new IllegalStateException("Cannot flush deferred commits during a transaction!");
+		}
+		accounts.flushDeferredRefs();
+	}
+
+	private List<K> orderedForCommit(Set<K> keys) {
+		keysToCommit.clear();
+		for (K id : keys) {
+			keysToCommit.add(id);
+		}
+		keyComparator.ifPresent(keysToCommit::sort);
+		return keysToCommit;
+	}
+
+	private boolean hasObservedChange(PropertyChanges<A, P> changeSet) {
+		for (P property : observedProperties) {
+			if (changeSet.contains(property)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void notifyObserver() {
+		for (K id : observedCommits) {
+			commitObserver.accept(id);
+		}
+		observedCommits.clear();
+		for (K id : createdCommits) {
+			creationObserver.accept(id);
+		}
+		createdCommits.clear();
+	}
+
+	private void recycleChanges() {
+		for (PropertyChanges<A, P> changeSet : changes.values()) {
+			changeSet.clear();
+			recycledChanges.push(changeSet);
+		}
+		changes.clear();
+	}
+
+	private PropertyChanges<A, P> newChangeSet() {
+		PropertyChanges<A, P> changeSet = recycledChanges.poll();
+		return (changeSet != null) ? changeSet : new PropertyChanges<>(propertyType);
+	}
+
+	private PropertyChanges<A, P> changeSetFor(K id) {
+		PropertyChanges<A, P> changeSet = changes.get(id);
+		if (changeSet == null) {
+			changeSet = newChangeSet();
+			changes.put(id, changeSet);
+		}
+		return changeSet;
+	}
+
 	String changeSetSoFar() {
 		StringBuilder desc = new StringBuilder("{");
 		AtomicBoolean isFirstChange = new AtomicBoolean(true);
@@ -158,7 +267,7 @@ public class TransactionalLedger<K, P extends Enum<P> & BeanProperty<A>, A> impl
 					.append(readableId(id))
 					.append(": [");
 			desc.append(
-					change.getValue().entrySet().stream()
+					change.getValue().asMap().entrySet().stream()
 							.map(entry -> String.format("%s -> %s", entry.getKey(), readableProperty(entry.getValue())))
 							.collect(joining(", ")));
 			desc.append("]");
@@ -189,14 +298,26 @@ public class TransactionalLedger<K, P extends Enum<P> & BeanProperty<A>, A> impl
 	@Override
 	public void set(K id, P property, Object value) {
 		assertIsSettable(id);
-		changeManager.update(changes.computeIfAbsent(id, changeFactory), property, value);
+		changeManager.update(changeSetFor(id), property, value);
+	}
+
+	/**
+	 * Sets a primitive {@code long} property without boxing the new value.
+	 *
+	 * @param id the account to change.
+	 * @param property the {@code long}-valued property to set.
+	 * @param value the new value of the property.
+	 */
+	public void setLong(K id, P property, long value) {
+		assertIsSettable(id);
+		changeManager.updateLong(changeSetFor(id), property, value);
 	}
 
 	@Override
 	public A get(K id) {
 		throwIfMissing(id);
 
-		EnumMap<P, Object> changeSet = changes.get(id);
+		PropertyChanges<A, P> changeSet = changes.get(id);
 		boolean hasPendingChanges = changeSet != null;
 		A account = accounts.contains(id) ? accounts.getRef(id) : newAccount.get();
 		if (hasPendingChanges) {
@@ -210,7 +331,7 @@ public class TransactionalLedger<K, P extends Enum<P> & BeanProperty<A>, A> impl
 		throwIfMissing(id);
 
 		if (hasPendingChange(id, property)) {
-			EnumMap<P, Object> changeSet = changes.get(id);
+			PropertyChanges<A, P> changeSet = changes.get(id);
 			if (changeSet != null) {
 				return changeSet.get(property);
 			}
@@ -219,10 +340,28 @@ public class TransactionalLedger<K, P extends Enum<P> & BeanProperty<A>, A> impl
 		return property.getter().apply(isPendingCreation(id) ? newAccount.get() : accounts.getRef(id));
 	}
 
+	/**
+	 * Gets a primitive {@code long} property without boxing its value.
+	 *
+	 * @param id the account of interest.
+	 * @param property the {@code long}-valued property to get.
+	 * @return the current value of the property, including any pending change.
+	 */
+	public long getLong(K id, P property) {
+		throwIfMissing(id);
+
+		PropertyChanges<A, P> changeSet = changes.get(id);
+		if (changeSet != null && changeSet.contains(property)) {
+			return changeSet.getLong(property);
+		}
+
+		return property.longGetter().applyAsLong(isPendingCreation(id) ? newAccount.get() : accounts.getRef(id));
+	}
+
 	@Override
 	public void create(K id) {
 		assertIsCreatable(id);
-		changes.put(id, new EnumMap<>(propertyType));
+		changes.put(id, newChangeSet());
 	}
 
 	@Override
@@ -240,8 +379,8 @@ public class TransactionalLedger<K, P extends Enum<P> & BeanProperty<A>, A> impl
 	}
 
 	private boolean hasPendingChange(K id, P property) {
-		EnumMap<P, Object> changeSet = changes.get(id);
-		return (changeSet != null) && changeSet.containsKey(property);
+		PropertyChanges<A, P> changeSet = changes.get(id);
+		return (changeSet != null) && changeSet.contains(property);
 	}
 
 	private void assertIsSettable(K id) {
@@ -0,0 +1,222 @@
+package com.hedera.services.ledger.accounts;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hederahashgraph.api.proto.java.AccountID;
+
+import java.util.AbstractSet;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A set of account ids that keeps the (overwhelmingly common) ids in
+ * shard and realm zero as primitive {@code long} account numbers in an
+ * open-addressing table, so that indexing tens of millions of existing
+ * accounts does not allocate an {@link AccountID} (and a hash set entry)
+ * for each one. Any other ids are kept in an ordinary {@link HashSet}.
+ *
+ * Like {@link HashSet}, this class is not thread-safe, and its iterators
+ * do not support removal.
+ *
+ * @author Michael Tinker
+ */
+public class AccountIdSet extends AbstractSet<AccountID> {
+	private static final int MIN_CAPACITY = 16;
+	/* Account number zero marks an empty slot, so {@code 0.0.0} is kept with the other ids. */
+	private static final long EMPTY = 0L;
+
+	private long[] nums;
+	private int numCount = 0;
+	private final Set<AccountID> others = new HashSet<>();
+
+	public AccountIdSet() {
+		this(MIN_CAPACITY);
+	}
+
+	public AccountIdSet(int expectedSize) {
+		nums = new long[capacityFor(expectedSize)];
+	}
+
+	@Override
+	public boolean add(AccountID id) {
+		return add(id.getShardNum(), id.getRealmNum(), id.getAccountNum());
+	}
+
+	public boolean add(long shard, long realm, long num) {
+		if (!isPrimitive(shard, realm, num)) {
+			return others.add(asId(shard, realm, num));
+		}
+		int i = slotFor(num);
+		if (nums[i] == num) {
+			return false;
+		}
+		nums[i] = num;
+		if (++numCount > nums.length / 2) {
+			rehashTo(nums.length * 2);
+		}
+		return true;
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		if (!(o instanceof AccountID)) {
+			return false;
+		}
+		var id = (AccountID) o;
+		long num = id.getAccountNum();
+		if (!isPrimitive(id.getShardNum(), id.getRealmNum(), num)) {
+			return others.contains(id);
+		}
+		return nums[slotFor(num)] == num;
+	}
+
+	@Override
+	public boolean remove(Object o) {
+		if (!(o instanceof AccountID)) {
+			return false;
+		}
+		var id = (AccountID) o;
+		long num = id.getAccountNum();
+		if (!isPrimitive(id.getShardNum(), id.getRealmNum(), num)) {
+			return others.remove(id);
+		}
+		int i = slotFor(num);
+		if (nums[i] != num) {
+			return false;
+		}
+		closeGapAt(i);
+		numCount--;
+		return true;
+	}
+
+	@Override
+	public int size() {
+		return numCount + others.size();
+	}
+
+	@Override
+	public void clear() {
+		nums = new long[MIN_CAPACITY];
+		numCount = 0;
+		others.clear();
+	}
+
+	@Override
+	public Iterator<AccountID> iterator() {
+		var otherIds = others.iterator();
+		return new Iterator<>() {
+			int next = advanceFrom(0);
+
+			@Override
+			public boolean hasNext() {
+				return next < nums.length || otherIds.hasNext();
+			}
+
+			@Override
+			public AccountID next() {
+				if (next < nums.length) {
+					var id = asId(0, 0, nums[next]);
+					next = advanceFrom(next + 1);
+					return id;
+				}
+				if (!otherIds.hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return otherIds.next();
+			}
+
+			private int advanceFrom(int i) {
+				while (i < nums.length && nums[i] == EMPTY) {
+					i++;
+				}
+				return i;
+			}
+		};
+	}
+
+	/* With linear probing, a removal must shift back any later entries in the
+	 * same run that could not have been placed at (or before) the emptied slot. */
+	private void closeGapAt(int gap) {
+		int mask = nums.length - 1;
+		int i = gap;
+		while (true) {
+			i = (i + 1) & mask;
+			long num = nums[i];
+			if (num == EMPTY) {
+				break;
+			}
+			int home = homeOf(num);
+			boolean homeInGapToI = (gap <= i) ? (gap < home && home <= i) : (gap < home || home <= i);
+			if (!homeInGapToI) {
+				nums[gap] = num;
+				gap = i;
+			}
+		}
+		nums[gap] = EMPTY;
+	}
+
+	private void rehashTo(int capacity) {
+		long[] prev = nums;
+		nums = new long[capacity];
+		for (long num : prev) {
+			if (num != EMPTY) {
+				nums[slotFor(num)] = num;
+			}
+		}
+	}
+
+	/* Returns either the slot holding the given num, or the empty slot where it belongs. */
+	private int slotFor(long num) {
+		int mask = nums.length - 1;
+		int i = homeOf(num);
+		while (nums[i] != EMPTY && nums[i] != num) {
+			i = (i + 1) & mask;
+		}
+		return i;
+	}
+
+	private int homeOf(long num) {
+		long h = num * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32)) & (nums.length - 1);
+	}
+
+	private static boolean isPrimitive(long shard, long realm, long num) {
+		return shard == 0 && realm == 0 && num != EMPTY;
+	}
+
+	private static int capacityFor(int expectedSize) {
+		int capacity = MIN_CAPACITY;
+		while (capacity / 2 < expectedSize && capacity < (1 << 30)) {
+			capacity <<= 1;
+		}
+		return capacity;
+	}
+
+	private static AccountID asId(long shard, long realm, long num) {
+		return AccountID.newBuilder()
+				.setShardNum(shard)
+				.setRealmNum(realm)
+				.setAccountNum(num)
+				.build();
+	}
+}
@@ -40,6 +40,12 @@ public interface BackingAccounts<K, A> {
 	 */
 	void flushMutableRefs();
 
+	/**
+	 * Alerts this {@code BackingAccounts} it should flush all cached mutable references,
+	 * including any whose flush it deferred when alerted via {@link BackingAccounts#flushMutableRefs()}.
+	 */
+	void flushDeferredRefs();
+
 	/**
 	 * Gets a possibly mutable reference to the account with the specified id.
 	 *
@@ -0,0 +1,93 @@
+package com.hedera.services.ledger.accounts;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hederahashgraph.api.proto.java.AccountID;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Lets threads outside of consensus (for example, those expanding signatures before
+ * handling) wait for an account to be created, without polling. The ledger publishes
+ * each account it creates once the creation is visible in the backing accounts; and
+ * every thread parked on that account is woken up.
+ *
+ * <p>A waiter must first obtain the pending creation of the account, <i>then</i> check
+ * again whether the account exists, and only then {@link #await(AccountID, CompletableFuture, long)}
+ * it; so a creation published between the first miss and the registration is not missed.
+ * Pending creations are removed when published; a waiter that times out removes the
+ * pending creation it waited on, if no one else has replaced it.
+ *
+ * @author Michael Tinker
+ */
+public class CreatedAccountRegistry {
+	private final ConcurrentHashMap<AccountID, CompletableFuture<Void>> pending = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns the (possibly new) future that completes when the given account is created.
+	 *
+	 * @param id the account of interest
+	 * @return its pending creation
+	 */
+	public CompletableFuture<Void> pendingCreationOf(AccountID id) {
+		return pending.computeIfAbsent(id, ignore -> new CompletableFuture<>());
+	}
+
+	/**
+	 * Wakes up every thread waiting on the creation of the given account.
+	 *
+	 * @param id the created account
+	 */
+	public void publish(AccountID id) {
+		var creation = pending.remove(id);
+		if (creation != null) {
+			creation.complete(null);
+		}
+	}
+
+	/**
+	 * Parks the calling thread until the given pending creation completes, or the
+	 * deadline passes, or the thread is interrupted.
+	 *
+	 * @param id the account of interest
+	 * @param creation its pending creation, from {@link #pendingCreationOf(AccountID)}
+	 * @param timeoutMs the maximum time to wait
+	 * @return whether the account was created in time
+	 */
+	public boolean await(AccountID id, CompletableFuture<Void> creation, long timeoutMs) {
+		try {
+			creation.get(timeoutMs, TimeUnit.MILLISECONDS);
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (TimeoutException | ExecutionException ignore) { }
+		pending.remove(id, creation);
+		return false;
+	}
+
+	public int numPending() {
+		return pending.size();
+	}
+}
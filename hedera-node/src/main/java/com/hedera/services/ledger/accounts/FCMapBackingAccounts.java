@@ -27,7 +27,6 @@ import com.hedera.services.state.merkle.MerkleAccount;
 import com.swirlds.fcmap.FCMap;
 
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Supplier;
@@ -36,28 +35,72 @@ import static com.hedera.services.state.merkle.MerkleEntityId.fromAccountId;
 import static com.hedera.services.utils.EntityIdUtils.readableId;
 
 public class FCMapBackingAccounts implements BackingAccounts<AccountID, MerkleAccount> {
-	Set<AccountID> existingAccounts = new HashSet<>();
+	Set<AccountID> existingAccounts;
 	/* Note that all cache elements accumulated after a call to {@code startCaching}
 	* must be flushed (i.e. replaced) before the end of {@code flush}. */
 	Map<AccountID, MerkleAccount> cache = new HashMap<>();
 
+	private int maxTxnsPerFlush = 1;
+	private int txnsSinceFlush = 0;
+
 	private final Supplier<FCMap<MerkleEntityId, MerkleAccount>> delegate;
 
 	public FCMapBackingAccounts(Supplier<FCMap<MerkleEntityId, MerkleAccount>> delegate) {
 		this.delegate = delegate;
 
-		delegate.get().keySet().stream()
-				.map(MerkleEntityId::toAccountId)
-				.forEach(existingAccounts::add);
+		var existing = new AccountIdSet();
+		delegate.get().keySet().forEach(id -> existing.add(id.getShard(), id.getRealm(), id.getNum()));
+		this.existingAccounts = existing;
+	}
+
+	/**
+	 * Creates backing accounts for the given delegate, taking ownership of an index of its
+	 * existing account ids that was already built (for example, by a startup scan).
+	 *
+	 * @param delegate the source of the accounts map being backed.
+	 * @param existingAccounts the ids of all accounts now in the map.
+	 */
+	public FCMapBackingAccounts(
+			Supplier<FCMap<MerkleEntityId, MerkleAccount>> delegate,
+			Set<AccountID> existingAccounts
+	) {
+		this.delegate = delegate;
+		this.existingAccounts = existingAccounts;
+	}
+
+	/**
+	 * Opts in to batching the flushes of up to the given number of consecutive transactions.
+	 * Until the last of these calls {@link FCMapBackingAccounts#flushMutableRefs()}, the mutable
+	 * refs stay cached; so this cache becomes an overlay on the delegate map, from which each
+	 * later transaction reads (and to which it commits), and an account changed by many of the
+	 * batched transactions is only copied and replaced in the map once.
+	 *
+	 * Note that readers of the map itself will not see any changes still in the overlay; so
+	 * handle-thread readers must use {@link FCMapBackingAccounts#getUnsafeRef(AccountID)} (or
+	 * the ledger) instead, and {@link FCMapBackingAccounts#flushDeferredRefs()} must be called
+	 * before the map is copied.
+	 *
+	 * @param maxTxnsPerFlush the most transactions whose changes may be flushed together.
+	 */
+	public void setMaxTxnsPerFlush(int maxTxnsPerFlush) {
+		this.maxTxnsPerFlush = Math.max(1, maxTxnsPerFlush);
 	}
 
 	@Override
 	public void flushMutableRefs() {
+		if (++txnsSinceFlush >= maxTxnsPerFlush) {
+			flushDeferredRefs();
+		}
+	}
+
+	@Override
+	public void flushDeferredRefs() {
 		cache.keySet()
 				.stream()
 				.sorted(HederaLedger.ACCOUNT_ID_COMPARATOR)
 				.forEach(id -> delegate.get().replace(fromAccountId(id), cache.get(id)));
 		cache.clear();
+		txnsSinceFlush = 0;
 	}
 
 	@Override
@@ -86,6 +129,7 @@ public class FCMapBackingAccounts implements BackingAccounts<AccountID, MerkleAc
 	@Override
 	public void remove(AccountID id) {
 		existingAccounts.remove(id);
+		cache.remove(id);
 		delegate.get().remove(fromAccountId(id));
 	}
 
@@ -96,6 +140,7 @@ public class FCMapBackingAccounts implements BackingAccounts<AccountID, MerkleAc
 
 	@Override
 	public MerkleAccount getUnsafeRef(AccountID id) {
-		return delegate.get().get(fromAccountId(id));
+		var ref = cache.get(id);
+		return (ref != null) ? ref : delegate.get().get(fromAccountId(id));
 	}
 }
@@ -41,6 +41,9 @@ public class PureFCMapBackingAccounts implements BackingAccounts<AccountID, Merk
 	@Override
 	public void flushMutableRefs() { }
 
+	@Override
+	public void flushDeferredRefs() { }
+
 	@Override
 	public MerkleAccount getRef(AccountID id) {
 		return delegate.get().get(fromAccountId(id));
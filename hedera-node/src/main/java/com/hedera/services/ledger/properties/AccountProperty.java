@@ -29,6 +29,8 @@ import com.swirlds.fcqueue.FCQueue;
 
 import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.ObjLongConsumer;
+import java.util.function.ToLongFunction;
 
 /**
  * Implements a property family whose instances can provide the
@@ -87,6 +89,27 @@ public enum AccountProperty implements BeanProperty<MerkleAccount> {
 		public Function<MerkleAccount, Object> getter() {
 			return MerkleAccount::getBalance;
 		}
+
+		@Override
+		public boolean isPrimitiveLong() {
+			return true;
+		}
+
+		@Override
+		public ObjLongConsumer<MerkleAccount> longSetter() {
+			return (a, v) -> {
+				try {
+					a.setBalance(v);
+				} catch (NegativeAccountBalanceException nabe) {
+					throw new IllegalArgumentException("Account balances must be nonnegative!");
+				}
+			};
+		}
+
+		@Override
+		public ToLongFunction<MerkleAccount> longGetter() {
+			return MerkleAccount::getBalance;
+		}
 	},
 	FUNDS_RECEIVED_RECORD_THRESHOLD {
 		@Override
@@ -98,6 +121,21 @@ public enum AccountProperty implements BeanProperty<MerkleAccount> {
 		public Function<MerkleAccount, Object> getter() {
 			return MerkleAccount::getReceiverThreshold;
 		}
+
+		@Override
+		public boolean isPrimitiveLong() {
+			return true;
+		}
+
+		@Override
+		public ObjLongConsumer<MerkleAccount> longSetter() {
+			return MerkleAccount::setReceiverThreshold;
+		}
+
+		@Override
+		public ToLongFunction<MerkleAccount> longGetter() {
+			return MerkleAccount::getReceiverThreshold;
+		}
 	},
 	FUNDS_SENT_RECORD_THRESHOLD {
 		@Override
@@ -109,6 +147,21 @@ public enum AccountProperty implements BeanProperty<MerkleAccount> {
 		public Function<MerkleAccount, Object> getter() {
 			return MerkleAccount::getSenderThreshold;
 		}
+
+		@Override
+		public boolean isPrimitiveLong() {
+			return true;
+		}
+
+		@Override
+		public ObjLongConsumer<MerkleAccount> longSetter() {
+			return MerkleAccount::setSenderThreshold;
+		}
+
+		@Override
+		public ToLongFunction<MerkleAccount> longGetter() {
+			return MerkleAccount::getSenderThreshold;
+		}
 	},
 	AUTO_RENEW_PERIOD {
 		@Override
@@ -120,6 +173,21 @@ public enum AccountProperty implements BeanProperty<MerkleAccount> {
 		public Function<MerkleAccount, Object> getter() {
 			return MerkleAccount::getAutoRenewSecs;
 		}
+
+		@Override
+		public boolean isPrimitiveLong() {
+			return true;
+		}
+
+		@Override
+		public ObjLongConsumer<MerkleAccount> longSetter() {
+			return MerkleAccount::setAutoRenewSecs;
+		}
+
+		@Override
+		public ToLongFunction<MerkleAccount> longGetter() {
+			return MerkleAccount::getAutoRenewSecs;
+		}
 	},
 	EXPIRY {
 		@Override
@@ -131,6 +199,21 @@ public enum AccountProperty implements BeanProperty<MerkleAccount> {
 		public Function<MerkleAccount, Object> getter() {
 			return MerkleAccount::getExpiry;
 		}
+
+		@Override
+		public boolean isPrimitiveLong() {
+			return true;
+		}
+
+		@Override
+		public ObjLongConsumer<MerkleAccount> longSetter() {
+			return MerkleAccount::setExpiry;
+		}
+
+		@Override
+		public ToLongFunction<MerkleAccount> longGetter() {
+			return MerkleAccount::getExpiry;
+		}
 	},
 	KEY {
 		@Override
@@ -22,6 +22,8 @@ package com.hedera.services.ledger.properties;
 
 import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.ObjLongConsumer;
+import java.util.function.ToLongFunction;
 
 /**
  * Defines a type that can provide a getter/setter pair for a given type.
@@ -46,4 +48,35 @@ public interface BeanProperty<A> {
 	 * @return the getter on the target type.
 	 */
 	Function<A, Object> getter();
+
+	/**
+	 * Indicates whether the property is a primitive {@code long}, and hence
+	 * can be read and written without boxing via {@link BeanProperty#longSetter()}
+	 * and {@link BeanProperty#longGetter()}.
+	 *
+	 * @return whether the property has a primitive {@code long} value.
+	 */
+	default boolean isPrimitiveLong() {
+		return false;
+	}
+
+	/**
+	 * Gets an unboxed setter for the property at hand; only meaningful
+	 * if {@link BeanProperty#isPrimitiveLong()} is true.
+	 *
+	 * @return the primitive setter on the target type.
+	 */
+	default ObjLongConsumer<A> longSetter() {
+		return (a, v) -> setter().accept(a, v);
+	}
+
+	/**
+	 * Provides the matching unboxed getter for the property at hand; only
+	 * meaningful if {@link BeanProperty#isPrimitiveLong()} is true.
+	 *
+	 * @return the primitive getter on the target type.
+	 */
+	default ToLongFunction<A> longGetter() {
+		return a -> (long)getter().apply(a);
+	}
 }
@@ -54,4 +54,37 @@ public class ChangeSummaryManager<A, P extends Enum<P> & BeanProperty<A>> {
 			entry.getKey().setter().accept(account, entry.getValue())
 		);
 	}
+
+	/**
+	 * Updates the reusable changeset summary for the given property to the given value.
+	 *
+	 * @param changes the total changeset summary so far.
+	 * @param property the property in the family whose changeset should be updated.
+	 * @param value the new value that summarizes the changeset.
+	 */
+	public void update(PropertyChanges<A, P> changes, P property, Object value) {
+		changes.set(property, value);
+	}
+
+	/**
+	 * Updates the reusable changeset summary for the given primitive {@code long}
+	 * property to the given value, without boxing.
+	 *
+	 * @param changes the total changeset summary so far.
+	 * @param property the property in the family whose changeset should be updated.
+	 * @param value the new value that summarizes the changeset.
+	 */
+	public void updateLong(PropertyChanges<A, P> changes, P property, long value) {
+		changes.setLong(property, value);
+	}
+
+	/**
+	 * Flush a reusable changeset summary to a given object.
+	 *
+	 * @param changes the summary of changes made to the relevant property family.
+	 * @param account the account to receive the net changes.
+	 */
+	public void persist(PropertyChanges<A, P> changes, A account) {
+		changes.persistTo(account);
+	}
 }
@@ -0,0 +1,146 @@
+package com.hedera.services.ledger.properties;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import java.util.Arrays;
+import java.util.EnumMap;
+
+import static java.lang.Long.bitCount;
+import static java.lang.Long.numberOfTrailingZeros;
+
+/**
+ * A reusable summary of the pending changes to a single account. Values of
+ * properties for which {@link BeanProperty#isPrimitiveLong()} is true are
+ * kept in a primitive {@code long[]}, so that (for example) adjusting a
+ * balance does not box; all other values are kept in an {@code Object[]}.
+ * Both arrays are indexed by property ordinal, and membership is tracked
+ * in a single {@code long} bitmask.
+ *
+ * Instances are meant to be recycled via {@link PropertyChanges#clear()},
+ * so that a ledger in steady state does not allocate new changesets.
+ *
+ * @param <A> the type of account being changed.
+ * @param <P> the property family whose changes are summarized.
+ *
+ * @author Michael Tinker
+ */
+public class PropertyChanges<A, P extends Enum<P> & BeanProperty<A>> {
+	private final P[] universe;
+	private final Class<P> propertyType;
+	private final long[] longValues;
+	private final Object[] objValues;
+
+	private long present = 0L;
+
+	public PropertyChanges(Class<P> propertyType) {
+		this.propertyType = propertyType;
+		universe = propertyType.getEnumConstants();
+		if (universe.length > Long.SIZE) {
+			throw new IllegalArgumentException("At most " + Long.SIZE + " properties are supported!");
+		}
+		longValues = new long[universe.length];
+		objValues = new Object[universe.length];
+	}
+
+	public void set(P property, Object value) {
+		int i = property.ordinal();
+		if (property.isPrimitiveLong()) {
+			longValues[i] = (long)value;
+		} else {
+			objValues[i] = value;
+		}
+		present |= (1L << i);
+	}
+
+	public void setLong(P property, long value) {
+		if (!property.isPrimitiveLong()) {
+			set(property, value);
+			return;
+		}
+		int i = property.ordinal();
+		longValues[i] = value;
+		present |= (1L << i);
+	}
+
+	public boolean contains(P property) {
+		return (present & (1L << property.ordinal())) != 0;
+	}
+
+	public Object get(P property) {
+		if (!contains(property)) {
+			return null;
+		}
+		int i = property.ordinal();
+		return property.isPrimitiveLong() ? longValues[i] : objValues[i];
+	}
+
+	public long getLong(P property) {
+		int i = property.ordinal();
+		return property.isPrimitiveLong() ? longValues[i] : (long)objValues[i];
+	}
+
+	public boolean isEmpty() {
+		return present == 0L;
+	}
+
+	public int size() {
+		return bitCount(present);
+	}
+
+	/**
+	 * Applies the summarized changes to the given account, in order of property ordinal.
+	 *
+	 * @param account the account to receive the changes.
+	 */
+	public void persistTo(A account) {
+		for (long remaining = present; remaining != 0L; remaining &= (remaining - 1)) {
+			int i = numberOfTrailingZeros(remaining);
+			P property = universe[i];
+			if (property.isPrimitiveLong()) {
+				property.longSetter().accept(account, longValues[i]);
+			} else {
+				property.setter().accept(account, objValues[i]);
+			}
+		}
+	}
+
+	public void clear() {
+		if (present != 0L) {
+			Arrays.fill(objValues, null);
+			present = 0L;
+		}
+	}
+
+	/**
+	 * Returns a (boxed) copy of the summarized changes; not intended for use
+	 * on hot paths, but only for logging and diagnostics.
+	 *
+	 * @return an equivalent {@link EnumMap} of the changes.
+	 */
+	public EnumMap<P, Object> asMap() {
+		EnumMap<P, Object> changes = new EnumMap<>(propertyType);
+		for (long remaining = present; remaining != 0L; remaining &= (remaining - 1)) {
+			P property = universe[numberOfTrailingZeros(remaining)];
+			changes.put(property, get(property));
+		}
+		return changes;
+	}
+}
@@ -52,11 +52,13 @@ public class AsyncPropertiesObject {
 	private static long recordLogPeriod = ApplicationConstants.RECORD_LOG_PERIOD;
 	private static String recordLogDir = ApplicationConstants.RECORD_LOG_DIR;
 	private static int recordStreamQueueCapacity = ApplicationConstants.RECORD_STREAM_QU_CAP;
+	private static String recordStreamCompression = ApplicationConstants.RECORD_STREAM_COMPRESSION;
 	
 	// properties for Export of Accounts Balance
 	private static boolean accountBalanceExportEnabled ;
 	private static String accountBalanceExportDir = ApplicationConstants.ACCT_BAL_EXP_DIR;
 	private static long accountBalanceExportPeriodMinutes = ApplicationConstants.ACCOUNT_BALANCE_EXPORT_PERIOD_MINUTES;
+	private static String accountBalanceExportFormats = ApplicationConstants.ACCOUNT_BALANCE_EXPORT_FORMATS;
 	
 	// Server Properties
 	private static int port = ApplicationConstants.APP_PORT;
@@ -80,6 +82,31 @@ public class AsyncPropertiesObject {
 	private static int nettyFlowControlWindow = ApplicationConstants.NETTY_FLOW_CONTROL_WINDOW;
 	private static Map<String, PermissionedAccountsRange> apiPermission = new HashMap<>();
 
+	// Precheck signature verification pool properties
+	private static int precheckSigVerifyWorkers = ApplicationConstants.PRECHECK_SIG_VERIFY_WORKERS;
+	private static int precheckSigVerifyQueueCapacity = ApplicationConstants.PRECHECK_SIG_VERIFY_QU_CAP;
+	private static int precheckSigVerifyMaxBatchSize = ApplicationConstants.PRECHECK_SIG_VERIFY_MAX_BATCH;
+
+	// gRPC worker pool properties
+	private static int grpcTxnWorkers = ApplicationConstants.GRPC_TXN_WORKERS;
+	private static int grpcTxnQueueCapacity = ApplicationConstants.GRPC_TXN_QU_CAP;
+	private static int grpcQueryWorkers = ApplicationConstants.GRPC_QUERY_WORKERS;
+	private static int grpcQueryQueueCapacity = ApplicationConstants.GRPC_QUERY_QU_CAP;
+	private static int grpcExpensiveQueryWorkers = ApplicationConstants.GRPC_EXPENSIVE_QUERY_WORKERS;
+	private static int grpcExpensiveQueryQueueCapacity = ApplicationConstants.GRPC_EXPENSIVE_QUERY_QU_CAP;
+
+	// Signing order cache properties
+	private static int signingOrderCacheMaxSize = ApplicationConstants.SIGNING_ORDER_CACHE_MAX_SIZE;
+
+	// Fee result cache properties
+	private static int feeResultCacheMaxSize = ApplicationConstants.FEE_RESULT_CACHE_MAX_SIZE;
+
+	// Pre-handle txn accessor cache properties
+	private static int txnAccessorCacheMaxSize = ApplicationConstants.TXN_ACCESSOR_CACHE_MAX_SIZE;
+
+	// Ledger round batching properties
+	private static int ledgerBatchingMaxTxnsPerFlush = ApplicationConstants.LEDGER_BATCHING_MAX_TXNS_PER_FLUSH;
+
 	// Timer properties
 	private static boolean startStatsDumpTimer = false;
 	private static int     statsDumpTimerValue = 60; // in seconds
@@ -126,6 +153,7 @@ public class AsyncPropertiesObject {
 		 recordLogPeriod = appConfig.getLong("recordLogPeriod", ApplicationConstants.RECORD_LOG_PERIOD);
 		 recordLogDir = appConfig.getString("recordLogDir", ApplicationConstants.RECORD_LOG_DIR);
 		 recordStreamQueueCapacity = appConfig.getInt("recordStreamQueueCapacity", ApplicationConstants.RECORD_STREAM_QU_CAP);
+		 recordStreamCompression = appConfig.getString("recordStreamCompression", ApplicationConstants.RECORD_STREAM_COMPRESSION);
 
 		// properties for Export of Accounts Balance
 		accountBalanceExportEnabled = appConfig.getBoolean("accountBalanceExportEnabled",false);
@@ -136,6 +164,47 @@ public class AsyncPropertiesObject {
 		 accountBalanceExportPeriodMinutes = appConfig
 				.getLong("accountBalanceExportPeriodMinutes", ApplicationConstants.ACCOUNT_BALANCE_EXPORT_PERIOD_MINUTES);
 
+		 accountBalanceExportFormats = appConfig.getString("accountBalanceExportFormats",
+				 ApplicationConstants.ACCOUNT_BALANCE_EXPORT_FORMATS);
+
+		// properties for the precheck signature verification pool
+		precheckSigVerifyWorkers = appConfig.getInt("precheckSigVerifyWorkers",
+				ApplicationConstants.PRECHECK_SIG_VERIFY_WORKERS);
+		precheckSigVerifyQueueCapacity = appConfig.getInt("precheckSigVerifyQueueCapacity",
+				ApplicationConstants.PRECHECK_SIG_VERIFY_QU_CAP);
+		precheckSigVerifyMaxBatchSize = appConfig.getInt("precheckSigVerifyMaxBatchSize",
+				ApplicationConstants.PRECHECK_SIG_VERIFY_MAX_BATCH);
+
+		// properties for the gRPC worker pools
+		grpcTxnWorkers = appConfig.getInt("grpcTxnWorkers",
+				ApplicationConstants.GRPC_TXN_WORKERS);
+		grpcTxnQueueCapacity = appConfig.getInt("grpcTxnQueueCapacity",
+				ApplicationConstants.GRPC_TXN_QU_CAP);
+		grpcQueryWorkers = appConfig.getInt("grpcQueryWorkers",
+				ApplicationConstants.GRPC_QUERY_WORKERS);
+		grpcQueryQueueCapacity = appConfig.getInt("grpcQueryQueueCapacity",
+				ApplicationConstants.GRPC_QUERY_QU_CAP);
+		grpcExpensiveQueryWorkers = appConfig.getInt("grpcExpensiveQueryWorkers",
+				ApplicationConstants.GRPC_EXPENSIVE_QUERY_WORKERS);
+		grpcExpensiveQueryQueueCapacity = appConfig.getInt("grpcExpensiveQueryQueueCapacity",
+				ApplicationConstants.GRPC_EXPENSIVE_QUERY_QU_CAP);
+
+		// properties for the signing order cache
+		signingOrderCacheMaxSize = appConfig.getInt("signingOrderCacheMaxSize",
+				ApplicationConstants.SIGNING_ORDER_CACHE_MAX_SIZE);
+
+		// properties for the fee result cache
+		feeResultCacheMaxSize = appConfig.getInt("feeResultCacheMaxSize",
+				ApplicationConstants.FEE_RESULT_CACHE_MAX_SIZE);
+
+		// properties for the pre-handle txn accessor cache
+		txnAccessorCacheMaxSize = appConfig.getInt("txnAccessorCacheMaxSize",
+				ApplicationConstants.TXN_ACCESSOR_CACHE_MAX_SIZE);
+
+		// properties for batching ledger flushes within a consensus round
+		ledgerBatchingMaxTxnsPerFlush = appConfig.getInt("ledgerBatchingMaxTxnsPerFlush",
+				ApplicationConstants.LEDGER_BATCHING_MAX_TXNS_PER_FLUSH);
+
 		// properties for timers
 		startStatsDumpTimer = appConfig.getBoolean("startStatsDumpTimer",false);
 		statsDumpTimerValue = appConfig.getInt("statsDumpTimerValue",60);
@@ -225,6 +294,10 @@ public class AsyncPropertiesObject {
 		return recordStreamQueueCapacity;
 	}
 
+	static String getRecordStreamCompression() {
+		return recordStreamCompression;
+	}
+
 	static boolean isAccountBalanceExportEnabled() {
 		return accountBalanceExportEnabled;
 	}
@@ -237,6 +310,10 @@ public class AsyncPropertiesObject {
 		return accountBalanceExportPeriodMinutes;
 	}
 
+	static String getAccountBalanceExportFormats() {
+		return accountBalanceExportFormats;
+	}
+
 	static int getPort() {
 		return port;
 	}
@@ -304,4 +381,56 @@ public class AsyncPropertiesObject {
 	static int getStatsDumpTimerValue() {
 		return statsDumpTimerValue;
 	}
+
+	static int getPrecheckSigVerifyWorkers() {
+		return precheckSigVerifyWorkers;
+	}
+
+	static int getPrecheckSigVerifyQueueCapacity() {
+		return precheckSigVerifyQueueCapacity;
+	}
+
+	static int getPrecheckSigVerifyMaxBatchSize() {
+		return precheckSigVerifyMaxBatchSize;
+	}
+
+	static int getGrpcTxnWorkers() {
+		return grpcTxnWorkers;
+	}
+
+	static int getGrpcTxnQueueCapacity() {
+		return grpcTxnQueueCapacity;
+	}
+
+	static int getGrpcQueryWorkers() {
+		return grpcQueryWorkers;
+	}
+
+	static int getGrpcQueryQueueCapacity() {
+		return grpcQueryQueueCapacity;
+	}
+
+	static int getGrpcExpensiveQueryWorkers() {
+		return grpcExpensiveQueryWorkers;
+	}
+
+	static int getGrpcExpensiveQueryQueueCapacity() {
+		return grpcExpensiveQueryQueueCapacity;
+	}
+
+	static int getSigningOrderCacheMaxSize() {
+		return signingOrderCacheMaxSize;
+	}
+
+	static int getFeeResultCacheMaxSize() {
+		return feeResultCacheMaxSize;
+	}
+
+	static int getTxnAccessorCacheMaxSize() {
+		return txnAccessorCacheMaxSize;
+	}
+
+	static int getLedgerBatchingMaxTxnsPerFlush() {
+		return ledgerBatchingMaxTxnsPerFlush;
+	}
 }
@@ -31,6 +31,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 
+import static com.hedera.services.throttling.ThrottlingPropsBuilder.API_THROTTLING_PREFIX;
+import static java.util.stream.Collectors.toList;
+
 public class PropertiesLoader {
 	public static final Logger log = LogManager.getLogger(PropertiesLoader.class);
 
@@ -51,9 +54,23 @@ public class PropertiesLoader {
 		SyncPropertiesObject.loadSynchProperties(applicationProps);
 		AsyncPropertiesObject.loadAsynchProperties(applicationProps);
 		log.info("Application Properties Populated with these values :: " + applicationProps.getCustomProperties());
+		reportUnrecognized(applicationProps);
 		updateCallbacks.forEach(Runnable::run);
 	}
 
+	static void reportUnrecognized(CustomProperties props) {
+		var unknown = props.getUnreadNames().stream()
+				.filter(name -> !name.startsWith(API_THROTTLING_PREFIX))
+				.collect(toList());
+		if (!unknown.isEmpty()) {
+			log.warn("Ignoring unknown application properties (misspelled or obsolete?) :: {}", unknown);
+		}
+		var malformed = props.getMalformedNames();
+		if (!malformed.isEmpty()) {
+			log.warn("Using defaults for unparseable application properties :: {}", malformed);
+		}
+	}
+
 	public static void populateAPIPropertiesWithProto(ServicesConfigurationList serviceConfigList) {
 		Properties properties = new Properties();
 		serviceConfigList.getNameValueList().forEach(setting -> {
@@ -176,6 +193,10 @@ public class PropertiesLoader {
 		return AsyncPropertiesObject.accountBalanceExportPeriodMinutes();
 	}
 
+	public static String getAccountBalanceExportFormats() {
+		return AsyncPropertiesObject.getAccountBalanceExportFormats();
+	}
+
 	public static long getDefaultContractSenderThreshold() {
 		return SyncPropertiesObject.getDefaultContractSenderThreshold();
 	}
@@ -192,6 +213,10 @@ public class PropertiesLoader {
 		return AsyncPropertiesObject.getRecordStreamQueueCapacity();
 	}
 
+	public static String getRecordStreamCompression() {
+		return AsyncPropertiesObject.getRecordStreamCompression();
+	}
+
 	public static long getConfigAccountNum() {
 		return SyncPropertiesObject.getConfigAccountNum();
 	}
@@ -314,4 +339,56 @@ public class PropertiesLoader {
 	public static int getStatsDumpTimerValue() {
 		return AsyncPropertiesObject.getStatsDumpTimerValue();
 	}
+
+	public static int getPrecheckSigVerifyWorkers() {
+		return AsyncPropertiesObject.getPrecheckSigVerifyWorkers();
+	}
+
+	public static int getPrecheckSigVerifyQueueCapacity() {
+		return AsyncPropertiesObject.getPrecheckSigVerifyQueueCapacity();
+	}
+
+	public static int getPrecheckSigVerifyMaxBatchSize() {
+		return AsyncPropertiesObject.getPrecheckSigVerifyMaxBatchSize();
+	}
+
+	public static int getGrpcTxnWorkers() {
+		return AsyncPropertiesObject.getGrpcTxnWorkers();
+	}
+
+	public static int getGrpcTxnQueueCapacity() {
+		return AsyncPropertiesObject.getGrpcTxnQueueCapacity();
+	}
+
+	public static int getGrpcQueryWorkers() {
+		return AsyncPropertiesObject.getGrpcQueryWorkers();
+	}
+
+	public static int getGrpcQueryQueueCapacity() {
+		return AsyncPropertiesObject.getGrpcQueryQueueCapacity();
+	}
+
+	public static int getGrpcExpensiveQueryWorkers() {
+		return AsyncPropertiesObject.getGrpcExpensiveQueryWorkers();
+	}
+
+	public static int getGrpcExpensiveQueryQueueCapacity() {
+		return AsyncPropertiesObject.getGrpcExpensiveQueryQueueCapacity();
+	}
+
+	public static int getSigningOrderCacheMaxSize() {
+		return AsyncPropertiesObject.getSigningOrderCacheMaxSize();
+	}
+
+	public static int getFeeResultCacheMaxSize() {
+		return AsyncPropertiesObject.getFeeResultCacheMaxSize();
+	}
+
+	public static int getTxnAccessorCacheMaxSize() {
+		return AsyncPropertiesObject.getTxnAccessorCacheMaxSize();
+	}
+
+	public static int getLedgerBatchingMaxTxnsPerFlush() {
+		return AsyncPropertiesObject.getLedgerBatchingMaxTxnsPerFlush();
+	}
 }
@@ -30,9 +30,9 @@ import com.hederahashgraph.api.proto.java.ContractID;
 public class JContractIDKey extends JKey {
 
 	private static final long serialVersionUID = 1L;
-	private long shardNum = 0; // the shard number (nonnegative)
-	private long realmNum = 0; // the realm number (nonnegative)
-	private long contractNum = 0; // a nonnegative number unique within its realm
+	private final long shardNum; // the shard number (nonnegative)
+	private final long realmNum; // the realm number (nonnegative)
+	private final long contractNum; // a nonnegative number unique within its realm
 
 	public JContractIDKey(ContractID contractID) {
 		super();
@@ -30,7 +30,7 @@ import com.hedera.services.utils.MiscUtils;
 public class JECDSA_384Key extends JKey {
 
 	private static final long serialVersionUID = 1L;
-	private byte[] ECDSA_384Key = null;
+	private final byte[] ECDSA_384Key;
 
 	public JECDSA_384Key(byte[] ECDSA_384Key) {
 		this.ECDSA_384Key = ECDSA_384Key;
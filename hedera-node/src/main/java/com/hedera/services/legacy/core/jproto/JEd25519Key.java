@@ -31,7 +31,7 @@ public class JEd25519Key extends JKey {
 
 	public static final int ED25519_BYTE_LENGTH = 32;
 	private static final long serialVersionUID = 1L;
-	private byte[] ed25519 = null;
+	private final byte[] ed25519;
 
 	public JEd25519Key(byte[] ed25519) {
 		this.ed25519 = ed25519;
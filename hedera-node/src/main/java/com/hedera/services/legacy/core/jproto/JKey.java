@@ -29,8 +29,6 @@ import com.hederahashgraph.api.proto.java.KeyList;
 import com.hederahashgraph.api.proto.java.ThresholdKey;
 import com.hedera.services.legacy.proto.utils.KeyExpansion;
 
-import java.io.ByteArrayInputStream;
-import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.Serializable;
 import java.util.ArrayList;
@@ -44,6 +42,10 @@ import org.apache.logging.log4j.Logger;
 /**
  * Maps to proto Key.
  *
+ * <p>A {@code JKey} is immutable once constructed, so key graphs may be shared freely
+ * (across accounts, topics, and fast copies) and need no deep clone. Each node
+ * remembers its proto {@link Key} form the first time it is mapped.
+ *
  * @author hua Created on 2018-11-02
  */
 public abstract class JKey implements Serializable, Cloneable {
@@ -51,6 +53,10 @@ public abstract class JKey implements Serializable, Cloneable {
 	private static final Logger log = LogManager.getLogger(JKey.class);
 	private static boolean USE_HEX_ENCODED_KEY = KeyExpansion.USE_HEX_ENCODED_KEY;
 
+	private transient volatile Key grpc;
+	/* Set only on the canonical instance of an interned key; see JKeyInterner. */
+	transient volatile Object internShape;
+
 	/**
 	 * Maps a proto Key to Jkey.
 	 *
@@ -59,7 +65,7 @@ public abstract class JKey implements Serializable, Cloneable {
 	 * @return the generated JKey instance
 	 */
 	public static JKey mapKey(Key key) throws DecoderException {
-		return convertKey(key, 1);
+		return JKeyInterner.intern(convertKey(key, 1));
 	}
 
 	/**
@@ -179,6 +185,16 @@ public abstract class JKey implements Serializable, Cloneable {
 	 * @return converted proto Key
 	 */
 	public static Key convertJKey(JKey jkey, int depth) throws Exception {
+		Key cached = jkey.grpc;
+		if (cached != null) {
+			return cached;
+		}
+		Key result = uncachedConvertJKey(jkey, depth);
+		jkey.grpc = result;
+		return result;
+	}
+
+	private static Key uncachedConvertJKey(JKey jkey, int depth) throws Exception {
 		if (depth > KeyExpansion.KEY_EXPANSION_DEPTH) {
 			log.debug("Exceeding max expansion depth of " + KeyExpansion.KEY_EXPANSION_DEPTH);
 		}
@@ -293,17 +309,13 @@ public abstract class JKey implements Serializable, Cloneable {
 		return null;
 	}
 
+	/**
+	 * Returns this key; since a {@code JKey} is immutable, a copy can share it.
+	 *
+	 * @return this key
+	 */
 	@Override
 	public JKey clone() {
-		try {
-			var buf = serialize();
-			try (var bs = new ByteArrayInputStream(buf)) {
-				try (var is = new DataInputStream(bs)) {
-					return JKeySerializer.deserialize(is);
-				}
-			}
-		} catch (IOException ex) {
-			throw new IllegalArgumentException(ex);
-		}
+		return this;
 	}
 }
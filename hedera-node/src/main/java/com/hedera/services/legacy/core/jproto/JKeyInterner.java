@@ -0,0 +1,183 @@
+package com.hedera.services.legacy.core.jproto;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Interns Ed25519 keys, and the key lists and threshold keys built from them, so that
+ * accounts (and topics) with identical keys share a single immutable key graph.
+ *
+ * <p>An Ed25519 key is looked up by its raw bytes; a composite key is looked up by its
+ * threshold and the <i>identities</i> of its (already interned) children, so no proto
+ * form is ever built to intern a key. The table holds each canonical key only weakly,
+ * and its entries are keyed by a shape referenced only from the canonical key itself;
+ * so an entry lives exactly as long as some state still references its key. Keys of
+ * any other type, and composites containing them, are never interned.
+ *
+ * @author Michael Tinker
+ */
+public final class JKeyInterner {
+	private static final Map<Object, WeakReference<JKey>> interned = new WeakHashMap<>();
+
+	private JKeyInterner() {
+		throw new IllegalStateException();
+	}
+
+	/**
+	 * Returns the canonical key with the same structure as the given key, making
+	 * the given key (or a copy of it with canonical children) canonical if there is none.
+	 *
+	 * @param key the key to intern
+	 * @return the canonical equivalent key
+	 */
+	public static JKey intern(JKey key) {
+		if (key == null || key.internShape != null) {
+			return key;
+		}
+		if (key.getClass() == JEd25519Key.class) {
+			return canonical(key, new Ed25519Shape(key.getEd25519()));
+		} else if (key.getClass() == JKeyList.class) {
+			var keys = key.getKeyList().getKeysList();
+			var children = internedOrNull(keys);
+			if (children == null) {
+				return key;
+			}
+			return canonical(sameAll(keys, children) ? key : new JKeyList(children), new CompositeShape(JKeyList.class, 0, children));
+		} else if (key.getClass() == JThresholdKey.class) {
+			var keys = key.getThresholdKey().getKeys();
+			var list = intern(keys);
+			if (list == null || list.internShape == null) {
+				return key;
+			}
+			int threshold = key.getThresholdKey().getThreshold();
+			return canonical(
+					(list == keys) ? key : new JThresholdKey((JKeyList) list, threshold),
+					new CompositeShape(JThresholdKey.class, threshold, List.of(list)));
+		}
+		return key;
+	}
+
+	private static JKey canonical(JKey key, Object shape) {
+		synchronized (interned) {
+			var ref = interned.get(shape);
+			var canonical = (ref == null) ? null : ref.get();
+			if (canonical != null) {
+				return canonical;
+			}
+			/* A WeakHashMap keeps the old (unreachable) key on replacement, so remove it first. */
+			interned.remove(shape);
+			key.internShape = shape;
+			interned.put(shape, new WeakReference<>(key));
+			return key;
+		}
+	}
+
+	private static List<JKey> internedOrNull(List<JKey> keys) {
+		if (keys == null) {
+			return null;
+		}
+		List<JKey> children = new ArrayList<>(keys.size());
+		for (JKey child : keys) {
+			var canonical = intern(child);
+			if (canonical == null || canonical.internShape == null) {
+				return null;
+			}
+			children.add(canonical);
+		}
+		return children;
+	}
+
+	private static boolean sameAll(List<JKey> a, List<JKey> b) {
+		for (int i = 0, n = a.size(); i < n; i++) {
+			if (a.get(i) != b.get(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	static int size() {
+		synchronized (interned) {
+			return interned.size();
+		}
+	}
+
+	private static final class Ed25519Shape {
+		private final byte[] bytes;
+		private final int hash;
+
+		private Ed25519Shape(byte[] bytes) {
+			this.bytes = bytes;
+			this.hash = Arrays.hashCode(bytes);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof Ed25519Shape && Arrays.equals(bytes, ((Ed25519Shape) o).bytes);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+
+	private static final class CompositeShape {
+		private final Class<? extends JKey> type;
+		private final int threshold;
+		private final List<JKey> children;
+		private final int hash;
+
+		private CompositeShape(Class<? extends JKey> type, int threshold, List<JKey> children) {
+			this.type = type;
+			this.threshold = threshold;
+			this.children = children;
+			int h = 31 * type.hashCode() + threshold;
+			for (JKey child : children) {
+				h = 31 * h + System.identityHashCode(child);
+			}
+			this.hash = h;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (!(o instanceof CompositeShape)) {
+				return false;
+			}
+			var that = (CompositeShape) o;
+			return type == that.type
+					&& threshold == that.threshold
+					&& children.size() == that.children.size()
+					&& sameAll(children, that.children);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+}
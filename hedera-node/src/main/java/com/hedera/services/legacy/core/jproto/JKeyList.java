@@ -20,7 +20,8 @@ package com.hedera.services.legacy.core.jproto;
  * ‍
  */
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -31,14 +32,14 @@ import java.util.List;
 public class JKeyList extends JKey {
 
 	private static final long serialVersionUID = 1L;
-	private List<JKey> keys = null;
+	private final List<JKey> keys;
 
 	public JKeyList() {
-		this.keys = new LinkedList<JKey>();
+		this.keys = Collections.emptyList();
 	}
 
 	public JKeyList(List<JKey> keys) {
-		this.keys = keys;
+		this.keys = (keys == null) ? null : Collections.unmodifiableList(new ArrayList<>(keys));
 	}
 
 	@Override
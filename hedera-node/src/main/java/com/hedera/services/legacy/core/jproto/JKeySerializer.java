@@ -74,7 +74,17 @@ public class JKeySerializer {
     });
   }
 
+  /**
+   * Reads a key from the given stream; every key node read is interned via
+   * {@link JKeyInterner}, so identical key graphs deserialize to shared instances.
+   */
+  @SuppressWarnings("unchecked")
   public static <T> T deserialize(DataInputStream stream) throws IOException {
+    T result = uninternedDeserialize(stream);
+    return (result instanceof JKey) ? (T) JKeyInterner.intern((JKey) result) : result;
+  }
+
+  private static <T> T uninternedDeserialize(DataInputStream stream) throws IOException {
     long version = stream.readLong();
     long objectType = stream.readLong();
     long length = stream.readLong();
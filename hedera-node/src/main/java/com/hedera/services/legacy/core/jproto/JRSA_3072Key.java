@@ -30,7 +30,7 @@ import com.hedera.services.utils.MiscUtils;
 public class JRSA_3072Key extends JKey {
 
 	private static final long serialVersionUID = 1L;
-	private byte[] RSA_3072Key = null;
+	private final byte[] RSA_3072Key;
 
 	public JRSA_3072Key(byte[] RSA_3072Key) {
 		this.RSA_3072Key = RSA_3072Key;
@@ -28,8 +28,8 @@ package com.hedera.services.legacy.core.jproto;
 public class JThresholdKey extends JKey {
 
 	private static final long serialVersionUID = 1L;
-	int threshold = 0;
-	private JKeyList keys = null;
+	private final int threshold;
+	private final JKeyList keys;
 
 	public JThresholdKey(JKeyList keys, int threshold) {
 		this.keys = keys;
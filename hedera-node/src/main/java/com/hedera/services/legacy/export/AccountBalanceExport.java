@@ -19,9 +19,7 @@ package com.hedera.services.legacy.export;
  * limitations under the License.
  * ‍
  */
-
 import com.hedera.services.ServicesState;
-import com.hedera.services.state.exports.AccountBalance;
 import com.hedera.services.state.merkle.MerkleEntityId;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.legacy.exception.InvalidTotalAccountBalanceException;
@@ -31,31 +29,43 @@ import com.swirlds.common.Address;
 import com.swirlds.common.AddressBook;
 import com.swirlds.common.Platform;
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
 
 import com.swirlds.fcmap.FCMap;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import static com.hedera.services.utils.EntityIdUtils.readableId;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.stream.Collectors.toList;
 
 public class AccountBalanceExport {
   
   static final Logger log = LogManager.getLogger(AccountBalanceExport.class);
   static final String lineSperator = "line.separator";
 
+  /* Accounts formatted per parallel task; formatted chunks are written (and hashed) in order. */
+  static final int ACCOUNTS_PER_CHUNK = 16_384;
+  /* One length byte plus four varints of at most ten bytes each. */
+  private static final int MAX_BINARY_ENTRY_LEN = 1 + 4 * 10;
+
   private Instant previousTimestamp = null;
 
   private long exportPeriodSec;
@@ -63,15 +73,19 @@ public class AccountBalanceExport {
   private String accountBalanceExportDir;
 
   private HashMap<String, Long> nodeAccounts;
+  /* Only accounts numbered at most this can be node accounts, so others skip the lookup. */
+  private long maxNodeNum;
 
   private Long nodeAccountBalanceValidity;
   private long initialGenesisCoins;
+  private Set<BalanceFileFormat> formats;
 
   public AccountBalanceExport(AddressBook addressBook) {
     exportPeriodSec = PropertiesLoader.accountBalanceExportPeriodMinutes() * 60;
     accountBalanceExportDir = PropertiesLoader.getAccountBalanceExportDir();
     nodeAccountBalanceValidity = PropertiesLoader.getNodeAccountBalanceValidity();
     initialGenesisCoins = PropertiesLoader.getInitialGenesisCoins();
+    formats = BalanceFileFormat.allFrom(PropertiesLoader.getAccountBalanceExportFormats());
 
     nodeAccounts = new HashMap<>();
     for (long i = 0; i < addressBook.getSize(); i++) {
@@ -79,6 +93,7 @@ public class AccountBalanceExport {
       //memo contains the node accountID string
       nodeAccounts.put(address.getMemo(), i);
     }
+    maxNodeNum = maxNumIn(nodeAccounts);
   }
 
   /**
@@ -91,8 +106,22 @@ public class AccountBalanceExport {
     exportPeriodSec = accountBalanceExportPeriodMinutes * 60;
     accountBalanceExportDir = PropertiesLoader.getAccountBalanceExportDir();
     this.nodeAccounts = nodeAccounts;
+    maxNodeNum = maxNumIn(nodeAccounts);
     this.nodeAccountBalanceValidity = nodeAccountBalanceValidity;
     initialGenesisCoins = PropertiesLoader.getInitialGenesisCoins();
+    formats = BalanceFileFormat.allFrom(PropertiesLoader.getAccountBalanceExportFormats());
+  }
+
+  private static long maxNumIn(Map<String, Long> nodeAccounts) {
+    long max = -1L;
+    for (String literal : nodeAccounts.keySet()) {
+      try {
+        max = Math.max(max, Long.parseLong(literal.substring(literal.lastIndexOf('.') + 1)));
+      } catch (NumberFormatException unparseable) {
+        return Long.MAX_VALUE;
+      }
+    }
+    return max;
   }
 
   /**
@@ -118,44 +147,40 @@ public class AccountBalanceExport {
    * This method is invoked during start up and executed based upon the configuration settings. It exports all the existing accounts balance and write it in a file
    */
   public String exportAccountsBalanceCSVFormat(ServicesState servicesState, Instant consensusTimestamp) throws InvalidTotalAccountBalanceException {
-    // get the export path from Properties
-    log.debug("exportAccountsBalanceCSVFormat called. {}", consensusTimestamp);
-    FCMap<MerkleEntityId, MerkleAccount> accountMap = servicesState.accounts();
-    String nodeAccountID = readableId(servicesState.getNodeAccountId());
-
-    if (!accountBalanceExportDir.endsWith(File.separator)) {
-      accountBalanceExportDir += File.separator;
-    }
+    Pair<String, byte[]> exported = export(snapshotOf(servicesState, consensusTimestamp), BalanceFileFormat.CSV);
+    return (exported == null) ? null : exported.getLeft();
+  }
 
-    String dir = accountBalanceExportDir + "balance" + nodeAccountID + File.separator;
-    try {
-      Files.createDirectories(Paths.get(dir));
-    } catch (IOException e) {
-      log.error("{} doesn't exist and cannot be created", dir);
-      throw new IllegalStateException(e);
-    }
-    String fileName =  dir + consensusTimestamp + "_Balances.csv";
-    fileName = fileName.replace(":", "_");
-    List<AccountBalance> acctObjList = new ArrayList<>();
-    AccountBalance exAccObj;
+  /**
+   * Copies the balances of all accounts in the given (immutable) signed state into a
+   * {@link BalanceSnapshot} ordered by account number, warning about node accounts with
+   * insufficient balance and validating the total balance along the way.
+   *
+   * @param servicesState the signed state
+   * @param consensusTimestamp its consensus time
+   * @return the ordered balances
+   * @throws InvalidTotalAccountBalanceException if the balances do not sum to the initial supply
+   */
+  public BalanceSnapshot snapshotOf(ServicesState servicesState, Instant consensusTimestamp) throws InvalidTotalAccountBalanceException {
+    log.debug("snapshotOf called. {}", consensusTimestamp);
+    FCMap<MerkleEntityId, MerkleAccount> accountMap = servicesState.accounts();
     if(log.isDebugEnabled()){
       log.debug("Size of accountMap :: {}", accountMap.size());
     }
+    BalanceSnapshot snapshot = new BalanceSnapshot(
+            readableId(servicesState.getNodeAccountId()), consensusTimestamp, accountMap.size());
     long totalBalance = 0L;
 
     for (Map.Entry<MerkleEntityId, MerkleAccount> item : accountMap.entrySet()) {
       MerkleEntityId currKey = item.getKey();
-      MerkleAccount currMv = item.getValue();
-      totalBalance += currMv.getBalance();
-      exAccObj = new AccountBalance(
-              currKey.getShard(), currKey.getRealm(), currKey.getNum(), currMv.getBalance());
-      acctObjList.add(exAccObj);
+      long balance = item.getValue().getBalance();
+      totalBalance += balance;
+      snapshot.add(currKey.getShard(), currKey.getRealm(), currKey.getNum(), balance);
       //check if the account is a node account
-      long nodeId = nodeAccounts.getOrDefault(currKey.toAbbrevString(), -1l);
-      if (nodeId != -1l) {
+      if (currKey.getNum() <= maxNodeNum) {
+        long nodeId = nodeAccounts.getOrDefault(currKey.toAbbrevString(), -1l);
         //check if its balance is less than nodeAccountBalanceValidity
-        long balance = currMv.getBalance();
-        if (balance < nodeAccountBalanceValidity) {
+        if (nodeId != -1l && balance < nodeAccountBalanceValidity) {
           log.warn("Node {} ({}) has insufficient balance {}!", nodeId, currKey.toAbbrevString(), balance);
         }
       }
@@ -165,37 +190,142 @@ public class AccountBalanceExport {
       String  errorMessage = "Total balance " + totalBalance + " is different from " + initialGenesisCoins;
       throw new InvalidTotalAccountBalanceException(errorMessage);
     }
-    Collections.sort(acctObjList);
-    try (FileWriter file = new FileWriter(fileName)) {
-      file.write("TimeStamp:");
-      file.write(consensusTimestamp.toString());
-      file.write(System.getProperty(lineSperator));
-      file.write("shardNum,realmNum,accountNum,balance");
-      file.write(System.getProperty(lineSperator));
-      for (AccountBalance exAcctObj : acctObjList) {
-        file.write(getAccountData(exAcctObj));
+    snapshot.sortByNum();
+    return snapshot;
+  }
+
+  /**
+   * Writes and signs a balance file for the given snapshot in each configured format.
+   *
+   * @param platform the platform to sign with
+   * @param snapshot the balances to export
+   */
+  public void exportAndSign(Platform platform, BalanceSnapshot snapshot) {
+    for (BalanceFileFormat format : formats) {
+      Pair<String, byte[]> exported = export(snapshot, format);
+      if (exported != null) {
+        signAccountBalanceFile(platform, exported.getLeft(), exported.getRight());
       }
+    }
+  }
+
+  /**
+   * Writes the given snapshot to a balance file in the given format, hashing the file
+   * as it is written. Accounts are formatted in parallel chunks, which are written in order.
+   *
+   * @param snapshot the balances to export
+   * @param format the format to use
+   * @return the name and SHA-384 hash of the file, or null if it could not be written
+   */
+  public Pair<String, byte[]> export(BalanceSnapshot snapshot, BalanceFileFormat format) {
+    if (!accountBalanceExportDir.endsWith(File.separator)) {
+      accountBalanceExportDir += File.separator;
+    }
+
+    String dir = accountBalanceExportDir + "balance" + snapshot.nodeAccountId + File.separator;
+    try {
+      Files.createDirectories(Paths.get(dir));
+    } catch (IOException e) {
+      log.error("{} doesn't exist and cannot be created", dir);
+      throw new IllegalStateException(e);
+    }
+    String fileName =  dir + snapshot.consensusTime + format.fileSuffix();
+    fileName = fileName.replace(":", "_");
+
+    try (FileChannel file = FileChannel.open(Paths.get(fileName), CREATE, TRUNCATE_EXISTING, WRITE)) {
+      MessageDigest md = MessageDigest.getInstance("SHA-384");
+      if (format == BalanceFileFormat.CSV) {
+        String lineSeparator = System.getProperty(lineSperator);
+        writeHashing(file, md, ByteBuffer.wrap(("TimeStamp:" + snapshot.consensusTime + lineSeparator
+                + "shardNum,realmNum,accountNum,balance" + lineSeparator).getBytes(US_ASCII)));
+        writeChunked(file, md, snapshot.size(), chunk -> csvChunk(snapshot, chunk, lineSeparator));
+      } else {
+        writeHashing(file, md, ByteBuffer.allocate(4 + 8 + 4 + 4)
+                .putInt(BalanceFileFormat.BINARY_FORMAT_VERSION)
+                .putLong(snapshot.consensusTime.getEpochSecond())
+                .putInt(snapshot.consensusTime.getNano())
+                .putInt(snapshot.size())
+                .flip());
+        writeChunked(file, md, snapshot.size(), chunk -> binaryChunk(snapshot, chunk));
+      }
+      file.force(true);
       if(log.isDebugEnabled()){
         log.debug("periodic export of account data completed :: {}", fileName);
       }
-    } catch (IOException e) {
+      return Pair.of(fileName, md.digest());
+    } catch (IOException | NoSuchAlgorithmException e) {
       log.error("Exception occurred while Exporting Accounts to File.. continuing without saving!! {}", e.getMessage());
-      fileName = null;
+      return null;
+    }
+  }
+
+  private static void writeChunked(
+          FileChannel file,
+          MessageDigest md,
+          int numAccounts,
+          IntFunction<ByteBuffer> chunkFormatter
+  ) throws IOException {
+    int numChunks = (numAccounts + ACCOUNTS_PER_CHUNK - 1) / ACCOUNTS_PER_CHUNK;
+    int window = Math.max(1, Runtime.getRuntime().availableProcessors());
+    for (int from = 0; from < numChunks; from += window) {
+      List<ByteBuffer> formatted = IntStream.range(from, Math.min(numChunks, from + window))
+              .parallel()
+              .mapToObj(chunkFormatter)
+              .collect(toList());
+      for (ByteBuffer chunk : formatted) {
+        writeHashing(file, md, chunk);
+      }
+    }
+  }
+
+  private static void writeHashing(FileChannel file, MessageDigest md, ByteBuffer bytes) throws IOException {
+    md.update(bytes.duplicate());
+    while (bytes.hasRemaining()) {
+      file.write(bytes);
     }
-    return fileName;
   }
 
   /**
-   * method to get single account data in csv format
-   * @param exportAcctObj
-   * @return
+   * method to get a chunk of account data in csv format
    */
-  private static String getAccountData(AccountBalance exportAcctObj) {
-    StringBuilder accountData = new StringBuilder();
-    accountData.append(exportAcctObj.getShard()).append(",").append(exportAcctObj.getRealm()).append(",")
-        .append(exportAcctObj.getNum()).append(",").append(exportAcctObj.getBalance())
-        .append(System.getProperty(lineSperator));
-    return accountData.toString();
+  static ByteBuffer csvChunk(BalanceSnapshot snapshot, int chunk, String lineSeparator) {
+    int from = chunk * ACCOUNTS_PER_CHUNK;
+    int to = Math.min(snapshot.size(), from + ACCOUNTS_PER_CHUNK);
+    StringBuilder accountData = new StringBuilder((to - from) * 32);
+    for (int i = from; i < to; i++) {
+      accountData.append(snapshot.shardAt(i)).append(",").append(snapshot.realmAt(i)).append(",")
+          .append(snapshot.numAt(i)).append(",").append(snapshot.balanceAt(i))
+          .append(lineSeparator);
+    }
+    return ByteBuffer.wrap(accountData.toString().getBytes(US_ASCII));
+  }
+
+  /**
+   * method to get a chunk of account data in the binary format
+   */
+  static ByteBuffer binaryChunk(BalanceSnapshot snapshot, int chunk) {
+    int from = chunk * ACCOUNTS_PER_CHUNK;
+    int to = Math.min(snapshot.size(), from + ACCOUNTS_PER_CHUNK);
+    byte[] data = new byte[(to - from) * MAX_BINARY_ENTRY_LEN];
+    int pos = 0;
+    for (int i = from; i < to; i++) {
+      int lenPos = pos++;
+      pos = putVarint(data, pos, snapshot.shardAt(i));
+      pos = putVarint(data, pos, snapshot.realmAt(i));
+      pos = putVarint(data, pos, snapshot.numAt(i));
+      pos = putVarint(data, pos, snapshot.balanceAt(i));
+      data[lenPos] = (byte)(pos - lenPos - 1);
+    }
+    return ByteBuffer.wrap(data, 0, pos);
+  }
+
+  private static int putVarint(byte[] data, int pos, long v) {
+    while ((v & ~0x7FL) != 0L) {
+      data[pos++] = (byte)((v & 0x7F) | 0x80);
+      v >>>= 7;
+    }
+    data[pos++] = (byte)v;
+    return pos;
   }
 
   /**
@@ -226,7 +356,10 @@ public class AccountBalanceExport {
   }
 
   public void signAccountBalanceFile(Platform platform, String balanceFileName) {
-    byte[] fileHash = getFileHash(balanceFileName);
+    signAccountBalanceFile(platform, balanceFileName, getFileHash(balanceFileName));
+  }
+
+  public void signAccountBalanceFile(Platform platform, String balanceFileName, byte[] fileHash) {
     //log.info("fileHash of {}: {}", balanceFileName, fileHash);
     byte[] signature = platform.sign(fileHash);
     //log.info("signature of {}: {}", balanceFileName, signature);
@@ -0,0 +1,83 @@
+package com.hedera.services.legacy.export;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * The formats in which account balances can be exported.
+ *
+ * <p>{@code CSV} is the legacy format read by mirror nodes: a timestamp line, a
+ * header line, and one {@code shard,realm,num,balance} line per account.
+ *
+ * <p>{@code BINARY} is a compact alternative. After a header of the format version
+ * (a 4-byte int), the consensus time (an 8-byte epoch second and a 4-byte nano
+ * adjustment) and the number of accounts (a 4-byte int), each account is one byte
+ * giving the length of its entry, followed by the shard, realm, number and balance
+ * as unsigned base-128 varints. All fixed-width ints are big-endian.
+ *
+ * @author Michael Tinker
+ */
+public enum BalanceFileFormat {
+	CSV("_Balances.csv"), BINARY("_Balances.bin");
+
+	private static final Logger log = LogManager.getLogger(BalanceFileFormat.class);
+
+	public static final int BINARY_FORMAT_VERSION = 1;
+
+	private final String fileSuffix;
+
+	BalanceFileFormat(String fileSuffix) {
+		this.fileSuffix = fileSuffix;
+	}
+
+	public String fileSuffix() {
+		return fileSuffix;
+	}
+
+	/**
+	 * Parses a comma-separated list of format names, ignoring (with a warning) any
+	 * it does not recognize; and defaulting to just {@code CSV} if none remain.
+	 *
+	 * @param csv the list to parse
+	 * @return the formats named
+	 */
+	public static Set<BalanceFileFormat> allFrom(String csv) {
+		Set<BalanceFileFormat> formats = EnumSet.noneOf(BalanceFileFormat.class);
+		if (csv != null) {
+			for (String name : csv.split(",")) {
+				try {
+					formats.add(valueOf(name.trim().toUpperCase()));
+				} catch (IllegalArgumentException unknown) {
+					log.warn("Ignoring unknown balance file format '{}'!", name);
+				}
+			}
+		}
+		if (formats.isEmpty()) {
+			formats.add(CSV);
+		}
+		return formats;
+	}
+}
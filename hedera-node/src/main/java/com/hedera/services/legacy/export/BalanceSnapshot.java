@@ -0,0 +1,138 @@
+package com.hedera.services.legacy.export;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * The balances of all accounts in a signed state, copied into primitive arrays so the
+ * state need not be retained while the balances are written; and ordered (stably)
+ * by account number, as in the exported files.
+ *
+ * @author Michael Tinker
+ */
+public final class BalanceSnapshot {
+	private static final int RADIX_BITS = 16;
+	private static final int RADIX = 1 << RADIX_BITS;
+
+	final String nodeAccountId;
+	final Instant consensusTime;
+
+	int size = 0;
+	long[] shards;
+	long[] realms;
+	long[] nums;
+	long[] balances;
+	int[] order;
+	private long minNum;
+
+	BalanceSnapshot(String nodeAccountId, Instant consensusTime, int expectedSize) {
+		this.nodeAccountId = nodeAccountId;
+		this.consensusTime = consensusTime;
+		int capacity = Math.max(1, expectedSize);
+		shards = new long[capacity];
+		realms = new long[capacity];
+		nums = new long[capacity];
+		balances = new long[capacity];
+	}
+
+	void add(long shard, long realm, long num, long balance) {
+		if (size == nums.length) {
+			int capacity = 2 * size;
+			shards = Arrays.copyOf(shards, capacity);
+			realms = Arrays.copyOf(realms, capacity);
+			nums = Arrays.copyOf(nums, capacity);
+			balances = Arrays.copyOf(balances, capacity);
+		}
+		shards[size] = shard;
+		realms[size] = realm;
+		nums[size] = num;
+		balances[size] = balance;
+		size++;
+	}
+
+	/**
+	 * Orders the snapshot by account number with a stable LSD radix sort of the
+	 * indices, skipping the high-order digits that no account number uses.
+	 */
+	void sortByNum() {
+		int[] from = new int[size];
+		for (int i = 0; i < size; i++) {
+			from[i] = i;
+		}
+		int[] to = new int[size];
+		minNum = Long.MAX_VALUE;
+		for (int i = 0; i < size; i++) {
+			minNum = Math.min(minNum, nums[i]);
+		}
+		long used = 0L;
+		for (int i = 0; i < size; i++) {
+			used |= key(i);
+		}
+		int[] counts = new int[RADIX + 1];
+		for (int shift = 0; shift < Long.SIZE && (used >>> shift) != 0L; shift += RADIX_BITS) {
+			Arrays.fill(counts, 0);
+			for (int i = 0; i < size; i++) {
+				counts[digit(from[i], shift) + 1]++;
+			}
+			for (int d = 0; d < RADIX; d++) {
+				counts[d + 1] += counts[d];
+			}
+			for (int i = 0; i < size; i++) {
+				to[counts[digit(from[i], shift)]++] = from[i];
+			}
+			int[] tmp = from;
+			from = to;
+			to = tmp;
+		}
+		order = from;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	long shardAt(int rank) {
+		return shards[order[rank]];
+	}
+
+	long realmAt(int rank) {
+		return realms[order[rank]];
+	}
+
+	long numAt(int rank) {
+		return nums[order[rank]];
+	}
+
+	long balanceAt(int rank) {
+		return balances[order[rank]];
+	}
+
+	private int digit(int i, int shift) {
+		return (int)((key(i) >>> shift) & (RADIX - 1));
+	}
+
+	/* Offset by the least number so unsigned digit order agrees with signed numeric order. */
+	private long key(int i) {
+		return nums[i] - minNum;
+	}
+}
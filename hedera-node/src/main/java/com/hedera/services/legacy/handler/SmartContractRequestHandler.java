@@ -36,6 +36,7 @@ import com.hedera.services.contracts.execution.SoliditySigsVerifier;
 import com.hedera.services.fees.HbarCentExchange;
 import com.hedera.services.fees.calculation.UsagePricesProvider;
 import com.hedera.services.files.store.FcBlobsBytesStore;
+import com.hedera.services.contracts.sources.PagedStorageMap;
 import com.hedera.services.ledger.HederaLedger;
 import com.hedera.services.ledger.accounts.HederaAccountCustomizer;
 import com.hedera.services.txns.validation.PureValidation;
@@ -94,7 +95,6 @@ import com.hedera.services.legacy.config.PropertiesLoader;
 
 import static com.hedera.services.contracts.execution.DomainUtils.fakeBlock;
 import static com.hedera.services.contracts.sources.AddressKeyedMapFactory.bytecodeMapFrom;
-import static com.hedera.services.contracts.sources.AddressKeyedMapFactory.storageMapFrom;
 import static com.hedera.services.utils.EntityIdUtils.asAccount;
 import static com.hedera.services.utils.EntityIdUtils.asSolidityAddressHex;
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.*;
@@ -161,7 +161,7 @@ public class SmartContractRequestHandler {
 		this.entityExpiries = entityExpiries;
 
 		var blobStore = new FcBlobsBytesStore(MerkleOptionalBlob::new, storage);
-		storageView = storageMapFrom(blobStore);
+		storageView = new PagedStorageMap(blobStore);
 		bytecodeView = bytecodeMapFrom(blobStore);
 	}
 
@@ -453,7 +453,7 @@ public class SmartContractRequestHandler {
 						.setRealmNum(contractCall.getContractID().getRealmNum())
 						.setShardNum(contractCall.getContractID().getShardNum()).build();
 		String receiverAccountEthAddress = asSolidityAddressHex(receiverAccount);
-		ResponseCodeEnum callResponseStatus = validateContractExistence(contractCall.getContractID());
+		ResponseCodeEnum callResponseStatus = consensusContractStatus(contractCall.getContractID());
 		if (callResponseStatus == ResponseCodeEnum.OK) {
 			BigInteger gas;
 			if (contractCall.getGas() <= PropertiesLoader.getMaxGasLimit()) {
@@ -609,7 +609,7 @@ public class SmartContractRequestHandler {
 		TransactionReceipt receipt;
 		ContractUpdateTransactionBody op = transaction.getContractUpdateInstance();
 		ContractID cid = op.getContractID();
-		ResponseCodeEnum validity = validateContractExistence(cid);
+		ResponseCodeEnum validity = consensusContractStatus(cid);
 		if (validity == OK) {
 			AccountID id = asAccount(cid);
 			try {
@@ -678,6 +678,25 @@ public class SmartContractRequestHandler {
 		return PureValidation.queryableContractStatus(cid, accounts.get());
 	}
 
+	/**
+	 * Checks if a contract with the given id exists as of the transaction being handled. Unlike
+	 * {@link #validateContractExistence(ContractID)}, which reads the accounts map for queries, this
+	 * reads through the ledger; so it sees any account changes the ledger has not yet flushed to the map.
+	 *
+	 * @param cid
+	 * @return CONTRACT_DELETED if deleted, INVALID_CONTRACT_ID if doesn't exist, OK otherwise
+	 */
+	private ResponseCodeEnum consensusContractStatus(ContractID cid) {
+		AccountID id = asAccount(cid);
+		if (!ledger.exists(id)) {
+			return INVALID_CONTRACT_ID;
+		} else if (ledger.isDeleted(id)) {
+			return CONTRACT_DELETED;
+		} else {
+			return ledger.isSmartContract(id) ? OK : INVALID_CONTRACT_ID;
+		}
+	}
+
 	/**
 	 * System account deletes any contract. This simply marks the contract as deleted.
 	 *
@@ -783,7 +802,7 @@ public class SmartContractRequestHandler {
 		ContractDeleteTransactionBody op = transaction.getContractDeleteInstance();
 
 		ContractID cid = op.getContractID();
-		ResponseCodeEnum validity = validateContractExistence(cid);
+		ResponseCodeEnum validity = consensusContractStatus(cid);
 		if (validity == ResponseCodeEnum.OK) {
 			AccountID beneficiary = Optional.ofNullable(getBeneficiary(op)).orElse(funding);
 			validity = validateContractDelete(op);
@@ -440,6 +440,29 @@ public class TransactionHandler {
   }
 
   public TxnValidityAndFeeReq validateTransactionPreConsensus(Transaction transaction, boolean isQueryPayment) {
+    SignedTxnAccessor accessor = null;
+    try {
+      accessor = new SignedTxnAccessor(transaction);
+    } catch (InvalidProtocolBufferException ignore) { }
+    return validatePreConsensus(transaction, accessor, isQueryPayment);
+  }
+
+  /**
+   * Validates a transaction already parsed by the caller, without parsing it again.
+   *
+   * @param accessor the parsed transaction
+   * @param isQueryPayment whether the transaction is a query payment
+   * @return the validity of the transaction and the fee it requires
+   */
+  public TxnValidityAndFeeReq validateTransactionPreConsensus(SignedTxnAccessor accessor, boolean isQueryPayment) {
+    return validatePreConsensus(accessor.getSignedTxn(), accessor, isQueryPayment);
+  }
+
+  private TxnValidityAndFeeReq validatePreConsensus(
+      Transaction transaction,
+      SignedTxnAccessor accessor,
+      boolean isQueryPayment
+  ) {
     if (platformStatus.get() != ACTIVE) {
       return new TxnValidityAndFeeReq(ResponseCodeEnum.PLATFORM_NOT_ACTIVE);
     }
@@ -459,12 +482,10 @@ public class TransactionHandler {
 
     ResponseCodeEnum returnCode = OK;
     long feeRequired = 0L;
-    SignedTxnAccessor accessor = null;
     TransactionBody txn = TransactionBody.getDefaultInstance();
-    try {
-      accessor = new SignedTxnAccessor(transaction);
+    if (accessor != null) {
       txn = accessor.getTxn();
-    } catch (InvalidProtocolBufferException e1) {
+    } else {
       returnCode = INVALID_TRANSACTION_BODY;
     }
 
@@ -501,7 +522,7 @@ public class TransactionHandler {
 
     if (returnCode == OK) {
       try {
-        if (!verifySignature(transaction)) {
+        if (!precheckVerifier.hasNecessarySignatures(accessor)) {
           returnCode = ResponseCodeEnum.INVALID_SIGNATURE;
         }
       } catch (KeySignatureTypeMismatchException e) {
@@ -586,15 +607,6 @@ public class TransactionHandler {
     return permissionStatus;
   }
 
-  public boolean verifySignature(Transaction signedTxn) throws Exception {
-    try {
-      SignedTxnAccessor accessor = new SignedTxnAccessor(signedTxn);
-      return precheckVerifier.hasNecessarySignatures(accessor);
-    } catch (InvalidProtocolBufferException ignore) {
-      return false;
-    }
-  }
-
   @SuppressWarnings("unchecked")
   public List<ExpirableTxnRecord> getAllTransactionRecordFCM(MerkleEntityId merkleEntityId) {
     try {
@@ -20,12 +20,14 @@ package com.hedera.services.legacy.initialization;
  * ‍
  */
 
+import com.hedera.services.state.initialization.AccountsScan;
 import com.hedera.services.state.merkle.MerkleEntityId;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.submerkle.EntityId;
 
 import java.io.FileWriter;
 import java.io.IOException;
+import java.util.stream.IntStream;
 
 import com.swirlds.fcmap.FCMap;
 import org.apache.commons.codec.binary.Hex;
@@ -35,47 +37,64 @@ import org.apache.logging.log4j.Logger;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
 
+import static java.util.stream.Collectors.toList;
+
 public class ExportExistingAccounts {
 	private static final Logger log = LogManager.getLogger(ExportExistingAccounts.class);
 
 	@SuppressWarnings("unchecked")
 	static JSONArray asJsonArray(FCMap<MerkleEntityId, MerkleAccount> accounts) {
 		JSONArray accountObjArr = new JSONArray();
+		for (MerkleEntityId currKey : accounts.keySet()) {
+			accountObjArr.add(asJsonObject(currKey, accounts.get(currKey)));
+		}
+		return accountObjArr;
+	}
+
+	@SuppressWarnings("unchecked")
+	static JSONArray asJsonArray(AccountsScan scan) {
+		var ids = scan.ids();
+		var accounts = scan.accounts();
+		JSONArray accountObjArr = new JSONArray();
+		accountObjArr.addAll(IntStream.range(0, scan.size())
+				.parallel()
+				.mapToObj(i -> asJsonObject(ids.get(i), accounts.get(i)))
+				.collect(toList()));
+		return accountObjArr;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static JSONObject asJsonObject(MerkleEntityId currKey, MerkleAccount mapValue) {
 		JSONObject cryptoAccount = null;
-		MerkleAccount mapValue;
 		EntityId proxyAccountID;
-		for (MerkleEntityId currKey : accounts.keySet()) {
-			try {
-				cryptoAccount = new JSONObject();
-				log.info("retrieving account info from path :: Solidity Address in getAccountDetails "
-						+ currKey.getNum());
-				mapValue = accounts.get(currKey);
-				cryptoAccount.put("initialBalance", mapValue.getBalance());
-				proxyAccountID = mapValue.getProxy();
-				if (proxyAccountID != null) {
-					cryptoAccount.put("proxyAccountNum", proxyAccountID.num());
-					cryptoAccount.put("proxyRealmNum", proxyAccountID.realm());
-					cryptoAccount.put("proxyShardNum", proxyAccountID.shard());
-				} else {
-					cryptoAccount.put("proxyAccountNum", 0);
-					cryptoAccount.put("proxyRealmNum", 0);
-					cryptoAccount.put("proxyShardNum", 0);
-				}
-				cryptoAccount.put("sendRecordThreshold", mapValue.getSenderThreshold());
-				cryptoAccount.put("receiveRecordThreshold", mapValue.getReceiverThreshold());
-				cryptoAccount.put("receiverSigRequired", mapValue.isReceiverSigRequired());
-				cryptoAccount.put("autoRenewPeriod", mapValue.getAutoRenewSecs());
-				cryptoAccount.put("shardID", currKey.getShard());
-				cryptoAccount.put("realmID", currKey.getRealm());
-				cryptoAccount.put("accountNum", currKey.getNum());
-				String key = Hex.encodeHexString(SerializationUtils.serialize(mapValue.getKey()));
-				cryptoAccount.put("key", key);
-			} catch (Exception e) {
-				log.error("Exception occurred while fetching Accounts from Account FCMap", e);
+		try {
+			cryptoAccount = new JSONObject();
+			log.info("retrieving account info from path :: Solidity Address in getAccountDetails "
+					+ currKey.getNum());
+			cryptoAccount.put("initialBalance", mapValue.getBalance());
+			proxyAccountID = mapValue.getProxy();
+			if (proxyAccountID != null) {
+				cryptoAccount.put("proxyAccountNum", proxyAccountID.num());
+				cryptoAccount.put("proxyRealmNum", proxyAccountID.realm());
+				cryptoAccount.put("proxyShardNum", proxyAccountID.shard());
+			} else {
+				cryptoAccount.put("proxyAccountNum", 0);
+				cryptoAccount.put("proxyRealmNum", 0);
+				cryptoAccount.put("proxyShardNum", 0);
 			}
-			accountObjArr.add(cryptoAccount);
+			cryptoAccount.put("sendRecordThreshold", mapValue.getSenderThreshold());
+			cryptoAccount.put("receiveRecordThreshold", mapValue.getReceiverThreshold());
+			cryptoAccount.put("receiverSigRequired", mapValue.isReceiverSigRequired());
+			cryptoAccount.put("autoRenewPeriod", mapValue.getAutoRenewSecs());
+			cryptoAccount.put("shardID", currKey.getShard());
+			cryptoAccount.put("realmID", currKey.getRealm());
+			cryptoAccount.put("accountNum", currKey.getNum());
+			String key = Hex.encodeHexString(SerializationUtils.serialize(mapValue.getKey()));
+			cryptoAccount.put("key", key);
+		} catch (Exception e) {
+			log.error("Exception occurred while fetching Accounts from Account FCMap", e);
 		}
-		return accountObjArr;
+		return cryptoAccount;
 	}
 
 	/**
@@ -84,7 +103,17 @@ public class ExportExistingAccounts {
 	 */
 	public static void exportAccounts(String exportAccountPath, FCMap<MerkleEntityId, MerkleAccount> accountMap)
 			throws IOException {
-		JSONArray accountList = asJsonArray(accountMap);
+		writeToFile(exportAccountPath, asJsonArray(accountMap));
+	}
+
+	/**
+	 * Exports the accounts found by a startup scan, building their JSON representations in parallel.
+	 */
+	public static void exportAccounts(String exportAccountPath, AccountsScan scan) throws IOException {
+		writeToFile(exportAccountPath, asJsonArray(scan));
+	}
+
+	private static void writeToFile(String exportAccountPath, JSONArray accountList) throws IOException {
 		try (FileWriter file = new FileWriter(exportAccountPath)) {
 			file.write(accountList.toJSONString());
 			log.info("Successfully Copied JSON Object to File");
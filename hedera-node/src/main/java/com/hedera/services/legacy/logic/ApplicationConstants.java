@@ -46,8 +46,23 @@ public class ApplicationConstants {
 	public static int RECORD_LOG_PERIOD = 2;
 	public static String RECORD_LOG_DIR = "data/recordstreams/";
 	public static int RECORD_STREAM_QU_CAP = 500;
+	public static String RECORD_STREAM_COMPRESSION = "NONE";
 	public static String ACCT_BAL_EXP_DIR = "data/accountBalances/";
 	public static int ACCOUNT_BALANCE_EXPORT_PERIOD_MINUTES = 10;
+	public static String ACCOUNT_BALANCE_EXPORT_FORMATS = "CSV";
+	public static int PRECHECK_SIG_VERIFY_WORKERS = 2;
+	public static int PRECHECK_SIG_VERIFY_QU_CAP = 1024;
+	public static int PRECHECK_SIG_VERIFY_MAX_BATCH = 64;
+	public static int GRPC_TXN_WORKERS = 8;
+	public static int GRPC_TXN_QU_CAP = 4096;
+	public static int GRPC_QUERY_WORKERS = 8;
+	public static int GRPC_QUERY_QU_CAP = 4096;
+	public static int GRPC_EXPENSIVE_QUERY_WORKERS = 2;
+	public static int GRPC_EXPENSIVE_QUERY_QU_CAP = 256;
+	public static int SIGNING_ORDER_CACHE_MAX_SIZE = 10_000;
+	public static int FEE_RESULT_CACHE_MAX_SIZE = 10_000;
+	public static int TXN_ACCESSOR_CACHE_MAX_SIZE = 10_000;
+	public static int LEDGER_BATCHING_MAX_TXNS_PER_FLUSH = 0;
 
 	public static int KEY_EXPANSION_DEPTH = 100;
 	// Tx record & receipt ttl setting in seconds
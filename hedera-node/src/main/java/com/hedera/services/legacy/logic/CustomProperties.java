@@ -25,6 +25,9 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -37,6 +40,8 @@ public class CustomProperties {
   private static final Logger log = LogManager.getLogger(CustomProperties.class);
 
   private final Properties customProperties;
+  private final Set<String> namesRead = ConcurrentHashMap.newKeySet();
+  private final Set<String> namesMalformed = ConcurrentHashMap.newKeySet();
 
   public CustomProperties(Properties customProperties) {
 	  this.customProperties = customProperties;
@@ -50,6 +55,7 @@ public class CustomProperties {
    */
   public String getString(String name, String defaultValue) {
     String rv = null;
+    namesRead.add(name);
     rv = customProperties.getProperty(name);
     if (rv == null) {
       rv = defaultValue;
@@ -65,9 +71,11 @@ public class CustomProperties {
    */
   public int getInt(String name, int defaultValue) {
     int rv = 0;
+    namesRead.add(name);
     try {
       rv = Integer.parseInt(customProperties.getProperty(name));
     } catch (Exception e) {
+      noteIfMalformed(name);
       rv = defaultValue;
     }
     return rv;
@@ -75,22 +83,28 @@ public class CustomProperties {
 
   public long getLong(String name, long defaultValue) {
     long rv = 0;
+    namesRead.add(name);
     try {
       rv = Long.parseLong(customProperties.getProperty(name));
     } catch (Exception e) {
+      noteIfMalformed(name);
       rv = defaultValue;
     }
     return rv;
   }
 
   public double getDouble(String name, double defaultValue) {
+    namesRead.add(name);
     try {
       return Double.parseDouble(customProperties.getProperty(name));
-    } catch (Exception ignore) {}
+    } catch (Exception ignore) {
+      noteIfMalformed(name);
+    }
     return defaultValue;
   }
 
   public boolean getBoolean(String name, boolean defaultValue) {
+    namesRead.add(name);
     String property = customProperties.getProperty(name);
     return null == property ? defaultValue : Boolean.parseBoolean(property);
   }
@@ -98,4 +112,28 @@ public class CustomProperties {
   public Properties getCustomProperties() {
     return customProperties;
   }
+
+  /**
+   * Returns the names of the given properties that have never been read (so are probably
+   * misspelled or obsolete), in sorted order.
+   */
+  public Set<String> getUnreadNames() {
+    var unread = new TreeSet<>(customProperties.stringPropertyNames());
+    unread.removeAll(namesRead);
+    return unread;
+  }
+
+  /**
+   * Returns the names of the given properties that were read, but could not be parsed
+   * (so were replaced by their defaults), in sorted order.
+   */
+  public Set<String> getMalformedNames() {
+    return new TreeSet<>(namesMalformed);
+  }
+
+  private void noteIfMalformed(String name) {
+    if (customProperties.getProperty(name) != null) {
+      namesMalformed.add(name);
+    }
+  }
 }
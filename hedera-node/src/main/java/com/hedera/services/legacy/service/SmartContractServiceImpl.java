@@ -28,6 +28,7 @@ import com.hedera.services.fees.HbarCentExchange;
 import com.hedera.services.fees.calculation.UsagePricesProvider;
 import com.hedera.services.legacy.handler.SmartContractRequestHandler;
 import com.hedera.services.txns.submission.PlatformSubmissionManager;
+import com.hedera.services.grpc.WorkerPools;
 import com.hedera.services.queries.answering.QueryResponseHelper;
 import com.hedera.services.queries.contract.ContractAnswers;
 import com.hederahashgraph.api.proto.java.ContractCallLocalQuery;
@@ -71,10 +72,13 @@ import org.apache.logging.log4j.Logger;
 
 import static com.hedera.services.context.ServicesNodeType.STAKED_NODE;
 import static com.hedera.services.context.ServicesNodeType.ZERO_STAKE_NODE;
+import static com.hedera.services.grpc.WorkerPools.Pool.EXPENSIVE_QUERIES;
+import static com.hedera.services.grpc.WorkerPools.Pool.TXNS;
 import static com.hedera.services.legacy.utils.TransactionValidationUtils.logAndConstructResponseWhenCreateTxFailed;
 import static com.hedera.services.utils.SignedTxnAccessor.uncheckedFrom;
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.ContractCallLocal;
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.ContractGetRecords;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.BUSY;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
 
 /**
@@ -100,6 +104,7 @@ public class SmartContractServiceImpl extends SmartContractServiceGrpc.SmartCont
   private PlatformSubmissionManager submissionManager;
   private ContractAnswers contractAnswers;
   private QueryResponseHelper queryHelper;
+  private WorkerPools workers;
 
   public SmartContractServiceImpl(
           TransactionHandler txHandler,
@@ -110,7 +115,8 @@ public class SmartContractServiceImpl extends SmartContractServiceGrpc.SmartCont
           ServicesNodeType nodeType,
           PlatformSubmissionManager submissionManager,
           ContractAnswers contractAnswers,
-          QueryResponseHelper queryHelper
+          QueryResponseHelper queryHelper,
+          WorkerPools workers
   ) {
     this.txHandler = txHandler;
     this.smartContractHandler = smartContractHandler;
@@ -121,6 +127,7 @@ public class SmartContractServiceImpl extends SmartContractServiceGrpc.SmartCont
     this.submissionManager = submissionManager;
     this.contractAnswers = contractAnswers;
     this.queryHelper = queryHelper;
+    this.workers = workers;
   }
 
   public long getContractCallLocalGasPriceInTinyBars(Timestamp at) {
@@ -141,6 +148,12 @@ public class SmartContractServiceImpl extends SmartContractServiceGrpc.SmartCont
   @Override
   public void contractCallLocalMethod(Query request, StreamObserver<Response> responseObserver) {
     hederaNodeStats.smartContractQueryReceived("contractCallLocalMethod");
+    if (!workers.tryRun(EXPENSIVE_QUERIES, () -> answerContractCallLocal(request, responseObserver))) {
+      TransactionValidationUtils.constructContractCallLocalErrorResponse(responseObserver, BUSY, 0);
+    }
+  }
+
+  private void answerContractCallLocal(Query request, StreamObserver<Response> responseObserver) {
 
     if (log.isDebugEnabled()) {
       log.debug("In contractCallLocalMethod :: request : " + TextFormat.shortDebugString(request));
@@ -365,6 +378,12 @@ public class SmartContractServiceImpl extends SmartContractServiceGrpc.SmartCont
   @Override
   public void getTxRecordByContractID(Query request, StreamObserver<Response> responseObserver) {
     hederaNodeStats.smartContractQueryReceived("getTxRecordByContractID");
+    if (!workers.tryRun(EXPENSIVE_QUERIES, () -> answerTxRecordByContractID(request, responseObserver))) {
+      TransactionValidationUtils.constructContractGetRecordsErrorResponse(responseObserver, BUSY, 0);
+    }
+  }
+
+  private void answerTxRecordByContractID(Query request, StreamObserver<Response> responseObserver) {
 
     boolean isStaked = (nodeType == STAKED_NODE);
 
@@ -496,6 +515,15 @@ public class SmartContractServiceImpl extends SmartContractServiceGrpc.SmartCont
       return;
     }
     hederaNodeStats.smartContractTransactionReceived(transactionRequest);
+    if (!workers.tryRun(TXNS, () -> submitSmartContractTransaction(request, responseObserver, transactionRequest))) {
+      transactionResponse(responseObserver, new TxnValidityAndFeeReq(BUSY));
+    }
+  }
+
+  private void submitSmartContractTransaction(
+          Transaction request,
+          StreamObserver<TransactionResponse> responseObserver, String transactionRequest
+  ) {
 
     TransactionBody transactionBody;
     TxnValidityAndFeeReq precheckResult;
@@ -615,6 +643,12 @@ public class SmartContractServiceImpl extends SmartContractServiceGrpc.SmartCont
   public void systemDelete(Transaction request,
       StreamObserver<TransactionResponse> responseObserver) {
     hederaNodeStats.smartContractTransactionReceived("smartContractSystemDelete");
+    if (!workers.tryRun(TXNS, () -> submitSystemDelete(request, responseObserver))) {
+      transactionResponse(responseObserver, new TxnValidityAndFeeReq(BUSY));
+    }
+  }
+
+  private void submitSystemDelete(Transaction request, StreamObserver<TransactionResponse> responseObserver) {
     TxnValidityAndFeeReq precheckResult = txHandler.validateTransactionPreConsensus(request, false);
     if (precheckResult.getValidity() != OK) {
       String errorMsg = "Pre-check validation failed. " + precheckResult;
@@ -652,6 +686,12 @@ public class SmartContractServiceImpl extends SmartContractServiceGrpc.SmartCont
   public void systemUndelete(Transaction request,
       StreamObserver<TransactionResponse> responseObserver) {
     hederaNodeStats.smartContractTransactionReceived("smartContractSystemUndelete");
+    if (!workers.tryRun(TXNS, () -> submitSystemUndelete(request, responseObserver))) {
+      transactionResponse(responseObserver, new TxnValidityAndFeeReq(BUSY));
+    }
+  }
+
+  private void submitSystemUndelete(Transaction request, StreamObserver<TransactionResponse> responseObserver) {
     TxnValidityAndFeeReq precheckResult = txHandler.validateTransactionPreConsensus(request, false);
     if (precheckResult.getValidity() != OK) {
       String errorMsg = "Pre-check validation failed. " + precheckResult;
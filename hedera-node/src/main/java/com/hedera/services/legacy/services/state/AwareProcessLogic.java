@@ -104,7 +104,7 @@ public class AwareProcessLogic implements ProcessLogic {
 	@Override
 	public void incorporateConsensusTxn(Transaction platformTxn, Instant consensusTime, long submittingMember) {
 		try {
-			PlatformTxnAccessor accessor = new PlatformTxnAccessor(platformTxn);
+			PlatformTxnAccessor accessor = ctx.txnAccessorCache().take(platformTxn);
 			if (!txnSanityChecks(accessor, consensusTime, submittingMember)) {
 				return;
 			}
@@ -168,7 +168,7 @@ public class AwareProcessLogic implements ProcessLogic {
 		ctx.recordsHistorian().purgeExpiredRecords();
 
 		if (ctx.issEventInfo().status() == ONGOING_ISS) {
-			var resetPeriod = ctx.properties().getIntProperty("iss.reset.periodSecs");
+			var resetPeriod = ctx.globalDynamicProperties().issResetPeriod();
 			var resetTime = ctx.issEventInfo().consensusTimeOfRecentAlert().get().plus(resetPeriod, SECONDS);
 			if (consensusTime.isAfter(resetTime)) {
 				ctx.issEventInfo().relax();
@@ -239,6 +239,7 @@ public class AwareProcessLogic implements ProcessLogic {
 				log.warn("Legacy process returned null record for {}!", accessor.getTxn());
 			}
 		}
+		ctx.signingOrderCache().invalidateTargetsOf(accessor.getTxn());
 
 		ctx.stats().transactionHandled(accessor.getTxn());
 	}
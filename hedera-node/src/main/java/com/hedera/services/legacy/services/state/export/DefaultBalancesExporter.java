@@ -26,23 +26,52 @@ import com.hedera.services.state.exports.BalancesExporter;
 import com.hedera.services.ServicesState;
 import com.swirlds.common.AddressBook;
 import com.swirlds.common.Platform;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
 import java.time.Instant;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+/**
+ * Exports account balances from signed states. The balances are copied out of the
+ * signed state (and their total validated) on the calling thread; the files are then
+ * written, hashed and signed on a dedicated background thread, so the signed state is
+ * not retained and the caller does not wait on file I/O.
+ */
 public class DefaultBalancesExporter implements BalancesExporter {
+	private static final Logger log = LogManager.getLogger(DefaultBalancesExporter.class);
+
+	static final String EXPORT_THREAD_NAME = "balances-export";
+
 	private final Platform platform;
 	private final AccountBalanceExport delegate;
+	private final ExecutorService exportExecutor;
 
 	public DefaultBalancesExporter(Platform platform, AddressBook addressBook) {
+		this(platform, new AccountBalanceExport(addressBook), Executors.newSingleThreadExecutor(task -> {
+			var thread = new Thread(task, EXPORT_THREAD_NAME);
+			thread.setDaemon(true);
+			return thread;
+		}));
+	}
+
+	DefaultBalancesExporter(Platform platform, AccountBalanceExport delegate, ExecutorService exportExecutor) {
 		this.platform = platform;
-		delegate = new AccountBalanceExport(addressBook);
+		this.delegate = delegate;
+		this.exportExecutor = exportExecutor;
 	}
 
 	@Override
 	public void toCsvFile(ServicesState signedState, Instant when) throws InvalidTotalAccountBalanceException {
-		String file = delegate.exportAccountsBalanceCSVFormat(signedState, when);
-		if (file != null) {
-			delegate.signAccountBalanceFile(platform, file);
-		}
+		var snapshot = delegate.snapshotOf(signedState, when);
+		exportExecutor.execute(() -> {
+			try {
+				delegate.exportAndSign(platform, snapshot);
+			} catch (Exception e) {
+				log.error("Unable to export balances as of {}!", when, e);
+			}
+		});
 	}
 
 	@Override
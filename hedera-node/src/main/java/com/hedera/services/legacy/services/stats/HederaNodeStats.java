@@ -20,6 +20,7 @@ package com.hedera.services.legacy.services.stats;
  * ‍
  */
 
+import com.hedera.services.grpc.WorkerPools;
 import com.hedera.services.grpc.controllers.ConsensusController;
 import com.hedera.services.grpc.controllers.CryptoController;
 import com.hedera.services.grpc.controllers.FileController;
@@ -32,6 +33,7 @@ import com.swirlds.platform.StatsRunningAverage;
 import com.swirlds.platform.StatsSpeedometer;
 
 import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -133,6 +135,15 @@ public class HederaNodeStats {
 	/** size of the queue from which we take records and write to RecordStream file */
 	private int recordStreamQueueSize = 0;
 
+	/** size of the queue of precheck signature verification requests */
+	private volatile int precheckSigVerifyQueueSize = 0;
+	private StatsRunningAverage avgPrecheckSigVerifyMs;
+	private StatsSpeedometer precheckSigVerifyOverflowPerSecond;
+	private StatsRunningAverage avgRecordPurgesPerTxn;
+	private StatsRunningAverage avgRecordPurgeMicrosPerTxn;
+	private Map<WorkerPools.Pool, StatsRunningAverage> avgGrpcQueueMs = new EnumMap<>(WorkerPools.Pool.class);
+	private Map<WorkerPools.Pool, StatsSpeedometer> grpcBusyPerSecond = new EnumMap<>(WorkerPools.Pool.class);
+
 	private void initializeOneCountStat(String request, String requestSuffix, String descriptionSuffix,
 			Platform platform) {
 		countStats.put(request + requestSuffix, new AtomicLong(0));
@@ -296,6 +307,81 @@ public class HederaNodeStats {
 				() -> getRecordStreamQueueSize())
 		);
 
+		platform.addAppStatEntry(new StatEntry(//
+				"app",//
+				"precheckSigVerifyQueueSize",//
+				"number of precheck signature verification requests waiting for a verifier thread",
+				"%d",//
+				null,//
+				null,//
+				null,//
+				() -> getPrecheckSigVerifyQueueSize())
+		);
+
+		avgPrecheckSigVerifyMs = new StatsRunningAverage(DEFAULT_HALF_LIFE);
+		platform.addAppStatEntry(new StatEntry(//
+				"app",//
+				"avgPrecheckSigVerifyMs",//
+				"average time in millis from queueing precheck signatures to their verification",
+				"%,13.6f",//
+				avgPrecheckSigVerifyMs,//
+				(h) -> {
+					avgPrecheckSigVerifyMs.reset(h);
+					return avgPrecheckSigVerifyMs;
+				},//
+				avgPrecheckSigVerifyMs::reset,//
+				() -> getAvgPrecheckSigVerifyMs())
+		);
+
+		precheckSigVerifyOverflowPerSecond = new StatsSpeedometer(DEFAULT_HALF_LIFE);
+		platform.addAppStatEntry(new StatEntry(//
+				"app",//
+				"precheckSigVerifyOverflow/sec",//
+				"number of precheck signature verifications per second done inline because the queue was full",
+				"%,13.6f",//
+				precheckSigVerifyOverflowPerSecond,//
+				(h) -> {
+					precheckSigVerifyOverflowPerSecond.reset(h);
+					return precheckSigVerifyOverflowPerSecond;
+				},//
+				precheckSigVerifyOverflowPerSecond::reset,//
+				() -> precheckSigVerifyOverflowPerSecond.getCyclesPerSecond())
+		);
+
+		avgRecordPurgesPerTxn = new StatsRunningAverage(DEFAULT_HALF_LIFE);
+		platform.addAppStatEntry(new StatEntry(//
+				"app",//
+				"avgRecordPurgesPerTxn",//
+				"average number of accounts whose expired records are purged per handled transaction",
+				"%,13.6f",//
+				avgRecordPurgesPerTxn,//
+				(h) -> {
+					avgRecordPurgesPerTxn.reset(h);
+					return avgRecordPurgesPerTxn;
+				},//
+				avgRecordPurgesPerTxn::reset,//
+				() -> getAvgRecordPurgesPerTxn())
+		);
+
+		avgRecordPurgeMicrosPerTxn = new StatsRunningAverage(DEFAULT_HALF_LIFE);
+		platform.addAppStatEntry(new StatEntry(//
+				"app",//
+				"avgRecordPurgeMicrosPerTxn",//
+				"average time in micros spent purging expired records per handled transaction",
+				"%,13.6f",//
+				avgRecordPurgeMicrosPerTxn,//
+				(h) -> {
+					avgRecordPurgeMicrosPerTxn.reset(h);
+					return avgRecordPurgeMicrosPerTxn;
+				},//
+				avgRecordPurgeMicrosPerTxn::reset,//
+				() -> getAvgRecordPurgeMicrosPerTxn())
+		);
+
+		for (WorkerPools.Pool pool : WorkerPools.Pool.values()) {
+			initializeGrpcPoolStats(pool, platform);
+		}
+
 		platformTxnNotCreatedPerSecond = new StatsSpeedometer(DEFAULT_HALF_LIFE);
 		platform.addAppStatEntry(new StatEntry(//
 				"app",//
@@ -322,6 +408,40 @@ public class HederaNodeStats {
 		updateStatsThread.start();
 	}
 
+	private void initializeGrpcPoolStats(WorkerPools.Pool pool, Platform platform) {
+		final StatsRunningAverage queueMs = new StatsRunningAverage(DEFAULT_HALF_LIFE);
+		avgGrpcQueueMs.put(pool, queueMs);
+		platform.addAppStatEntry(new StatEntry(//
+				"app",//
+				pool.statPrefix() + "AvgQueueMs",//
+				"average time in millis " + pool + " gRPC requests wait for a worker thread",
+				"%,13.6f",//
+				queueMs,//
+				(h) -> {
+					queueMs.reset(h);
+					return queueMs;
+				},//
+				queueMs::reset,//
+				() -> queueMs.getWeightedMean())
+		);
+
+		final StatsSpeedometer busy = new StatsSpeedometer(DEFAULT_HALF_LIFE);
+		grpcBusyPerSecond.put(pool, busy);
+		platform.addAppStatEntry(new StatEntry(//
+				"app",//
+				pool.statPrefix() + "Busy/sec",//
+				"number of " + pool + " gRPC requests per second answered BUSY because the queue was full",
+				"%,13.6f",//
+				busy,//
+				(h) -> {
+					busy.reset(h);
+					return busy;
+				},//
+				busy::reset,//
+				() -> busy.getCyclesPerSecond())
+		);
+	}
+
 	private void updateStats() {
 		while (true) {
 			try {
@@ -489,6 +609,39 @@ public class HederaNodeStats {
 		return recordStreamQueueSize;
 	}
 
+	public void updatePrecheckSigVerifyQueueSize(int size) {
+		precheckSigVerifyQueueSize = size;
+	}
+
+	public int getPrecheckSigVerifyQueueSize() {
+		return precheckSigVerifyQueueSize;
+	}
+
+	public void precheckSigsVerified(double waitMs) {
+		avgPrecheckSigVerifyMs.recordValue(waitMs);
+	}
+
+	public double getAvgPrecheckSigVerifyMs() {
+		return avgPrecheckSigVerifyMs.getWeightedMean();
+	}
+
+	public void precheckSigVerifyOverflowed() {
+		precheckSigVerifyOverflowPerSecond.update(1);
+	}
+
+	public void recordPurgeDone(int numPurged, double micros) {
+		avgRecordPurgesPerTxn.recordValue(numPurged);
+		avgRecordPurgeMicrosPerTxn.recordValue(micros);
+	}
+
+	public double getAvgRecordPurgesPerTxn() {
+		return avgRecordPurgesPerTxn.getWeightedMean();
+	}
+
+	public double getAvgRecordPurgeMicrosPerTxn() {
+		return avgRecordPurgeMicrosPerTxn.getWeightedMean();
+	}
+
 	public double getAvgHdlSubMsgSize() {
 		return avgHdlSubMsgSize.getWeightedMean();
 	}
@@ -497,6 +650,22 @@ public class HederaNodeStats {
 		platformTxnNotCreatedPerSecond.update(1);
 	}
 
+	public void grpcWorkDequeued(WorkerPools.Pool pool, double waitMs) {
+		avgGrpcQueueMs.get(pool).recordValue(waitMs);
+	}
+
+	public double getAvgGrpcQueueMs(WorkerPools.Pool pool) {
+		return avgGrpcQueueMs.get(pool).getWeightedMean();
+	}
+
+	public void grpcWorkRejected(WorkerPools.Pool pool) {
+		grpcBusyPerSecond.get(pool).update(1);
+	}
+
+	public double getGrpcBusyPerSecond(WorkerPools.Pool pool) {
+		return grpcBusyPerSecond.get(pool).getCyclesPerSecond();
+	}
+
 	public double getPlatformTxnNotCreatedPerSecond() {
 		return platformTxnNotCreatedPerSecond.getCyclesPerSecond();
 	}
@@ -23,6 +23,7 @@ package com.hedera.services.legacy.services.utils;
 import com.hedera.services.state.merkle.MerkleEntityId;
 import com.hedera.services.legacy.initialization.ExportExistingAccounts;
 import com.hedera.services.state.exports.AccountsExporter;
+import com.hedera.services.state.initialization.AccountsScan;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.swirlds.fcmap.FCMap;
 
@@ -31,4 +32,9 @@ public class DefaultAccountsExporter implements AccountsExporter {
 	public void toFile(FCMap<MerkleEntityId, MerkleAccount> accounts, String path) throws Exception {
 		ExportExistingAccounts.exportAccounts(path, accounts);
 	}
+
+	@Override
+	public void toFile(AccountsScan scan, String path) throws Exception {
+		ExportExistingAccounts.exportAccounts(path, scan);
+	}
 }
@@ -0,0 +1,156 @@
+package com.hedera.services.legacy.stream;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.zip.GZIPOutputStream;
+
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Writes the framed records of a single record stream file through a {@link FileChannel}
+ * in large chunks, updating the content digest with each chunk just before it is written
+ * (so the file's records are hashed exactly once, while still hot in the buffer).
+ *
+ * <p>Uncompressed files are staged in a direct buffer; gzip-framed files are staged in
+ * a heap buffer and deflated on the way to the channel.
+ *
+ * @author Michael Tinker
+ */
+class RecordFileWriter {
+	static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+
+	private static final int RECORD_PREFIX_LEN = 1 + 4;
+
+	private final ByteBuffer chunk;
+	private final MessageDigest contentDigest;
+	private final RecordStreamCompression compression;
+
+	private FileChannel channel;
+	private OutputStream deflater;
+
+	RecordFileWriter(RecordStreamCompression compression, int chunkSize, MessageDigest contentDigest) {
+		this.compression = compression;
+		this.contentDigest = contentDigest;
+		this.chunk = (compression == RecordStreamCompression.NONE)
+				? ByteBuffer.allocateDirect(chunkSize)
+				: ByteBuffer.allocate(chunkSize);
+	}
+
+	/**
+	 * Creates the given file and writes its (un-hashed) header.
+	 *
+	 * @param path the file to create, which must not exist
+	 * @param header the bytes preceding the records
+	 * @throws IOException if the file cannot be created or written
+	 */
+	void open(Path path, byte[] header) throws IOException {
+		channel = FileChannel.open(path, CREATE_NEW, WRITE);
+		if (compression == RecordStreamCompression.GZIP) {
+			deflater = new GZIPOutputStream(Channels.newOutputStream(channel), chunk.capacity());
+			deflater.write(header);
+		} else {
+			var buffer = ByteBuffer.wrap(header);
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+		}
+	}
+
+	boolean isOpen() {
+		return channel != null;
+	}
+
+	void append(SerializedRecord record) throws IOException {
+		if (chunk.remaining() < RECORD_PREFIX_LEN) {
+			flush();
+		}
+		chunk.put(RecordStream.TYPE_RECORD);
+		chunk.putInt(record.txnBytes.length);
+		put(record.txnBytes);
+		if (chunk.remaining() < 4) {
+			flush();
+		}
+		chunk.putInt(record.recordBytes.length);
+		put(record.recordBytes);
+	}
+
+	/**
+	 * Hashes and writes everything appended since the last flush.
+	 *
+	 * @throws IOException if the write fails
+	 */
+	void flush() throws IOException {
+		chunk.flip();
+		if (chunk.hasRemaining()) {
+			contentDigest.update(chunk.duplicate());
+			if (deflater != null) {
+				deflater.write(chunk.array(), 0, chunk.limit());
+			} else {
+				while (chunk.hasRemaining()) {
+					channel.write(chunk);
+				}
+			}
+		}
+		chunk.clear();
+	}
+
+	/**
+	 * Flushes any remaining records, finishes the compression frame if any, and forces
+	 * the file to storage before closing it.
+	 *
+	 * @throws IOException if any of these steps fails
+	 */
+	void close() throws IOException {
+		try {
+			flush();
+			if (deflater != null) {
+				deflater.flush();
+				((GZIPOutputStream)deflater).finish();
+			}
+			channel.force(true);
+		} finally {
+			channel.close();
+			channel = null;
+			deflater = null;
+			chunk.clear();
+		}
+	}
+
+	private void put(byte[] bytes) throws IOException {
+		int offset = 0;
+		while (offset < bytes.length) {
+			if (!chunk.hasRemaining()) {
+				flush();
+			}
+			int n = Math.min(chunk.remaining(), bytes.length - offset);
+			chunk.put(bytes, offset, n);
+			offset += n;
+		}
+	}
+}
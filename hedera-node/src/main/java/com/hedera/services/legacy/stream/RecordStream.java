@@ -21,6 +21,7 @@ package com.hedera.services.legacy.stream;
  */
 
 import com.google.common.primitives.Ints;
+import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.context.properties.PropertySource;
 import com.hedera.services.utils.EntityIdUtils;
 import com.hederahashgraph.api.proto.java.AccountID;
@@ -33,17 +34,17 @@ import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.apache.commons.lang3.tuple.Pair;
-import org.apache.commons.lang3.tuple.Triple;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import java.io.BufferedOutputStream;
 import java.io.DataInputStream;
-import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
@@ -51,9 +52,20 @@ import java.time.Instant;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Optional;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
 
+/**
+ * Streams each handled transaction and its record to signed record files, one file per
+ * {@code hedera.recordStream.logPeriod} seconds of consensus time.
+ *
+ * <p>The thread handling consensus transactions only serializes the transaction and
+ * record and offers the bytes to a {@link RecordStreamRing}, which blocks only when the
+ * writer has fallen a full ring and spill queue behind; this {@code Runnable} drains
+ * the ring on its own thread, framing records into a
+ * {@link RecordFileWriter} that hashes and writes them in large chunks. Files are in the
+ * v2 format, optionally gzip-framed per {@code hedera.recordStream.compression}.
+ */
 public class RecordStream implements Runnable {
 
 	/** use this for all logging, as controlled by the optional data/log4j2.xml file */
@@ -72,11 +84,11 @@ public class RecordStream implements Runnable {
 
 	private String logDirectory;
 	private String nodeAccountID;
-	private FileOutputStream stream = null;
-	private DataOutputStream dos = null;
 	private String fileName;
 	private File file;
-	private LinkedBlockingQueue<Triple<Transaction, TransactionRecord, Instant>> recordBuffer;
+	private RecordStreamRing recordBuffer;
+	private RecordFileWriter writer;
+	private RecordStreamCompression compression;
 	private Instant lastRecordConsensusTimeStamp = null;
 	private byte[] prevFileHash;
 	MessageDigest md;
@@ -86,21 +98,24 @@ public class RecordStream implements Runnable {
 	boolean inFreeze;
 	String recordStreamsDirectory;
 
-	private final PropertySource properties;
+	private final GlobalDynamicProperties dynamicProperties;
 
 	public RecordStream(
 			Platform platform,
 			HederaNodeStats stats,
 			AccountID nodeAccountID,
 			String directory,
-			PropertySource properties
+			PropertySource properties,
+			GlobalDynamicProperties dynamicProperties
 	) {
 		this.stats = stats;
 		this.platform = platform;
-		this.properties = properties;
+		this.dynamicProperties = dynamicProperties;
 		this.logDirectory = directory;
 		this.nodeAccountID = EntityIdUtils.asLiteralString(nodeAccountID);
-		this.recordBuffer = new LinkedBlockingQueue<>(PropertiesLoader.getRecordStreamQueueCapacity());
+		this.recordBuffer = new RecordStreamRing(Math.max(1, PropertiesLoader.getRecordStreamQueueCapacity()));
+		this.compression = RecordStreamCompression.from(
+				properties.getStringProperty("hedera.recordStream.compression"));
 
 		if (!directory.endsWith(File.separator)) {
 			directory += File.separator;
@@ -130,18 +145,23 @@ public class RecordStream implements Runnable {
 		} catch (NoSuchAlgorithmException e) {
 			log.error("Exception {}", ExceptionUtils.getStackTrace(e));
 		}
+		this.writer = new RecordFileWriter(compression, RecordFileWriter.DEFAULT_CHUNK_SIZE, mdForContent);
 		this.inFreeze = false;
 	}
 
+	/**
+	 * Serializes the given transaction and record, and hands them off to the writer thread.
+	 * Blocks only if the writer is a full ring and spill queue behind (even if interrupted,
+	 * since the record must not be lost); must only be called from the single thread
+	 * handling transactions.
+	 *
+	 * @param transaction the handled transaction
+	 * @param record its record
+	 * @param consensusTimeStamp its consensus time
+	 */
 	public void addRecord(Transaction transaction, TransactionRecord record, Instant consensusTimeStamp) {
-		if (recordBuffer != null) {
-			try {
-				recordBuffer.put(Triple.of(transaction, record, consensusTimeStamp));
-				stats.updateRecordStreamQueueSize(getRecordStreamQueueSize());
-			} catch (InterruptedException e) {
-				log.error(EXCEPTION, "thread interruption ignored in addRecord: {}", e);
-			}
-		}
+		recordBuffer.offer(new SerializedRecord(transaction.toByteArray(), record.toByteArray(), consensusTimeStamp));
+		stats.updateRecordStreamQueueSize(getRecordStreamQueueSize());
 	}
 
 	/**
@@ -155,13 +175,14 @@ public class RecordStream implements Runnable {
 
 	/** create a new file with time stamp as file name prefix */
 	private void createFile(Instant timestamp) {
-		if (stream == null) {
+		if (!writer.isOpen()) {
 			if (!logDirectory.endsWith(File.separator)) {
 				logDirectory += File.separator;
 			}
 
 			// replace ":" with "_" so that the file can also be created in Windows OS
-			fileName = recordStreamsDirectory + File.separator + timestamp.toString().replace(":", "_") + ".rcd";
+			fileName = recordStreamsDirectory + File.separator + timestamp.toString().replace(":", "_")
+					+ compression.fileExtension();
 			try {
 				file = new File(fileName);
 
@@ -170,31 +191,17 @@ public class RecordStream implements Runnable {
 					log.error("ERROR: Record file {} already exists ", fileName);
 					return;
 				} else {
-					stream = new FileOutputStream(file, false);
-					dos = new DataOutputStream(new BufferedOutputStream(stream));
+					byte[] header = ByteBuffer.allocate(4 + 4 + 1 + 48)
+							.putInt(RECORD_FORMAT_VERSION)
+							.putInt(HAPI_VERSION)
+							.put(TYPE_PREV_HASH)
+							.put(prevFileHash == null ? new byte[48] : prevFileHash)
+							.array();
+					writer.open(file.toPath(), header);
+					md.update(header);
 					if (log.isDebugEnabled()) {
 						log.debug("Record file {} created ", fileName);
 					}
-
-					dos.writeInt(RECORD_FORMAT_VERSION);
-					dos.writeInt(HAPI_VERSION);
-					dos.write(TYPE_PREV_HASH);
-
-					if (prevFileHash == null) {
-						dos.write(new byte[48]);
-					} else {
-						dos.write(prevFileHash);
-					}
-
-					md.update(Ints.toByteArray(RECORD_FORMAT_VERSION));
-					md.update(Ints.toByteArray(HAPI_VERSION));
-					md.update(TYPE_PREV_HASH);
-
-					if (prevFileHash == null) {
-						md.update(new byte[48]);
-					} else {
-						md.update(prevFileHash);
-					}
 				}
 
 			} catch (IOException e) {
@@ -206,7 +213,7 @@ public class RecordStream implements Runnable {
 	private void fileHashCheck(String fileName) {
 		byte[] array;
 		try {
-			array = Files.readAllBytes(Paths.get(fileName));
+			array = readUncompressed(Paths.get(fileName));
 			mdForContent.reset();
 			md.reset();
 
@@ -235,6 +242,15 @@ public class RecordStream implements Runnable {
 	}
 
 
+	private byte[] readUncompressed(Path path) throws IOException {
+		if (compression == RecordStreamCompression.NONE) {
+			return Files.readAllBytes(path);
+		}
+		try (InputStream in = new GZIPInputStream(Files.newInputStream(path))) {
+			return in.readAllBytes();
+		}
+	}
+
 	/**
 	 * Create a signature file for a RecordStream/AccountBalance file;
 	 * This signature file contains the Hash of the file to be signed, and a signature signed by the node's Key
@@ -266,14 +282,7 @@ public class RecordStream implements Runnable {
 
 	private void closeFile() {
 		try {
-			dos.flush();
-			stream.flush();
-
-			stream.getChannel().force(true);
-			stream.getFD().sync();
-
-			dos.close();
-			stream.close();
+			writer.close();
 
 			// Update the hash calculation to do h[i] = hash(p[i-1] || h[i-1] || hash(c[i-1])) where
 			// h[i] is the hash of the current file
@@ -298,16 +307,16 @@ public class RecordStream implements Runnable {
 			generateSigFile(fileName, signature, prevFileHash);
 
 			file = null;
-			stream = null;
-			dos = null;
 		} catch (IOException e) {
 			log.warn(EXCEPTION, "Exception in close file {}", e);
+			mdForContent.reset();
+			md.reset();
 		}
 	}
 
 
 	private void close() {
-		if (stream != null) {
+		if (writer.isOpen()) {
 			log.info("Start to close File {} at {}", fileName, Instant.now());
 			closeFile();
 			log.info("Finish closing File {} at {}", fileName, Instant.now());
@@ -323,19 +332,18 @@ public class RecordStream implements Runnable {
 
 		while (true) {
 			try {
-				// when the platform is in freeze period, and recordBuffer is empty, and stream is not null, which means the last record has been written into current RecordStream file, we should close and sign it.
-				if (inFreeze && recordBuffer.isEmpty() && stream != null) {
+				// when the platform is in freeze period, and recordBuffer is empty, and a file is open, which means the last record has been written into current RecordStream file, we should close and sign it.
+				if (inFreeze && recordBuffer.isEmpty() && writer.isOpen()) {
 					log.info("Finished writing the last record to file before restart.");
 					close();
 				}
 
-				Triple<Transaction, TransactionRecord, Instant> record = recordBuffer.poll(STREAM_DELAY,
-						TimeUnit.MILLISECONDS);
+				SerializedRecord record = recordBuffer.poll(STREAM_DELAY, TimeUnit.MILLISECONDS);
 				stats.updateRecordStreamQueueSize(getRecordStreamQueueSize());
 
-				long recordLogPeriod = properties.getLongProperty("hedera.recordStream.logPeriod");
+				long recordLogPeriod = dynamicProperties.recordStreamLogPeriod();
 				if (record != null) {
-					Instant currentCensusesTimeStamp = record.getRight();
+					Instant currentCensusesTimeStamp = record.consensusTime;
 
 					//check timestamp decide whether to create new file
 					if (lastRecordConsensusTimeStamp != null) {
@@ -348,34 +356,24 @@ public class RecordStream implements Runnable {
 							createFile(currentCensusesTimeStamp);
 						}
 
-					} else if (stream == null) {
+					} else if (!writer.isOpen()) {
 						createFile(currentCensusesTimeStamp);
 					} else {
 						//NoOp
 					}
 
-					dos.write(TYPE_RECORD);
-
-					// write to current file
-					byte[] rawBytes = record.getLeft().toByteArray();
-					dos.writeInt(rawBytes.length);
-					dos.write(rawBytes);
-
-					mdForContent.update(TYPE_RECORD);
-					mdForContent.update(Ints.toByteArray(rawBytes.length));
-					mdForContent.update(rawBytes);
-
-					rawBytes = record.getMiddle().toByteArray();
-					dos.writeInt(rawBytes.length);
-					dos.write(rawBytes);
-
-					mdForContent.update(Ints.toByteArray(rawBytes.length));
-					mdForContent.update(rawBytes);
-
-					dos.flush();
+					if (writer.isOpen()) {
+						writer.append(record);
+					} else {
+						log.error("No record file open, record at {} not written!", currentCensusesTimeStamp);
+					}
 
 					lastRecordConsensusTimeStamp = currentCensusesTimeStamp;
 				}
+				// write in large chunks under load, but promptly once caught up
+				if (recordBuffer.isEmpty() && writer.isOpen()) {
+					writer.flush();
+				}
 			} catch (InterruptedException e) {
 				log.error("Exception {}", ExceptionUtils.getStackTrace(e));
 				//close existing file to protect data
@@ -389,9 +387,6 @@ public class RecordStream implements Runnable {
 	}
 
 	public int getRecordStreamQueueSize() {
-		if (recordBuffer == null) {
-			return 0;
-		}
 		return recordBuffer.size();
 	}
 
@@ -416,7 +411,8 @@ public class RecordStream implements Runnable {
 	 * @return
 	 */
 	public static boolean isRecordSigFile(File file) {
-		return file.getName().endsWith(".rcd_sig");
+		var name = file.getName();
+		return name.endsWith(".rcd_sig") || name.endsWith(".rcd.gz_sig");
 	}
 
 	/**
@@ -0,0 +1,60 @@
+package com.hedera.services.legacy.stream;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * The framing of a record stream file. {@code NONE} is the v2 format consumed by
+ * mirror nodes; {@code GZIP} is the same byte stream inside a gzip frame, with a
+ * distinct file extension. In both cases the file hash is computed over the
+ * uncompressed v2 bytes, so signatures do not depend on the framing.
+ *
+ * @author Michael Tinker
+ */
+public enum RecordStreamCompression {
+	NONE(".rcd"), GZIP(".rcd.gz");
+
+	private static final Logger log = LogManager.getLogger(RecordStreamCompression.class);
+
+	private final String fileExtension;
+
+	RecordStreamCompression(String fileExtension) {
+		this.fileExtension = fileExtension;
+	}
+
+	public String fileExtension() {
+		return fileExtension;
+	}
+
+	public static RecordStreamCompression from(String name) {
+		if (name == null) {
+			return NONE;
+		}
+		try {
+			return valueOf(name.trim().toUpperCase());
+		} catch (IllegalArgumentException unknown) {
+			log.warn("Unsupported record stream compression '{}', writing uncompressed files!", name);
+			return NONE;
+		}
+	}
+}
@@ -0,0 +1,159 @@
+package com.hedera.services.legacy.stream;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A single-producer, single-consumer hand-off of {@link SerializedRecord}s from the
+ * thread handling consensus transactions to the record stream writer.
+ *
+ * <p>Records go into a fixed-size lock-free ring; when the ring is full (that is, the
+ * writer has fallen behind on file I/O) they spill into a blocking queue with the
+ * requested capacity. Only when that queue is also full does the producer block, until
+ * the writer catches up; so memory held for the stream stays bounded however slow the
+ * writer is. Every record is stamped with a sequence number on offer, and the consumer
+ * always takes the next number from whichever of the two holds it, so records are
+ * written in exactly the order they were offered.
+ *
+ * <p>A record is never abandoned once it has its sequence number, since the consumer
+ * would then wait forever for that number; so interrupting a blocked producer does not
+ * interrupt its offer, only re-asserts the interrupt once the record is queued.
+ *
+ * @author Michael Tinker
+ */
+final class RecordStreamRing {
+	private final int mask;
+	private final SerializedRecord[] slots;
+	private final AtomicLong head = new AtomicLong();
+	private final AtomicLong tail = new AtomicLong();
+	private final BlockingQueue<SerializedRecord> spilled;
+
+	/* Only touched by the producer. */
+	private long nextSeqNo = 0;
+	/* Only touched by the consumer. */
+	private long expectedSeqNo = 0;
+
+	private volatile Thread consumer;
+	private volatile boolean consumerParked = false;
+
+	RecordStreamRing(int minCapacity) {
+		if (minCapacity < 1) {
+			throw new IllegalArgumentException("Ring capacity must be positive, not " + minCapacity + "!");
+		}
+		int capacity = Integer.highestOneBit(minCapacity);
+		if (capacity < minCapacity) {
+			capacity <<= 1;
+		}
+		mask = capacity - 1;
+		slots = new SerializedRecord[capacity];
+		spilled = new LinkedBlockingQueue<>(minCapacity);
+	}
+
+	void offer(SerializedRecord record) {
+		record.seqNo = nextSeqNo++;
+		long t = tail.get();
+		if (t - head.get() < slots.length) {
+			slots[(int)(t & mask)] = record;
+			tail.set(t + 1);
+		} else {
+			spillUninterruptibly(record);
+		}
+		if (consumerParked) {
+			LockSupport.unpark(consumer);
+		}
+	}
+
+	private void spillUninterruptibly(SerializedRecord record) {
+		boolean interrupted = false;
+		while (true) {
+			try {
+				spilled.put(record);
+				break;
+			} catch (InterruptedException ignore) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	SerializedRecord poll() {
+		long h = head.get();
+		if (h < tail.get()) {
+			int i = (int)(h & mask);
+			SerializedRecord next = slots[i];
+			if (next.seqNo == expectedSeqNo) {
+				slots[i] = null;
+				head.set(h + 1);
+				expectedSeqNo++;
+				return next;
+			}
+		}
+		SerializedRecord next = spilled.peek();
+		if (next != null && next.seqNo == expectedSeqNo) {
+			spilled.poll();
+			expectedSeqNo++;
+			return next;
+		}
+		return null;
+	}
+
+	SerializedRecord poll(long timeout, TimeUnit unit) throws InterruptedException {
+		SerializedRecord next = poll();
+		if (next != null) {
+			return next;
+		}
+		consumer = Thread.currentThread();
+		consumerParked = true;
+		try {
+			next = poll();
+			if (next == null) {
+				LockSupport.parkNanos(this, unit.toNanos(timeout));
+				if (Thread.interrupted()) {
+					throw new InterruptedException();
+				}
+				next = poll();
+			}
+		} finally {
+			consumerParked = false;
+		}
+		return next;
+	}
+
+	boolean isEmpty() {
+		return size() == 0;
+	}
+
+	int size() {
+		long h = head.get();
+		return (int)(tail.get() - h) + spilled.size();
+	}
+
+	int capacity() {
+		return slots.length;
+	}
+}
@@ -0,0 +1,44 @@
+package com.hedera.services.legacy.stream;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import java.time.Instant;
+
+/**
+ * A transaction and its record as already-serialized protobuf bytes, ready to be
+ * framed into a record stream file by the writer thread without touching the
+ * (possibly large) message graphs that produced them.
+ *
+ * @author Michael Tinker
+ */
+final class SerializedRecord {
+	final byte[] txnBytes;
+	final byte[] recordBytes;
+	final Instant consensusTime;
+
+	long seqNo;
+
+	SerializedRecord(byte[] txnBytes, byte[] recordBytes, Instant consensusTime) {
+		this.txnBytes = txnBytes;
+		this.recordBytes = recordBytes;
+		this.consensusTime = consensusTime;
+	}
+}
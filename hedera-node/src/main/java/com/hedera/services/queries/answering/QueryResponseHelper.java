@@ -20,8 +20,10 @@ package com.hedera.services.queries.answering;
  * ‍
  */
 
+import com.hedera.services.grpc.WorkerPools;
 import com.hedera.services.queries.AnswerFlow;
 import com.hedera.services.queries.AnswerService;
+import com.hederahashgraph.api.proto.java.HederaFunctionality;
 import com.hederahashgraph.api.proto.java.Query;
 import com.hederahashgraph.api.proto.java.Response;
 import com.hedera.services.legacy.services.stats.HederaNodeStats;
@@ -31,7 +33,16 @@ import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.Marker;
 import org.apache.logging.log4j.MarkerManager;
 
+import java.util.EnumSet;
+
 import static com.hedera.services.context.primitives.StateView.EMPTY_VIEW;
+import static com.hedera.services.grpc.WorkerPools.Pool.EXPENSIVE_QUERIES;
+import static com.hedera.services.grpc.WorkerPools.Pool.QUERIES;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.ContractCallLocal;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.ContractGetRecords;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoGetAccountRecords;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.FileGetContents;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.BUSY;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.FAIL_INVALID;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
 
@@ -39,12 +50,21 @@ public class QueryResponseHelper {
 	private static final Logger log = LogManager.getLogger(QueryResponseHelper.class);
 	private static final Marker ALL_QUERIES_MARKER = MarkerManager.getMarker("ALL_QUERIES");
 
+	/* Queries whose answers may be large, or slow to compute. */
+	static final EnumSet<HederaFunctionality> EXPENSIVE_FUNCTIONS = EnumSet.of(
+			ContractCallLocal,
+			ContractGetRecords,
+			CryptoGetAccountRecords,
+			FileGetContents);
+
 	private final AnswerFlow answerFlow;
 	private final HederaNodeStats stats;
+	private final WorkerPools workers;
 
-	public QueryResponseHelper(AnswerFlow answerFlow, HederaNodeStats stats) {
+	public QueryResponseHelper(AnswerFlow answerFlow, HederaNodeStats stats, WorkerPools workers) {
 		this.answerFlow = answerFlow;
 		this.stats = stats;
+		this.workers = workers;
 	}
 
 	public void respondToNetwork(
@@ -127,9 +147,22 @@ public class QueryResponseHelper {
 		if (log.isDebugEnabled()) {
 			log.debug(ALL_QUERIES_MARKER, "Received query: {}", query);
 		}
-		Response response;
 		incReceivedCount.run();
 
+		var pool = EXPENSIVE_FUNCTIONS.contains(answer.canonicalFunction()) ? EXPENSIVE_QUERIES : QUERIES;
+		if (!workers.tryRun(pool, () -> answerWithMetrics(query, observer, answer, incAnsweredCount))) {
+			observer.onNext(answer.responseGiven(query, EMPTY_VIEW, BUSY, 0L));
+			observer.onCompleted();
+		}
+	}
+
+	private void answerWithMetrics(
+			Query query,
+			StreamObserver<Response> observer,
+			AnswerService answer,
+			Runnable incAnsweredCount
+	) {
+		Response response;
 		try {
 			response = answerFlow.satisfyUsing(answer, query);
 		} catch (Exception surprising) {
@@ -23,6 +23,7 @@ package com.hedera.services.records;
 import com.hedera.services.ledger.HederaLedger;
 import com.hedera.services.state.EntityCreator;
 import com.hedera.services.state.expiry.ExpiringCreations;
+import com.hedera.services.state.initialization.AccountsScan;
 import com.hedera.services.state.submerkle.ExpirableTxnRecord;
 import com.hederahashgraph.api.proto.java.TransactionRecord;
 
@@ -83,6 +84,15 @@ public interface AccountRecordsHistorian {
 	 */
 	void reviewExistingRecords();
 
+	/**
+	 * Invites the historian to build any auxiliary data structures
+	 * needed to purge expired records, using the record expiries
+	 * already collected by a startup scan of the accounts.
+	 *
+	 * @param scan the startup scan of the accounts.
+	 */
+	void reviewExistingRecords(AccountsScan scan);
+
 	/**
 	 * Returns the last record created, if it exists.
 	 *
@@ -26,6 +26,7 @@ import com.hedera.services.fees.charging.ItemizableFeeCharging;
 import com.hedera.services.ledger.HederaLedger;
 import com.hedera.services.state.EntityCreator;
 import com.hedera.services.state.expiry.ExpiryManager;
+import com.hedera.services.state.initialization.AccountsScan;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleEntityId;
 import com.hedera.services.utils.EntityIdUtils;
@@ -43,7 +44,6 @@ import static com.hedera.services.fees.TxnFeeType.CACHE_RECORD;
 import static com.hedera.services.fees.TxnFeeType.THRESHOLD_RECORD;
 import static com.hedera.services.fees.charging.ItemizableFeeCharging.CACHE_RECORD_FEE;
 import static com.hedera.services.fees.charging.ItemizableFeeCharging.THRESHOLD_RECORD_FEE;
-import static com.hedera.services.state.merkle.MerkleEntityId.fromAccountId;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.SUCCESS;
 import static java.util.stream.Collectors.toSet;
 
@@ -140,6 +140,11 @@ public class FeeChargingRecordsHistorian implements AccountRecordsHistorian {
 		expiries.resumeTrackingFrom(accounts.get());
 	}
 
+	@Override
+	public void reviewExistingRecords(AccountsScan scan) {
+		expiries.resumeTrackingFrom(scan.recordExpiries());
+	}
+
 	private boolean qualifiesForRecord(AccountAmount adjustment, long recordFee) {
 		AccountID id = adjustment.getAccountID();
 		if (ledger.isPendingCreation(id)) {
@@ -184,9 +189,7 @@ public class FeeChargingRecordsHistorian implements AccountRecordsHistorian {
 	}
 
 	private boolean isCallableContract(AccountID id) {
-		return Optional.ofNullable(accounts.get().get(fromAccountId(id)))
-				.map(v -> v.isSmartContract() && !v.isDeleted())
-				.orElse(false);
+		return ledger.exists(id) && ledger.isSmartContract(id) && !ledger.isDeleted(id);
 	}
 
 	private long payForCaching(TransactionRecord record) {
@@ -23,6 +23,7 @@ package com.hedera.services.records;
 import com.hedera.services.ledger.HederaLedger;
 import com.hedera.services.state.EntityCreator;
 import com.hedera.services.state.expiry.ExpiringCreations;
+import com.hedera.services.state.initialization.AccountsScan;
 import com.hedera.services.state.submerkle.ExpirableTxnRecord;
 import com.hederahashgraph.api.proto.java.TransactionRecord;
 
@@ -46,6 +47,9 @@ public enum NoopRecordsHistorian implements AccountRecordsHistorian {
   @Override
   public void reviewExistingRecords() { }
 
+  @Override
+  public void reviewExistingRecords(AccountsScan scan) { }
+
   @Override
   public Optional<TransactionRecord> lastCreatedRecord() { return Optional.empty(); }
 }
@@ -0,0 +1,110 @@
+package com.hedera.services.records;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.state.submerkle.ExpirableTxnRecord;
+import com.swirlds.fcqueue.FCQueue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the short-lived records of the transactions paid for in the last
+ * {@code cache.records.ttl} seconds in a single {@link FCQueue} in the state, instead of
+ * a queue in each payer's account; so handling a transaction no longer copies and
+ * re-hashes its payer's account just to append (and later remove) a record.
+ *
+ * <p>Records are appended in consensus order, which (for a fixed ttl) is also expiry
+ * order; so the queue is effectively partitioned by expiry, and purging is just polling
+ * from its head. (If the ttl is lowered, a few records may outlive their expiry until the
+ * records ahead of them expire.)
+ *
+ * <p>Records are appended only when the ledger commits the transaction that created them;
+ * until then they are staged, and are discarded if the transaction is rolled back.
+ *
+ * <p>As before, payer records are not returned by {@code CryptoGetAccountRecords}, which
+ * answers from the threshold records in the account; they are only reachable by
+ * transaction id, through the recent histories rebuilt from this store on restart.
+ *
+ * @author Michael Tinker
+ */
+public class PayerRecordStore {
+	private final Supplier<FCQueue<ExpirableTxnRecord>> records;
+	private final List<ExpirableTxnRecord> staged = new ArrayList<>();
+
+	public PayerRecordStore(Supplier<FCQueue<ExpirableTxnRecord>> records) {
+		this.records = records;
+	}
+
+	public void stage(ExpirableTxnRecord record) {
+		staged.add(record);
+	}
+
+	public void commitStaged() {
+		if (staged.isEmpty()) {
+			return;
+		}
+		var queue = records.get();
+		for (ExpirableTxnRecord record : staged) {
+			queue.offer(record);
+		}
+		staged.clear();
+	}
+
+	public void discardStaged() {
+		staged.clear();
+	}
+
+	/**
+	 * Removes every record that expired at or before the given consensus second.
+	 *
+	 * @param now the current consensus second
+	 * @param cb a callback to receive each removed record
+	 * @return the number of records removed
+	 */
+	public int purgeExpiredAt(long now, Consumer<ExpirableTxnRecord> cb) {
+		var queue = records.get();
+		int numPurged = 0;
+		while (!queue.isEmpty() && queue.peek().getExpiry() <= now) {
+			cb.accept(queue.poll());
+			numPurged++;
+		}
+		return numPurged;
+	}
+
+	/**
+	 * Passes each record in the store to the given callback, in consensus order (e.g.,
+	 * to restore the recent history of its transaction id on restart).
+	 *
+	 * @param cb a callback to receive each record in the store
+	 */
+	public void forEach(Consumer<ExpirableTxnRecord> cb) {
+		for (ExpirableTxnRecord record : records.get()) {
+			cb.accept(record);
+		}
+	}
+
+	public int size() {
+		return records.get().size();
+	}
+}
@@ -0,0 +1,317 @@
+package com.hedera.services.records;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.Timestamp;
+import com.hederahashgraph.api.proto.java.TransactionID;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * A {@link Map} from {@link TransactionID} to {@link TxnIdRecentHistory} for duplicate
+ * detection, which does not retain the protobuf ids used as keys. Every id with a
+ * non-negative payer number in shard and realm zero, and a valid start at a non-negative
+ * second, is packed into two {@code long}s (the payer number; and the valid start seconds
+ * and nanos) in an open-addressing table with linear probing; other ids, which a
+ * well-behaved network never sees, fall back to a {@link HashMap}.
+ *
+ * <p>All operations are guarded by a read-write lock, so the index may be read by
+ * query threads while the handle thread updates it. The {@link Map#entrySet()} (and so
+ * also the key and value views) is a snapshot that does not support removal.
+ *
+ * @author Michael Tinker
+ */
+public class TxnIdRecentHistories extends AbstractMap<TransactionID, TxnIdRecentHistory> {
+	static final int DEFAULT_INITIAL_CAPACITY = 1 << 16;
+
+	private static final long MAX_PACKABLE_SECONDS = (1L << 33) - 1;
+	private static final int NANOS_BITS = 30;
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private final Map<TransactionID, TxnIdRecentHistory> unpackable = new HashMap<>();
+
+	long[] payerNums;
+	long[] validStarts;
+	TxnIdRecentHistory[] histories;
+	int numPacked = 0;
+
+	public TxnIdRecentHistories() {
+		this(DEFAULT_INITIAL_CAPACITY);
+	}
+
+	public TxnIdRecentHistories(int initialCapacity) {
+		allocate(Math.max(2, Integer.highestOneBit(Math.max(1, initialCapacity - 1)) << 1));
+	}
+
+	@Override
+	public TxnIdRecentHistory get(Object key) {
+		if (!(key instanceof TransactionID)) {
+			return null;
+		}
+		var txnId = (TransactionID)key;
+		lock.readLock().lock();
+		try {
+			if (!isPackable(txnId)) {
+				return unpackable.get(txnId);
+			}
+			int i = indexOf(payerNumOf(txnId), validStartOf(txnId));
+			return histories[i];
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return get(key) != null;
+	}
+
+	@Override
+	public TxnIdRecentHistory put(TransactionID txnId, TxnIdRecentHistory history) {
+		if (history == null) {
+			throw new IllegalArgumentException("Null histories are not supported!");
+		}
+		lock.writeLock().lock();
+		try {
+			if (!isPackable(txnId)) {
+				return unpackable.put(txnId, history);
+			}
+			return putPacked(payerNumOf(txnId), validStartOf(txnId), history);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public TxnIdRecentHistory computeIfAbsent(
+			TransactionID txnId,
+			Function<? super TransactionID, ? extends TxnIdRecentHistory> historyFn
+	) {
+		lock.writeLock().lock();
+		try {
+			if (!isPackable(txnId)) {
+				return unpackable.computeIfAbsent(txnId, historyFn);
+			}
+			long payerNum = payerNumOf(txnId);
+			long validStart = validStartOf(txnId);
+			int i = indexOf(payerNum, validStart);
+			if (histories[i] == null) {
+				TxnIdRecentHistory history = historyFn.apply(txnId);
+				if (history != null) {
+					putPacked(payerNum, validStart, history);
+				}
+				return history;
+			}
+			return histories[i];
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public TxnIdRecentHistory remove(Object key) {
+		if (!(key instanceof TransactionID)) {
+			return null;
+		}
+		var txnId = (TransactionID)key;
+		lock.writeLock().lock();
+		try {
+			if (!isPackable(txnId)) {
+				return unpackable.remove(txnId);
+			}
+			int i = indexOf(payerNumOf(txnId), validStartOf(txnId));
+			TxnIdRecentHistory removed = histories[i];
+			if (removed != null) {
+				removeAt(i);
+			}
+			return removed;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return numPacked + unpackable.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public void clear() {
+		lock.writeLock().lock();
+		try {
+			allocate(histories.length);
+			unpackable.clear();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public Set<Entry<TransactionID, TxnIdRecentHistory>> entrySet() {
+		List<Entry<TransactionID, TxnIdRecentHistory>> snapshot = new ArrayList<>();
+		lock.readLock().lock();
+		try {
+			for (int i = 0; i < histories.length; i++) {
+				if (histories[i] != null) {
+					snapshot.add(new SimpleImmutableEntry<>(txnIdFrom(payerNums[i], validStarts[i]), histories[i]));
+				}
+			}
+			snapshot.addAll(unpackable.entrySet());
+		} finally {
+			lock.readLock().unlock();
+		}
+		return new AbstractSet<>() {
+			@Override
+			public Iterator<Entry<TransactionID, TxnIdRecentHistory>> iterator() {
+				return snapshot.iterator();
+			}
+
+			@Override
+			public int size() {
+				return snapshot.size();
+			}
+		};
+	}
+
+	private TxnIdRecentHistory putPacked(long payerNum, long validStart, TxnIdRecentHistory history) {
+		int i = indexOf(payerNum, validStart);
+		TxnIdRecentHistory prior = histories[i];
+		histories[i] = history;
+		if (prior == null) {
+			payerNums[i] = payerNum;
+			validStarts[i] = validStart;
+			if (++numPacked * 2 > histories.length) {
+				rehash(2 * histories.length);
+			}
+		}
+		return prior;
+	}
+
+	private void removeAt(int i) {
+		int mask = histories.length - 1;
+		histories[i] = null;
+		numPacked--;
+		int j = i;
+		while (true) {
+			j = (j + 1) & mask;
+			if (histories[j] == null) {
+				return;
+			}
+			int home = homeOf(payerNums[j], validStarts[j], mask);
+			boolean canShift = (j > i) ? (home <= i || home > j) : (home <= i && home > j);
+			if (canShift) {
+				payerNums[i] = payerNums[j];
+				validStarts[i] = validStarts[j];
+				histories[i] = histories[j];
+				histories[j] = null;
+				i = j;
+			}
+		}
+	}
+
+	private int indexOf(long payerNum, long validStart) {
+		int mask = histories.length - 1;
+		int i = homeOf(payerNum, validStart, mask);
+		while (histories[i] != null && (payerNums[i] != payerNum || validStarts[i] != validStart)) {
+			i = (i + 1) & mask;
+		}
+		return i;
+	}
+
+	private void rehash(int capacity) {
+		long[] oldPayerNums = payerNums;
+		long[] oldValidStarts = validStarts;
+		TxnIdRecentHistory[] oldHistories = histories;
+		allocate(capacity);
+		for (int i = 0; i < oldHistories.length; i++) {
+			if (oldHistories[i] != null) {
+				int j = indexOf(oldPayerNums[i], oldValidStarts[i]);
+				payerNums[j] = oldPayerNums[i];
+				validStarts[j] = oldValidStarts[i];
+				histories[j] = oldHistories[i];
+				numPacked++;
+			}
+		}
+	}
+
+	private void allocate(int capacity) {
+		payerNums = new long[capacity];
+		validStarts = new long[capacity];
+		histories = new TxnIdRecentHistory[capacity];
+		numPacked = 0;
+	}
+
+	private static int homeOf(long payerNum, long validStart, int mask) {
+		long h = (payerNum * 0x9E3779B97F4A7C15L) ^ validStart;
+		h ^= (h >>> 31);
+		h *= 0xBF58476D1CE4E5B9L;
+		return (int)(h ^ (h >>> 32)) & mask;
+	}
+
+	static boolean isPackable(TransactionID txnId) {
+		var payer = txnId.getAccountID();
+		var validStart = txnId.getTransactionValidStart();
+		return payer.getShardNum() == 0L
+				&& payer.getRealmNum() == 0L
+				&& payer.getAccountNum() >= 0L
+				&& validStart.getSeconds() >= 0L
+				&& validStart.getSeconds() <= MAX_PACKABLE_SECONDS
+				&& validStart.getNanos() >= 0
+				&& validStart.getNanos() < (1 << NANOS_BITS)
+				&& txnId.getUnknownFields().asMap().isEmpty()
+				&& payer.getUnknownFields().asMap().isEmpty()
+				&& validStart.getUnknownFields().asMap().isEmpty();
+	}
+
+	private static long payerNumOf(TransactionID txnId) {
+		return txnId.getAccountID().getAccountNum();
+	}
+
+	private static long validStartOf(TransactionID txnId) {
+		var validStart = txnId.getTransactionValidStart();
+		return (validStart.getSeconds() << NANOS_BITS) | validStart.getNanos();
+	}
+
+	static TransactionID txnIdFrom(long payerNum, long validStart) {
+		return TransactionID.newBuilder()
+				.setAccountID(AccountID.newBuilder().setAccountNum(payerNum))
+				.setTransactionValidStart(Timestamp.newBuilder()
+						.setSeconds(validStart >>> NANOS_BITS)
+						.setNanos((int)(validStart & ((1L << NANOS_BITS) - 1))))
+				.build();
+	}
+}
@@ -31,7 +31,6 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.ConcurrentModificationException;
 import java.util.EnumSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -127,7 +126,7 @@ public class TxnIdRecentHistory {
 
 	private void addClassifiable(ExpirableTxnRecord record) {
 		if (classifiableRecords == null) {
-			classifiableRecords = new LinkedList<>();
+			classifiableRecords = new ArrayList<>(1);
 		}
 		int i = 0;
 		long submittingMember = record.getSubmittingMember();
@@ -150,7 +149,7 @@ public class TxnIdRecentHistory {
 
 	private void addUnclassifiable(ExpirableTxnRecord record) {
 		if (unclassifiableRecords == null) {
-			unclassifiableRecords = new LinkedList<>();
+			unclassifiableRecords = new ArrayList<>(1);
 		}
 		unclassifiableRecords.add(record);
 	}
@@ -104,6 +104,7 @@ public class Rationalization {
             txnAccessor.getPlatformTxn().clear();
             txnAccessor.getPlatformTxn().addAll(rationalizedPayerSigs.toArray(new Signature[0]));
             txnAccessor.getPlatformTxn().addAll(rationalizedOtherPartySigs.toArray(new Signature[0]));
+            txnAccessor.resetActivationCache();
             log.warn("Verified crypto sigs synchronously for txn {}", txnAccessor.getSignedTxn4Log());
             return syncSuccess();
         }
@@ -21,7 +21,9 @@ package com.hedera.services.sigs.metadata;
  */
 
 import com.hedera.services.ledger.accounts.BackingAccounts;
+import com.hedera.services.ledger.accounts.CreatedAccountRegistry;
 import com.hedera.services.sigs.metadata.lookups.BackedAccountLookup;
+import com.hedera.services.sigs.metadata.lookups.BackedContractLookup;
 import com.hedera.services.state.merkle.MerkleTopic;
 import com.hedera.services.context.properties.PropertySource;
 import com.hedera.services.files.HederaFs;
@@ -65,13 +67,12 @@ public class DelegatingSigMetadataLookup implements SigMetadataLookup {
 	public static DelegatingSigMetadataLookup backedLookupsFor(
 			HederaFs hfs,
 			BackingAccounts<AccountID, MerkleAccount> backingAccounts,
-			Supplier<FCMap<MerkleEntityId, MerkleTopic>> topics,
-			Supplier<FCMap<MerkleEntityId, MerkleAccount>> accounts
+			Supplier<FCMap<MerkleEntityId, MerkleTopic>> topics
 	) {
 		return new DelegatingSigMetadataLookup(
 				new HfsSigMetaLookup(hfs),
 				new BackedAccountLookup(backingAccounts),
-				new DefaultFCMapContractLookup(accounts),
+				new BackedContractLookup(backingAccounts),
 				new DefaultFCMapTopicLookup(topics)
 		);
 	}
@@ -109,12 +110,13 @@ public class DelegatingSigMetadataLookup implements SigMetadataLookup {
 			HederaFs hfs,
 			PropertySource properties,
 			HederaNodeStats stats,
+			CreatedAccountRegistry createdAccounts,
 			Supplier<FCMap<MerkleEntityId, MerkleAccount>> accounts,
 			Supplier<FCMap<MerkleEntityId, MerkleTopic>> topics
 	) {
 		return new DelegatingSigMetadataLookup(
 				new HfsSigMetaLookup(hfs),
-				new RetryingFCMapAccountLookup(pause, properties, stats, accounts),
+				new RetryingFCMapAccountLookup(createdAccounts, properties, stats, accounts),
 				new DefaultFCMapContractLookup(accounts),
 				new DefaultFCMapTopicLookup(topics)
 		);
@@ -0,0 +1,60 @@
+package com.hedera.services.sigs.metadata.lookups;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.ledger.accounts.BackingAccounts;
+import com.hedera.services.legacy.core.jproto.JContractIDKey;
+import com.hedera.services.legacy.exception.AdminKeyNotExistException;
+import com.hedera.services.legacy.exception.InvalidContractIDException;
+import com.hedera.services.sigs.metadata.ContractSigningMetadata;
+import com.hedera.services.state.merkle.MerkleAccount;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.ContractID;
+
+import static com.hedera.services.utils.EntityIdUtils.asAccount;
+
+/**
+ * Contract signing metadata lookup backed by the ledger's {@link BackingAccounts}; so,
+ * unlike {@link DefaultFCMapContractLookup}, it sees any account changes not yet flushed
+ * to the accounts map. Applies the same conditions as that lookup.
+ */
+public class BackedContractLookup implements ContractSigMetaLookup {
+	private final BackingAccounts<AccountID, MerkleAccount> accounts;
+
+	public BackedContractLookup(BackingAccounts<AccountID, MerkleAccount> accounts) {
+		this.accounts = accounts;
+	}
+
+	@Override
+	public ContractSigningMetadata lookup(ContractID id) throws Exception {
+		var accountId = asAccount(id);
+		var contract = accounts.contains(accountId) ? accounts.getUnsafeRef(accountId) : null;
+		if (contract == null || contract.isDeleted() || !contract.isSmartContract()) {
+			throw new InvalidContractIDException("Invalid contract!", id);
+		} else if (contract.getKey() == null) {
+			throw new AdminKeyNotExistException("Contract should never be referenced by a txn (missing key)!", id);
+		} else if (contract.getKey() instanceof JContractIDKey) {
+			throw new AdminKeyNotExistException("Contract should never be referenced by a txn (no admin key)!", id);
+		} else {
+			return new ContractSigningMetadata(contract.getKey());
+		}
+	}
+}
@@ -21,6 +21,7 @@ package com.hedera.services.sigs.metadata.lookups;
  */
 
 import com.hedera.services.context.properties.PropertySource;
+import com.hedera.services.ledger.accounts.CreatedAccountRegistry;
 import com.hedera.services.sigs.metadata.AccountSigningMetadata;
 import com.hedera.services.utils.Pause;
 import com.hederahashgraph.api.proto.java.AccountID;
@@ -41,6 +42,11 @@ import java.util.function.Supplier;
  * with {@code Pause} invocations that increase by {@code retryWaitIncrementMs} between
  * each failed lookup.
  *
+ * If instead given a {@link CreatedAccountRegistry}, a missing account is not polled for;
+ * the lookup parks on the pending creation of the account for at most as long as the
+ * above backoff would have slept in total, and looks again only once the account is
+ * created (or the deadline passes).
+ *
  * When one or more lookups are attempted, the injected {@link HederaNodeStats} is used
  * to record statistics about the lookups performed.
  *
@@ -57,6 +63,7 @@ public class RetryingFCMapAccountLookup extends DefaultFCMapAccountLookup {
 	private Optional<PropertySource> properties;
 	final private Pause pause;
 	final private HederaNodeStats stats;
+	final private CreatedAccountRegistry createdAccounts;
 
 	public RetryingFCMapAccountLookup(
 			Supplier<FCMap<MerkleEntityId, MerkleAccount>> accounts,
@@ -71,6 +78,7 @@ public class RetryingFCMapAccountLookup extends DefaultFCMapAccountLookup {
 		this.properties = Optional.empty();
 		this.maxRetries = maxRetries;
 		this.retryWaitIncrementMs = retryWaitIncrementMs;
+		this.createdAccounts = null;
 	}
 
 	public RetryingFCMapAccountLookup(
@@ -85,6 +93,22 @@ public class RetryingFCMapAccountLookup extends DefaultFCMapAccountLookup {
 		this.properties = Optional.of(properties);
 		this.maxRetries = DEFAULT_MAX_RETRIES;
 		this.retryWaitIncrementMs = DEFAULT_RETRY_WAIT_INCREMENT_MS;
+		this.createdAccounts = null;
+	}
+
+	public RetryingFCMapAccountLookup(
+			CreatedAccountRegistry createdAccounts,
+			PropertySource properties,
+			HederaNodeStats stats,
+			Supplier<FCMap<MerkleEntityId, MerkleAccount>> accounts
+	) {
+		super(accounts);
+		this.stats = stats;
+		this.pause = null;
+		this.properties = Optional.of(properties);
+		this.maxRetries = DEFAULT_MAX_RETRIES;
+		this.retryWaitIncrementMs = DEFAULT_RETRY_WAIT_INCREMENT_MS;
+		this.createdAccounts = createdAccounts;
 	}
 
 	/**
@@ -110,6 +134,10 @@ public class RetryingFCMapAccountLookup extends DefaultFCMapAccountLookup {
 		AccountSigningMetadata meta = uncheckedLookup(id);
 		if (meta != null) { return meta; }
 
+		if (createdAccounts != null) {
+			return awaitCreationOf(id, lookupStart);
+		}
+
 		do {
 			int retryNo = maxRetries - retriesRemaining + 1;
 			if (!pause.forMs(retryNo * retryWaitIncrementMs)) {
@@ -131,6 +159,33 @@ public class RetryingFCMapAccountLookup extends DefaultFCMapAccountLookup {
 		throw new InvalidAccountIDException("Invalid account!", id);
 	}
 
+	/**
+	 * Parks on the pending creation of the given account. Records one retry if the
+	 * account turns out to exist when re-checked after registering (in which case
+	 * any other waiters are released); and two retries if the lookup had to wait
+	 * for the creation (or the deadline).
+	 */
+	private AccountSigningMetadata awaitCreationOf(AccountID id, long lookupStart) throws Exception {
+		var creation = createdAccounts.pendingCreationOf(id);
+		int retries = 1;
+		AccountSigningMetadata meta = uncheckedLookup(id);
+		if (meta == null) {
+			long deadlineMs = (long)retryWaitIncrementMs * maxRetries * (maxRetries + 1) / 2;
+			createdAccounts.await(id, creation, deadlineMs);
+			retries++;
+			meta = uncheckedLookup(id);
+		} else {
+			createdAccounts.publish(id);
+		}
+		if (stats != null) {
+			stats.lookupRetries(retries, msElapsedSince(lookupStart));
+		}
+		if (meta == null) {
+			throw new InvalidAccountIDException("Invalid account!", id);
+		}
+		return meta;
+	}
+
 	private double msElapsedSince(long then) {
 		return (System.nanoTime() - (double)then) / 1_000_000L;
 	}
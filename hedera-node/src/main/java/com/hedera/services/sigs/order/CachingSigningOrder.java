@@ -0,0 +1,135 @@
+package com.hedera.services.sigs.order;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.config.EntityNumbers;
+import com.hedera.services.legacy.core.jproto.JKey;
+import com.hedera.services.sigs.metadata.AccountSigningMetadata;
+import com.hedera.services.sigs.metadata.ContractSigningMetadata;
+import com.hedera.services.sigs.metadata.FileSigningMetadata;
+import com.hedera.services.sigs.metadata.SigMetadataLookup;
+import com.hedera.services.sigs.metadata.TopicSigningMetadata;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.ContractID;
+import com.hederahashgraph.api.proto.java.FileID;
+import com.hederahashgraph.api.proto.java.HederaFunctionality;
+import com.hederahashgraph.api.proto.java.TopicID;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+
+import static com.hedera.services.utils.EntityIdUtils.asAccount;
+
+/**
+ * A {@link HederaSigningOrder} that first consults a {@link SigningOrderResultCache}
+ * (which may be shared with other instances), and offers the cache every valid
+ * signing order it computes; along with the entities whose signing metadata it
+ * looked up in the computation.
+ *
+ * @author Michael Tinker
+ */
+public class CachingSigningOrder extends HederaSigningOrder {
+	private final SigningOrderResultCache cache;
+
+	public CachingSigningOrder(
+			EntityNumbers entityNums,
+			SigMetadataLookup sigMetaLookup,
+			Predicate<TransactionBody> updateAccountSigns,
+			BiPredicate<TransactionBody, HederaFunctionality> targetWaclSigns,
+			SigningOrderResultCache cache
+	) {
+		super(entityNums, sigMetaLookup, updateAccountSigns, targetWaclSigns);
+		this.cache = cache;
+	}
+
+	@Override
+	public <T> SigningOrderResult<T> keysForPayer(TransactionBody txn, SigningOrderResultFactory<T> factory) {
+		List<JKey> cached = cache.payerKeysFor(txn);
+		if (cached != null) {
+			return factory.forValidOrder(cached);
+		}
+
+		long generation = cache.generation();
+		var recording = new RecordingLookup(sigMetaLookup);
+		var result = recordingOrder(recording).keysForPayer(txn, factory);
+		if (!result.hasErrorReport()) {
+			cache.offerPayerKeys(txn, result.getOrderedKeys(), recording.entities, generation);
+		}
+		return result;
+	}
+
+	@Override
+	public <T> SigningOrderResult<T> keysForOtherParties(TransactionBody txn, SigningOrderResultFactory<T> factory) {
+		List<JKey> cached = cache.otherPartyKeysFor(txn);
+		if (cached != null) {
+			return factory.forValidOrder(cached);
+		}
+
+		long generation = cache.generation();
+		var recording = new RecordingLookup(sigMetaLookup);
+		var result = recordingOrder(recording).keysForOtherParties(txn, factory);
+		if (!result.hasErrorReport()) {
+			cache.offerOtherPartyKeys(txn, result.getOrderedKeys(), recording.entities, generation);
+		}
+		return result;
+	}
+
+	private HederaSigningOrder recordingOrder(SigMetadataLookup recording) {
+		return new HederaSigningOrder(entityNums, recording, updateAccountSigns, targetWaclSigns);
+	}
+
+	private static class RecordingLookup implements SigMetadataLookup {
+		private final Set<Object> entities = new HashSet<>();
+		private final SigMetadataLookup delegate;
+
+		RecordingLookup(SigMetadataLookup delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public FileSigningMetadata lookup(FileID file) throws Exception {
+			entities.add(file);
+			return delegate.lookup(file);
+		}
+
+		@Override
+		public AccountSigningMetadata lookup(AccountID account) throws Exception {
+			entities.add(account);
+			return delegate.lookup(account);
+		}
+
+		@Override
+		public ContractSigningMetadata lookup(ContractID contract) throws Exception {
+			entities.add(asAccount(contract));
+			return delegate.lookup(contract);
+		}
+
+		@Override
+		public TopicSigningMetadata lookup(TopicID topic) throws Exception {
+			entities.add(topic);
+			return delegate.lookup(topic);
+		}
+	}
+}
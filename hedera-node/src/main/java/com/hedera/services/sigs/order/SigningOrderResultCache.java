@@ -0,0 +1,223 @@
+package com.hedera.services.sigs.order;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.legacy.core.jproto.JKey;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.ContractID;
+import com.hederahashgraph.api.proto.java.FileID;
+import com.hederahashgraph.api.proto.java.TopicID;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.hedera.services.utils.EntityIdUtils.asAccount;
+
+/**
+ * A bounded, least-recently-used cache of the valid signing orders computed for
+ * transaction bodies; along with, for each cached body, the accounts, files and topics
+ * whose signing metadata went into its signing orders. (Smart contracts are indexed
+ * as the accounts that represent them.)
+ *
+ * <p>Whatever changes the signing metadata of an entity must call the matching
+ * {@code invalidate} method <i>after</i> the change is visible to lookups. Each
+ * invalidation advances a generation counter, and an offer made with a generation
+ * that is no longer current is ignored; so a signing order computed concurrently with
+ * an invalidation (which may have seen either the old or new metadata) is never cached.
+ * A cache with a maximum size of zero caches nothing.
+ *
+ * @author Michael Tinker
+ */
+public class SigningOrderResultCache {
+	private final int maxSize;
+	private final Map<Object, Set<TransactionBody>> bodiesByEntity = new HashMap<>();
+	private final LinkedHashMap<TransactionBody, Entry> entries;
+
+	private long generation = 0L;
+
+	public SigningOrderResultCache(int maxSize) {
+		if (maxSize < 0) {
+			throw new IllegalArgumentException(String.format("Cache size must be non-negative, not %d!", maxSize));
+		}
+		this.maxSize = maxSize;
+		entries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<TransactionBody, Entry> eldest) {
+				if (size() > SigningOrderResultCache.this.maxSize) {
+					unindex(eldest.getKey(), eldest.getValue());
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	public synchronized long generation() {
+		return generation;
+	}
+
+	public synchronized List<JKey> payerKeysFor(TransactionBody txn) {
+		var entry = entries.get(txn);
+		return (entry == null) ? null : entry.payerKeys;
+	}
+
+	public synchronized List<JKey> otherPartyKeysFor(TransactionBody txn) {
+		var entry = entries.get(txn);
+		return (entry == null) ? null : entry.otherPartyKeys;
+	}
+
+	/**
+	 * Caches the payer signing order of the given txn if no invalidation has
+	 * happened since the given generation.
+	 *
+	 * @param txn the txn whose signing order was computed.
+	 * @param keys the valid signing order.
+	 * @param entities the entities whose metadata was used to compute the order.
+	 * @param asOfGeneration the cache generation when the computation began.
+	 */
+	public synchronized void offerPayerKeys(
+			TransactionBody txn,
+			List<JKey> keys,
+			Set<Object> entities,
+			long asOfGeneration
+	) {
+		if (maxSize > 0 && asOfGeneration == generation) {
+			entryFor(txn, entities).payerKeys = List.copyOf(keys);
+		}
+	}
+
+	/**
+	 * Caches the non-payer signing order of the given txn if no invalidation has
+	 * happened since the given generation.
+	 *
+	 * @param txn the txn whose signing order was computed.
+	 * @param keys the valid signing order.
+	 * @param entities the entities whose metadata was used to compute the order.
+	 * @param asOfGeneration the cache generation when the computation began.
+	 */
+	public synchronized void offerOtherPartyKeys(
+			TransactionBody txn,
+			List<JKey> keys,
+			Set<Object> entities,
+			long asOfGeneration
+	) {
+		if (maxSize > 0 && asOfGeneration == generation) {
+			entryFor(txn, entities).otherPartyKeys = List.copyOf(keys);
+		}
+	}
+
+	public void invalidate(AccountID id) {
+		invalidateEntity(id);
+	}
+
+	public void invalidate(ContractID id) {
+		invalidateEntity(asAccount(id));
+	}
+
+	public void invalidate(FileID id) {
+		invalidateEntity(id);
+	}
+
+	public void invalidate(TopicID id) {
+		invalidateEntity(id);
+	}
+
+	/**
+	 * Invalidates the signing orders that depend on a file or topic whose signing
+	 * metadata may have been changed by handling the given txn. (Changes to accounts
+	 * and smart contracts are instead reported as the ledger commits them.)
+	 *
+	 * @param txn the handled txn.
+	 */
+	public void invalidateTargetsOf(TransactionBody txn) {
+		if (txn.hasFileUpdate()) {
+			invalidate(txn.getFileUpdate().getFileID());
+		} else if (txn.hasFileDelete()) {
+			invalidate(txn.getFileDelete().getFileID());
+		} else if (txn.hasSystemDelete() && txn.getSystemDelete().hasFileID()) {
+			invalidate(txn.getSystemDelete().getFileID());
+		} else if (txn.hasSystemUndelete() && txn.getSystemUndelete().hasFileID()) {
+			invalidate(txn.getSystemUndelete().getFileID());
+		} else if (txn.hasConsensusUpdateTopic()) {
+			invalidate(txn.getConsensusUpdateTopic().getTopicID());
+		} else if (txn.hasConsensusDeleteTopic()) {
+			invalidate(txn.getConsensusDeleteTopic().getTopicID());
+		}
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	private synchronized void invalidateEntity(Object entity) {
+		generation++;
+		var bodies = bodiesByEntity.remove(entity);
+		if (bodies != null) {
+			for (TransactionBody txn : bodies) {
+				var entry = entries.remove(txn);
+				if (entry != null) {
+					unindex(txn, entry);
+				}
+			}
+		}
+	}
+
+	private Entry entryFor(TransactionBody txn, Set<Object> entities) {
+		var entry = entries.get(txn);
+		if (entry == null) {
+			entry = new Entry();
+			entries.put(txn, entry);
+		}
+		for (Object entity : entities) {
+			if (entry.entities.add(entity)) {
+				bodiesByEntity.computeIfAbsent(entity, ignore -> new HashSet<>()).add(txn);
+			}
+		}
+		return entry;
+	}
+
+	private void unindex(TransactionBody txn, Entry entry) {
+		for (Object entity : entry.entities) {
+			var bodies = bodiesByEntity.get(entity);
+			if (bodies != null) {
+				bodies.remove(txn);
+				if (bodies.isEmpty()) {
+					bodiesByEntity.remove(entity);
+				}
+			}
+		}
+	}
+
+	int numIndexedEntities() {
+		return bodiesByEntity.size();
+	}
+
+	private static class Entry {
+		private final Set<Object> entities = new HashSet<>();
+		private List<JKey> payerKeys;
+		private List<JKey> otherPartyKeys;
+	}
+}
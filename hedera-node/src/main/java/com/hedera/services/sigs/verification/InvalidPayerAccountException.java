@@ -21,7 +21,7 @@ package com.hedera.services.sigs.verification;
  */
 
 import com.hedera.services.legacy.handler.TransactionHandler;
-import com.hederahashgraph.api.proto.java.Transaction;
+import com.hedera.services.utils.SignedTxnAccessor;
 
 /**
  * Defines a type of precheck validation failure in which the payer account
@@ -29,8 +29,8 @@ import com.hederahashgraph.api.proto.java.Transaction;
  * account involved in a query payment.)
  *
  * This allows control flow in the {@link PrecheckVerifier} to maintain the
- * behavior of the legacy {@link TransactionHandler#verifySignature(Transaction)}
- * implementation.
+ * behavior of the signature checks in
+ * {@link TransactionHandler#validateTransactionPreConsensus(SignedTxnAccessor, boolean)}.
  *
  * @author Michael Tinker
  */
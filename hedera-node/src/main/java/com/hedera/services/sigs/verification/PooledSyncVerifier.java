@@ -0,0 +1,183 @@
+package com.hedera.services.sigs.verification;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.legacy.services.stats.HederaNodeStats;
+import com.swirlds.common.crypto.Signature;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * A {@link SyncVerifier} that hands signatures to a small, bounded pool of
+ * verification threads instead of verifying them on the calling thread.
+ * Each worker drains up to {@code maxBatchSize} pending requests from the
+ * (bounded) queue and verifies all their signatures with a single call to
+ * the delegate, so that concurrent gRPC submissions share one batch. The
+ * calling thread then blocks until its own signatures are resolved.
+ *
+ * When the queue is full, the caller falls back to verifying its signatures
+ * inline; so the pool bounds memory without ever rejecting a transaction.
+ *
+ * @author Michael Tinker
+ */
+public class PooledSyncVerifier implements SyncVerifier {
+	private static final Logger log = LogManager.getLogger(PooledSyncVerifier.class);
+
+	static final String WORKER_NAME_PREFIX = "precheckSigVerifier-";
+
+	private final int maxBatchSize;
+	private final SyncVerifier delegate;
+	private final HederaNodeStats stats;
+	private final BlockingQueue<VerificationRequest> pending;
+
+	public PooledSyncVerifier(
+			SyncVerifier delegate,
+			HederaNodeStats stats,
+			int numWorkers,
+			int queueCapacity,
+			int maxBatchSize
+	) {
+		if (numWorkers < 1 || queueCapacity < 1 || maxBatchSize < 1) {
+			throw new IllegalArgumentException(String.format(
+					"Invalid pool dimensions (workers=%d, capacity=%d, maxBatch=%d)!",
+					numWorkers, queueCapacity, maxBatchSize));
+		}
+		this.stats = stats;
+		this.delegate = delegate;
+		this.maxBatchSize = maxBatchSize;
+		this.pending = new ArrayBlockingQueue<>(queueCapacity);
+
+		for (int i = 0; i < numWorkers; i++) {
+			var worker = new Thread(this::verifyBatches, WORKER_NAME_PREFIX + i);
+			worker.setDaemon(true);
+			worker.start();
+		}
+	}
+
+	@Override
+	public void verifySync(List<Signature> unknownSigs) {
+		if (unknownSigs.isEmpty()) {
+			return;
+		}
+		var request = new VerificationRequest(unknownSigs);
+		if (!pending.offer(request)) {
+			stats.precheckSigVerifyOverflowed();
+			delegate.verifySync(unknownSigs);
+			return;
+		}
+		request.awaitResolution();
+	}
+
+	int numPending() {
+		return pending.size();
+	}
+
+	private void verifyBatches() {
+		List<VerificationRequest> batch = new ArrayList<>(maxBatchSize);
+		List<Signature> batchSigs = new ArrayList<>();
+		while (true) {
+			try {
+				batch.add(pending.take());
+			} catch (InterruptedException ie) {
+				Thread.currentThread().interrupt();
+				log.warn("Precheck signature verifier interrupted, exiting");
+				return;
+			}
+			pending.drainTo(batch, maxBatchSize - 1);
+			stats.updatePrecheckSigVerifyQueueSize(pending.size());
+
+			for (VerificationRequest request : batch) {
+				batchSigs.addAll(request.sigs);
+			}
+			RuntimeException failure = null;
+			try {
+				delegate.verifySync(batchSigs);
+			} catch (RuntimeException e) {
+				log.warn("Batch verification of {} signatures failed", batchSigs.size(), e);
+				failure = e;
+			}
+			long now = System.nanoTime();
+			int offset = 0;
+			for (VerificationRequest request : batch) {
+				if (failure == null) {
+					request.collectFrom(batchSigs, offset);
+				}
+				offset += request.sigs.size();
+				stats.precheckSigsVerified((now - request.enqueuedAt) / 1_000_000.0);
+				request.resolve(failure);
+			}
+
+			batch.clear();
+			batchSigs.clear();
+		}
+	}
+
+	private static class VerificationRequest {
+		private final long enqueuedAt = System.nanoTime();
+		private final List<Signature> sigs;
+		private final CountDownLatch resolution = new CountDownLatch(1);
+
+		private RuntimeException failure;
+
+		VerificationRequest(List<Signature> sigs) {
+			this.sigs = sigs;
+		}
+
+		/* Verifiers may resolve sigs in-place, or replace them in the given list; honor both. */
+		void collectFrom(List<Signature> batchSigs, int offset) {
+			for (int i = 0, n = sigs.size(); i < n; i++) {
+				Signature verified = batchSigs.get(offset + i);
+				if (verified != sigs.get(i)) {
+					sigs.set(i, verified);
+				}
+			}
+		}
+
+		void resolve(RuntimeException failure) {
+			this.failure = failure;
+			resolution.countDown();
+		}
+
+		void awaitResolution() {
+			boolean interrupted = false;
+			while (true) {
+				try {
+					resolution.await();
+					break;
+				} catch (InterruptedException ignore) {
+					interrupted = true;
+				}
+			}
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+			if (failure != null) {
+				throw failure;
+			}
+		}
+	}
+}
@@ -0,0 +1,75 @@
+package com.hedera.services.state.expiry;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.state.merkle.MerkleAccount;
+import com.hedera.services.state.submerkle.ExpirableTxnRecord;
+import com.swirlds.fcqueue.FCQueue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The distinct consecutive expiries of an account's payer and historical records,
+ * plus its payer records themselves (for staging in their txn id histories).
+ *
+ * @author Michael Tinker
+ */
+public final class AccountRecordExpiries {
+	private static final long[] NO_EXPIRIES = new long[0];
+
+	final long num;
+	final long[] payerExpiries;
+	final long[] historicalExpiries;
+	final List<ExpirableTxnRecord> payerRecords = new ArrayList<>();
+
+	private AccountRecordExpiries(long num, MerkleAccount account) {
+		this.num = num;
+		var payerQueue = account.payerRecords();
+		for (ExpirableTxnRecord record : payerQueue) {
+			payerRecords.add(record);
+		}
+		payerExpiries = uniqueExpiriesOf(payerQueue);
+		historicalExpiries = uniqueExpiriesOf(account.records());
+	}
+
+	public static AccountRecordExpiries of(long num, MerkleAccount account) {
+		return new AccountRecordExpiries(num, account);
+	}
+
+	private static long[] uniqueExpiriesOf(FCQueue<ExpirableTxnRecord> records) {
+		if (records.isEmpty()) {
+			return NO_EXPIRIES;
+		}
+		long[] expiries = new long[records.size()];
+		int n = 0;
+		long lastAdded = -1;
+		for (ExpirableTxnRecord record : records) {
+			var expiry = record.getExpiry();
+			if (expiry != lastAdded) {
+				expiries[n++] = expiry;
+				lastAdded = expiry;
+			}
+		}
+		return (n == expiries.length) ? expiries : Arrays.copyOf(expiries, n);
+	}
+}
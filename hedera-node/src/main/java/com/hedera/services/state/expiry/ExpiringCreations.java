@@ -20,7 +20,7 @@ package com.hedera.services.state.expiry;
  * ‍
  */
 
-import com.hedera.services.context.properties.PropertySource;
+import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.ledger.HederaLedger;
 import com.hedera.services.state.EntityCreator;
 import com.hedera.services.state.submerkle.ExpirableTxnRecord;
@@ -32,20 +32,21 @@ import java.util.function.ObjLongConsumer;
 import java.util.function.ToLongBiFunction;
 
 public class ExpiringCreations implements EntityCreator {
+	/* Payer records expire from the head of the payer record store, without tracking. */
+	private static final ObjLongConsumer<AccountID> UNTRACKED = (id, expiry) -> {};
+
 	private TransactionRecord currentRecord = null;
 	private ExpirableTxnRecord currentExpirableRecord = null;
 
-	private final PropertySource properties;
+	private final GlobalDynamicProperties properties;
 
-	private ObjLongConsumer<AccountID> payerTracker;
 	private ObjLongConsumer<AccountID> historicalTracker;
 	private ToLongBiFunction<AccountID, ExpirableTxnRecord> payerRecordFn;
 	private ToLongBiFunction<AccountID, ExpirableTxnRecord> historicalRecordFn;
 
-	public ExpiringCreations(ExpiryManager expiries, PropertySource properties) {
+	public ExpiringCreations(ExpiryManager expiries, GlobalDynamicProperties properties) {
 		this.properties = properties;
 
-		payerTracker = expiries::trackPayerRecord;
 		historicalTracker = expiries::trackHistoricalRecord;
 	}
 
@@ -62,11 +63,11 @@ public class ExpiringCreations implements EntityCreator {
 			long submittingMember
 	) {
 		return createExpiringRecord(
-				now + properties.getIntProperty("cache.records.ttl"),
+				now + properties.cacheRecordsTtl(),
 				submittingMember,
 				id,
 				record,
-				payerTracker,
+				UNTRACKED,
 				payerRecordFn,
 				ExpirableTxnRecord::fromGprc);
 	}
@@ -79,7 +80,7 @@ public class ExpiringCreations implements EntityCreator {
 			long submittingMember
 	) {
 		createExpiringRecord(
-				now + properties.getIntProperty("ledger.records.ttl"),
+				now + properties.ledgerRecordsTtl(),
 				submittingMember,
 				id,
 				record,
@@ -21,6 +21,8 @@ package com.hedera.services.state.expiry;
  */
 
 import com.hedera.services.ledger.HederaLedger;
+import com.hedera.services.legacy.services.stats.HederaNodeStats;
+import com.hedera.services.records.PayerRecordStore;
 import com.hedera.services.records.TxnIdRecentHistory;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleEntityId;
@@ -28,67 +30,89 @@ import com.hedera.services.state.submerkle.ExpirableTxnRecord;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.TransactionID;
 import com.swirlds.fcmap.FCMap;
-import com.swirlds.fcqueue.FCQueue;
 
-import java.util.AbstractMap;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
 
 public class ExpiryManager {
+	private final HederaNodeStats stats;
+	private final PayerRecordStore payerRecords;
 	private final Map<TransactionID, TxnIdRecentHistory> txnHistories;
 
 	long sharedNow;
-	MonotonicFullQueueExpiries<Long> payerExpiries = new MonotonicFullQueueExpiries<>();
-	MonotonicFullQueueExpiries<Long> historicalExpiries = new MonotonicFullQueueExpiries<>();
+	TimingWheelExpiries payerExpiries = new TimingWheelExpiries();
+	TimingWheelExpiries historicalExpiries = new TimingWheelExpiries();
 
-	public ExpiryManager(Map<TransactionID, TxnIdRecentHistory> txnHistories) {
+	public ExpiryManager(
+			PayerRecordStore payerRecords,
+			Map<TransactionID, TxnIdRecentHistory> txnHistories,
+			HederaNodeStats stats
+	) {
+		this.stats = stats;
+		this.payerRecords = payerRecords;
 		this.txnHistories = txnHistories;
 	}
 
 	public void trackHistoricalRecord(AccountID payer, long expiry) {
-		historicalExpiries.track(payer.getAccountNum(), expiry);
+		historicalExpiries.trackNum(payer.getAccountNum(), expiry);
 	}
 
 	public void trackPayerRecord(AccountID effectivePayer, long expiry) {
-		payerExpiries.track(effectivePayer.getAccountNum(), expiry);
+		payerExpiries.trackNum(effectivePayer.getAccountNum(), expiry);
 	}
 
+	/**
+	 * Rebuilds the expiration queues (and the recent history of each staged txn id)
+	 * from the records in the given accounts and the payer record store. The record
+	 * queues of different accounts are scanned in parallel; staging and tracking then
+	 * happen in account order. (Accounts only have payer records in a state saved
+	 * before the payer record store existed.)
+	 *
+	 * @param accounts the accounts whose records should be tracked.
+	 */
 	public void resumeTrackingFrom(FCMap<MerkleEntityId, MerkleAccount> accounts) {
-		var _payerExpiries = new ArrayList<Map.Entry<Long, Long>>();
-		var _historicalExpiries = new ArrayList<Map.Entry<Long, Long>>();
+		List<MerkleEntityId> ids = new ArrayList<>();
+		List<MerkleAccount> values = new ArrayList<>();
 		accounts.forEach((id, account) -> {
-			addUniqueExpiries(id.getNum(), account.payerRecords(), _payerExpiries, true);
-			addUniqueExpiries(id.getNum(), account.records(), _historicalExpiries, false);
+			ids.add(id);
+			values.add(account);
 		});
 
-		var cmp = Comparator.comparing(Map.Entry<Long, Long>::getValue).thenComparing(Map.Entry::getKey);
-		_payerExpiries.sort(cmp);
-		_historicalExpiries.sort(cmp);
-		_payerExpiries.forEach(entry -> payerExpiries.track(entry.getKey(), entry.getValue()));
-		_historicalExpiries.forEach(entry -> historicalExpiries.track(entry.getKey(), entry.getValue()));
-
-		txnHistories.values().forEach(TxnIdRecentHistory::observeStaged);
+		resumeTrackingFrom(IntStream.range(0, ids.size())
+				.parallel()
+				.mapToObj(i -> AccountRecordExpiries.of(ids.get(i).getNum(), values.get(i)))
+				.collect(toList()));
 	}
 
-	private void addUniqueExpiries(
-			Long num,
-			FCQueue<ExpirableTxnRecord> records,
-			List<Map.Entry<Long, Long>> expiries,
-			boolean shouldStage
-	) {
-		long lastAdded = -1;
-		for (ExpirableTxnRecord record : records) {
-			if (shouldStage) {
+	/**
+	 * Rebuilds the expiration queues (and the recent history of each staged txn id)
+	 * from record expiries already collected for each account, in account order, and
+	 * from the payer record store.
+	 *
+	 * @param scans the record expiries of each account, in account order.
+	 */
+	public void resumeTrackingFrom(List<AccountRecordExpiries> scans) {
+		var payerNums = new PrimitivePairs();
+		var historicalNums = new PrimitivePairs();
+		for (AccountRecordExpiries scan : scans) {
+			for (ExpirableTxnRecord record : scan.payerRecords) {
 				stage(record);
 			}
-			var expiry = record.getExpiry();
-			if (expiry != lastAdded) {
-				expiries.add(new AbstractMap.SimpleImmutableEntry<>(num, expiry));
-				lastAdded = expiry;
-			}
+			payerNums.addAll(scan.num, scan.payerExpiries);
+			historicalNums.addAll(scan.num, scan.historicalExpiries);
 		}
+		payerExpiries.trackAll(payerNums.nums, payerNums.expiries, payerNums.size);
+		payerExpiries.sortBuckets();
+		historicalExpiries.trackAll(historicalNums.nums, historicalNums.expiries, historicalNums.size);
+		historicalExpiries.sortBuckets();
+		payerRecords.forEach(this::stage);
+
+		txnHistories.values().parallelStream().forEach(TxnIdRecentHistory::observeStaged);
 	}
 
 	void stage(ExpirableTxnRecord record) {
@@ -97,13 +121,21 @@ public class ExpiryManager {
 	}
 
 	public void purgeExpiredRecordsAt(long now, HederaLedger ledger) {
+		long start = System.nanoTime();
+		int numPurged = 0;
+
 		sharedNow = now;
 		while (historicalExpiries.hasExpiringAt(now)) {
-			ledger.purgeExpiredRecords(accountWith(historicalExpiries.expireNextAt(now)), now);
+			ledger.purgeExpiredRecords(accountWith(historicalExpiries.expireNextNumAt(now)), now);
+			numPurged++;
 		}
 		while (payerExpiries.hasExpiringAt(now)) {
-			ledger.purgeExpiredPayerRecords(accountWith(payerExpiries.expireNextAt(now)), now, this::updateHistory);
+			ledger.purgeExpiredPayerRecords(accountWith(payerExpiries.expireNextNumAt(now)), now, this::updateHistory);
+			numPurged++;
 		}
+		numPurged += payerRecords.purgeExpiredAt(now, this::updateHistory);
+
+		stats.recordPurgeDone(numPurged, (System.nanoTime() - start) / 1_000.0);
 	}
 
 	void updateHistory(ExpirableTxnRecord record) {
@@ -124,4 +156,23 @@ public class ExpiryManager {
 				.setAccountNum(num)
 				.build();
 	}
+
+	private static final class PrimitivePairs {
+		private long[] nums = new long[64];
+		private long[] expiries = new long[64];
+		private int size = 0;
+
+		void addAll(long num, long[] numExpiries) {
+			int needed = size + numExpiries.length;
+			if (needed > nums.length) {
+				int capacity = Math.max(needed, 2 * nums.length);
+				nums = Arrays.copyOf(nums, capacity);
+				expiries = Arrays.copyOf(expiries, capacity);
+			}
+			for (long expiry : numExpiries) {
+				nums[size] = num;
+				expiries[size++] = expiry;
+			}
+		}
+	}
 }
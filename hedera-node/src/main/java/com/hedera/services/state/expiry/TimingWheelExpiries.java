@@ -0,0 +1,325 @@
+package com.hedera.services.state.expiry;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import java.util.Arrays;
+
+/**
+ * A {@link KeyedExpirations} for non-negative {@code long} ids that keeps one bucket
+ * per second on a timing wheel spanning the next {@code wheelSeconds} seconds, and
+ * any expiry beyond that horizon on a coarser overflow level (a primitive min-heap)
+ * whose entries cascade onto the wheel as it turns.
+ *
+ * <p>Tracking the same id more than once in the same second is coalesced into a single
+ * expiration. Ids in a bucket expire in the order first tracked, unless the buckets
+ * are sorted via {@link TimingWheelExpiries#sortBuckets()} after a bulk load. An
+ * expiry earlier than the current position of the wheel is treated as expiring at
+ * that position.
+ *
+ * @author Michael Tinker
+ */
+public class TimingWheelExpiries implements KeyedExpirations<Long> {
+	public static final int DEFAULT_WHEEL_SECONDS = 512;
+
+	private final int mask;
+	private final Bucket[] wheel;
+	private final OverflowHeap overflow = new OverflowHeap();
+
+	long cursor = 0L;
+	int numOnWheel = 0;
+
+	public TimingWheelExpiries() {
+		this(DEFAULT_WHEEL_SECONDS);
+	}
+
+	public TimingWheelExpiries(int wheelSeconds) {
+		if (wheelSeconds < 1 || Integer.bitCount(wheelSeconds) != 1) {
+			throw new IllegalArgumentException(String.format(
+					"Wheel size must be a positive power of two, not %d!", wheelSeconds));
+		}
+		mask = wheelSeconds - 1;
+		wheel = new Bucket[wheelSeconds];
+		for (int i = 0; i < wheelSeconds; i++) {
+			wheel[i] = new Bucket();
+		}
+	}
+
+	@Override
+	public void track(Long id, long expiry) {
+		trackNum(id, expiry);
+	}
+
+	@Override
+	public boolean hasExpiringAt(long now) {
+		return advanceToDueBucket(now);
+	}
+
+	@Override
+	public Long expireNextAt(long now) {
+		return expireNextNumAt(now);
+	}
+
+	public void trackNum(long id, long expiry) {
+		if (size() == 0) {
+			cursor = expiry;
+		}
+		place(id, expiry);
+	}
+
+	private void place(long id, long expiry) {
+		if (id < 0) {
+			throw new IllegalArgumentException(String.format("Cannot track negative id %d!", id));
+		}
+		if (expiry < cursor) {
+			expiry = cursor;
+		}
+		if (expiry - cursor <= mask) {
+			if (wheel[slotOf(expiry)].add(id)) {
+				numOnWheel++;
+			}
+		} else {
+			overflow.push(expiry, id);
+		}
+	}
+
+	/**
+	 * Tracks the first {@code n} (id, expiry) pairs from the given arrays, first moving
+	 * the wheel back to the earliest given expiry if nothing else is tracked. So the
+	 * pairs may come in any order without any of their expiries being moved later.
+	 *
+	 * @param ids the ids to track.
+	 * @param expiries the expiries of the ids.
+	 * @param n the number of pairs to track.
+	 */
+	public void trackAll(long[] ids, long[] expiries, int n) {
+		if (n == 0) {
+			return;
+		}
+		if (size() == 0) {
+			long earliest = Long.MAX_VALUE;
+			for (int i = 0; i < n; i++) {
+				earliest = Math.min(earliest, expiries[i]);
+			}
+			cursor = earliest;
+		}
+		for (int i = 0; i < n; i++) {
+			place(ids[i], expiries[i]);
+		}
+	}
+
+	public long expireNextNumAt(long now) {
+		if (size() == 0) {
+			throw new IllegalStateException("No ids are queued for expiration!");
+		}
+		if (!advanceToDueBucket(now)) {
+			throw new IllegalArgumentException("Next id is not expired!");
+		}
+		numOnWheel--;
+		return wheel[slotOf(cursor)].next();
+	}
+
+	/**
+	 * Sorts the ids in each bucket in ascending order; useful after a bulk load,
+	 * when the order in which ids were tracked has no meaning.
+	 */
+	public void sortBuckets() {
+		for (Bucket bucket : wheel) {
+			bucket.sortRemaining();
+		}
+	}
+
+	public int size() {
+		return numOnWheel + overflow.size;
+	}
+
+	private boolean advanceToDueBucket(long now) {
+		while (size() > 0 && cursor <= now) {
+			if (numOnWheel == 0) {
+				long nextOverflow = overflow.peekExpiry();
+				if (nextOverflow > now) {
+					return false;
+				}
+				cursor = nextOverflow;
+				cascade();
+				continue;
+			}
+			if (wheel[slotOf(cursor)].hasNext()) {
+				return true;
+			}
+			cursor++;
+			cascade();
+		}
+		return false;
+	}
+
+	private void cascade() {
+		long horizon = cursor + mask;
+		while (overflow.size > 0 && overflow.peekExpiry() <= horizon) {
+			long expiry = overflow.peekExpiry();
+			long id = overflow.popId();
+			if (wheel[slotOf(expiry)].add(id)) {
+				numOnWheel++;
+			}
+		}
+	}
+
+	private int slotOf(long expiry) {
+		return (int)(expiry & mask);
+	}
+
+	/**
+	 * The ids expiring in one second, in the order first added; with an open-addressing
+	 * table of the same ids to coalesce repeats. Buckets are reused as the wheel turns.
+	 */
+	static final class Bucket {
+		private static final long FREE = -1L;
+		private static final int INITIAL_CAPACITY = 4;
+
+		long[] ids = new long[INITIAL_CAPACITY];
+		long[] table = newTable(2 * INITIAL_CAPACITY);
+		int size = 0;
+		int nextIndex = 0;
+
+		boolean add(long id) {
+			int i = indexFor(id, table);
+			if (table[i] == id) {
+				return false;
+			}
+			if (size == ids.length) {
+				grow();
+				i = indexFor(id, table);
+			}
+			table[i] = id;
+			ids[size++] = id;
+			return true;
+		}
+
+		boolean hasNext() {
+			return nextIndex < size;
+		}
+
+		long next() {
+			long id = ids[nextIndex++];
+			if (nextIndex == size) {
+				clear();
+			}
+			return id;
+		}
+
+		void sortRemaining() {
+			Arrays.sort(ids, nextIndex, size);
+		}
+
+		private void clear() {
+			if (size > 0) {
+				Arrays.fill(table, FREE);
+			}
+			size = 0;
+			nextIndex = 0;
+		}
+
+		private void grow() {
+			ids = Arrays.copyOf(ids, 2 * ids.length);
+			table = newTable(2 * ids.length);
+			for (int j = 0; j < size; j++) {
+				table[indexFor(ids[j], table)] = ids[j];
+			}
+		}
+
+		private static int indexFor(long id, long[] table) {
+			int mask = table.length - 1;
+			int h = (int)(id ^ (id >>> 32)) * 0x9E3779B9;
+			int i = (h ^ (h >>> 16)) & mask;
+			while (table[i] != FREE && table[i] != id) {
+				i = (i + 1) & mask;
+			}
+			return i;
+		}
+
+		private static long[] newTable(int capacity) {
+			long[] table = new long[capacity];
+			Arrays.fill(table, FREE);
+			return table;
+		}
+	}
+
+	/**
+	 * A binary min-heap of (expiry, id) pairs in parallel primitive arrays,
+	 * ordered by expiry and then id.
+	 */
+	static final class OverflowHeap {
+		long[] expiries = new long[16];
+		long[] ids = new long[16];
+		int size = 0;
+
+		void push(long expiry, long id) {
+			if (size == expiries.length) {
+				expiries = Arrays.copyOf(expiries, 2 * size);
+				ids = Arrays.copyOf(ids, 2 * size);
+			}
+			int i = size++;
+			while (i > 0) {
+				int parent = (i - 1) >>> 1;
+				if (!precedes(expiry, id, expiries[parent], ids[parent])) {
+					break;
+				}
+				expiries[i] = expiries[parent];
+				ids[i] = ids[parent];
+				i = parent;
+			}
+			expiries[i] = expiry;
+			ids[i] = id;
+		}
+
+		long peekExpiry() {
+			return expiries[0];
+		}
+
+		long popId() {
+			long top = ids[0];
+			size--;
+			long expiry = expiries[size];
+			long id = ids[size];
+			int i = 0;
+			int half = size >>> 1;
+			while (i < half) {
+				int child = 2 * i + 1;
+				int right = child + 1;
+				if (right < size && precedes(expiries[right], ids[right], expiries[child], ids[child])) {
+					child = right;
+				}
+				if (!precedes(expiries[child], ids[child], expiry, id)) {
+					break;
+				}
+				expiries[i] = expiries[child];
+				ids[i] = ids[child];
+				i = child;
+			}
+			expiries[i] = expiry;
+			ids[i] = id;
+			return top;
+		}
+
+		private static boolean precedes(long aExpiry, long aId, long bExpiry, long bId) {
+			return aExpiry < bExpiry || (aExpiry == bExpiry && aId < bId);
+		}
+	}
+}
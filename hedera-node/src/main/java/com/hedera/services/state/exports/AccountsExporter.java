@@ -20,10 +20,12 @@ package com.hedera.services.state.exports;
  * ‍
  */
 
+import com.hedera.services.state.initialization.AccountsScan;
 import com.hedera.services.state.merkle.MerkleEntityId;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.swirlds.fcmap.FCMap;
 
 public interface AccountsExporter {
 	void toFile(FCMap<MerkleEntityId, MerkleAccount> accounts, String path) throws Exception;
+	void toFile(AccountsScan scan, String path) throws Exception;
 }
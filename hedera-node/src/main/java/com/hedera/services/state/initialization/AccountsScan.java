@@ -0,0 +1,219 @@
+package com.hedera.services.state.initialization;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.ledger.accounts.AccountIdSet;
+import com.hedera.services.state.expiry.AccountRecordExpiries;
+import com.hedera.services.state.merkle.MerkleAccount;
+import com.hedera.services.state.merkle.MerkleEntityId;
+import com.swirlds.fcmap.FCMap;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Everything the node needs to know about the accounts in its saved state
+ * at startup, gathered by a single traversal of the accounts map followed by
+ * a single fork-join pass over the resulting snapshot. This pass computes the
+ * index of existing ids used by the ledger's backing accounts, the aggregate
+ * facts checked by the ledger validator, and the record expiries from which
+ * the expiry manager resumes tracking; the accounts exporter also reads the
+ * snapshot instead of traversing the map again.
+ *
+ * @author Michael Tinker
+ */
+public class AccountsScan {
+	static Logger log = LogManager.getLogger(AccountsScan.class);
+
+	static final int LEAF_SIZE = 4_096;
+
+	private final MerkleEntityId[] ids;
+	private final MerkleAccount[] accounts;
+	private final AccountIdSet existingIds;
+	private final AccountRecordExpiries[] recordExpiries;
+	private final Summary summary;
+
+	private AccountsScan(
+			MerkleEntityId[] ids,
+			MerkleAccount[] accounts,
+			AccountIdSet existingIds,
+			AccountRecordExpiries[] recordExpiries,
+			Summary summary
+	) {
+		this.ids = ids;
+		this.accounts = accounts;
+		this.existingIds = existingIds;
+		this.recordExpiries = recordExpiries;
+		this.summary = summary;
+	}
+
+	public static AccountsScan of(FCMap<MerkleEntityId, MerkleAccount> accountsMap) {
+		return of(accountsMap, ForkJoinPool.commonPool());
+	}
+
+	static AccountsScan of(FCMap<MerkleEntityId, MerkleAccount> accountsMap, ForkJoinPool pool) {
+		long start = System.nanoTime();
+
+		int n = accountsMap.size();
+		var ids = new MerkleEntityId[n];
+		var accounts = new MerkleAccount[n];
+		var existingIds = new AccountIdSet(n);
+		int[] next = { 0 };
+		accountsMap.forEach((id, account) -> {
+			ids[next[0]] = id;
+			accounts[next[0]++] = account;
+			existingIds.add(id.getShard(), id.getRealm(), id.getNum());
+		});
+		long snapshotDone = System.nanoTime();
+
+		var recordExpiries = new AccountRecordExpiries[n];
+		var summary = pool.invoke(new Pass(ids, accounts, recordExpiries, 0, n));
+		long passDone = System.nanoTime();
+
+		log.info("Scanned {} accounts in {}ms ({}ms to snapshot the map, {}ms for the parallel pass)",
+				n,
+				(passDone - start) / 1_000_000L,
+				(snapshotDone - start) / 1_000_000L,
+				(passDone - snapshotDone) / 1_000_000L);
+		return new AccountsScan(ids, accounts, existingIds, recordExpiries, summary);
+	}
+
+	public int size() {
+		return ids.length;
+	}
+
+	public List<MerkleEntityId> ids() {
+		return Collections.unmodifiableList(Arrays.asList(ids));
+	}
+
+	public List<MerkleAccount> accounts() {
+		return Collections.unmodifiableList(Arrays.asList(accounts));
+	}
+
+	/**
+	 * Returns the index of existing account ids built during the scan. Note this
+	 * index is meant to be handed off to the ledger's backing accounts, which will
+	 * keep it current as accounts are created and removed.
+	 *
+	 * @return the ids of all scanned accounts.
+	 */
+	public AccountIdSet existingIds() {
+		return existingIds;
+	}
+
+	public List<AccountRecordExpiries> recordExpiries() {
+		return Collections.unmodifiableList(Arrays.asList(recordExpiries));
+	}
+
+	public long totalBalance() {
+		return summary.totalBalance;
+	}
+
+	/**
+	 * Checks if every scanned account has the given shard and realm, and a number in the
+	 * given (inclusive) range.
+	 *
+	 * @param shard the only acceptable shard.
+	 * @param realm the only acceptable realm.
+	 * @param minNum the least acceptable account number.
+	 * @param maxNum the greatest acceptable account number.
+	 * @return whether all scanned ids are acceptable.
+	 */
+	public boolean hasOnlyIdsWithin(long shard, long realm, long minNum, long maxNum) {
+		if (ids.length == 0) {
+			return true;
+		}
+		return summary.minShard == shard && summary.maxShard == shard
+				&& summary.minRealm == realm && summary.maxRealm == realm
+				&& summary.minNum >= minNum && summary.maxNum <= maxNum;
+	}
+
+	private static final class Summary {
+		private long totalBalance = 0;
+		private long minShard = Long.MAX_VALUE, maxShard = Long.MIN_VALUE;
+		private long minRealm = Long.MAX_VALUE, maxRealm = Long.MIN_VALUE;
+		private long minNum = Long.MAX_VALUE, maxNum = Long.MIN_VALUE;
+
+		void include(MerkleEntityId id, MerkleAccount account) {
+			totalBalance += account.getBalance();
+			minShard = Math.min(minShard, id.getShard());
+			maxShard = Math.max(maxShard, id.getShard());
+			minRealm = Math.min(minRealm, id.getRealm());
+			maxRealm = Math.max(maxRealm, id.getRealm());
+			minNum = Math.min(minNum, id.getNum());
+			maxNum = Math.max(maxNum, id.getNum());
+		}
+
+		Summary merge(Summary that) {
+			totalBalance += that.totalBalance;
+			minShard = Math.min(minShard, that.minShard);
+			maxShard = Math.max(maxShard, that.maxShard);
+			minRealm = Math.min(minRealm, that.minRealm);
+			maxRealm = Math.max(maxRealm, that.maxRealm);
+			minNum = Math.min(minNum, that.minNum);
+			maxNum = Math.max(maxNum, that.maxNum);
+			return this;
+		}
+	}
+
+	private static final class Pass extends RecursiveTask<Summary> {
+		private final MerkleEntityId[] ids;
+		private final MerkleAccount[] accounts;
+		private final AccountRecordExpiries[] recordExpiries;
+		private final int from, to;
+
+		Pass(
+				MerkleEntityId[] ids,
+				MerkleAccount[] accounts,
+				AccountRecordExpiries[] recordExpiries,
+				int from,
+				int to
+		) {
+			this.ids = ids;
+			this.accounts = accounts;
+			this.recordExpiries = recordExpiries;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected Summary compute() {
+			if (to - from <= LEAF_SIZE) {
+				var summary = new Summary();
+				for (int i = from; i < to; i++) {
+					summary.include(ids[i], accounts[i]);
+					recordExpiries[i] = AccountRecordExpiries.of(ids[i].getNum(), accounts[i]);
+				}
+				return summary;
+			}
+			int mid = (from + to) >>> 1;
+			var left = new Pass(ids, accounts, recordExpiries, from, mid);
+			left.fork();
+			var right = new Pass(ids, accounts, recordExpiries, mid, to).compute();
+			return left.join().merge(right);
+		}
+	}
+}
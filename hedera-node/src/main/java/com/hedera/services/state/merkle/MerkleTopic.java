@@ -43,12 +43,8 @@ import org.apache.logging.log4j.Logger;
 import org.spongycastle.util.encoders.Hex;
 
 import javax.annotation.Nullable;
-import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.IOException;
-import java.io.ObjectOutputStream;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -298,20 +294,39 @@ public final class MerkleTopic extends AbstractMerkleNode implements FCMValue, M
      * Increment the sequence number if this is not the initial transaction on the topic (the create), and update the
      * running hash of the Transactions on this topic (submitted messages and modifications of the topic).
      *
+     * @param payer
      * @param message
      * @param topicId
      * @param consensusTimestamp
-     * @throws NoSuchAlgorithmException If the crypto library on this system doesn't support the SHA384 algorithm
      */
     public void updateRunningHashAndSequenceNumber(
             AccountID payer,
             @Nullable byte[] message,
             @Nullable TopicID topicId,
             @Nullable Instant consensusTimestamp
-    ) throws NoSuchAlgorithmException, IOException {
+    ) {
         if (null == message) {
             message = new byte[0];
         }
+        var messageDigest = RunningHashEngine.forCurrentThread().messageDigestOf(message);
+        updateRunningHashAndSequenceNumberGivenDigest(payer, messageDigest, topicId, consensusTimestamp);
+    }
+
+    /**
+     * As {@link MerkleTopic#updateRunningHashAndSequenceNumber(AccountID, byte[], TopicID, Instant)}, but given the
+     * SHA-384 digest of the message instead of the message itself (so it can be computed before handling).
+     *
+     * @param payer
+     * @param messageDigest
+     * @param topicId
+     * @param consensusTimestamp
+     */
+    public void updateRunningHashAndSequenceNumberGivenDigest(
+            AccountID payer,
+            byte[] messageDigest,
+            @Nullable TopicID topicId,
+            @Nullable Instant consensusTimestamp
+    ) {
         if (null == topicId) {
             topicId = TopicID.newBuilder().build();
         }
@@ -319,24 +334,9 @@ public final class MerkleTopic extends AbstractMerkleNode implements FCMValue, M
             consensusTimestamp = Instant.ofEpochSecond(0);
         }
 
-        var boas = new ByteArrayOutputStream();
-        try (var out = new ObjectOutputStream(boas)) {
-            out.writeObject(getRunningHash());
-            out.writeLong(RUNNING_HASH_VERSION);
-            out.writeLong(payer.getShardNum());
-            out.writeLong(payer.getRealmNum());
-            out.writeLong(payer.getAccountNum());
-            out.writeLong(topicId.getShardNum());
-            out.writeLong(topicId.getRealmNum());
-            out.writeLong(topicId.getTopicNum());
-            out.writeLong(consensusTimestamp.getEpochSecond());
-            out.writeInt(consensusTimestamp.getNano());
-            ++sequenceNumber;
-            out.writeLong(sequenceNumber);
-            out.writeObject(MessageDigest.getInstance("SHA-384").digest(message));
-            out.flush();
-            runningHash = MessageDigest.getInstance("SHA-384").digest(boas.toByteArray());
-        }
+        ++sequenceNumber;
+        runningHash = RunningHashEngine.forCurrentThread().nextRunningHash(
+                getRunningHash(), payer, topicId, consensusTimestamp, sequenceNumber, messageDigest);
     }
 
     public static class KeySerializationException extends RuntimeException {
@@ -0,0 +1,141 @@
+package com.hedera.services.state.merkle;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.protobuf.ByteString;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.TopicID;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+
+import static com.hedera.services.state.merkle.MerkleTopic.RUNNING_HASH_BYTE_ARRAY_SIZE;
+import static com.hedera.services.state.merkle.MerkleTopic.RUNNING_HASH_VERSION;
+
+/**
+ * Computes the next (v3) running hash of a topic from exactly the bytes an
+ * {@link java.io.ObjectOutputStream} produces for the prior running hash, the message
+ * metadata, and the message digest; but by writing those bytes into a reused buffer and
+ * hashing them with a reused {@link MessageDigest}, instead of allocating a stream, a
+ * byte array copy, and two digests per message.
+ *
+ * Instances are not thread-safe; use {@link RunningHashEngine#forCurrentThread()}.
+ *
+ * @author Michael Tinker
+ */
+public final class RunningHashEngine {
+	static final String HASH_ALGORITHM = "SHA-384";
+
+	/* Stream magic and version, then TC_ARRAY with a new class descriptor for byte[]. */
+	static final byte[] STREAM_AND_ARRAY_CLASS_HEADER = {
+			(byte)0xAC, (byte)0xED, 0x00, 0x05,
+			0x75, 0x72, 0x00, 0x02, '[', 'B',
+			(byte)0xAC, (byte)0xF3, 0x17, (byte)0xF8, 0x06, 0x08, 0x54, (byte)0xE0,
+			0x02, 0x00, 0x00, 0x78, 0x70
+	};
+	/* Version, payer, topic, consensus time, and sequence number. */
+	static final int METADATA_LEN = 9 * Long.BYTES + Integer.BYTES;
+	/* TC_BLOCKDATA with a one-byte length. */
+	static final byte[] METADATA_HEADER = { 0x77, (byte)METADATA_LEN };
+	/* TC_ARRAY with a TC_REFERENCE to the byte[] class descriptor. */
+	static final byte[] ARRAY_REFERENCE_HEADER = { 0x75, 0x71, 0x00, 0x7E, 0x00, 0x00 };
+
+	private static final ThreadLocal<RunningHashEngine> ENGINES = ThreadLocal.withInitial(RunningHashEngine::new);
+
+	private final MessageDigest digest;
+	private ByteBuffer buffer;
+
+	public static RunningHashEngine forCurrentThread() {
+		return ENGINES.get();
+	}
+
+	RunningHashEngine() {
+		try {
+			digest = MessageDigest.getInstance(HASH_ALGORITHM);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("No " + HASH_ALGORITHM + " digest available!", e);
+		}
+		buffer = ByteBuffer.allocate(serializedLen(RUNNING_HASH_BYTE_ARRAY_SIZE, RUNNING_HASH_BYTE_ARRAY_SIZE));
+	}
+
+	public byte[] messageDigestOf(byte[] message) {
+		return digest.digest(message);
+	}
+
+	public byte[] messageDigestOf(ByteString message) {
+		digest.update(message.asReadOnlyByteBuffer());
+		return digest.digest();
+	}
+
+	/**
+	 * Returns the running hash that follows the given prior running hash, for a message
+	 * with the given digest, metadata, and (already incremented) sequence number.
+	 *
+	 * @param priorRunningHash the topic's current running hash
+	 * @param payer the payer of the message
+	 * @param topicId the topic
+	 * @param consensusTimestamp the consensus time of the message
+	 * @param sequenceNumber the sequence number of the message
+	 * @param messageDigest the SHA-384 digest of the message
+	 * @return the new running hash
+	 */
+	public byte[] nextRunningHash(
+			byte[] priorRunningHash,
+			AccountID payer,
+			TopicID topicId,
+			Instant consensusTimestamp,
+			long sequenceNumber,
+			byte[] messageDigest
+	) {
+		int len = serializedLen(priorRunningHash.length, messageDigest.length);
+		if (buffer.capacity() < len) {
+			buffer = ByteBuffer.allocate(len);
+		}
+		buffer.clear();
+		buffer.put(STREAM_AND_ARRAY_CLASS_HEADER)
+				.putInt(priorRunningHash.length)
+				.put(priorRunningHash)
+				.put(METADATA_HEADER)
+				.putLong(RUNNING_HASH_VERSION)
+				.putLong(payer.getShardNum())
+				.putLong(payer.getRealmNum())
+				.putLong(payer.getAccountNum())
+				.putLong(topicId.getShardNum())
+				.putLong(topicId.getRealmNum())
+				.putLong(topicId.getTopicNum())
+				.putLong(consensusTimestamp.getEpochSecond())
+				.putInt(consensusTimestamp.getNano())
+				.putLong(sequenceNumber)
+				.put(ARRAY_REFERENCE_HEADER)
+				.putInt(messageDigest.length)
+				.put(messageDigest);
+		digest.update(buffer.array(), 0, buffer.position());
+		return digest.digest();
+	}
+
+	static int serializedLen(int priorLen, int digestLen) {
+		return STREAM_AND_ARRAY_CLASS_HEADER.length + Integer.BYTES + priorLen
+				+ METADATA_HEADER.length + METADATA_LEN
+				+ ARRAY_REFERENCE_HEADER.length + Integer.BYTES + digestLen;
+	}
+}
@@ -21,9 +21,17 @@ package com.hedera.services.state.migration;
  */
 
 import com.hedera.services.context.ServicesContext;
+import com.hedera.services.contracts.sources.PagedStorageMap;
+import com.hedera.services.state.merkle.MerkleBlobMeta;
 import com.hedera.services.utils.Pause;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import static java.util.stream.Collectors.toList;
 
 public class DefaultStateMigrations implements StateMigrations {
+	private static final Logger log = LogManager.getLogger(DefaultStateMigrations.class);
+
 	private final Pause pause;
 
 	public DefaultStateMigrations(Pause pause) {
@@ -32,6 +40,22 @@ public class DefaultStateMigrations implements StateMigrations {
 
 	@Override
 	public void runAllFor(ServicesContext ctx) {
-		/* There are no applicable state migrations at this time. */
+		migrateLegacyContractStorage(ctx);
+	}
+
+	/* Re-lays any whole-blob contract storage from before paged storage. The migration records the
+	layout version in the state, so a restart from a later saved state, or a state received on
+	reconnect, is not rescanned. */
+	private void migrateLegacyContractStorage(ServicesContext ctx) {
+		var storage = new PagedStorageMap(ctx.blobStore());
+		if (storage.isLegacyMigrated()) {
+			log.info("Contract storage is already in the paged layout");
+			return;
+		}
+		var paths = ctx.storage().keySet().stream()
+				.map(MerkleBlobMeta::getPath)
+				.collect(toList());
+		int migrated = storage.migrateLegacy(paths);
+		log.info("Migrated {} contract storage blob(s) to paged layout", migrated);
 	}
 }
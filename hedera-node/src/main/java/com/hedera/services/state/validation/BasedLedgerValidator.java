@@ -22,6 +22,7 @@ package com.hedera.services.state.validation;
 
 import com.hedera.services.config.HederaNumbers;
 import com.hedera.services.context.properties.PropertySource;
+import com.hedera.services.state.initialization.AccountsScan;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleEntityId;
 import com.swirlds.fcmap.FCMap;
@@ -37,9 +38,22 @@ public class BasedLedgerValidator implements LedgerValidator {
 
 	@Override
 	public void assertIdsAreValid(FCMap<MerkleEntityId, MerkleAccount> accounts) {
+		assertAllValid(accounts.keySet());
+	}
+
+	@Override
+	public void assertIdsAreValid(AccountsScan scan) {
+		long maxAccountNum = properties.getLongProperty("ledger.maxAccountNum");
+		if (!scan.hasOnlyIdsWithin(hederaNums.shard(), hederaNums.realm(), 1, maxAccountNum)) {
+			/* Only revisit the ids to find one worth reporting. */
+			assertAllValid(scan.ids());
+		}
+	}
+
+	private void assertAllValid(Iterable<MerkleEntityId> ids) {
 		long maxAccountNum = properties.getLongProperty("ledger.maxAccountNum");
 
-		for (MerkleEntityId id : accounts.keySet()) {
+		for (MerkleEntityId id : ids) {
 			if (id.getRealm() != hederaNums.realm()) {
 				throw new IllegalStateException(String.format("Invalid realm in account %s", id.toAbbrevString()));
 			}
@@ -59,4 +73,9 @@ public class BasedLedgerValidator implements LedgerValidator {
 
 		return expectedFloat == actualFloat;
 	}
+
+	@Override
+	public boolean hasExpectedTotalBalance(AccountsScan scan) {
+		return properties.getLongProperty("ledger.totalTinyBarFloat") == scan.totalBalance();
+	}
 }
@@ -20,6 +20,7 @@ package com.hedera.services.state.validation;
  * ‍
  */
 
+import com.hedera.services.state.initialization.AccountsScan;
 import com.hedera.services.state.merkle.MerkleEntityId;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.swirlds.fcmap.FCMap;
@@ -27,4 +28,6 @@ import com.swirlds.fcmap.FCMap;
 public interface LedgerValidator {
 	void assertIdsAreValid(FCMap<MerkleEntityId, MerkleAccount> accounts);
 	boolean hasExpectedTotalBalance(FCMap<MerkleEntityId, MerkleAccount> accounts);
+	void assertIdsAreValid(AccountsScan scan);
+	boolean hasExpectedTotalBalance(AccountsScan scan);
 }
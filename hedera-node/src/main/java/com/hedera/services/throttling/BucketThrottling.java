@@ -24,6 +24,7 @@ import com.hedera.services.context.properties.PropertySource;
 import com.hedera.services.throttling.bucket.BucketConfig;
 import com.hedera.services.throttling.bucket.BucketThrottle;
 import com.hedera.services.throttling.bucket.CapacityTest;
+import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.HederaFunctionality;
 import com.swirlds.common.AddressBook;
 import org.apache.logging.log4j.LogManager;
@@ -63,7 +64,7 @@ public class BucketThrottling implements FunctionalityThrottling {
 			.sorted(comparing(Object::toString))
 			.toArray(HederaFunctionality[]::new);
 
-	EnumMap<HederaFunctionality, CapacityTest> capacities = new EnumMap<>(HederaFunctionality.class);
+	volatile EnumMap<HederaFunctionality, CapacityTest> capacities = new EnumMap<>(HederaFunctionality.class);
 
 	public BucketThrottling(
 			Supplier<AddressBook> book,
@@ -81,9 +82,18 @@ public class BucketThrottling implements FunctionalityThrottling {
 	public boolean shouldThrottle(HederaFunctionality function) {
 		var capacity = capacities.get(function);
 		if (capacity != null) {
-			var answer = !capacity.isAvailable();
-			log.debug("Should throttle {}? {} says, '{}'.", function, capacity, answer);
-			return answer;
+			return !capacity.isAvailable();
+		} else {
+			log.warn("No capacity test was available for {}, so throttling it!", function);
+			return true;
+		}
+	}
+
+	@Override
+	public boolean shouldThrottle(HederaFunctionality function, AccountID payer) {
+		var capacity = capacities.get(function);
+		if (capacity != null) {
+			return !capacity.isAvailable(payer);
 		} else {
 			log.warn("No capacity test was available for {}, so throttling it!", function);
 			return true;
@@ -94,13 +104,15 @@ public class BucketThrottling implements FunctionalityThrottling {
 		var throttleProps = getThrottleProps.apply(properties, book.get().getSize());
 		var config = getBuckets.apply(throttleProps);
 		var throttles = throttlesGiven(throttleProps, config);
-		capacities.clear();
+		var newCapacities = new EnumMap<HederaFunctionality, CapacityTest>(HederaFunctionality.class);
 		Arrays.stream(functions)
-				.forEach(function -> capacities.put(function, testGiven(throttleProps, function, throttles)));
+				.forEach(function -> newCapacities.put(function, testGiven(throttleProps, function, throttles)));
+		/* Swap in the new tests all at once, so concurrent callers never see a partial rebuild. */
+		capacities = newCapacities;
 		var sb = new StringBuilder("Resolved node-level throttling:");
 		List.of(functions).stream()
 				.sorted(comparing(HederaFunctionality::toString))
-				.forEach(f -> sb.append(String.format("\n  %s=%s", f, capacities.get(f))));
+				.forEach(f -> sb.append(String.format("\n  %s=%s", f, newCapacities.get(f))));
 		displayFn.accept(sb.toString());
 	}
 
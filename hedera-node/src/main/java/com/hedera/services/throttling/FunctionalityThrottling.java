@@ -20,10 +20,15 @@ package com.hedera.services.throttling;
  * ‍
  */
 
+import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.HederaFunctionality;
 
 import java.util.EnumSet;
 
 public interface FunctionalityThrottling {
 	boolean shouldThrottle(HederaFunctionality function);
+
+	default boolean shouldThrottle(HederaFunctionality function, AccountID payer) {
+		return shouldThrottle(function);
+	}
 }
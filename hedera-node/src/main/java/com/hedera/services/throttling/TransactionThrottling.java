@@ -37,8 +37,9 @@ public class TransactionThrottling {
 
 	public boolean shouldThrottle(TransactionBody txn) {
 		Optional<HederaFunctionality> function = functionToThrottle(txn);
+		var payer = txn.getTransactionID().getAccountID();
 
-		return function.map(throttles::shouldThrottle).orElse(true);
+		return function.map(f -> throttles.shouldThrottle(f, payer)).orElse(true);
 	}
 
 	private Optional<HederaFunctionality> functionToThrottle(TransactionBody txn) {
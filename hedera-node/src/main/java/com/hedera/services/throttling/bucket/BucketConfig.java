@@ -22,7 +22,6 @@ package com.hedera.services.throttling.bucket;
 
 import com.hedera.services.context.properties.PropertySource;
 import com.hedera.services.throttling.ThrottlingPropsBuilder;
-import com.swirlds.throttle.Throttle;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -46,11 +45,13 @@ public class BucketConfig {
 	public static final String DEFAULT_CAPACITY_PROPERTY = API_THROTTLING_DEFAULT_PREFIX + ".capacity";
 	public static final String DEFAULT_BURST_PROPERTY = API_THROTTLING_DEFAULT_PREFIX + ".burstPeriod";
 	public static final String DEFAULT_OVERFLOW_PROPERTY = "<NONE>";
+	public static final String DEFAULT_PAYER_SHARE_PROPERTY = API_THROTTLING_DEFAULT_PREFIX + ".payerShare";
 
 	public static final String DEFAULT_OVERFLOW = "<NONE>";
+	public static final double DEFAULT_PAYER_SHARE = 1.0;
 
 	public static final Pattern validPropertySpecPattern = Pattern.compile(
-			API_THROTTLING_BUCKETS_PREFIX + "[.](\\w+)[.](capacity|burstPeriod|overflow)");
+			API_THROTTLING_BUCKETS_PREFIX + "[.](\\w+)[.](capacity|burstPeriod|overflow|payerShare)");
 
 	public static final UnaryOperator<String> capacityProperty = bucket ->
 			String.format("%s.%s.capacity", API_THROTTLING_BUCKETS_PREFIX, bucket);
@@ -58,6 +59,8 @@ public class BucketConfig {
 			String.format("%s.%s.burstPeriod", API_THROTTLING_BUCKETS_PREFIX, bucket);
 	public static final UnaryOperator<String> overflowProperty = bucket ->
 			String.format("%s.%s.overflow", API_THROTTLING_BUCKETS_PREFIX, bucket);
+	public static final UnaryOperator<String> payerShareProperty = bucket ->
+			String.format("%s.%s.payerShare", API_THROTTLING_BUCKETS_PREFIX, bucket);
 
 	public static List<String> bucketsIn(PropertySource properties) {
 		Set<String> buckets = new HashSet<>();
@@ -85,24 +88,32 @@ public class BucketConfig {
 	private final Optional<String> overflow;
 	private final double capacity;
 	private final double burstPeriod;
+	private final double payerShare;
 	private final String name;
 
-	private BucketConfig(String name, double capacity, double burstPeriod, String overflow) {
+	private BucketConfig(String name, double capacity, double burstPeriod, double payerShare, String overflow) {
 		this.name = name;
 		this.capacity = capacity;
 		this.burstPeriod = burstPeriod;
+		this.payerShare = payerShare;
 		this.overflow = Optional.of(overflow);
 	}
 
-	private BucketConfig(String name, double capacity, double burstPeriod) {
+	private BucketConfig(String name, double capacity, double burstPeriod, double payerShare) {
 		this.name = name;
 		this.capacity = capacity;
 		this.burstPeriod = burstPeriod;
+		this.payerShare = payerShare;
 		this.overflow = Optional.empty();
 	}
 
 	public BucketThrottle asNodeThrottle(int networkSize) {
-		return new BucketThrottle(name, new Throttle((capacity / networkSize) / burstPeriod, burstPeriod));
+		var tps = (capacity / networkSize) / burstPeriod;
+		var throttle = new BucketThrottle(name, new TokenBucket(tps, burstPeriod));
+		if (hasPayerShare()) {
+			throttle.setPayerFairness(new PayerFairness(payerShare, tps, burstPeriod));
+		}
+		return throttle;
 	}
 
 	public static BucketConfig namedIn(PropertySource properties, String name) {
@@ -124,10 +135,20 @@ public class BucketConfig {
 				DEFAULT_BURST_PROPERTY,
 				properties,
 				properties::getDoubleProperty);
+		var payerShare = lookupValueOrFallbackOrDefault(
+				DEFAULT_PAYER_SHARE,
+				payerShareProperty.apply(name),
+				DEFAULT_PAYER_SHARE_PROPERTY,
+				properties,
+				properties::getDoubleProperty);
+		if (payerShare <= 0.0 || payerShare > 1.0) {
+			log.warn("Ignoring payer share {} for bucket {}, not in (0, 1]!", payerShare, name);
+			payerShare = DEFAULT_PAYER_SHARE;
+		}
 
 		return (overflow == DEFAULT_OVERFLOW)
-				? new BucketConfig(name, capacity, burst)
-				: new BucketConfig(name, capacity, burst, overflow);
+				? new BucketConfig(name, capacity, burst, payerShare)
+				: new BucketConfig(name, capacity, burst, payerShare, overflow);
 	}
 
 	private static <T> T lookupValueOrFallbackOrDefault(
@@ -167,4 +188,12 @@ public class BucketConfig {
 	public double burstPeriod() {
 		return burstPeriod;
 	}
+
+	public boolean hasPayerShare() {
+		return payerShare < DEFAULT_PAYER_SHARE;
+	}
+
+	public double payerShare() {
+		return payerShare;
+	}
 }
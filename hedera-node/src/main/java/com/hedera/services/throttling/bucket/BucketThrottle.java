@@ -21,32 +21,53 @@ package com.hedera.services.throttling.bucket;
  */
 
 import com.google.common.base.MoreObjects;
-import com.swirlds.throttle.Throttle;
+import com.hederahashgraph.api.proto.java.AccountID;
 
 import java.util.Optional;
 
 public class BucketThrottle {
 	private final String name;
-	private final Throttle primary;
+	private final TokenBucket primary;
 	private Optional<BucketThrottle> overflow = Optional.empty();
+	private Optional<PayerFairness> payerFairness = Optional.empty();
 
 	static final double EFFECTIVELY_UNLIMITED_CAPACITY = 1_000_000.0;
 
-	public BucketThrottle(Throttle primary) {
+	public BucketThrottle(TokenBucket primary) {
 		this.name = "<N/A>";
 		this.primary = primary;
 	}
 
-	BucketThrottle(String name, Throttle primary) {
+	BucketThrottle(String name, TokenBucket primary) {
 		this.name = name;
 		this.primary = primary;
 	}
 
 	public boolean hasAvailableCapacity(double amount) {
-		return primary.allow(amount) || overflow.map(b -> b.hasAvailableCapacity(amount)).orElse(false);
+		return hasAvailableCapacity(amount, null);
 	}
 
-	Throttle primary() {
+	public boolean hasAvailableCapacity(double amount, AccountID payer) {
+		return primaryAllows(amount, payer)
+				|| (overflow.isPresent() && overflow.get().hasAvailableCapacity(amount, payer));
+	}
+
+	private boolean primaryAllows(double amount, AccountID payer) {
+		if (payer == null || payerFairness.isEmpty()) {
+			return primary.allow(amount);
+		}
+		var fairness = payerFairness.get();
+		if (!fairness.allow(payer, amount)) {
+			return false;
+		}
+		if (primary.allow(amount)) {
+			return true;
+		}
+		fairness.refund(payer, amount);
+		return false;
+	}
+
+	TokenBucket primary() {
 		return primary;
 	}
 
@@ -62,6 +83,18 @@ public class BucketThrottle {
 		return overflow.get();
 	}
 
+	public void setPayerFairness(PayerFairness payerFairness) {
+		this.payerFairness = Optional.of(payerFairness);
+	}
+
+	public boolean hasPayerFairness() {
+		return payerFairness.isPresent();
+	}
+
+	public PayerFairness payerFairness() {
+		return payerFairness.get();
+	}
+
 	public String name() {
 		return name;
 	}
@@ -74,6 +107,7 @@ public class BucketThrottle {
 		var repr = (capacity >= EFFECTIVELY_UNLIMITED_CAPACITY) ? "UNLIMITED" : String.format("%.1f", capacity);
 		helper.add("cap", repr);
 		helper.add("bp", String.format("%.1f", primary.getBurstPeriod()));
+		payerFairness.ifPresent(f -> helper.add("payerShare", String.format("%.2f", f.share())));
 		overflow.ifPresent(o -> helper.add("overflow", o.toString()));
 		return helper.toString();
 	}
@@ -21,6 +21,7 @@ package com.hedera.services.throttling.bucket;
  */
 
 import com.google.common.base.MoreObjects;
+import com.hederahashgraph.api.proto.java.AccountID;
 
 public class CapacityTest {
 	private final double capacityRequired;
@@ -35,6 +36,10 @@ public class CapacityTest {
 		return bucket.hasAvailableCapacity(capacityRequired);
 	}
 
+	public boolean isAvailable(AccountID payer) {
+		return bucket.hasAvailableCapacity(capacityRequired, payer);
+	}
+
 	public double getCapacityRequired() {
 		return capacityRequired;
 	}
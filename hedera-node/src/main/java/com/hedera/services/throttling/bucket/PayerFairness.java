@@ -0,0 +1,98 @@
+package com.hedera.services.throttling.bucket;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hederahashgraph.api.proto.java.AccountID;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * Gives each payer its own sub-bucket holding a fixed share of a shared bucket's rate
+ * and capacity, so that no one payer can use more than that share of the shared bucket.
+ *
+ * <p>Sub-buckets are created on a payer's first request, and dropped once there are
+ * many of them and they have refilled (which means dropping one changes nothing).
+ *
+ * @author Michael Tinker
+ */
+public class PayerFairness {
+	static final int PRUNE_THRESHOLD = 4096;
+
+	private final double share;
+	private final double tps;
+	private final double burstPeriod;
+	private final LongSupplier nanoClock;
+	private final AtomicBoolean pruning = new AtomicBoolean();
+	private final ConcurrentMap<AccountID, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+	public PayerFairness(double share, double tps, double burstPeriod) {
+		this(share, tps, burstPeriod, System::nanoTime);
+	}
+
+	PayerFairness(double share, double tps, double burstPeriod, LongSupplier nanoClock) {
+		if (share <= 0.0 || share >= 1.0) {
+			throw new IllegalArgumentException("Payer share must be in (0, 1), not " + share + "!");
+		}
+		this.share = share;
+		this.tps = tps;
+		this.burstPeriod = burstPeriod;
+		this.nanoClock = nanoClock;
+	}
+
+	public boolean allow(AccountID payer, double amount) {
+		var bucket = buckets.get(payer);
+		if (bucket == null) {
+			if (buckets.size() >= PRUNE_THRESHOLD) {
+				prune();
+			}
+			bucket = buckets.computeIfAbsent(payer, ignore -> new TokenBucket(share * tps, burstPeriod, 1, nanoClock));
+		}
+		return bucket.allow(amount);
+	}
+
+	public void refund(AccountID payer, double amount) {
+		var bucket = buckets.get(payer);
+		if (bucket != null) {
+			bucket.refund(amount);
+		}
+	}
+
+	public double share() {
+		return share;
+	}
+
+	int numTracked() {
+		return buckets.size();
+	}
+
+	private void prune() {
+		if (pruning.compareAndSet(false, true)) {
+			try {
+				buckets.values().removeIf(TokenBucket::isFull);
+			} finally {
+				pruning.set(false);
+			}
+		}
+	}
+}
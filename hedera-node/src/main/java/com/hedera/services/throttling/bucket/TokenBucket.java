@@ -0,0 +1,207 @@
+package com.hedera.services.throttling.bucket;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+import static com.hedera.services.throttling.bucket.BucketThrottle.EFFECTIVELY_UNLIMITED_CAPACITY;
+
+/**
+ * A lock-free token bucket that refills at {@code tps} units per second up to a capacity
+ * of {@code tps * burstPeriod} units.
+ *
+ * <p>Each stripe of the bucket keeps a single "theoretical arrival time" in nanoseconds;
+ * that is, the instant at which the stripe would again be full. Taking {@code amount}
+ * units pushes this instant forward by {@code amount / tps} seconds, and is allowed iff
+ * the stripe would then be full again within one burst period. So a take is one CAS,
+ * with no scheduled refills and no lock.
+ *
+ * <p>Buckets with enough capacity are split into (at most one per core) stripes that
+ * each get an equal share of the rate and capacity. A thread first tries the stripe for
+ * its id, and then the others; so the bucket as a whole never allows more than its
+ * capacity, while threads on different cores rarely contend for the same cache line.
+ *
+ * @author Michael Tinker
+ */
+public class TokenBucket {
+	static final long NANOS_PER_SECOND = 1_000_000_000L;
+	static final double MIN_STRIPE_CAPACITY = 64.0;
+	static final int MAX_STRIPES = Integer.highestOneBit(Runtime.getRuntime().availableProcessors());
+
+	/* Keep each stripe's arrival time on its own cache line. */
+	private static final int STRIPE_STRIDE = 16;
+
+	private final int mask;
+	private final long burstNanos;
+	private final double tps;
+	private final double burstPeriod;
+	private final double stripeNanosPerUnit;
+	private final boolean unlimited;
+	private final LongSupplier nanoClock;
+	private final AtomicLongArray arrivals;
+
+	public TokenBucket(double tps, double burstPeriod) {
+		this(tps, burstPeriod, stripesFor(tps * burstPeriod, MAX_STRIPES), System::nanoTime);
+	}
+
+	TokenBucket(double tps, double burstPeriod, int stripes, LongSupplier nanoClock) {
+		if (stripes < 1 || Integer.bitCount(stripes) != 1) {
+			throw new IllegalArgumentException("Stripes must be a power of two, not " + stripes + "!");
+		}
+		this.tps = tps;
+		this.burstPeriod = burstPeriod;
+		this.nanoClock = nanoClock;
+		this.mask = stripes - 1;
+		this.unlimited = tps * burstPeriod >= EFFECTIVELY_UNLIMITED_CAPACITY;
+		this.burstNanos = (long)(burstPeriod * NANOS_PER_SECOND);
+		this.stripeNanosPerUnit = stripes * NANOS_PER_SECOND / tps;
+		this.arrivals = new AtomicLongArray(stripes * STRIPE_STRIDE);
+		for (int i = 0; i < stripes; i++) {
+			arrivals.set(i * STRIPE_STRIDE, Long.MIN_VALUE);
+		}
+	}
+
+	static int stripesFor(double capacity, int maxStripes) {
+		int stripes = 1;
+		while (stripes < maxStripes && capacity / (2 * stripes) >= MIN_STRIPE_CAPACITY) {
+			stripes *= 2;
+		}
+		return stripes;
+	}
+
+	public boolean allow(double amount) {
+		if (unlimited) {
+			return true;
+		}
+		long now = nanoClock.getAsLong();
+		long cost = (long)(amount * stripeNanosPerUnit);
+		if (cost > burstNanos) {
+			return allowAcrossStripes(cost, now);
+		}
+		int home = homeStripe();
+		for (int i = 0; i <= mask; i++) {
+			if (tryTake((home + i) & mask, cost, now)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns capacity taken by a successful {@link TokenBucket#allow(double)} that turned
+	 * out not to be needed. (Never makes a stripe fuller than full.)
+	 *
+	 * @param amount the capacity to return
+	 */
+	public void refund(double amount) {
+		if (unlimited) {
+			return;
+		}
+		long now = nanoClock.getAsLong();
+		long cost = (long)(amount * stripeNanosPerUnit);
+		if (cost > burstNanos) {
+			long share = cost / (mask + 1);
+			for (int i = 0; i <= mask; i++) {
+				giveBack(i, share, now);
+			}
+		} else {
+			giveBack(homeStripe(), cost, now);
+		}
+	}
+
+	/**
+	 * Indicates whether every stripe has refilled to capacity, so that replacing this
+	 * bucket with a new one would change nothing.
+	 *
+	 * @return whether the bucket is full
+	 */
+	public boolean isFull() {
+		long now = nanoClock.getAsLong();
+		for (int i = 0; i <= mask; i++) {
+			if (arrivals.get(i * STRIPE_STRIDE) > now) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public double getTps() {
+		return tps;
+	}
+
+	public double getBurstPeriod() {
+		return burstPeriod;
+	}
+
+	int stripes() {
+		return mask + 1;
+	}
+
+	/* A request too large for a single stripe takes an equal share from all of them, or from none. */
+	private boolean allowAcrossStripes(long cost, long now) {
+		long share = cost / (mask + 1);
+		if (mask == 0 || share > burstNanos) {
+			return false;
+		}
+		for (int i = 0; i <= mask; i++) {
+			if (!tryTake(i, share, now)) {
+				for (int j = 0; j < i; j++) {
+					giveBack(j, share, now);
+				}
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private boolean tryTake(int stripe, long cost, long now) {
+		int slot = stripe * STRIPE_STRIDE;
+		for (;;) {
+			long arrival = arrivals.get(slot);
+			long next = Math.max(arrival, now) + cost;
+			if (next - now > burstNanos) {
+				return false;
+			}
+			if (arrivals.compareAndSet(slot, arrival, next)) {
+				return true;
+			}
+		}
+	}
+
+	private void giveBack(int stripe, long cost, long now) {
+		int slot = stripe * STRIPE_STRIDE;
+		for (;;) {
+			long arrival = arrivals.get(slot);
+			if (arrival <= now) {
+				return;
+			}
+			long prior = Math.max(arrival - cost, now);
+			if (arrivals.compareAndSet(slot, arrival, prior)) {
+				return;
+			}
+		}
+	}
+
+	private int homeStripe() {
+		return (int)(Thread.currentThread().getId() & mask);
+	}
+}
@@ -58,7 +58,8 @@ public class SubmitMessageTransitionLogic implements TransitionLogic {
 
 	@Override
 	public void doStateTransition() {
-		var transactionBody = transactionContext.accessor().getTxn();
+		var accessor = transactionContext.accessor();
+		var transactionBody = accessor.getTxn();
 		var op = transactionBody.getConsensusSubmitMessage();
 
 		if (op.getMessage().isEmpty()) {
@@ -93,16 +94,15 @@ public class SubmitMessageTransitionLogic implements TransitionLogic {
 		var topicId = MerkleEntityId.fromTopicId(op.getTopicID());
 		var mutableTopic = topics.get().getForModify(topicId);
 		try {
-			mutableTopic.updateRunningHashAndSequenceNumber(
+			mutableTopic.updateRunningHashAndSequenceNumberGivenDigest(
 					transactionBody.getTransactionID().getAccountID(),
-					op.getMessage().toByteArray(),
+					accessor.getSubmitMessageDigest(),
 					op.getTopicID(),
 					transactionContext.consensusTime());
 			topics.get().put(topicId, mutableTopic);
 			transactionContext.setTopicRunningHash(mutableTopic.getRunningHash(), mutableTopic.getSequenceNumber());
 			transactionContext.setStatus(SUCCESS);
 		} catch (Exception e) {
-			// Should not hit this - updateRunningHash should not throw due to NoSuchAlgorithmException (SHA384)
 			log.error("Updating topic running hash failed.", e);
 			transactionContext.setStatus(INVALID_TRANSACTION);
 		}
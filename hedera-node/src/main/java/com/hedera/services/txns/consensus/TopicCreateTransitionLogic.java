@@ -23,9 +23,11 @@ package com.hedera.services.txns.consensus;
 import com.hedera.services.context.TransactionContext;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleTopic;
+import com.hedera.services.ledger.accounts.BackingAccounts;
 import com.hedera.services.ledger.ids.EntityIdSource;
 import com.hedera.services.txns.TransitionLogic;
 import com.hedera.services.txns.validation.OptionValidator;
+import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
 import com.hederahashgraph.api.proto.java.TopicID;
 import com.hederahashgraph.api.proto.java.TransactionBody;
@@ -54,14 +56,14 @@ public class TopicCreateTransitionLogic implements TransitionLogic {
 	private final Function<TransactionBody, ResponseCodeEnum> PRE_SIGNATURE_VALIDATION_SYNTAX_CHECK =
 			this::validatePreSignatureValidation;
 
-	private final Supplier<FCMap<MerkleEntityId, MerkleAccount>> accounts;
+	private final BackingAccounts<AccountID, MerkleAccount> accounts;
 	private final Supplier<FCMap<MerkleEntityId, MerkleTopic>> topics;
 	private final EntityIdSource entityIdSource;
 	private final OptionValidator validator;
 	private final TransactionContext transactionContext;
 
 	public TopicCreateTransitionLogic(
-			Supplier<FCMap<MerkleEntityId, MerkleAccount>> accounts,
+			BackingAccounts<AccountID, MerkleAccount> accounts,
 			Supplier<FCMap<MerkleEntityId, MerkleTopic>> topics,
 			EntityIdSource entityIdSource,
 			OptionValidator validator,
@@ -158,7 +160,7 @@ public class TopicCreateTransitionLogic implements TransitionLogic {
 		} else if (!validator.isValidAutoRenewPeriod(op.getAutoRenewPeriod())) {
 			validationResult = AUTORENEW_DURATION_NOT_IN_RANGE;
 		} else if (op.hasAutoRenewAccount() &&
-				(OK != validator.queryableAccountStatus(op.getAutoRenewAccount(), accounts.get()))) {
+				(OK != validator.queryableAccountStatus(op.getAutoRenewAccount(), accounts))) {
 			validationResult = INVALID_AUTORENEW_ACCOUNT;
 		} else if (op.hasAutoRenewAccount() && !op.hasAdminKey()) {
 			// If present, the autoRenewAccount's key must have signed transaction (see HederaSigningOrder).
@@ -21,6 +21,7 @@ package com.hedera.services.txns.consensus;
  */
 
 import com.hedera.services.context.TransactionContext;
+import com.hedera.services.ledger.accounts.BackingAccounts;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleTopic;
 import com.hedera.services.txns.TransitionLogic;
@@ -51,13 +52,13 @@ public class TopicUpdateTransitionLogic implements TransitionLogic {
 	private final Function<TransactionBody, ResponseCodeEnum> PRE_SIGNATURE_VALIDATION_SYNTAX_CHECK =
 			this::validatePreSignatureValidation;
 
-	private final Supplier<FCMap<MerkleEntityId, MerkleAccount>> accounts;
+	private final BackingAccounts<AccountID, MerkleAccount> accounts;
 	private final Supplier<FCMap<MerkleEntityId, MerkleTopic>> topics;
 	private final OptionValidator validator;
 	private final TransactionContext transactionContext;
 
 	public TopicUpdateTransitionLogic(
-			Supplier<FCMap<MerkleEntityId, MerkleAccount>> accounts,
+			BackingAccounts<AccountID, MerkleAccount> accounts,
 			Supplier<FCMap<MerkleEntityId, MerkleTopic>> topics,
 			OptionValidator validator,
 			TransactionContext transactionContext
@@ -183,7 +184,7 @@ public class TopicUpdateTransitionLogic implements TransitionLogic {
 			transactionContext.setStatus(AUTORENEW_ACCOUNT_NOT_ALLOWED);
 			return false;
 		}
-		if (OK != validator.queryableAccountStatus(newAutoRenewAccount, accounts.get())) {
+		if (OK != validator.queryableAccountStatus(newAutoRenewAccount, accounts)) {
 			transactionContext.setStatus(INVALID_AUTORENEW_ACCOUNT);
 			return false;
 		}
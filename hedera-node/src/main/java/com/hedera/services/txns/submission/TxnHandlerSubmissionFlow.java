@@ -98,7 +98,7 @@ public class TxnHandlerSubmissionFlow implements SubmissionFlow {
 	}
 
 	private TxnValidityAndFeeReq metaValidityOf(SignedTxnAccessor accessor) {
-		return legacyTxnHandler.validateTransactionPreConsensus(accessor.getSignedTxn(), false);
+		return legacyTxnHandler.validateTransactionPreConsensus(accessor, false);
 	}
 
 	private TransactionResponse responseWith(ResponseCodeEnum validity) {
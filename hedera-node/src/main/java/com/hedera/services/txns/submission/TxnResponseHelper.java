@@ -20,6 +20,7 @@ package com.hedera.services.txns.submission;
  * ‍
  */
 
+import com.hedera.services.grpc.WorkerPools;
 import com.hedera.services.queries.answering.QueryResponseHelper;
 import com.hedera.services.txns.SubmissionFlow;
 import com.hedera.services.utils.SignedTxnAccessor;
@@ -30,6 +31,8 @@ import io.grpc.stub.StreamObserver;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import static com.hedera.services.grpc.WorkerPools.Pool.TXNS;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.BUSY;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.FAIL_INVALID;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
 
@@ -39,12 +42,17 @@ public class TxnResponseHelper {
 	static final TransactionResponse FAIL_INVALID_RESPONSE = TransactionResponse.newBuilder()
 			.setNodeTransactionPrecheckCode(FAIL_INVALID)
 			.build();
+	static final TransactionResponse BUSY_RESPONSE = TransactionResponse.newBuilder()
+			.setNodeTransactionPrecheckCode(BUSY)
+			.build();
 
 	private final SubmissionFlow submissionFlow;
 	private final HederaNodeStats stats;
+	private final WorkerPools workers;
 
-	public TxnResponseHelper(SubmissionFlow submissionFlow, HederaNodeStats stats) {
+	public TxnResponseHelper(SubmissionFlow submissionFlow, HederaNodeStats stats, WorkerPools workers) {
 		this.stats = stats;
+		this.workers = workers;
 		this.submissionFlow = submissionFlow;
 	}
 
@@ -103,6 +111,17 @@ public class TxnResponseHelper {
 			Runnable incSubmittedCount
 	) {
 		incReceivedCount.run();
+		if (!workers.tryRun(TXNS, () -> submitWithMetrics(signedTxn, observer, incSubmittedCount))) {
+			observer.onNext(BUSY_RESPONSE);
+			observer.onCompleted();
+		}
+	}
+
+	private void submitWithMetrics(
+			Transaction signedTxn,
+			StreamObserver<TransactionResponse> observer,
+			Runnable incSubmittedCount
+	) {
 		TransactionResponse response;
 
 		try {
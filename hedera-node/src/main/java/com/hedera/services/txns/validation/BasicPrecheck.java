@@ -20,7 +20,7 @@ package com.hedera.services.txns.validation;
  * ‍
  */
 
-import com.hedera.services.context.properties.PropertySource;
+import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
 import com.hederahashgraph.api.proto.java.TransactionBody;
 
@@ -36,10 +36,10 @@ import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.MEMO_TOO_LONG;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.PAYER_ACCOUNT_NOT_FOUND;
 
 public class BasicPrecheck {
-	private final PropertySource properties;
+	private final GlobalDynamicProperties properties;
 	private final OptionValidator validator;
 
-	public BasicPrecheck(PropertySource properties, OptionValidator validator) {
+	public BasicPrecheck(GlobalDynamicProperties properties, OptionValidator validator) {
 		this.properties = properties;
 		this.validator = validator;
 	}
@@ -68,7 +68,7 @@ public class BasicPrecheck {
 
 		return validator.chronologyStatusForTxn(
 				asCoercedInstant(txn.getTransactionID().getTransactionValidStart()),
-				validForSecs - properties.getIntProperty("hedera.transaction.minValidityBufferSecs"),
+				validForSecs - properties.minValidityBuffer(),
 				Instant.now(Clock.systemUTC()));
 	}
 }
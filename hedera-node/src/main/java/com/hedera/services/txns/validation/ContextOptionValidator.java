@@ -22,7 +22,7 @@ package com.hedera.services.txns.validation;
 
 import com.hedera.services.context.TransactionContext;
 import com.hedera.services.state.merkle.MerkleTopic;
-import com.hedera.services.context.properties.PropertySource;
+import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.ledger.HederaLedger;
 import com.hederahashgraph.api.proto.java.AccountAmount;
 import com.hederahashgraph.api.proto.java.Duration;
@@ -56,10 +56,10 @@ public class ContextOptionValidator implements OptionValidator {
 
 	public static final Logger log = LogManager.getLogger(ContextOptionValidator.class);
 	private final HederaLedger ledger;
-	private final PropertySource properties;
+	private final GlobalDynamicProperties properties;
 	private final TransactionContext txnCtx;
 
-	public ContextOptionValidator(HederaLedger ledger, PropertySource properties, TransactionContext txnCtx) {
+	public ContextOptionValidator(HederaLedger ledger, GlobalDynamicProperties properties, TransactionContext txnCtx) {
 		this.ledger = ledger;
 		this.properties = properties;
 		this.txnCtx = txnCtx;
@@ -78,8 +78,8 @@ public class ContextOptionValidator implements OptionValidator {
 
 	@Override
 	public boolean isValidTxnDuration(long duration) {
-		long minDuration = properties.getLongProperty("hedera.transaction.minValidDuration");
-		long maxDuration = properties.getLongProperty("hedera.transaction.maxValidDuration");
+		long minDuration = properties.minTxnDuration();
+		long maxDuration = properties.maxTxnDuration();
 
 		return duration >= minDuration && duration <= maxDuration;
 	}
@@ -93,8 +93,8 @@ public class ContextOptionValidator implements OptionValidator {
 	@Override
 	public boolean isValidAutoRenewPeriod(Duration autoRenewPeriod) {
 		long duration = autoRenewPeriod.getSeconds();
-		long minDuration = properties.getLongProperty("ledger.autoRenewPeriod.minDuration");
-		long maxDuration = properties.getLongProperty("ledger.autoRenewPeriod.maxDuration");
+		long minDuration = properties.minAutoRenewDuration();
+		long maxDuration = properties.maxAutoRenewDuration();
 
 		if (duration < minDuration || duration > maxDuration) {
 			return false;
@@ -104,7 +104,7 @@ public class ContextOptionValidator implements OptionValidator {
 
 	@Override
 	public boolean isAcceptableLength(TransferList accountAmounts) {
-		int maxLen = properties.getIntProperty("ledger.transfers.maxLen");
+		int maxLen = properties.maxTransferListSize();
 
 		return accountAmounts.getAccountAmountsCount() <= maxLen;
 	}
@@ -119,7 +119,7 @@ public class ContextOptionValidator implements OptionValidator {
 
 	@Override
 	public boolean isValidEntityMemo(@Nullable String memo) {
-		var maxUtf8Bytes = properties.getIntProperty("hedera.transaction.maxMemoUtf8Bytes");
+		var maxUtf8Bytes = properties.maxMemoUtf8Bytes();
 		return (null == memo) || (StringUtils.getBytesUtf8(memo).length <= maxUtf8Bytes);
 	}
 
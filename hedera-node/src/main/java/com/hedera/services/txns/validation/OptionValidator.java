@@ -22,6 +22,7 @@ package com.hedera.services.txns.validation;
 
 import com.hedera.services.state.merkle.MerkleTopic;
 import com.hedera.services.context.primitives.StateView;
+import com.hedera.services.ledger.accounts.BackingAccounts;
 import com.hedera.services.utils.SignedTxnAccessor;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.ContractID;
@@ -60,6 +61,10 @@ public interface OptionValidator {
 		return PureValidation.queryableAccountStatus(id, accounts);
 	}
 
+	default ResponseCodeEnum queryableAccountStatus(AccountID id, BackingAccounts<AccountID, MerkleAccount> accounts) {
+		return PureValidation.queryableAccountStatus(id, accounts);
+	}
+
 	default ResponseCodeEnum queryableContractStatus(ContractID cid, FCMap<MerkleEntityId, MerkleAccount> contracts) {
 		return PureValidation.queryableContractStatus(cid, contracts);
 	}
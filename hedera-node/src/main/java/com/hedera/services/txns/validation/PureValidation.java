@@ -22,6 +22,7 @@ package com.hedera.services.txns.validation;
 
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.context.primitives.StateView;
+import com.hedera.services.ledger.accounts.BackingAccounts;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.ContractID;
 import com.hederahashgraph.api.proto.java.FileGetInfoResponse;
@@ -55,8 +56,14 @@ public class PureValidation {
 	}
 
 	public static ResponseCodeEnum queryableAccountStatus(AccountID id, FCMap<MerkleEntityId, MerkleAccount> accounts) {
-		MerkleAccount account = accounts.get(MerkleEntityId.fromAccountId(id));
+		return accountStatus(accounts.get(MerkleEntityId.fromAccountId(id)));
+	}
+
+	public static ResponseCodeEnum queryableAccountStatus(AccountID id, BackingAccounts<AccountID, MerkleAccount> accounts) {
+		return accountStatus(accounts.contains(id) ? accounts.getUnsafeRef(id) : null);
+	}
 
+	private static ResponseCodeEnum accountStatus(MerkleAccount account) {
 		return Optional.ofNullable(account)
 				.map(v -> v.isDeleted()
 						? ACCOUNT_DELETED
@@ -158,7 +158,7 @@ public class MiscUtils {
 	}
 
 	public static ByteString sha384HashOf(PlatformTxnAccessor accessor) {
-		return ByteString.copyFrom(uncheckedSha384Hash(accessor.getSignedTxn().toByteArray()));
+		return accessor.getHash();
 	}
 
 	public static Timestamp asTimestamp(Instant when) {
@@ -21,6 +21,7 @@ package com.hedera.services.utils;
  */
 
 import com.google.protobuf.InvalidProtocolBufferException;
+import com.hedera.services.keys.ActivationCache;
 import com.hederahashgraph.api.proto.java.Transaction;
 import com.hederahashgraph.api.proto.java.TransactionBody;
 import com.hederahashgraph.api.proto.java.TransactionID;
@@ -36,6 +37,8 @@ import com.hederahashgraph.api.proto.java.TransactionID;
 public class PlatformTxnAccessor extends SignedTxnAccessor {
 	private final com.swirlds.common.Transaction platformTxn;
 
+	private ActivationCache activationCache;
+
 	public PlatformTxnAccessor(com.swirlds.common.Transaction platformTxn) throws InvalidProtocolBufferException {
 		super(platformTxn.getContents());
 		this.platformTxn = platformTxn;
@@ -59,4 +62,22 @@ public class PlatformTxnAccessor extends SignedTxnAccessor {
 	public com.swirlds.common.Transaction getPlatformTxn() {
 		return platformTxn;
 	}
+
+	/**
+	 * Returns the key activation state for this txn's current platform signatures,
+	 * creating it on first use. Should be reset via {@link PlatformTxnAccessor#resetActivationCache()}
+	 * whenever the platform signatures are replaced.
+	 *
+	 * @return the (possibly new) activation cache.
+	 */
+	public ActivationCache activationCache() {
+		if (activationCache == null) {
+			activationCache = new ActivationCache(platformTxn.getSignatures());
+		}
+		return activationCache;
+	}
+
+	public void resetActivationCache() {
+		activationCache = null;
+	}
 }
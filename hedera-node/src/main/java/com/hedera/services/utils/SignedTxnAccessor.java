@@ -20,8 +20,10 @@ package com.hedera.services.utils;
  * ‍
  */
 
+import com.google.protobuf.ByteString;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.services.exceptions.UnknownHederaFunctionality;
+import com.hedera.services.state.merkle.RunningHashEngine;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.HederaFunctionality;
 import com.hederahashgraph.api.proto.java.Signature;
@@ -33,6 +35,7 @@ import java.util.List;
 import java.util.function.Function;
 
 import static com.hedera.services.utils.MiscUtils.functionOf;
+import static com.hedera.services.utils.MiscUtils.uncheckedSha384Hash;
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.NONE;
 
 /**
@@ -48,6 +51,8 @@ public class SignedTxnAccessor {
 	private TransactionID txnId;
 	private TransactionBody txn;
 	private HederaFunctionality function;
+	private byte[] submitMessageDigest;
+	private ByteString hash;
 
 	static Function<TransactionBody, HederaFunctionality> functionExtractor = txn -> {
 		try {
@@ -88,6 +93,32 @@ public class SignedTxnAccessor {
 		return function;
 	}
 
+	/**
+	 * Returns the SHA-384 digest of the message in this txn if it is a {@code ConsensusSubmitMessage},
+	 * computing it on first use; or {@code null} for any other txn.
+	 *
+	 * @return the message digest, if applicable
+	 */
+	public byte[] getSubmitMessageDigest() {
+		if (submitMessageDigest == null && txn.hasConsensusSubmitMessage()) {
+			submitMessageDigest = RunningHashEngine.forCurrentThread()
+					.messageDigestOf(txn.getConsensusSubmitMessage().getMessage());
+		}
+		return submitMessageDigest;
+	}
+
+	/**
+	 * Returns the SHA-384 hash of the serialized signed txn, computing it on first use.
+	 *
+	 * @return the txn hash
+	 */
+	public ByteString getHash() {
+		if (hash == null) {
+			hash = ByteString.copyFrom(uncheckedSha384Hash(signedTxn.toByteArray()));
+		}
+		return hash;
+	}
+
 	public Transaction getSignedTxn4Log() {
 		if (signedTxn4Log == null) {
 			try {
@@ -0,0 +1,121 @@
+package com.hedera.services.utils;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.protobuf.InvalidProtocolBufferException;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.ConsensusSubmitMessage;
+
+/**
+ * A bounded cache of the {@link PlatformTxnAccessor}s built while expanding the signatures
+ * of platform transactions, keyed by the <i>identity</i> of each platform transaction. When
+ * the same transaction is handled at consensus, its accessor—with the parsed body, function,
+ * txn id, SHA-384 hash and (for a {@code ConsensusSubmitMessage}) message digest already
+ * computed on the pre-handle thread—is taken from the cache instead of parsing the
+ * transaction contents again on the handle thread.
+ *
+ * <p>Taking an accessor removes it; accessors of transactions that never reach
+ * consensus are evicted oldest-first once the cache is full. A cache with a maximum
+ * size of zero caches nothing, and every take parses the transaction.
+ *
+ * @author Michael Tinker
+ */
+public class TxnAccessorCache {
+	private final int maxSize;
+	private final LinkedHashMap<Identity, PlatformTxnAccessor> accessors;
+
+	private static final class Identity {
+		private final com.swirlds.common.Transaction platformTxn;
+
+		private Identity(com.swirlds.common.Transaction platformTxn) {
+			this.platformTxn = platformTxn;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof Identity && ((Identity)o).platformTxn == platformTxn;
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(platformTxn);
+		}
+	}
+
+	public TxnAccessorCache(int maxSize) {
+		if (maxSize < 0) {
+			throw new IllegalArgumentException(String.format("Cache size must be non-negative, not %d!", maxSize));
+		}
+		this.maxSize = maxSize;
+		accessors = new LinkedHashMap<>() {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Identity, PlatformTxnAccessor> eldest) {
+				return size() > TxnAccessorCache.this.maxSize;
+			}
+		};
+	}
+
+	/**
+	 * Computes the function and hash of the given accessor (and the digest of its message,
+	 * if it submits one to a topic), and caches it for its platform transaction.
+	 *
+	 * @param accessor the accessor built for a platform transaction
+	 */
+	public void offer(PlatformTxnAccessor accessor) {
+		if (maxSize == 0) {
+			return;
+		}
+		if (accessor.getFunction() == ConsensusSubmitMessage) {
+			accessor.getSubmitMessageDigest();
+		}
+		accessor.getHash();
+		synchronized (this) {
+			accessors.put(new Identity(accessor.getPlatformTxn()), accessor);
+		}
+	}
+
+	/**
+	 * Removes and returns the accessor cached for the given platform transaction,
+	 * with a fresh activation cache; or, if none is cached, parses a new one.
+	 *
+	 * @param platformTxn the platform transaction to be handled
+	 * @return an accessor for the transaction
+	 * @throws InvalidProtocolBufferException if no accessor is cached and the contents are not gRPC
+	 */
+	public PlatformTxnAccessor take(com.swirlds.common.Transaction platformTxn) throws InvalidProtocolBufferException {
+		PlatformTxnAccessor accessor;
+		synchronized (this) {
+			accessor = accessors.remove(new Identity(platformTxn));
+		}
+		if (accessor == null) {
+			return new PlatformTxnAccessor(platformTxn);
+		}
+		accessor.resetActivationCache();
+		return accessor;
+	}
+
+	public synchronized int size() {
+		return accessors.size();
+	}
+}
@@ -36,6 +36,7 @@ import com.hedera.services.records.AccountRecordsHistorian;
 import com.hedera.services.state.exports.AccountsExporter;
 import com.hedera.services.state.exports.BalancesExporter;
 import com.hedera.services.state.forensics.IssListener;
+import com.hedera.services.state.initialization.AccountsScan;
 import com.hedera.services.state.initialization.SystemAccountsCreator;
 import com.hedera.services.state.initialization.SystemFilesManager;
 import com.hedera.services.state.merkle.MerkleAccount;
@@ -75,6 +76,7 @@ import static org.mockito.BDDMockito.inOrder;
 import static org.mockito.BDDMockito.intThat;
 import static org.mockito.BDDMockito.mock;
 import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.times;
 import static org.mockito.BDDMockito.verify;
 import static org.mockito.BDDMockito.verifyNoInteractions;
 import static org.mockito.BDDMockito.willThrow;
@@ -113,6 +115,7 @@ public class ServicesMainTest {
 	CurrentPlatformStatus platformStatus;
 	AccountRecordsHistorian recordsHistorian;
 	BackingAccounts<AccountID, MerkleAccount> backingAccounts;
+	AccountsScan accountsScan;
 
 	@BeforeEach
 	private void setup() {
@@ -136,6 +139,7 @@ public class ServicesMainTest {
 		recordsHistorian = mock(AccountRecordsHistorian.class);
 		ledgerValidator = mock(LedgerValidator.class);
 		accountsExporter = mock(AccountsExporter.class);
+		accountsScan = mock(AccountsScan.class);
 		propertySanitizer = mock(PropertySanitizer.class);
 		platformStatus = mock(CurrentPlatformStatus.class);
 		properties = mock(PropertySource.class);
@@ -172,9 +176,10 @@ public class ServicesMainTest {
 		given(ctx.systemFilesManager()).willReturn(systemFilesManager);
 		given(ctx.systemAccountsCreator()).willReturn(systemAccountsCreator);
 		given(ctx.accountsExporter()).willReturn(accountsExporter);
+		given(ctx.accountsScan()).willReturn(accountsScan);
 		given(ctx.balancesExporter()).willReturn(balancesExporter);
 		given(ctx.consensusTimeOfLastHandledTxn()).willReturn(Instant.ofEpochSecond(33L, 0));
-		given(ledgerValidator.hasExpectedTotalBalance(any())).willReturn(true);
+		given(ledgerValidator.hasExpectedTotalBalance(any(AccountsScan.class))).willReturn(true);
 		given(properties.getIntProperty("timer.stats.dump.value")).willReturn(123);
 		given(properties.getBooleanProperty("timer.stats.dump.started")).willReturn(true);
 
@@ -255,6 +260,7 @@ public class ServicesMainTest {
 				propertySources,
 				platform,
 				stateMigrations,
+				ctx,
 				ledgerValidator,
 				recordStreamThread,
 				recordsHistorian,
@@ -271,9 +277,11 @@ public class ServicesMainTest {
 		inOrder.verify(platform).setSleepAfterSync(0L);
 		inOrder.verify(stateMigrations).runAllFor(ctx);
 		inOrder.verify(recordStreamThread).start();
-		inOrder.verify(ledgerValidator).assertIdsAreValid(accounts);
-		inOrder.verify(ledgerValidator).hasExpectedTotalBalance(accounts);
-		inOrder.verify(recordsHistorian).reviewExistingRecords();
+		inOrder.verify(ctx).accountsScan();
+		inOrder.verify(ledgerValidator).assertIdsAreValid(accountsScan);
+		inOrder.verify(ledgerValidator).hasExpectedTotalBalance(accountsScan);
+		inOrder.verify(recordsHistorian).reviewExistingRecords(accountsScan);
+		inOrder.verify(ctx).releaseAccountsScan();
 		inOrder.verify(fees).init();
 		inOrder.verify(propertySanitizer).sanitize(propertySources);
 
@@ -397,6 +405,25 @@ public class ServicesMainTest {
 		// then:
 		verify(systemAccountsCreator).ensureSystemAccounts(backingAccounts, addressBook);
 		verify(pause).forMs(ServicesMain.SUGGESTED_POST_CREATION_PAUSE_MS);
+		// and:
+		verify(ctx, times(1)).releaseAccountsScan();
+	}
+
+	@Test
+	public void releasesScanIfSystemAccountsWereCreated() {
+		given(accounts.size()).willReturn(100);
+		given(accountsScan.size()).willReturn(0);
+		// and:
+		InOrder inOrder = inOrder(systemAccountsCreator, ctx, ledgerValidator);
+
+		// when:
+		subject.init(null, new NodeId(false, NODE_ID));
+
+		// then:
+		inOrder.verify(systemAccountsCreator).ensureSystemAccounts(backingAccounts, addressBook);
+		inOrder.verify(ctx).releaseAccountsScan();
+		inOrder.verify(ledgerValidator).assertIdsAreValid(accountsScan);
+		inOrder.verify(ctx).releaseAccountsScan();
 	}
 
 	@Test
@@ -419,7 +446,7 @@ public class ServicesMainTest {
 		subject.init(null, new NodeId(false, NODE_ID));
 
 		// then:
-		verify(accountsExporter).toFile(accounts, PATH);
+		verify(accountsExporter).toFile(accountsScan, PATH);
 	}
 
 	@Test
@@ -31,6 +31,7 @@ import com.hedera.services.sigs.order.HederaSigningOrder;
 import com.hedera.services.sigs.order.SigningOrderResult;
 import com.hedera.services.txns.ProcessLogic;
 import com.hedera.services.utils.SystemExits;
+import com.hedera.services.utils.TxnAccessorCache;
 import com.hedera.test.factories.txns.PlatformTxnFactory;
 import com.hedera.test.utils.IdUtils;
 import com.hederahashgraph.api.proto.java.AccountID;
@@ -43,6 +44,7 @@ import com.hedera.services.legacy.core.jproto.JEd25519Key;
 import com.hedera.services.legacy.core.jproto.JKey;
 import com.hedera.services.legacy.crypto.SignatureStatus;
 import com.hedera.services.state.submerkle.ExchangeRates;
+import com.hedera.services.state.submerkle.ExpirableTxnRecord;
 import com.hedera.services.state.submerkle.SequenceNumber;
 import com.swirlds.common.Address;
 import com.swirlds.common.AddressBook;
@@ -55,6 +57,7 @@ import com.swirlds.common.io.SerializableDataInputStream;
 import com.swirlds.common.io.SerializableDataOutputStream;
 import com.swirlds.common.merkle.MerkleNode;
 import com.swirlds.fcmap.FCMap;
+import com.swirlds.fcqueue.FCQueue;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.junit.jupiter.api.AfterEach;
@@ -99,6 +102,8 @@ class ServicesStateTest {
 	FCMap<MerkleEntityId, MerkleTopic> topicsCopy;
 	FCMap<MerkleEntityId, MerkleAccount> accountsCopy;
 	FCMap<MerkleBlobMeta, MerkleOptionalBlob> storageCopy;
+	FCQueue<ExpirableTxnRecord> payerRecords;
+	FCQueue<ExpirableTxnRecord> payerRecordsCopy;
 	ExchangeRates midnightRates;
 	SequenceNumber seqNo;
 	MerkleNetworkContext networkCtx;
@@ -141,6 +146,9 @@ class ServicesStateTest {
 		given(topics.copy()).willReturn(topicsCopy);
 		given(storage.copy()).willReturn(storageCopy);
 		given(accounts.copy()).willReturn(accountsCopy);
+		payerRecords = mock(FCQueue.class);
+		payerRecordsCopy = mock(FCQueue.class);
+		given(payerRecords.copy()).willReturn(payerRecordsCopy);
 
 		seqNo = mock(SequenceNumber.class);
 		midnightRates = mock(ExchangeRates.class);
@@ -197,6 +205,7 @@ class ServicesStateTest {
 		assertNotNull(subject.topics());
 		assertNotNull(subject.storage());
 		assertNotNull(subject.accounts());
+		assertNotNull(subject.payerRecords());
 		assertEquals(book, subject.addressBook());
 		assertEquals(self, actualCtx.id());
 		assertEquals(platform, actualCtx.platform());
@@ -236,6 +245,9 @@ class ServicesStateTest {
 		verify(mockDigest).accept(subject);
 		// and:
 		verify(mockLog).info(argThat((String s) -> s.startsWith("[SwirldState Hashes]")));
+		// and:
+		assertNotNull(subject.payerRecords());
+		assertTrue(subject.payerRecords().isEmpty());
 
 		// cleanup:
 		ServicesMain.log = LogManager.getLogger(ServicesMain.class);
@@ -252,6 +264,7 @@ class ServicesStateTest {
 		Hash topicRootHash = new Hash("sdfgsdfgsdfgsdfgsdfgsdfgsdfgsdfgsdfgsdfgsdfgsdfg".getBytes());
 		Hash storageRootHash = new Hash("fdsafdsafdsafdsafdsafdsafdsafdsafdsafdsafdsafdsa".getBytes());
 		Hash accountsRootHash = new Hash("asdfasdfasdfasdfasdfasdfasdfasdfasdfasdfasdfasdf".getBytes());
+		Hash payerRecordsHash = new Hash("qwerqwerqwerqwerqwerqwerqwerqwerqwerqwerqwerqwer".getBytes());
 		// and:
 		Hash overallHash = new Hash("a!dfa!dfa!dfa!dfa!dfa!dfa!dfa!dfa!dfa!dfa!dfa!df".getBytes());
 		// and:
@@ -260,18 +273,21 @@ class ServicesStateTest {
 		subject.setChild(ServicesState.ChildIndices.ACCOUNTS, accounts);
 		subject.setChild(ServicesState.ChildIndices.ADDRESS_BOOK, book);
 		subject.setChild(ServicesState.ChildIndices.NETWORK_CTX, networkCtx);
+		subject.setChild(ServicesState.ChildIndices.PAYER_RECORDS, payerRecords);
 		// and:
 		var expected = String.format("[SwirldState Hashes]\n" +
 				"  Overall        :: %s\n" +
 				"  Accounts       :: %s\n" +
 				"  Storage        :: %s\n" +
 				"  Topics         :: %s\n" +
+				"  PayerRecords   :: %s\n" +
 				"  NetworkContext :: %s\n" +
 				"  AddressBook    :: %s",
 				overallHash,
 				accountsRootHash,
 				storageRootHash,
 				topicRootHash,
+				payerRecordsHash,
 				ctxHash,
 				bookHash);
 		subject.setHash(overallHash);
@@ -279,6 +295,7 @@ class ServicesStateTest {
 		given(topics.getHash()).willReturn(topicRootHash);
 		given(accounts.getHash()).willReturn(accountsRootHash);
 		given(storage.getHash()).willReturn(storageRootHash);
+		given(payerRecords.getHash()).willReturn(payerRecordsHash);
 		given(networkCtx.getHash()).willReturn(ctxHash);
 		given(book.getHash()).willReturn(bookHash);
 
@@ -300,6 +317,7 @@ class ServicesStateTest {
 		subject.setChild(ServicesState.ChildIndices.ACCOUNTS, accounts);
 		subject.setChild(ServicesState.ChildIndices.ADDRESS_BOOK, book);
 		subject.setChild(ServicesState.ChildIndices.NETWORK_CTX, networkCtx);
+		subject.setChild(ServicesState.ChildIndices.PAYER_RECORDS, payerRecords);
 		subject.nodeId = self;
 		subject.ctx = ctx;
 
@@ -314,6 +332,28 @@ class ServicesStateTest {
 		assertEquals(topicsCopy, copy.topics());
 		assertEquals(storageCopy, copy.storage());
 		assertEquals(accountsCopy, copy.accounts());
+		assertEquals(payerRecordsCopy, copy.payerRecords());
+	}
+
+	@Test
+	public void flushesDeferredCommitsBeforeCopying() {
+		// setup:
+		subject.setChild(ServicesState.ChildIndices.TOPICS, topics);
+		subject.setChild(ServicesState.ChildIndices.STORAGE, storage);
+		subject.setChild(ServicesState.ChildIndices.ACCOUNTS, accounts);
+		subject.setChild(ServicesState.ChildIndices.ADDRESS_BOOK, book);
+		subject.setChild(ServicesState.ChildIndices.NETWORK_CTX, networkCtx);
+		subject.setChild(ServicesState.ChildIndices.PAYER_RECORDS, payerRecords);
+		subject.ctx = ctx;
+		// and:
+		InOrder inOrder = inOrder(ctx, accounts);
+
+		// when:
+		subject.copy();
+
+		// then:
+		inOrder.verify(ctx).flushDeferredCommitsBeforeCopying(subject);
+		inOrder.verify(accounts).copy();
 	}
 
 	@Test
@@ -328,12 +368,24 @@ class ServicesStateTest {
 		assertEquals(ServicesState.RUNTIME_CONSTRUCTABLE_ID, subject.getClassId());
 	}
 
+	@Test
+	public void minimumChildCountDependsOnVersion() {
+		// expect:
+		assertEquals(
+				ServicesState.ChildIndices.NUM_V1_CHILDREN,
+				subject.getMinimumChildCount(ServicesState.RELEASE_070_VERSION));
+		assertEquals(
+				ServicesState.ChildIndices.NUM_V2_CHILDREN,
+				subject.getMinimumChildCount(ServicesState.RELEASE_080_VERSION));
+	}
+
 	@Test
 	public void deleteCascadesToAllFcms() {
 		// setup:
 		subject.setChild(ServicesState.ChildIndices.STORAGE, storage);
 		subject.setChild(ServicesState.ChildIndices.TOPICS, topics);
 		subject.setChild(ServicesState.ChildIndices.ACCOUNTS, accounts);
+		subject.setChild(ServicesState.ChildIndices.PAYER_RECORDS, payerRecords);
 
 		// when:
 		subject.delete();
@@ -342,6 +394,7 @@ class ServicesStateTest {
 		verify(storage).delete();
 		verify(accounts).delete();
 		verify(topics).delete();
+		verify(payerRecords).delete();
 	}
 
 	@Test
@@ -458,10 +511,12 @@ class ServicesStateTest {
 		SigningOrderResult<SignatureStatus> payerOrderResult = new SigningOrderResult<>(List.of(key));
 		SigningOrderResult<SignatureStatus> otherOrderResult = new SigningOrderResult<>(EMPTY_LIST);
 		HederaSigningOrder keyOrderer = mock(HederaSigningOrder.class);
+		TxnAccessorCache accessorCache = new TxnAccessorCache(1);
 
 		given(keyOrderer.keysForPayer(any(), any())).willReturn((SigningOrderResult) payerOrderResult);
 		given(keyOrderer.keysForOtherParties(any(), any())).willReturn((SigningOrderResult) otherOrderResult);
 		given(ctx.lookupRetryingKeyOrder()).willReturn(keyOrderer);
+		given(ctx.txnAccessorCache()).willReturn(accessorCache);
 
 		// and:
 		subject.ctx = ctx;
@@ -472,6 +527,8 @@ class ServicesStateTest {
 		// then:
 		assertEquals(1, platformTxn.getSignatures().size());
 		assertEquals(mockPk, ByteString.copyFrom(platformTxn.getSignatures().get(0).getExpandedPublicKeyDirect()));
+		// and:
+		assertEquals(1, accessorCache.size());
 	}
 
 	@AfterEach
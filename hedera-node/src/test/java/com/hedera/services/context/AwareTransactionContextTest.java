@@ -26,6 +26,7 @@ import com.hedera.services.state.merkle.MerkleTopic;
 import com.hedera.services.fees.HbarCentExchange;
 import com.hedera.services.fees.charging.ItemizableFeeCharging;
 import com.hedera.services.ledger.HederaLedger;
+import com.hedera.services.ledger.accounts.FCMapBackingAccounts;
 import com.hedera.services.utils.PlatformTxnAccessor;
 import com.hederahashgraph.api.proto.java.AccountAmount;
 import com.hederahashgraph.api.proto.java.AccountID;
@@ -53,6 +54,8 @@ import org.junit.platform.runner.JUnitPlatform;
 import org.junit.runner.RunWith;
 
 import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
 
 import static com.hedera.services.context.AwareTransactionContext.EMPTY_KEY;
 import static com.hedera.test.utils.IdUtils.asAccountString;
@@ -94,6 +97,8 @@ public class AwareTransactionContextTest {
 	private TopicID topicCreated = asTopic("5.4.3");
 	private long txnValidStart = now.getEpochSecond() - 1_234L;
 	private HederaLedger ledger;
+	private FCMap<MerkleEntityId, MerkleAccount> accounts;
+	private FCMapBackingAccounts backingAccounts;
 	private ItemizableFeeCharging itemizableFeeCharging;
 	private AccountID nodeAccount = asAccount("0.0.3");
 	private Address address;
@@ -136,15 +141,17 @@ public class AwareTransactionContextTest {
 		payerKey = mock(JKey.class);
 		MerkleAccount payerAccount = mock(MerkleAccount.class);
 		given(payerAccount.getKey()).willReturn(payerKey);
-		FCMap<MerkleEntityId, MerkleAccount> accounts = mock(FCMap.class);
+		accounts = mock(FCMap.class);
 		given(accounts.get(MerkleEntityId.fromAccountId(payer))).willReturn(payerAccount);
+		backingAccounts = new FCMapBackingAccounts(() -> accounts, new HashSet<>(Set.of(payer)));
+		backingAccounts.setMaxTxnsPerFlush(2);
 
 		ctx = mock(ServicesContext.class);
 		given(ctx.exchange()).willReturn(exchange);
 		given(ctx.ledger()).willReturn(ledger);
 		given(ctx.accounts()).willReturn(accounts);
 		given(ctx.charging()).willReturn(itemizableFeeCharging);
-		given(ctx.accounts()).willReturn(accounts);
+		given(ctx.backingAccounts()).willReturn(backingAccounts);
 		given(ctx.addressBook()).willReturn(book);
 
 		txn = mock(TransactionBody.class);
@@ -156,6 +163,7 @@ public class AwareTransactionContextTest {
 		given(accessor.getTxn()).willReturn(txn);
 		given(accessor.getSignedTxn()).willReturn(signedTxn);
 		given(accessor.getPayer()).willReturn(payer);
+		given(accessor.getHash()).willReturn(hash);
 
 		subject = new AwareTransactionContext(ctx);
 		subject.resetFor(accessor, now, memberId);
@@ -224,6 +232,23 @@ public class AwareTransactionContextTest {
 		assertEquals(payerKey, subject.activePayerKey());
 	}
 
+	@Test
+	public void getsPayerKeyRotatedEarlierInSameBatch() {
+		// setup:
+		JKey rotatedKey = mock(JKey.class);
+		given(accounts.getForModify(MerkleEntityId.fromAccountId(payer))).willReturn(new MerkleAccount());
+
+		// given:
+		backingAccounts.getRef(payer).setKey(rotatedKey);
+		backingAccounts.flushMutableRefs();
+		// and:
+		subject.payerSigIsKnownActive();
+
+		// expect:
+		assertSame(rotatedKey, subject.activePayerKey());
+		verify(accounts, never()).replace(any(), any());
+	}
+
 	@Test
 	public void getsExpectedNodeAccount() {
 		// expect:
@@ -39,9 +39,12 @@ import com.hedera.services.state.merkle.MerkleNetworkContext;
 import com.hedera.services.state.merkle.MerkleTopic;
 import com.hedera.services.context.domain.trackers.ConsensusStatusCounts;
 import com.hedera.services.context.domain.trackers.IssEventInfo;
+import com.hedera.services.context.primitives.SnapshotStateViews;
 import com.hedera.services.context.primitives.StateView;
+import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.context.properties.PropertySource;
 import com.hedera.services.context.properties.PropertySources;
+import com.hedera.services.context.properties.StandardizedPropertySources;
 import com.hedera.services.contracts.execution.SolidityLifecycle;
 import com.hedera.services.contracts.execution.TxnAwareSoliditySigsVerifier;
 import com.hedera.services.contracts.persistence.BlobStoragePersistence;
@@ -55,6 +58,7 @@ import com.hedera.services.files.interceptors.TxnAwareRatesManager;
 import com.hedera.services.files.interceptors.ValidatingCallbackInterceptor;
 import com.hedera.services.files.store.FcBlobsBytesStore;
 import com.hedera.services.grpc.NettyGrpcServerManager;
+import com.hedera.services.grpc.WorkerPools;
 import com.hedera.services.grpc.controllers.ConsensusController;
 import com.hedera.services.grpc.controllers.CryptoController;
 import com.hedera.services.grpc.controllers.FileController;
@@ -84,13 +88,21 @@ import com.hedera.services.queries.answering.QueryResponseHelper;
 import com.hedera.services.queries.crypto.CryptoAnswers;
 import com.hedera.services.queries.meta.MetaAnswers;
 import com.hedera.services.records.FeeChargingRecordsHistorian;
+import com.hedera.services.records.PayerRecordStore;
 import com.hedera.services.records.RecordCache;
+import com.hedera.services.records.TxnIdRecentHistories;
+import com.hedera.services.sigs.order.CachingSigningOrder;
 import com.hedera.services.sigs.order.HederaSigningOrder;
+import com.hedera.services.sigs.order.SigningOrderResultCache;
 import com.hedera.services.sigs.verification.PrecheckVerifier;
 import com.hedera.services.sigs.verification.SyncVerifier;
 import com.hedera.services.state.migration.DefaultStateMigrations;
 import com.hedera.services.utils.SleepingPause;
+import com.hedera.services.utils.TxnAccessorCache;
 import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.FileID;
+import com.hederahashgraph.api.proto.java.ServicesConfigurationList;
+import com.hedera.services.legacy.config.PropertiesLoader;
 import com.hedera.services.legacy.handler.FreezeHandler;
 import com.hedera.services.legacy.handler.SmartContractRequestHandler;
 import com.hedera.services.legacy.handler.TransactionHandler;
@@ -122,14 +134,19 @@ import org.junit.runner.RunWith;
 import org.mockito.InOrder;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
 import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.BDDMockito.*;
 import static org.hamcrest.MatcherAssert.assertThat;
 
@@ -219,6 +236,7 @@ public class ServicesContextTest {
 		subject.topics();
 		subject.storage();
 		subject.accounts();
+		subject.payerRecords();
 
 		// then:
 		inOrder.verify(state).addressBook();
@@ -228,6 +246,118 @@ public class ServicesContextTest {
 		inOrder.verify(state).topics();
 		inOrder.verify(state).storage();
 		inOrder.verify(state).accounts();
+		inOrder.verify(state).payerRecords();
+	}
+
+	@Test
+	public void reloadsDynamicPropertiesOnNetworkPropertiesUpdate() {
+		// setup:
+		var standardizedSources = mock(StandardizedPropertySources.class);
+		var networkProperties = FileID.newBuilder().setFileNum(121L).build();
+		var config = ServicesConfigurationList.getDefaultInstance();
+		var callbacks = new ArrayList<>(PropertiesLoader.updateCallbacks);
+
+		given(standardizedSources.asResolvingSource()).willReturn(properties);
+		given(properties.getLongProperty("files.networkProperties")).willReturn(121L);
+		given(properties.getIntProperty("cache.records.ttl")).willReturn(180, 300);
+		// and:
+		var subject = new ServicesContext(id, platform, state, standardizedSources);
+
+		// expect:
+		assertEquals(180, subject.globalDynamicProperties().cacheRecordsTtl());
+
+		// when:
+		PropertiesLoader.updateCallbacks.clear();
+		try {
+			subject.applicationPropertiesReloading().postUpdate(networkProperties, config.toByteArray());
+		} finally {
+			PropertiesLoader.updateCallbacks.addAll(callbacks);
+		}
+
+		// then:
+		verify(standardizedSources).updateThrottlePropsFrom(config);
+		assertEquals(300, subject.globalDynamicProperties().cacheRecordsTtl());
+	}
+
+	@Test
+	public void reusesAccountsScanUntilReleased() {
+		// given:
+		var subject = new ServicesContext(id, platform, state, propertySources);
+
+		// when:
+		var scan = subject.accountsScan();
+
+		// then:
+		assertSame(scan, subject.accountsScan());
+		assertSame(scan.existingIds(), subject.backingAccounts().idSet());
+		// and when:
+		subject.releaseAccountsScan();
+
+		// then:
+		assertNotSame(scan, subject.accountsScan());
+	}
+
+	@Test
+	public void skipsSigningOrderCacheWithLedgerBatching() {
+		given(properties.getIntProperty("sigs.orderCache.maxSize")).willReturn(10);
+		given(properties.getIntProperty("ledger.batching.maxTxnsPerFlush")).willReturn(100);
+
+		// when:
+		var subject = new ServicesContext(id, platform, state, propertySources);
+
+		// then:
+		assertFalse(subject.backedKeyOrder() instanceof CachingSigningOrder);
+	}
+
+	@Test
+	public void usesSigningOrderCacheWithoutLedgerBatching() {
+		given(properties.getIntProperty("sigs.orderCache.maxSize")).willReturn(10);
+		given(properties.getIntProperty("ledger.batching.maxTxnsPerFlush")).willReturn(1);
+
+		// when:
+		var subject = new ServicesContext(id, platform, state, propertySources);
+
+		// then:
+		assertThat(subject.backedKeyOrder(), instanceOf(CachingSigningOrder.class));
+	}
+
+	@Test
+	public void currentViewSeesAccountChangesBatchedByLedger() {
+		given(properties.getIntProperty("ledger.batching.maxTxnsPerFlush")).willReturn(100);
+		// setup:
+		var changed = AccountID.newBuilder().setAccountNum(1234L).build();
+		var account = new MerkleAccount();
+		given(accounts.getForModify(MerkleEntityId.fromAccountId(changed))).willReturn(account);
+
+		// given:
+		var subject = new ServicesContext(id, platform, state, propertySources);
+		// and:
+		subject.backingAccounts().getRef(changed);
+		subject.backingAccounts().flushMutableRefs();
+
+		// expect:
+		verify(accounts, never()).replace(any(), any());
+		// and when:
+		var view = subject.currentView().accounts();
+
+		// then:
+		assertSame(accounts, view);
+		verify(accounts).replace(MerkleEntityId.fromAccountId(changed), account);
+	}
+
+	@Test
+	public void onlyFlushesDeferredCommitsOfCurrentState() {
+		// given:
+		var subject = new ServicesContext(id, platform, state, propertySources);
+
+		// expect:
+		assertDoesNotThrow(() -> subject.flushDeferredCommitsBeforeCopying(state));
+		// and when:
+		subject.ledger().begin();
+
+		// then:
+		assertDoesNotThrow(() -> subject.flushDeferredCommitsBeforeCopying(mock(ServicesState.class)));
+		assertThrows(IllegalStateException.class, () -> subject.flushDeferredCommitsBeforeCopying(state));
 	}
 
 	@Test
@@ -346,6 +476,7 @@ public class ServicesContextTest {
 		assertThat(ctx.ids(), instanceOf(SeqNoEntityIdSource.class));
 		assertThat(ctx.fees(), instanceOf(UsageBasedFeeCalculator.class));
 		assertThat(ctx.grpc(), instanceOf(NettyGrpcServerManager.class));
+		assertThat(ctx.workerPools(), instanceOf(WorkerPools.class));
 		assertThat(ctx.ledger(), instanceOf(HederaLedger.class));
 		assertThat(ctx.txnCtx(), instanceOf(AwareTransactionContext.class));
 		assertThat(ctx.keyOrder(), instanceOf(HederaSigningOrder.class));
@@ -359,14 +490,20 @@ public class ServicesContextTest {
 		assertThat(ctx.topics(), instanceOf(FCMap.class));
 		assertThat(ctx.storage(), instanceOf(FCMap.class));
 		assertThat(ctx.metaAnswers(), instanceOf(MetaAnswers.class));
+		assertThat(ctx.stateViews(), instanceOf(SnapshotStateViews.class));
 		assertThat(ctx.stateViews().get(), instanceOf(StateView.class));
 		assertThat(ctx.fileNums(), instanceOf(FileNumbers.class));
 		assertThat(ctx.accountNums(), instanceOf(AccountNumbers.class));
 		assertThat(ctx.usagePrices(), instanceOf(AwareFcfsUsagePrices.class));
 		assertThat(ctx.currentView(), instanceOf(StateView.class));
 		assertThat(ctx.blobStore(), instanceOf(FcBlobsBytesStore.class));
+		assertThat(ctx.queryableBlobStore(), instanceOf(FcBlobsBytesStore.class));
+		assertThat(ctx.globalDynamicProperties(), instanceOf(GlobalDynamicProperties.class));
 		assertThat(ctx.entityExpiries(), instanceOf(Map.class));
 		assertThat(ctx.syncVerifier(), instanceOf(SyncVerifier.class));
+		assertThat(ctx.precheckSyncVerifier(), instanceOf(SyncVerifier.class));
+		assertThat(ctx.signingOrderCache(), instanceOf(SigningOrderResultCache.class));
+		assertThat(ctx.txnAccessorCache(), instanceOf(TxnAccessorCache.class));
 		assertThat(ctx.txnThrottling(), instanceOf(TransactionThrottling.class));
 		assertThat(ctx.bucketThrottling(), instanceOf(BucketThrottling.class));
 		assertThat(ctx.accountSource(), instanceOf(LedgerAccountsSource.class));
@@ -374,6 +511,7 @@ public class ServicesContextTest {
 		assertThat(ctx.cryptoAnswers(), instanceOf(CryptoAnswers.class));
 		assertThat(ctx.consensusGrpc(), instanceOf(ConsensusController.class));
 		assertThat(ctx.storagePersistence(), instanceOf(BlobStoragePersistence.class));
+		assertThat(ctx.pureStoragePersistence(), instanceOf(BlobStoragePersistence.class));
 		assertThat(ctx.filesGrpc(), instanceOf(FileController.class));
 		assertThat(ctx.networkGrpc(), instanceOf(NetworkController.class));
 		assertThat(ctx.entityNums(), instanceOf(EntityNumbers.class));
@@ -402,8 +540,9 @@ public class ServicesContextTest {
 		assertThat(ctx.lookupRetryingKeyOrder(), instanceOf(HederaSigningOrder.class));
 		assertThat(ctx.soliditySigsVerifier(), instanceOf(TxnAwareSoliditySigsVerifier.class));
 		assertThat(ctx.expiries(), instanceOf(ExpiryManager.class));
+		assertThat(ctx.payerRecordStore(), instanceOf(PayerRecordStore.class));
 		assertThat(ctx.creator(), instanceOf(ExpiringCreations.class));
-		assertThat(ctx.txnHistories(), instanceOf(Map.class));
+		assertThat(ctx.txnHistories(), instanceOf(TxnIdRecentHistories.class));
 		assertThat(ctx.backingAccounts(), instanceOf(FCMapBackingAccounts.class));
 		assertThat(ctx.systemAccountsCreator(), instanceOf(BackedSystemAccountsCreator.class));
 		assertThat(ctx.b64KeyReader(), instanceOf(LegacyEd25519KeyReader.class));
@@ -0,0 +1,111 @@
+package com.hedera.services.context.primitives;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.state.merkle.MerkleAccount;
+import com.hedera.services.state.merkle.MerkleBlobMeta;
+import com.hedera.services.state.merkle.MerkleEntityId;
+import com.hedera.services.state.merkle.MerkleOptionalBlob;
+import com.hedera.services.state.merkle.MerkleTopic;
+import com.swirlds.fcmap.FCMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@RunWith(JUnitPlatform.class)
+class SnapshotStateViewsTest {
+	FCMap<MerkleEntityId, MerkleTopic> topics;
+	FCMap<MerkleEntityId, MerkleAccount> accounts;
+	FCMap<MerkleBlobMeta, MerkleOptionalBlob> storage;
+	AtomicReference<FCMap<MerkleEntityId, MerkleTopic>> queryableTopics;
+	AtomicReference<FCMap<MerkleEntityId, MerkleAccount>> queryableAccounts;
+	AtomicReference<FCMap<MerkleBlobMeta, MerkleOptionalBlob>> queryableStorage;
+
+	SnapshotStateViews subject;
+
+	@BeforeEach
+	private void setup() {
+		topics = mock(FCMap.class);
+		accounts = mock(FCMap.class);
+		storage = mock(FCMap.class);
+		queryableTopics = new AtomicReference<>(topics);
+		queryableAccounts = new AtomicReference<>(accounts);
+		queryableStorage = new AtomicReference<>(storage);
+
+		subject = new SnapshotStateViews(queryableTopics::get, queryableAccounts::get, queryableStorage::get);
+	}
+
+	@Test
+	public void reusesViewWhileSnapshotUnchanged() {
+		// when:
+		var first = subject.get();
+		var second = subject.get();
+
+		// then:
+		assertSame(first, second);
+		assertSame(topics, first.topics());
+		assertSame(accounts, first.accounts());
+	}
+
+	@Test
+	public void replacesViewWhenAnyMapChanges() {
+		// setup:
+		FCMap<MerkleBlobMeta, MerkleOptionalBlob> newStorage = mock(FCMap.class);
+		FCMap<MerkleEntityId, MerkleAccount> newAccounts = mock(FCMap.class);
+
+		// given:
+		var first = subject.get();
+
+		// when:
+		queryableStorage.set(newStorage);
+		var second = subject.get();
+		// and:
+		queryableAccounts.set(newAccounts);
+		var third = subject.get();
+
+		// then:
+		assertNotSame(first, second);
+		assertNotSame(second, third);
+		assertSame(accounts, second.accounts());
+		assertSame(newAccounts, third.accounts());
+	}
+
+	@Test
+	public void viewStaysBoundToItsSnapshot() {
+		// setup:
+		FCMap<MerkleEntityId, MerkleAccount> newAccounts = mock(FCMap.class);
+
+		// given:
+		var view = subject.get();
+
+		// when:
+		queryableAccounts.set(newAccounts);
+
+		// then:
+		assertSame(accounts, view.accounts());
+	}
+}
@@ -29,6 +29,7 @@ import static com.hedera.test.utils.IdUtils.asContract;
 import static com.hedera.test.utils.IdUtils.asFile;
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.hedera.services.contracts.sources.PagedStorageMap;
 import com.hedera.services.legacy.core.jproto.JKey;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleEntityId;
@@ -69,7 +70,7 @@ class StateViewTest {
 	FileGetInfoResponse.FileInfo expected;
 	FileGetInfoResponse.FileInfo expectedImmutable;
 
-	Map<byte[], byte[]> storage;
+	PagedStorageMap storage;
 	Map<byte[], byte[]> bytecode;
 	Map<FileID, byte[]> contents;
 	Map<FileID, JFileInfo> attrs;
@@ -123,9 +124,10 @@ class StateViewTest {
 
 		contents = mock(Map.class);
 		attrs = mock(Map.class);
-		storage = mock(Map.class);
+		storage = mock(PagedStorageMap.class);
 		bytecode = mock(Map.class);
 		given(storage.get(argThat((byte[] bytes) -> Arrays.equals(cidAddress, bytes)))).willReturn(expectedStorage);
+		given(storage.sizeOf(argThat((byte[] bytes) -> Arrays.equals(cidAddress, bytes)))).willReturn(expectedStorage.length);
 		given(bytecode.get(argThat((byte[] bytes) -> Arrays.equals(cidAddress, bytes)))).willReturn(expectedBytecode);
 
 		subject = new StateView(StateView.EMPTY_TOPICS_SUPPLIER, () -> contracts);
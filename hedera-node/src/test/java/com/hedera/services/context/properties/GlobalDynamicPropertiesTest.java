@@ -0,0 +1,110 @@
+package com.hedera.services.context.properties;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hederahashgraph.api.proto.java.AccountID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.BDDMockito.*;
+
+@RunWith(JUnitPlatform.class)
+class GlobalDynamicPropertiesTest {
+	AccountID funding = AccountID.newBuilder().setAccountNum(98L).build();
+
+	PropertySource properties;
+
+	GlobalDynamicProperties subject;
+
+	@BeforeEach
+	private void setup() {
+		properties = mock(PropertySource.class);
+		givenPropsWithSeed(1);
+
+		subject = new GlobalDynamicProperties(properties);
+	}
+
+	@Test
+	public void snapshotsAllPropertiesOnConstruction() {
+		// expect:
+		assertEquals(1, subject.cacheRecordsTtl());
+		assertEquals(2, subject.ledgerRecordsTtl());
+		assertEquals(3, subject.maxContractStorageKb());
+		assertEquals(4L, subject.defaultContractSendThreshold());
+		assertEquals(5L, subject.defaultContractReceiveThreshold());
+		assertEquals(6, subject.ratesIntradayChangeLimitPercent());
+		assertEquals(7, subject.maxFileSizeKb());
+		assertEquals(8, subject.maxMemoUtf8Bytes());
+		assertEquals(9L, subject.maxTxnDuration());
+		assertEquals(10L, subject.minTxnDuration());
+		assertEquals(11, subject.minValidityBuffer());
+		assertEquals(12L, subject.maxAutoRenewDuration());
+		assertEquals(13L, subject.minAutoRenewDuration());
+		assertEquals(14, subject.maxTransferListSize());
+		assertEquals(15, subject.issResetPeriod());
+		assertEquals(16L, subject.recordStreamLogPeriod());
+		assertEquals(funding, subject.fundingAccount());
+	}
+
+	@Test
+	public void readsSourceOnlyOnReload() {
+		// given:
+		givenPropsWithSeed(2);
+
+		// expect:
+		assertEquals(1, subject.cacheRecordsTtl());
+		assertEquals(9L, subject.maxTxnDuration());
+
+		// and when:
+		subject.reload();
+
+		// then:
+		assertEquals(2, subject.cacheRecordsTtl());
+		assertEquals(10L, subject.maxTxnDuration());
+		assertEquals(16, subject.issResetPeriod());
+		assertEquals(17L, subject.recordStreamLogPeriod());
+		// and:
+		verify(properties, times(2)).getIntProperty("cache.records.ttl");
+	}
+
+	private void givenPropsWithSeed(int i) {
+		given(properties.getIntProperty("cache.records.ttl")).willReturn(i);
+		given(properties.getIntProperty("ledger.records.ttl")).willReturn(i + 1);
+		given(properties.getIntProperty("contracts.maxStorageKb")).willReturn(i + 2);
+		given(properties.getLongProperty("contracts.defaultSendThreshold")).willReturn(i + 3L);
+		given(properties.getLongProperty("contracts.defaultReceiveThreshold")).willReturn(i + 4L);
+		given(properties.getIntProperty("exchangeRates.intradayChange.limitPercent")).willReturn(i + 5);
+		given(properties.getIntProperty("files.maxSizeKb")).willReturn(i + 6);
+		given(properties.getIntProperty("hedera.transaction.maxMemoUtf8Bytes")).willReturn(i + 7);
+		given(properties.getLongProperty("hedera.transaction.maxValidDuration")).willReturn(i + 8L);
+		given(properties.getLongProperty("hedera.transaction.minValidDuration")).willReturn(i + 9L);
+		given(properties.getIntProperty("hedera.transaction.minValidityBufferSecs")).willReturn(i + 10);
+		given(properties.getLongProperty("ledger.autoRenewPeriod.maxDuration")).willReturn(i + 11L);
+		given(properties.getLongProperty("ledger.autoRenewPeriod.minDuration")).willReturn(i + 12L);
+		given(properties.getIntProperty("ledger.transfers.maxLen")).willReturn(i + 13);
+		given(properties.getIntProperty("iss.reset.periodSecs")).willReturn(i + 14);
+		given(properties.getLongProperty("hedera.recordStream.logPeriod")).willReturn(i + 15L);
+		given(properties.getAccountProperty("ledger.funding.account")).willReturn(funding);
+	}
+}
@@ -23,14 +23,13 @@ package com.hedera.services.contracts.execution;
 import com.hedera.services.context.TransactionContext;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.keys.SyncActivationCheck;
+import com.hedera.services.ledger.accounts.BackingAccounts;
 import com.hedera.services.sigs.verification.SyncVerifier;
 import com.hedera.services.utils.PlatformTxnAccessor;
 import com.hedera.test.factories.scenarios.TxnHandlingScenario;
 import com.hedera.test.utils.IdUtils;
 import com.hederahashgraph.api.proto.java.AccountID;
-import com.hedera.services.state.merkle.MerkleEntityId;
 import com.hedera.services.legacy.core.jproto.JKey;
-import com.swirlds.fcmap.FCMap;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -57,7 +56,7 @@ class TxnAwareSoliditySigsVerifierTest {
 
 	TransactionContext txnCtx;
 	SyncActivationCheck areActive;
-	FCMap<MerkleEntityId, MerkleAccount> accounts;
+	BackingAccounts<AccountID, MerkleAccount> accounts;
 
 	TxnAwareSoliditySigsVerifier subject;
 
@@ -80,15 +79,15 @@ class TxnAwareSoliditySigsVerifierTest {
 		given(txnCtx.accessor()).willReturn(accessor);
 		given(txnCtx.activePayer()).willReturn(payer);
 
-		accounts = mock(FCMap.class);
-		given(accounts.get(MerkleEntityId.fromAccountId(payer))).willReturn(sigReqAccount);
-		given(accounts.get(MerkleEntityId.fromAccountId(sigRequired))).willReturn(sigReqAccount);
-		given(accounts.get(MerkleEntityId.fromAccountId(noSigRequired))).willReturn(noSigReqAccount);
-		given(accounts.get(MerkleEntityId.fromAccountId(smartContract))).willReturn(contract);
+		accounts = mock(BackingAccounts.class);
+		given(accounts.getUnsafeRef(payer)).willReturn(sigReqAccount);
+		given(accounts.getUnsafeRef(sigRequired)).willReturn(sigReqAccount);
+		given(accounts.getUnsafeRef(noSigRequired)).willReturn(noSigReqAccount);
+		given(accounts.getUnsafeRef(smartContract)).willReturn(contract);
 
 		areActive = mock(SyncActivationCheck.class);
 
-		subject = new TxnAwareSoliditySigsVerifier(syncVerifier, txnCtx, areActive, () -> accounts);
+		subject = new TxnAwareSoliditySigsVerifier(syncVerifier, txnCtx, areActive, accounts);
 	}
 
 	@Test
@@ -21,7 +21,7 @@ package com.hedera.services.contracts.sources;
  */
 
 import com.hedera.services.state.merkle.MerkleAccount;
-import com.hedera.services.context.properties.PropertySource;
+import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.ledger.HederaLedger;
 import com.hedera.services.ledger.TransactionalLedger;
 import com.hedera.services.ledger.accounts.HederaAccountCustomizer;
@@ -60,13 +60,13 @@ class LedgerAccountsSourceTest {
 	byte[] key = EntityIdUtils.asSolidityAddress(1, 2, 13257);
 
 	HederaLedger ledger;
-	PropertySource properties;
+	GlobalDynamicProperties properties;
 
 	LedgerAccountsSource subject;
 
 	@BeforeEach
 	void setup() {
-		properties = mock(PropertySource.class);
+		properties = mock(GlobalDynamicProperties.class);
 		ledger = mock(HederaLedger.class);
 
 		subject = new LedgerAccountsSource(ledger, properties);
@@ -194,8 +194,8 @@ class LedgerAccountsSourceTest {
 		ArgumentCaptor<HederaAccountCustomizer> captor = ArgumentCaptor.forClass(HederaAccountCustomizer.class);
 		TransactionalLedger<AccountID, AccountProperty, MerkleAccount> txnLedger = mock(TransactionalLedger.class);
 
-		given(properties.getLongProperty("contracts.defaultSendThreshold")).willReturn(sendThreshold);
-		given(properties.getLongProperty("contracts.defaultReceiveThreshold")).willReturn(receiveThreshold);
+		given(properties.defaultContractSendThreshold()).willReturn(sendThreshold);
+		given(properties.defaultContractReceiveThreshold()).willReturn(receiveThreshold);
 		given(ledger.exists(target)).willReturn(false);
 
 		// when:
@@ -0,0 +1,310 @@
+package com.hedera.services.contracts.sources;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.utils.EntityIdUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@RunWith(JUnitPlatform.class)
+class PagedStorageMapTest {
+	private static final int PAGE_SIZE = 4;
+
+	byte[] address = EntityIdUtils.asSolidityAddress(0, 1, 1001);
+	byte[] otherAddress = EntityIdUtils.asSolidityAddress(0, 1, 1000);
+	byte[] contents = "abcdefghij".getBytes();
+
+	Object scope;
+	AtomicReference<Object> scopeRef;
+	RecordingBlobs blobs;
+
+	PagedStorageMap subject;
+
+	static class RecordingBlobs extends HashMap<String, byte[]> {
+		List<String> puts = new ArrayList<>();
+		Map<String, Runnable> afterGets = new HashMap<>();
+
+		@Override
+		public byte[] put(String key, byte[] value) {
+			puts.add(key);
+			return super.put(key, value);
+		}
+
+		@Override
+		public byte[] get(Object key) {
+			var value = super.get(key);
+			var afterGet = afterGets.remove(key);
+			if (afterGet != null) {
+				afterGet.run();
+			}
+			return value;
+		}
+	}
+
+	@BeforeEach
+	private void setup() {
+		scope = new Object();
+		scopeRef = new AtomicReference<>(scope);
+		blobs = new RecordingBlobs();
+
+		subject = new PagedStorageMap(blobs, PAGE_SIZE, scopeRef::get, 2);
+	}
+
+	@Test
+	public void rejectsNonPositivePageSize() {
+		// expect:
+		assertThrows(IllegalArgumentException.class, () -> new PagedStorageMap(blobs, 0, null, 0));
+	}
+
+	@Test
+	public void readsLegacyBlobTransparently() {
+		// given:
+		blobs.put("/1/d1001", contents);
+
+		// expect:
+		assertTrue(subject.containsKey(address));
+		assertArrayEquals(contents, subject.get(address));
+		assertEquals(contents.length, subject.sizeOf(address));
+		// and:
+		assertFalse(subject.containsKey(otherAddress));
+		assertNull(subject.get(otherAddress));
+		assertEquals(0, subject.sizeOf(otherAddress));
+		assertFalse(subject.containsKey("/1/d1001"));
+	}
+
+	@Test
+	public void putMigratesLegacyBlobToPages() {
+		// given:
+		blobs.put("/1/d1001", contents);
+
+		// when:
+		subject.put(address, contents);
+
+		// then:
+		assertFalse(blobs.containsKey("/1/d1001"));
+		assertArrayEquals("abcd".getBytes(), blobs.get("/1/d1001/p0g1"));
+		assertArrayEquals("efgh".getBytes(), blobs.get("/1/d1001/p1g1"));
+		assertArrayEquals("ij".getBytes(), blobs.get("/1/d1001/p2g1"));
+		assertEquals(PagedStorageMap.MANIFEST_HEADER_LEN + 3 * Integer.BYTES, blobs.get("/1/m1001").length);
+		// and:
+		assertArrayEquals(contents, subject.get(address));
+		assertEquals(contents.length, subject.sizeOf(address));
+	}
+
+	@Test
+	public void rewritesOnlyChangedPagesWhenRemembered() {
+		// setup:
+		subject.put(address, contents);
+		blobs.puts.clear();
+
+		// when:
+		subject.put(address, "abcdefXhij".getBytes());
+
+		// then:
+		assertEquals(List.of("/1/d1001/p1g2", "/1/m1001"), blobs.puts);
+		assertFalse(blobs.containsKey("/1/d1001/p1g1"));
+		assertTrue(blobs.containsKey("/1/d1001/p0g1"));
+		assertArrayEquals("abcdefXhij".getBytes(), subject.get(address));
+	}
+
+	@Test
+	public void rewritesOnlyChangedPagesWhenNotRemembered() {
+		// setup:
+		var unremembering = new PagedStorageMap(blobs, PAGE_SIZE, null, 0);
+		unremembering.put(address, contents);
+		blobs.puts.clear();
+
+		// when:
+		unremembering.put(address, "abcdefghiX".getBytes());
+
+		// then:
+		assertEquals(List.of("/1/d1001/p2g2", "/1/m1001"), blobs.puts);
+	}
+
+	@Test
+	public void doesNotTrustMemoFromDifferentScope() {
+		// setup:
+		subject.put(address, contents);
+		// and:
+		blobs.put("/1/d1001/p0g1", "zzzz".getBytes());
+		blobs.puts.clear();
+
+		// when:
+		scopeRef.set(new Object());
+		// and:
+		subject.put(address, contents);
+
+		// then:
+		assertEquals(List.of("/1/d1001/p0g2", "/1/m1001"), blobs.puts);
+		assertArrayEquals(contents, subject.get(address));
+	}
+
+	@Test
+	public void growingAndShrinkingAdjustPagesAndManifest() {
+		// setup:
+		subject.put(address, contents);
+
+		// when:
+		subject.put(address, "abcdefghijklm".getBytes());
+
+		// then:
+		assertArrayEquals("ijkl".getBytes(), blobs.get("/1/d1001/p2g2"));
+		assertArrayEquals("m".getBytes(), blobs.get("/1/d1001/p3g2"));
+		assertEquals(13, subject.sizeOf(address));
+
+		// and when:
+		subject.put(address, "abc".getBytes());
+
+		// then:
+		assertEquals(Set.of("/1/m1001", "/1/d1001/p0g3"), blobs.keySet());
+		assertArrayEquals("abc".getBytes(), blobs.get("/1/d1001/p0g3"));
+		assertArrayEquals("abc".getBytes(), subject.get(address));
+	}
+
+	@Test
+	public void readsPagesWrittenWithOtherPageSize() {
+		// setup:
+		new PagedStorageMap(blobs, 3, null, 0).put(address, contents);
+
+		// when:
+		subject.put(address, contents);
+
+		// then:
+		assertArrayEquals(contents, subject.get(address));
+		assertFalse(blobs.containsKey("/1/d1001/p0g1"));
+		assertFalse(blobs.containsKey("/1/d1001/p3g1"));
+	}
+
+	@Test
+	public void failsOnInconsistentPages() {
+		// setup:
+		subject.put(address, contents);
+		blobs.remove("/1/d1001/p1g1");
+
+		// expect:
+		assertThrows(IllegalStateException.class, () -> subject.get(address));
+	}
+
+	@Test
+	public void readerRacingAPutSeesOnlyTheNewVersion() {
+		// setup:
+		var reader = new PagedStorageMap(blobs);
+		var writer = new PagedStorageMap(blobs, PAGE_SIZE, null, 0);
+		var newContents = "ABCDefghIJ".getBytes();
+		// and:
+		writer.put(address, contents);
+		blobs.afterGets.put("/1/d1001/p0g1", () -> writer.put(address, newContents));
+
+		// when:
+		var read = reader.get(address);
+
+		// then:
+		assertArrayEquals(newContents, read);
+		assertFalse(blobs.containsKey("/1/d1001/p0g1"));
+	}
+
+	@Test
+	public void readerRacingAMigrationFindsThePages() {
+		// setup:
+		var reader = new PagedStorageMap(blobs);
+		// and:
+		blobs.put("/1/d1001", contents);
+		blobs.afterGets.put("/1/m1001", () -> subject.put(address, contents));
+
+		// when:
+		var read = reader.get(address);
+
+		// then:
+		assertFalse(blobs.containsKey("/1/d1001"));
+		assertArrayEquals(contents, read);
+	}
+
+	@Test
+	public void removeClearsEitherLayout() {
+		// setup:
+		subject.put(address, contents);
+		blobs.put("/1/d1000", contents);
+
+		// when:
+		subject.remove(address);
+		subject.remove(otherAddress);
+
+		// then:
+		assertTrue(blobs.isEmpty());
+		assertFalse(subject.containsKey(address));
+		assertNull(subject.remove("/1/d1001"));
+	}
+
+	@Test
+	public void migratesOnlyLegacyStoragePaths() {
+		// setup:
+		blobs.put("/1/d1001", contents);
+		blobs.put("/1/d1000", "0123".getBytes());
+		blobs.put("/1/s1000", "bytecode".getBytes());
+		blobs.puts.clear();
+		// and:
+		assertFalse(subject.isLegacyMigrated());
+
+		// when:
+		int migrated = subject.migrateLegacy(List.of("/1/s1000", "/1/d1001", "/1/d1000"));
+
+		// then:
+		assertEquals(2, migrated);
+		assertEquals(
+				List.of(
+						"/1/d1000/p0g1", "/1/m1000",
+						"/1/d1001/p0g1", "/1/d1001/p1g1", "/1/d1001/p2g1", "/1/m1001",
+						PagedStorageMap.LAYOUT_VERSION_PATH),
+				blobs.puts);
+		assertTrue(subject.isLegacyMigrated());
+		assertArrayEquals("bytecode".getBytes(), blobs.get("/1/s1000"));
+		// and:
+		assertEquals(0, subject.migrateLegacy(List.copyOf(blobs.keySet())));
+	}
+
+	@Test
+	public void entrySetIncludesBothLayouts() {
+		// setup:
+		subject.put(address, contents);
+		blobs.put("/1/d1000", "0123".getBytes());
+		blobs.put("/1/s1000", "bytecode".getBytes());
+
+		// when:
+		Map<String, String> entries = new HashMap<>();
+		subject.entrySet().forEach(entry -> entries.put(
+				EntityIdUtils.asLiteralString(EntityIdUtils.accountParsedFromSolidityAddress(entry.getKey())),
+				new String(entry.getValue())));
+
+		// then:
+		assertEquals(Map.of("0.1.1001", "abcdefghij", "0.1.1000", "0123"), entries);
+	}
+}
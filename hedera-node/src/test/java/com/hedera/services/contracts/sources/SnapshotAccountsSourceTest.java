@@ -0,0 +1,101 @@
+package com.hedera.services.contracts.sources;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.state.merkle.MerkleAccount;
+import com.hedera.services.state.merkle.MerkleEntityId;
+import com.hedera.services.state.submerkle.EntityId;
+import com.hedera.services.utils.EntityIdUtils;
+import com.hedera.test.utils.IdUtils;
+import com.swirlds.fcmap.FCMap;
+import org.ethereum.core.AccountState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.math.BigInteger;
+
+import static org.mockito.BDDMockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@RunWith(JUnitPlatform.class)
+class SnapshotAccountsSourceTest {
+	long balance = 1_234_567L;
+	long expiry = 1_234_567L;
+	MerkleEntityId target = new MerkleEntityId(1, 2, 13257);
+	byte[] key = EntityIdUtils.asSolidityAddress(1, 2, 13257);
+
+	FCMap<MerkleEntityId, MerkleAccount> accounts;
+
+	SnapshotAccountsSource subject;
+
+	@BeforeEach
+	private void setup() {
+		accounts = mock(FCMap.class);
+
+		subject = new SnapshotAccountsSource(() -> accounts);
+	}
+
+	@Test
+	public void unsupportedOpsThrow() {
+		// expect:
+		assertThrows(UnsupportedOperationException.class, () -> subject.delete(key));
+	}
+
+	@Test
+	public void putsAreIgnored() {
+		// when:
+		subject.put(key, new AccountState(BigInteger.ZERO, BigInteger.ONE));
+
+		// then:
+		verifyNoInteractions(accounts);
+		assertFalse(subject.flush());
+	}
+
+	@Test
+	public void getsNullForMissingKey() {
+		// expect:
+		assertNull(subject.get(key));
+	}
+
+	@Test
+	public void getsExpectedForPresentKey() {
+		// setup:
+		MerkleAccount account = mock(MerkleAccount.class);
+		given(account.getBalance()).willReturn(balance);
+		given(account.getExpiry()).willReturn(expiry);
+		given(account.getProxy()).willReturn(EntityId.ofNullableAccountId(IdUtils.asAccount("1.2.3")));
+		given(account.isSmartContract()).willReturn(true);
+
+		given(accounts.get(target)).willReturn(account);
+
+		// when:
+		var evmState = subject.get(key);
+
+		// then:
+		assertEquals(BigInteger.valueOf(balance), evmState.getBalance());
+		assertEquals(13257, evmState.getAccountNum());
+		assertEquals(3, evmState.getProxyAccountNum());
+		assertEquals(expiry, evmState.getExpirationTime());
+		assertTrue(evmState.isSmartContract());
+	}
+}
@@ -0,0 +1,175 @@
+package com.hedera.services.contracts.sources;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.utils.EntityIdUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.mockito.BDDMockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@RunWith(JUnitPlatform.class)
+class SnapshotCachingMapTest {
+	Map<byte[], byte[]> delegate;
+	AtomicReference<Object> snapshot = new AtomicReference<>(new Object());
+
+	byte[] address = EntityIdUtils.asSolidityAddress(0, 0, 13257);
+	byte[] otherAddress = EntityIdUtils.asSolidityAddress(0, 0, 13258);
+	byte[] contents = "CONTENTS".getBytes();
+
+	SnapshotCachingMap subject;
+
+	@BeforeEach
+	private void setup() {
+		delegate = mock(Map.class);
+
+		subject = new SnapshotCachingMap(delegate, snapshot::get, 2);
+	}
+
+	@Test
+	public void writesThroughAndForgetsWhatWasRead() {
+		// setup:
+		byte[] newContents = "NEW_CONTENTS".getBytes();
+		Set<Map.Entry<byte[], byte[]>> entries = Set.of(new AbstractMap.SimpleEntry<>(address, newContents));
+
+		given(delegate.get(address)).willReturn(contents).willReturn(newContents).willReturn(null);
+		given(delegate.entrySet()).willReturn(entries);
+
+		// when:
+		var before = subject.get(address);
+		subject.put(address, newContents);
+		var afterPut = subject.get(address);
+		subject.remove(address);
+		var afterRemove = subject.get(address);
+
+		// then:
+		assertSame(contents, before);
+		assertSame(newContents, afterPut);
+		assertNull(afterRemove);
+		// and:
+		verify(delegate).put(address, newContents);
+		verify(delegate).remove(address);
+		assertSame(entries, subject.entrySet());
+	}
+
+	@Test
+	public void forgetsContentsWhenInvalidated() {
+		given(delegate.get(address)).willReturn(contents);
+
+		// when:
+		subject.get(address);
+		subject.invalidate();
+		subject.get(address);
+		subject.get(address);
+
+		// then:
+		verify(delegate, times(2)).get(any());
+		assertEquals(1, subject.numCached());
+	}
+
+	@Test
+	public void readRacingAWriteIsNotCachedPastTheInvalidation() {
+		// setup:
+		byte[] newContents = "NEW_CONTENTS".getBytes();
+
+		given(delegate.get(address)).willAnswer(invocation -> {
+			/* The handle thread finishes a write while this read is in flight. */
+			subject.invalidate();
+			return contents;
+		}).willReturn(newContents);
+
+		// when:
+		var racing = subject.get(address);
+		var after = subject.get(address);
+
+		// then:
+		assertSame(contents, racing);
+		assertSame(newContents, after);
+	}
+
+	@Test
+	public void readsThroughOnlyOncePerSnapshot() {
+		given(delegate.get(address)).willReturn(contents);
+
+		// when:
+		var first = subject.get(address);
+		var second = subject.get(address.clone());
+
+		// then:
+		assertSame(contents, first);
+		assertSame(contents, second);
+		verify(delegate, times(1)).get(any());
+	}
+
+	@Test
+	public void remembersMissingContents() {
+		// expect:
+		assertFalse(subject.containsKey(address));
+		assertNull(subject.get(address));
+		// and:
+		verify(delegate, times(1)).get(any());
+	}
+
+	@Test
+	public void forgetsContentsWhenSnapshotChanges() {
+		given(delegate.get(address)).willReturn(contents);
+
+		// when:
+		subject.get(address);
+		snapshot.set(new Object());
+		subject.get(address);
+
+		// then:
+		verify(delegate, times(2)).get(any());
+		assertEquals(1, subject.numCached());
+	}
+
+	@Test
+	public void readsThroughWhenFull() {
+		// setup:
+		byte[] thirdAddress = EntityIdUtils.asSolidityAddress(0, 0, 13259);
+
+		// when:
+		subject.get(address);
+		subject.get(otherAddress);
+		subject.get(thirdAddress);
+		subject.get(thirdAddress);
+
+		// then:
+		assertEquals(2, subject.numCached());
+		verify(delegate, times(2)).get(thirdAddress);
+	}
+
+	@Test
+	public void ignoresNonAddressKeys() {
+		// expect:
+		assertNull(subject.get("NOPE"));
+		verify(delegate, never()).get(any());
+	}
+}
@@ -0,0 +1,201 @@
+package com.hedera.services.fees.calculation;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.common.io.Files;
+import com.hedera.services.fees.bootstrap.JsonToProtoSerdeTest;
+import com.hederahashgraph.api.proto.java.CurrentAndNextFeeSchedule;
+import com.hederahashgraph.api.proto.java.ExchangeRate;
+import com.hederahashgraph.api.proto.java.FeeComponents;
+import com.hederahashgraph.api.proto.java.FeeData;
+import com.hederahashgraph.api.proto.java.TransactionFeeSchedule;
+import com.hederahashgraph.fee.FeeBuilder;
+import com.hederahashgraph.fee.FeeObject;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.io.File;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@RunWith(JUnitPlatform.class)
+class CompiledUsagePricesTest {
+	static final List<ExchangeRate> RATES = List.of(
+			rate(1, 12),
+			rate(30_000, 1_000_000),
+			rate(Integer.MAX_VALUE, 1),
+			rate(1, Integer.MAX_VALUE),
+			rate(-7, 3),
+			rate(Integer.MIN_VALUE, -1));
+
+	@Test
+	public void matchesBigIntegerFeesForAllScheduledPrices() throws Exception {
+		// setup:
+		var random = new SplittableRandom(1_234_567L);
+
+		for (FeeData prices : scheduledPrices()) {
+			// given:
+			var subject = CompiledUsagePrices.compile(prices);
+
+			for (int i = 0; i < 100; i++) {
+				var usage = randomUsage(random);
+				for (ExchangeRate rate : RATES) {
+					// expect:
+					assertSameFees(bigIntegerFeeObject(prices, usage, rate), subject.feeGiven(usage, rate));
+					assertSameFees(bigIntegerFeeObject(prices, usage, rate), FeeBuilder.getFeeObject(prices, usage, rate));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void matchesBigIntegerFeesForExtremePrices() {
+		// setup:
+		var random = new SplittableRandom(7_654_321L);
+
+		for (int i = 0; i < 10_000; i++) {
+			// given:
+			var prices = randomExtremePrices(random);
+			var usage = randomUsage(random);
+			var subject = CompiledUsagePrices.compile(prices);
+
+			for (ExchangeRate rate : RATES) {
+				// expect:
+				assertSameFees(bigIntegerFeeObject(prices, usage, rate), subject.feeGiven(usage, rate));
+			}
+		}
+	}
+
+	@Test
+	public void convertsEdgeCasesLikeBigInteger() {
+		// setup:
+		long[] fees = { 0L, 1L, -1L, Long.MAX_VALUE, Long.MIN_VALUE, 1L << 32, -(1L << 32), 1L << 62 };
+
+		for (long fee : fees) {
+			for (ExchangeRate rate : RATES) {
+				// expect:
+				assertEquals(
+						bigIntegerTinybarsFromTinyCents(rate, fee),
+						FeeBuilder.getTinybarsFromTinyCents(rate, fee));
+			}
+		}
+	}
+
+	@Test
+	public void throwsLikeBigIntegerOnZeroCentEquiv() {
+		// expect:
+		assertThrows(ArithmeticException.class,
+				() -> FeeBuilder.getTinybarsFromTinyCents(rate(1, 0), 1L));
+		assertThrows(ArithmeticException.class,
+				() -> FeeBuilder.getTinybarsFromTinyCents(rate(Integer.MAX_VALUE, 0), Long.MAX_VALUE));
+	}
+
+	@Test
+	public void retainsSourcePrices() {
+		// given:
+		var prices = AwareFcfsUsagePrices.DEFAULT_USAGE_PRICES;
+
+		// expect:
+		assertSame(prices, CompiledUsagePrices.compile(prices).prices());
+	}
+
+	/* The fee computation as it was before compilation and primitive exchange-rate math. */
+	static FeeObject bigIntegerFeeObject(FeeData prices, FeeData usage, ExchangeRate rate) {
+		long networkFee = FeeBuilder.getComponentFeeInTinyCents(prices.getNetworkdata(), usage.getNetworkdata());
+		long nodeFee = FeeBuilder.getComponentFeeInTinyCents(prices.getNodedata(), usage.getNodedata());
+		long serviceFee = FeeBuilder.getComponentFeeInTinyCents(prices.getServicedata(), usage.getServicedata());
+		return new FeeObject(
+				bigIntegerTinybarsFromTinyCents(rate, nodeFee),
+				bigIntegerTinybarsFromTinyCents(rate, networkFee),
+				bigIntegerTinybarsFromTinyCents(rate, serviceFee));
+	}
+
+	static long bigIntegerTinybarsFromTinyCents(ExchangeRate rate, long tinyCentsFee) {
+		return BigInteger.valueOf(tinyCentsFee)
+				.multiply(BigInteger.valueOf(rate.getHbarEquiv()))
+				.divide(BigInteger.valueOf(rate.getCentEquiv()))
+				.longValue();
+	}
+
+	static List<FeeData> scheduledPrices() throws Exception {
+		var bytes = Files.toByteArray(new File(JsonToProtoSerdeTest.R4_FEE_SCHEDULE_REPR_PATH));
+		var schedules = CurrentAndNextFeeSchedule.parseFrom(bytes);
+		List<FeeData> prices = new ArrayList<>();
+		for (TransactionFeeSchedule tfs : schedules.getCurrentFeeSchedule().getTransactionFeeScheduleList()) {
+			prices.add(tfs.getFeeData());
+		}
+		for (TransactionFeeSchedule tfs : schedules.getNextFeeSchedule().getTransactionFeeScheduleList()) {
+			prices.add(tfs.getFeeData());
+		}
+		prices.add(AwareFcfsUsagePrices.DEFAULT_USAGE_PRICES);
+		return prices;
+	}
+
+	static FeeData randomUsage(SplittableRandom random) {
+		return FeeData.newBuilder()
+				.setNetworkdata(randomComponents(random, 1L << 20))
+				.setNodedata(randomComponents(random, 1L << 20))
+				.setServicedata(randomComponents(random, 1L << 20))
+				.build();
+	}
+
+	private static FeeData randomExtremePrices(SplittableRandom random) {
+		return FeeData.newBuilder()
+				.setNetworkdata(randomComponents(random, Long.MAX_VALUE))
+				.setNodedata(randomComponents(random, Long.MAX_VALUE))
+				.setServicedata(randomComponents(random, Long.MAX_VALUE))
+				.build();
+	}
+
+	private static FeeComponents randomComponents(SplittableRandom random, long bound) {
+		long min = random.nextLong(bound);
+		return FeeComponents.newBuilder()
+				.setConstant(random.nextLong(bound))
+				.setBpt(random.nextLong(bound))
+				.setVpt(random.nextLong(bound))
+				.setRbh(random.nextLong(bound))
+				.setSbh(random.nextLong(bound))
+				.setGas(random.nextLong(bound))
+				.setTv(random.nextLong(bound))
+				.setBpr(random.nextLong(bound))
+				.setSbpr(random.nextLong(bound))
+				.setMin(min)
+				.setMax(min + random.nextLong(bound - min))
+				.build();
+	}
+
+	private static ExchangeRate rate(int hbarEquiv, int centEquiv) {
+		return ExchangeRate.newBuilder().setHbarEquiv(hbarEquiv).setCentEquiv(centEquiv).build();
+	}
+
+	private static void assertSameFees(FeeObject expected, FeeObject actual) {
+		assertEquals(expected.getNodeFee(), actual.getNodeFee());
+		assertEquals(expected.getNetworkFee(), actual.getNetworkFee());
+		assertEquals(expected.getServiceFee(), actual.getServiceFee());
+	}
+}
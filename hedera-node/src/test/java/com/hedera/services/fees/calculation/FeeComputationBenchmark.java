@@ -0,0 +1,112 @@
+package com.hedera.services.fees.calculation;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hederahashgraph.api.proto.java.ExchangeRate;
+import com.hederahashgraph.api.proto.java.FeeData;
+import com.hederahashgraph.fee.FeeBuilder;
+import com.hederahashgraph.fee.FeeObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import static com.hedera.services.fees.calculation.CompiledUsagePricesTest.bigIntegerFeeObject;
+import static com.hedera.services.fees.calculation.CompiledUsagePricesTest.randomUsage;
+import static com.hedera.services.fees.calculation.CompiledUsagePricesTest.scheduledPrices;
+
+/**
+ * Compares computing a fee from the usage prices in the R4 fee schedule: with the
+ * {@code BigInteger} exchange-rate conversion {@link FeeBuilder} used to do, with its
+ * current primitive conversion, and with prices pre-compiled to a {@link CompiledUsagePrices}.
+ * Run with {@code java -cp <test classpath> com.hedera.services.fees.calculation.FeeComputationBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FeeComputationBenchmark {
+	private static final int NUM_CASES = 1024;
+
+	int i;
+	FeeData[] usages;
+	FeeData[] prices;
+	CompiledUsagePrices[] compiledPrices;
+	ExchangeRate rate = ExchangeRate.newBuilder().setHbarEquiv(30_000).setCentEquiv(1_000_000).build();
+
+	@Setup
+	public void setup() throws Exception {
+		var random = new SplittableRandom(1_234_567L);
+		List<FeeData> scheduled = scheduledPrices();
+
+		usages = new FeeData[NUM_CASES];
+		prices = new FeeData[NUM_CASES];
+		compiledPrices = new CompiledUsagePrices[NUM_CASES];
+		for (int j = 0; j < NUM_CASES; j++) {
+			usages[j] = randomUsage(random);
+			prices[j] = scheduled.get(random.nextInt(scheduled.size()));
+			compiledPrices[j] = CompiledUsagePrices.compile(prices[j]);
+		}
+	}
+
+	@Benchmark
+	public FeeObject bigIntegerConversion() {
+		int j = next();
+		return bigIntegerFeeObject(prices[j], usages[j], rate);
+	}
+
+	@Benchmark
+	public FeeObject primitiveConversion() {
+		int j = next();
+		return FeeBuilder.getFeeObject(prices[j], usages[j], rate);
+	}
+
+	@Benchmark
+	public FeeObject compiledFees() {
+		int j = next();
+		return compiledPrices[j].feeGiven(usages[j], rate);
+	}
+
+	private int next() {
+		return i++ & (NUM_CASES - 1);
+	}
+
+	public static void main(String... args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+				.include(FeeComputationBenchmark.class.getSimpleName())
+				.build()).run();
+	}
+}
@@ -0,0 +1,135 @@
+package com.hedera.services.fees.calculation;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hederahashgraph.api.proto.java.ExchangeRate;
+import com.hederahashgraph.api.proto.java.FeeData;
+import com.hederahashgraph.api.proto.java.Transaction;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+import com.hederahashgraph.fee.FeeObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@RunWith(JUnitPlatform.class)
+class FeeResultCacheTest {
+	int numPayerKeys = 3;
+	FeeData prices = FeeData.newBuilder().build();
+	ExchangeRate rate = ExchangeRate.newBuilder().setCentEquiv(12).setHbarEquiv(1).build();
+	FeeObject fee = new FeeObject(1L, 2L, 3L);
+	Transaction firstTxn = signed("First");
+	Transaction secondTxn = signed("Second");
+	Transaction thirdTxn = signed("Third");
+
+	FeeResultCache subject;
+
+	@BeforeEach
+	private void setup() {
+		subject = new FeeResultCache(2);
+	}
+
+	@Test
+	public void rejectsNegativeSize() {
+		// expect:
+		assertThrows(IllegalArgumentException.class, () -> new FeeResultCache(-1));
+	}
+
+	@Test
+	public void returnsOfferedFeeForSameInputs() {
+		// when:
+		subject.offer(firstTxn, numPayerKeys, prices, rate, fee);
+
+		// then:
+		assertSame(fee, subject.feeFor(signed("First"), numPayerKeys, prices, rate));
+		assertNull(subject.feeFor(secondTxn, numPayerKeys, prices, rate));
+	}
+
+	@Test
+	public void missesIfAnyInputChanged() {
+		// given:
+		var equalButNewPrices = prices.toBuilder().build();
+		var equalButNewRate = rate.toBuilder().build();
+
+		// when:
+		subject.offer(firstTxn, numPayerKeys, prices, rate, fee);
+
+		// then:
+		assertNull(subject.feeFor(firstTxn, numPayerKeys + 1, prices, rate));
+		assertNull(subject.feeFor(firstTxn, numPayerKeys, equalButNewPrices, rate));
+		assertNull(subject.feeFor(firstTxn, numPayerKeys, prices, equalButNewRate));
+	}
+
+	@Test
+	public void replacesStaleEntryOnOffer() {
+		// given:
+		var newRate = rate.toBuilder().setCentEquiv(24).build();
+		var newFee = new FeeObject(2L, 4L, 6L);
+
+		// when:
+		subject.offer(firstTxn, numPayerKeys, prices, rate, fee);
+		subject.offer(firstTxn, numPayerKeys, prices, newRate, newFee);
+
+		// then:
+		assertSame(newFee, subject.feeFor(firstTxn, numPayerKeys, prices, newRate));
+		assertEquals(1, subject.size());
+	}
+
+	@Test
+	public void evictsLeastRecentlyUsed() {
+		// given:
+		subject.offer(firstTxn, numPayerKeys, prices, rate, fee);
+		subject.offer(secondTxn, numPayerKeys, prices, rate, fee);
+
+		// when:
+		subject.feeFor(firstTxn, numPayerKeys, prices, rate);
+		subject.offer(thirdTxn, numPayerKeys, prices, rate, fee);
+
+		// then:
+		assertEquals(2, subject.size());
+		assertSame(fee, subject.feeFor(firstTxn, numPayerKeys, prices, rate));
+		assertNull(subject.feeFor(secondTxn, numPayerKeys, prices, rate));
+	}
+
+	@Test
+	public void cachesNothingWithZeroSize() {
+		// given:
+		subject = new FeeResultCache(0);
+
+		// when:
+		subject.offer(firstTxn, numPayerKeys, prices, rate, fee);
+
+		// then:
+		assertEquals(0, subject.size());
+		assertNull(subject.feeFor(firstTxn, numPayerKeys, prices, rate));
+	}
+
+	private static Transaction signed(String memo) {
+		return Transaction.newBuilder()
+				.setBodyBytes(TransactionBody.newBuilder().setMemo(memo).build().toByteString())
+				.build();
+	}
+}
@@ -21,7 +21,7 @@ package com.hedera.services.fees.calculation;
  */
 
 import com.hedera.services.context.primitives.StateView;
-import com.hedera.services.context.properties.PropertySource;
+import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.fees.HbarCentExchange;
 import com.hedera.services.utils.SignedTxnAccessor;
 import com.hedera.test.factories.keys.KeyTree;
@@ -30,6 +30,7 @@ import com.hedera.test.utils.TxnUtils;
 import com.hederahashgraph.api.proto.java.ExchangeRate;
 import com.hederahashgraph.api.proto.java.FeeComponents;
 import com.hederahashgraph.api.proto.java.FeeData;
+import com.hederahashgraph.api.proto.java.FileGetInfoQuery;
 import com.hederahashgraph.api.proto.java.HederaFunctionality;
 import com.hederahashgraph.api.proto.java.Query;
 import com.hederahashgraph.api.proto.java.Timestamp;
@@ -56,6 +57,7 @@ import static com.hederahashgraph.api.proto.java.ResponseType.ANSWER_ONLY;
 import static com.hederahashgraph.fee.FeeBuilder.getTinybarsFromTinyCents;
 import static com.hederahashgraph.fee.FeeBuilder.getTransactionRecordFeeInTinyCents;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.BDDMockito.*;
 import static com.hedera.test.factories.txns.CryptoCreateFactory.newSignedCryptoCreate;
@@ -91,7 +93,8 @@ class UsageBasedFeeCalculatorTest {
 			.build();
 	Function<HederaFunctionality, List<TxnResourceUsageEstimator>> txnUsageEstimators;
 
-	PropertySource properties;
+	GlobalDynamicProperties properties;
+	FeeResultCache feeCache;
 	UsageBasedFeeCalculator subject;
 	/* Has nine simple keys. */
 	KeyTree complexKey = TxnHandlingScenario.COMPLEX_KEY_ACCOUNT_KT;
@@ -116,7 +119,8 @@ class UsageBasedFeeCalculatorTest {
 		incorrectOpEstimator = mock(TxnResourceUsageEstimator.class);
 		correctQueryEstimator = mock(QueryResourceUsageEstimator.class);
 		incorrectQueryEstimator = mock(QueryResourceUsageEstimator.class);
-		properties = mock(PropertySource.class);
+		properties = mock(GlobalDynamicProperties.class);
+		feeCache = new FeeResultCache(2);
 
 		txnUsageEstimators = (Function<HederaFunctionality, List<TxnResourceUsageEstimator>>)mock(Function.class);
 
@@ -125,7 +129,8 @@ class UsageBasedFeeCalculatorTest {
 				exchange,
 				usagePrices,
 				List.of(incorrectQueryEstimator, correctQueryEstimator),
-				txnUsageEstimators);
+				txnUsageEstimators,
+				feeCache);
 	}
 
 	@Test
@@ -152,7 +157,7 @@ class UsageBasedFeeCalculatorTest {
 
 		given(exchange.activeRate()).willReturn(currentRate);
 		given(usagePrices.activePrices()).willReturn(mockFeeData);
-		given(properties.getIntProperty("ledger.records.ttl")).willReturn(ttl);
+		given(properties.ledgerRecordsTtl()).willReturn(ttl);
 		// and:
 		long shouldBe = expectedPriceForStorage(record, ttl);
 
@@ -170,7 +175,7 @@ class UsageBasedFeeCalculatorTest {
 
 		given(exchange.activeRate()).willReturn(currentRate);
 		given(usagePrices.activePrices()).willReturn(mockFeeData);
-		given(properties.getIntProperty("cache.records.ttl")).willReturn(ttl);
+		given(properties.cacheRecordsTtl()).willReturn(ttl);
 		// and:
 		long shouldBe = expectedPriceForStorage(record, ttl);
 
@@ -322,6 +327,79 @@ class UsageBasedFeeCalculatorTest {
 		assertEquals(fees.getServiceFee(), expectedFees.getServiceFee());
 	}
 
+	@Test
+	public void remembersQueryEstimatorByCase() {
+		// setup:
+		var fileInfoQuery = Query.newBuilder().setFileGetInfo(FileGetInfoQuery.getDefaultInstance()).build();
+
+		given(correctQueryEstimator.applicableTo(fileInfoQuery)).willReturn(true);
+		given(incorrectQueryEstimator.applicableTo(fileInfoQuery)).willReturn(false);
+		given(correctQueryEstimator.usageGivenType(fileInfoQuery, view, ANSWER_ONLY)).willReturn(resourceUsage);
+		given(exchange.rate(at)).willReturn(currentRate);
+
+		// when:
+		subject.estimatePayment(fileInfoQuery, currentPrices, view, at, ANSWER_ONLY);
+		subject.estimatePayment(fileInfoQuery, currentPrices, view, at, ANSWER_ONLY);
+
+		// then:
+		verify(correctQueryEstimator, times(1)).applicableTo(fileInfoQuery);
+		verify(correctQueryEstimator, times(2)).usageGivenType(fileInfoQuery, view, ANSWER_ONLY);
+	}
+
+	@Test
+	public void reusesCachedFeeForStateIndependentUsage() throws Exception {
+		givenCorrectOpEstimatorFor(currentRate, false);
+
+		// when:
+		FeeObject precheckFees = subject.estimateFee(accessor, payerKey, view, at);
+		FeeObject handleFees = subject.computeFee(accessor, payerKey, view);
+
+		// then:
+		assertSame(precheckFees, handleFees);
+		verify(correctOpEstimator, times(1)).usageGiven(any(), any(), any());
+	}
+
+	@Test
+	public void reestimatesStateDependentUsage() throws Exception {
+		givenCorrectOpEstimatorFor(currentRate, true);
+
+		// when:
+		subject.estimateFee(accessor, payerKey, view, at);
+		subject.computeFee(accessor, payerKey, view);
+
+		// then:
+		verify(correctOpEstimator, times(2)).usageGiven(any(), any(), any());
+		assertEquals(0, feeCache.size());
+	}
+
+	@Test
+	public void reestimatesWhenRateChanges() throws Exception {
+		// setup:
+		var newRate = currentRate.toBuilder().setCentEquiv(44).build();
+		FeeObject expectedFees = FeeBuilder.getFeeObject(currentPrices, resourceUsage, newRate);
+
+		givenCorrectOpEstimatorFor(currentRate, false);
+		given(exchange.activeRate()).willReturn(newRate);
+
+		// when:
+		subject.estimateFee(accessor, payerKey, view, at);
+		FeeObject fees = subject.computeFee(accessor, payerKey, view);
+
+		// then:
+		verify(correctOpEstimator, times(2)).usageGiven(any(), any(), any());
+		assertEquals(expectedFees.getServiceFee(), fees.getServiceFee());
+	}
+
+	private void givenCorrectOpEstimatorFor(ExchangeRate rate, boolean isStateDependent) throws Exception {
+		given(correctOpEstimator.applicableTo(accessor.getTxn())).willReturn(true);
+		given(correctOpEstimator.usageIsStateDependent()).willReturn(isStateDependent);
+		given(txnUsageEstimators.apply(CryptoCreate)).willReturn(List.of(correctOpEstimator));
+		given(correctOpEstimator.usageGiven(any(), any(), any())).willReturn(resourceUsage);
+		given(usagePrices.pricesGiven(CryptoCreate, at)).willReturn(currentPrices);
+		given(exchange.rate(at)).willReturn(rate);
+		given(exchange.activeRate()).willReturn(rate);
+	}
+
 	private Function<SigValueObj, ArgumentMatcher<SigValueObj>> factory = expectedSigUsage -> sigUsage ->
 			expectedSigUsage.getSignatureSize() == sigUsage.getSignatureSize()
 					&& expectedSigUsage.getPayerAcctSigCount() == sigUsage.getPayerAcctSigCount()
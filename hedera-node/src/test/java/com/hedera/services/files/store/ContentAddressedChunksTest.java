@@ -0,0 +1,228 @@
+package com.hedera.services.files.store;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.swirlds.common.crypto.Hash;
+import org.apache.commons.lang3.ArrayUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@RunWith(JUnitPlatform.class)
+class ContentAddressedChunksTest {
+	int chunkSize = 4;
+	String aPath = "/0/f1", bPath = "/0/f2";
+	Hash v1 = new Hash("sdfysdfysdfysdfysdfysdfysdfysdfysdfysdfysdfysdfy".getBytes());
+	Hash v2 = new Hash("sdfzsdfzsdfzsdfzsdfzsdfzsdfzsdfzsdfzsdfzsdfzsdfz".getBytes());
+	byte[] tenBytes = "0123456789".getBytes();
+
+	ContentAddressedChunks subject;
+
+	@BeforeEach
+	private void setup() {
+		subject = new ContentAddressedChunks(chunkSize, 1024);
+	}
+
+	@Test
+	public void rejectsNonPositiveChunkSize() {
+		// expect:
+		assertThrows(IllegalArgumentException.class, () -> new ContentAddressedChunks(0, 1024));
+	}
+
+	@Test
+	public void servesIndexedContentsOnlyForSameVersion() {
+		// given:
+		subject.index(aPath, v1, tenBytes);
+
+		// expect:
+		assertArrayEquals(tenBytes, subject.get(aPath, v1));
+		assertNull(subject.get(aPath, v2));
+		// and:
+		assertNull(subject.get(aPath, v1));
+		assertEquals(0, subject.numChunks());
+	}
+
+	@Test
+	public void indexesEmptyContents() {
+		// given:
+		subject.index(aPath, v1, new byte[0]);
+
+		// expect:
+		assertArrayEquals(new byte[0], subject.get(aPath, v1));
+		assertTrue(subject.holds(aPath, v1, new byte[0]));
+	}
+
+	@Test
+	public void sharesIdenticalChunksAcrossPaths() {
+		// when:
+		subject.index(aPath, v1, tenBytes);
+		subject.index(bPath, v2, tenBytes);
+
+		// then:
+		assertEquals(3, subject.numChunks());
+		assertEquals(10, subject.retainedBytes());
+
+		// and when:
+		subject.forget(aPath);
+
+		// then:
+		assertEquals(3, subject.numChunks());
+		assertArrayEquals(tenBytes, subject.get(bPath, v2));
+
+		// and when:
+		subject.forget(bPath);
+
+		// then:
+		assertEquals(0, subject.numChunks());
+		assertEquals(0, subject.retainedBytes());
+	}
+
+	@Test
+	public void appendReplacesOnlyPartialTail() {
+		// setup:
+		var more = "abcdef".getBytes();
+		var appended = ArrayUtils.addAll(tenBytes, more);
+
+		// given:
+		subject.index(aPath, v1, tenBytes);
+
+		// when:
+		subject.index(aPath, v2, appended);
+
+		// then:
+		assertArrayEquals(appended, subject.get(aPath, v2));
+		assertEquals(4, subject.numChunks());
+		assertEquals(appended.length, subject.retainedBytes());
+	}
+
+	@Test
+	public void holdsOnlyExactContents() {
+		// given:
+		subject.index(aPath, v1, tenBytes);
+
+		// expect:
+		assertTrue(subject.holds(aPath, v1, tenBytes.clone()));
+		assertFalse(subject.holds(aPath, v1, "0123456788".getBytes()));
+		assertFalse(subject.holds(aPath, v1, "012345678".getBytes()));
+		assertFalse(subject.holds(bPath, v1, tenBytes));
+	}
+
+	@Test
+	public void evictsLeastRecentlyUsedOverCapacity() {
+		// setup:
+		subject = new ContentAddressedChunks(chunkSize, 12);
+
+		// given:
+		subject.index(aPath, v1, tenBytes);
+		subject.index(bPath, v2, "abcdefgh".getBytes());
+
+		// expect:
+		assertNull(subject.get(aPath, v1));
+		assertArrayEquals("abcdefgh".getBytes(), subject.get(bPath, v2));
+		assertEquals(8, subject.retainedBytes());
+	}
+
+	@Test
+	public void doesNotIndexOversizeContents() {
+		// setup:
+		subject = new ContentAddressedChunks(chunkSize, 8);
+
+		// given:
+		subject.index(aPath, v1, "abcd".getBytes());
+
+		// when:
+		subject.index(aPath, v2, tenBytes);
+
+		// then:
+		assertNull(subject.get(aPath, v2));
+		assertEquals(0, subject.numChunks());
+	}
+
+	@Test
+	public void clearForgetsEverything() {
+		// given:
+		subject.index(aPath, v1, tenBytes);
+
+		// when:
+		subject.clear();
+
+		// then:
+		assertNull(subject.get(aPath, v1));
+		assertEquals(0, subject.retainedBytes());
+	}
+
+	@Test
+	public void concurrentReadersAndWriterOnlySeeIndexedVersions() throws Exception {
+		// setup:
+		int n = 10_000;
+		byte[] v1Bytes = "0123456789abcdef".getBytes();
+		byte[] v2Bytes = "fedcba9876543210xyz".getBytes();
+		var misreads = new AtomicInteger();
+		var pool = Executors.newFixedThreadPool(4);
+
+		// when:
+		List<Future<?>> readers = new ArrayList<>();
+		for (int r = 0; r < 3; r++) {
+			readers.add(pool.submit(() -> {
+				for (int i = 0; i < n; i++) {
+					var version = (i % 2 == 0) ? v1 : v2;
+					var expected = (i % 2 == 0) ? v1Bytes : v2Bytes;
+					var contents = subject.get(aPath, version);
+					if (contents == null) {
+						subject.index(aPath, version, expected);
+					} else if (!Arrays.equals(expected, contents)) {
+						misreads.incrementAndGet();
+					}
+				}
+			}));
+		}
+		var writer = pool.submit(() -> {
+			for (int i = 0; i < n; i++) {
+				subject.index(bPath, (i % 2 == 0) ? v1 : v2, (i % 2 == 0) ? v1Bytes : v2Bytes);
+				subject.forget(bPath);
+			}
+		});
+		for (Future<?> reader : readers) {
+			reader.get();
+		}
+		writer.get();
+		pool.shutdown();
+
+		// then:
+		assertEquals(0, misreads.get());
+		assertFalse(subject.holds(bPath, v1, v1Bytes) || subject.holds(bPath, v2, v2Bytes));
+	}
+}
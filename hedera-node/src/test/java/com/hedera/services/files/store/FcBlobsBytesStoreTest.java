@@ -22,6 +22,7 @@ package com.hedera.services.files.store;
 
 import com.hedera.services.state.merkle.MerkleBlobMeta;
 import com.hedera.services.state.merkle.MerkleOptionalBlob;
+import com.swirlds.common.crypto.Hash;
 import com.swirlds.fcmap.FCMap;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -37,6 +38,7 @@ import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -46,6 +48,8 @@ import static org.mockito.BDDMockito.any;
 import static org.mockito.BDDMockito.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.times;
 import static org.mockito.BDDMockito.verify;
 
 @RunWith(JUnitPlatform.class)
@@ -81,6 +85,32 @@ class FcBlobsBytesStoreTest {
 		verify(pathedBlobs).clear();
 	}
 
+	@Test
+	public void notifiesWriteListenersOfChangesOnly() {
+		// setup:
+		var hash = new Hash("sdfysdfysdfysdfysdfysdfysdfysdfysdfysdfysdfysdfy".getBytes());
+		var chunks = new ContentAddressedChunks();
+		var listener = mock(Runnable.class);
+		subject = new FcBlobsBytesStore(blobFactory, () -> pathedBlobs, chunks);
+		subject.addWriteListener(listener);
+
+		given(blobA.getHash()).willReturn(hash);
+		given(blobB.getHash()).willReturn(hash);
+		given(pathedBlobs.containsKey(pathA)).willReturn(false).willReturn(true);
+		given(pathedBlobs.get(pathA)).willReturn(blobA);
+
+		// when:
+		subject.put(pathA.getPath(), aData);
+		subject.put(pathA.getPath(), aData);
+		subject.put(pathB.getPath(), bData);
+		subject.remove(pathA.getPath());
+		subject.clear();
+		subject.get(pathB.getPath());
+
+		// then:
+		verify(listener, times(4)).run();
+	}
+
 	@Test
 	public void delegatesRemoveOfMissing() {
 		given(pathedBlobs.remove(pathA)).willReturn(null);
@@ -147,6 +177,74 @@ class FcBlobsBytesStoreTest {
 		assertNull(oldBytes);
 	}
 
+	@Test
+	public void chunkedStoreSkipsPutOfUnchangedContents() {
+		// setup:
+		var hash = new Hash("sdfysdfysdfysdfysdfysdfysdfysdfysdfysdfysdfysdfy".getBytes());
+		var chunks = new ContentAddressedChunks();
+		subject = new FcBlobsBytesStore(blobFactory, () -> pathedBlobs, chunks);
+
+		given(blobA.getHash()).willReturn(hash);
+		given(pathedBlobs.containsKey(pathA)).willReturn(false).willReturn(true);
+		given(pathedBlobs.get(pathA)).willReturn(blobA);
+
+		// when:
+		subject.put(pathA.getPath(), aData);
+		subject.put(pathA.getPath(), aData.clone());
+
+		// then:
+		verify(pathedBlobs, times(1)).put(any(), any());
+		verify(pathedBlobs, never()).getForModify(any());
+	}
+
+	@Test
+	public void chunkedStoreServesGetsFromIndexWhileHashMatches() {
+		// setup:
+		var hash = new Hash("sdfysdfysdfysdfysdfysdfysdfysdfysdfysdfysdfysdfy".getBytes());
+		subject = new FcBlobsBytesStore(blobFactory, () -> pathedBlobs, new ContentAddressedChunks());
+
+		given(blobA.getHash()).willReturn(hash);
+		given(pathedBlobs.get(pathA)).willReturn(blobA);
+
+		// when:
+		var first = subject.get(pathA.getPath());
+		var second = subject.get(pathA.getPath());
+
+		// then:
+		assertArrayEquals(aData, first);
+		assertArrayEquals(aData, second);
+		verify(blobA, times(1)).getData();
+	}
+
+	@Test
+	public void chunkedStoreDoesNotIndexBlobModifiedMidRead() {
+		// setup:
+		var before = new Hash("sdfysdfysdfysdfysdfysdfysdfysdfysdfysdfysdfysdfy".getBytes());
+		var after = new Hash("sdfzsdfzsdfzsdfzsdfzsdfzsdfzsdfzsdfzsdfzsdfzsdfz".getBytes());
+		var chunks = new ContentAddressedChunks();
+		subject = new FcBlobsBytesStore(blobFactory, () -> pathedBlobs, chunks);
+
+		given(blobA.getHash()).willReturn(before).willReturn(after);
+		given(pathedBlobs.get(pathA)).willReturn(blobA);
+
+		// when:
+		var contents = subject.get(pathA.getPath());
+
+		// then:
+		assertArrayEquals(aData, contents);
+		assertNull(chunks.get(pathA.getPath(), before));
+		assertEquals(0, chunks.numChunks());
+	}
+
+	@Test
+	public void chunkedStorePropagatesNullFromGet() {
+		// setup:
+		subject = new FcBlobsBytesStore(blobFactory, () -> pathedBlobs, new ContentAddressedChunks());
+
+		// expect:
+		assertNull(subject.get(pathA.getPath()));
+	}
+
 	@Test
 	public void propagatesNullFromGet() {
 		given(pathedBlobs.get(argThat(sk -> ((MerkleBlobMeta)sk).getPath().equals(pathA.getPath())))).willReturn(null);
@@ -0,0 +1,149 @@
+package com.hedera.services.grpc;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.context.properties.PropertySource;
+import com.hedera.services.legacy.services.stats.HederaNodeStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.hedera.services.grpc.WorkerPools.Pool.EXPENSIVE_QUERIES;
+import static com.hedera.services.grpc.WorkerPools.Pool.QUERIES;
+import static com.hedera.services.grpc.WorkerPools.Pool.TXNS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.*;
+
+@RunWith(JUnitPlatform.class)
+class WorkerPoolsTest {
+	HederaNodeStats stats;
+	ExecutorService txnsExecutor;
+
+	WorkerPools subject;
+
+	@BeforeEach
+	private void setup() {
+		stats = mock(HederaNodeStats.class);
+		txnsExecutor = mock(ExecutorService.class);
+
+		Map<WorkerPools.Pool, ExecutorService> executors = new EnumMap<>(WorkerPools.Pool.class);
+		executors.put(TXNS, txnsExecutor);
+		subject = new WorkerPools(executors, stats);
+	}
+
+	@Test
+	public void runsInlineWithoutExecutor() {
+		// setup:
+		var ran = new AtomicReference<Thread>();
+
+		// when:
+		boolean accepted = subject.tryRun(QUERIES, () -> ran.set(Thread.currentThread()));
+
+		// then:
+		assertTrue(accepted);
+		assertEquals(Thread.currentThread(), ran.get());
+	}
+
+	@Test
+	public void recordsRejection() {
+		willThrow(RejectedExecutionException.class).given(txnsExecutor).execute(any());
+
+		// when:
+		boolean accepted = subject.tryRun(TXNS, () -> {});
+
+		// then:
+		assertFalse(accepted);
+		verify(stats).grpcWorkRejected(TXNS);
+	}
+
+	@Test
+	public void usesConfiguredPools() throws InterruptedException {
+		// setup:
+		var properties = mock(PropertySource.class);
+		var ran = new AtomicReference<Thread>();
+		var done = new CountDownLatch(1);
+
+		given(properties.getIntProperty("grpc.workers.expensiveQueries.threads")).willReturn(1);
+		given(properties.getIntProperty("grpc.workers.expensiveQueries.queueCapacity")).willReturn(1);
+		// and:
+		subject = new WorkerPools(properties, stats);
+
+		// when:
+		boolean accepted = subject.tryRun(EXPENSIVE_QUERIES, () -> {
+			ran.set(Thread.currentThread());
+			done.countDown();
+		});
+
+		// then:
+		assertTrue(accepted);
+		assertTrue(done.await(5, TimeUnit.SECONDS));
+		assertNotEquals(Thread.currentThread(), ran.get());
+		assertTrue(ran.get().getName().startsWith("grpcExpensiveQueriesWorker-"));
+		verify(stats).grpcWorkDequeued(argThat(EXPENSIVE_QUERIES::equals), anyDouble());
+		// and:
+		subject.shutdown();
+	}
+
+	@Test
+	public void rejectsWhenQueueIsFull() throws InterruptedException {
+		// setup:
+		var properties = mock(PropertySource.class);
+		var blocker = new CountDownLatch(1);
+		var started = new CountDownLatch(1);
+
+		given(properties.getIntProperty("grpc.workers.txns.threads")).willReturn(1);
+		given(properties.getIntProperty("grpc.workers.txns.queueCapacity")).willReturn(1);
+		// and:
+		subject = new WorkerPools(properties, stats);
+
+		// when:
+		subject.tryRun(TXNS, () -> {
+			started.countDown();
+			try {
+				blocker.await();
+			} catch (InterruptedException ignore) { }
+		});
+		started.await(5, TimeUnit.SECONDS);
+		boolean queued = subject.tryRun(TXNS, () -> {});
+		boolean rejected = !subject.tryRun(TXNS, () -> {});
+
+		// then:
+		assertTrue(queued);
+		assertTrue(rejected);
+		verify(stats).grpcWorkRejected(TXNS);
+
+		// cleanup:
+		blocker.countDown();
+		subject.shutdown();
+	}
+}
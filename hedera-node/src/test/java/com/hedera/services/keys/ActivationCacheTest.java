@@ -0,0 +1,82 @@
+package com.hedera.services.keys;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.legacy.core.jproto.JEd25519Key;
+import com.hedera.services.legacy.core.jproto.JKey;
+import com.swirlds.common.crypto.Signature;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static com.hedera.services.keys.HederaKeyActivation.INVALID_SIG;
+import static com.hedera.services.keys.HederaKeyActivation.ONLY_IF_SIG_IS_VALID;
+import static com.hedera.services.sigs.factories.PlatformSigFactory.createEd25519;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@RunWith(JUnitPlatform.class)
+public class ActivationCacheTest {
+	Function<Integer, Signature> mockSigFn = i -> createEd25519(
+			String.format("PK%d", i).getBytes(),
+			String.format("SIG%d", i).getBytes(),
+			String.format("DATA%d", i).getBytes());
+
+	@Test
+	public void indexesFirstSigForEachKey() {
+		// setup:
+		Signature first = mockSigFn.apply(0);
+		Signature second = createEd25519(
+				first.getExpandedPublicKeyDirect(),
+				"OTHER-SIG".getBytes(),
+				"OTHER-DATA".getBytes());
+		Signature third = mockSigFn.apply(1);
+
+		// given:
+		ActivationCache subject = new ActivationCache(List.of(first, second, third));
+
+		// expect:
+		assertSame(first, subject.sigFor(first.getExpandedPublicKeyDirect()));
+		assertSame(third, subject.sigFor(third.getExpandedPublicKeyDirect()));
+		assertSame(INVALID_SIG, subject.sigFor(mockSigFn.apply(2).getExpandedPublicKeyDirect()));
+	}
+
+	@Test
+	public void remembersVerdictsOnlyForSameTests() {
+		// setup:
+		JKey key = new JEd25519Key("PK0".getBytes());
+
+		// given:
+		ActivationCache subject = new ActivationCache(List.of());
+
+		// when:
+		subject.record(key, ONLY_IF_SIG_IS_VALID, true);
+
+		// then:
+		assertEquals(Boolean.TRUE, subject.verdictFor(key, ONLY_IF_SIG_IS_VALID));
+		assertNull(subject.verdictFor(key, (ignoredKey, ignoredSig) -> true));
+		assertEquals(1, subject.numMemoized());
+	}
+}
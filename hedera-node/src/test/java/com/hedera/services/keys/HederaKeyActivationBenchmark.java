@@ -0,0 +1,120 @@
+package com.hedera.services.keys;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.legacy.core.jproto.JEd25519Key;
+import com.hedera.services.legacy.core.jproto.JKey;
+import com.hedera.services.legacy.core.jproto.JKeyList;
+import com.hedera.services.legacy.core.jproto.JThresholdKey;
+import com.hedera.test.factories.sigs.SigWrappers;
+import com.swirlds.common.crypto.Signature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.hedera.services.keys.DefaultActivationCharacteristics.DEFAULT_ACTIVATION_CHARACTERISTICS;
+import static com.hedera.services.keys.HederaKeyActivation.ONLY_IF_SIG_IS_VALID;
+import static com.hedera.services.keys.HederaKeyActivation.isActive;
+import static com.hedera.services.keys.HederaKeyActivation.pkToSigMapFrom;
+import static com.hedera.services.sigs.factories.PlatformSigFactory.createEd25519;
+
+/**
+ * Compares testing the same deep threshold key twice for one transaction (as happens when
+ * the payer key is also required of a non-payer entity) with and without an
+ * {@link ActivationCache}. Each tree has the given depth and fan-out, with every interior
+ * node a threshold key needing a majority of its children. Run with
+ * {@code java -cp <test classpath> com.hedera.services.keys.HederaKeyActivationBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HederaKeyActivationBenchmark {
+	@Param({ "2", "4", "6" })
+	int depth;
+
+	@Param({ "3", "5" })
+	int fanOut;
+
+	JKey key;
+	List<Signature> sigs;
+	int nextLeaf;
+
+	@Setup
+	public void setup() {
+		nextLeaf = 0;
+		List<Signature> unverified = new ArrayList<>();
+		key = treeOf(depth, unverified);
+		sigs = SigWrappers.asValid(unverified);
+	}
+
+	@Benchmark
+	public boolean twiceWithoutCache() {
+		boolean payerVerdict = isActive(key, pkToSigMapFrom(sigs), ONLY_IF_SIG_IS_VALID);
+		boolean otherPartyVerdict = isActive(key, pkToSigMapFrom(sigs), ONLY_IF_SIG_IS_VALID);
+		return payerVerdict && otherPartyVerdict;
+	}
+
+	@Benchmark
+	public boolean twiceWithCache() {
+		ActivationCache cache = new ActivationCache(sigs);
+		boolean payerVerdict = isActive(key, cache, ONLY_IF_SIG_IS_VALID, DEFAULT_ACTIVATION_CHARACTERISTICS);
+		boolean otherPartyVerdict = isActive(key, cache, ONLY_IF_SIG_IS_VALID, DEFAULT_ACTIVATION_CHARACTERISTICS);
+		return payerVerdict && otherPartyVerdict;
+	}
+
+	private JKey treeOf(int height, List<Signature> leafSigs) {
+		if (height == 0) {
+			byte[] pk = String.format("PK%d", nextLeaf).getBytes();
+			leafSigs.add(createEd25519(pk, String.format("SIG%d", nextLeaf).getBytes(), "DATA".getBytes()));
+			nextLeaf++;
+			return new JEd25519Key(pk);
+		}
+		List<JKey> children = new ArrayList<>();
+		for (int i = 0; i < fanOut; i++) {
+			children.add(treeOf(height - 1, leafSigs));
+		}
+		return new JThresholdKey(new JKeyList(children), fanOut / 2 + 1);
+	}
+
+	public static void main(String... args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+				.include(HederaKeyActivationBenchmark.class.getSimpleName())
+				.build()).run();
+	}
+}
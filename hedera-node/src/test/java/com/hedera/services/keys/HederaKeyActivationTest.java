@@ -23,13 +23,16 @@ package com.hedera.services.keys;
 import com.hedera.test.factories.keys.KeyTree;
 import com.hedera.test.factories.sigs.SigWrappers;
 import com.hedera.services.legacy.core.jproto.JKey;
+import com.hedera.services.legacy.core.jproto.JEd25519Key;
 import com.hedera.services.legacy.core.jproto.JKeyList;
+import com.hedera.services.legacy.core.jproto.JThresholdKey;
 import com.swirlds.common.crypto.Signature;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.platform.runner.JUnitPlatform;
 
+import static com.hedera.services.keys.DefaultActivationCharacteristics.DEFAULT_ACTIVATION_CHARACTERISTICS;
 import static com.hedera.services.keys.HederaKeyActivation.ONLY_IF_SIG_IS_VALID;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import org.junit.runner.RunWith;
@@ -154,4 +157,63 @@ public class HederaKeyActivationTest {
 		// when:
 		assertTrue(isActive(complexKey, sigsFn, ONLY_IF_SIG_IS_VALID));
 	}
+
+	@Test
+	public void memoizesVerdictsInActivationCache() {
+		// setup:
+		Signature sig0 = mockSigFn.apply(0);
+		JKey key = new JThresholdKey(new JKeyList(List.of(
+				new JEd25519Key(sig0.getExpandedPublicKeyDirect()),
+				new JEd25519Key(mockSigFn.apply(1).getExpandedPublicKeyDirect()))), 1);
+		ActivationCache cache = new ActivationCache(List.of(sig0));
+
+		given(tests.test(any(), any())).willReturn(true);
+
+		// when:
+		boolean firstVerdict = isActive(key, cache, tests, DEFAULT_ACTIVATION_CHARACTERISTICS);
+		boolean secondVerdict = isActive(key, cache, tests, DEFAULT_ACTIVATION_CHARACTERISTICS);
+
+		// then:
+		assertTrue(firstVerdict);
+		assertTrue(secondVerdict);
+		verify(tests, times(1)).test(any(), any());
+		assertEquals(2, cache.numMemoized());
+	}
+
+	@Test
+	public void discardsMemoizedVerdictsForDifferentTests() {
+		// setup:
+		Signature sig0 = mockSigFn.apply(0);
+		JKey key = new JEd25519Key(sig0.getExpandedPublicKeyDirect());
+		ActivationCache cache = new ActivationCache(List.of(sig0));
+
+		given(tests.test(any(), any())).willReturn(true);
+
+		// when:
+		boolean lenientVerdict = isActive(key, cache, tests, DEFAULT_ACTIVATION_CHARACTERISTICS);
+		boolean strictVerdict = isActive(key, cache, ONLY_IF_SIG_IS_VALID, DEFAULT_ACTIVATION_CHARACTERISTICS);
+
+		// then:
+		assertTrue(lenientVerdict);
+		assertFalse(strictVerdict);
+		assertEquals(1, cache.numMemoized());
+	}
+
+	@Test
+	public void doesNotMemoizeTopLevelVerdictWithCustomCharacteristics() {
+		// setup:
+		KeyActivationCharacteristics characteristics =
+				RevocationServiceCharacteristics.forTopLevelFile((JKeyList)complexKey);
+		ActivationCache cache = new ActivationCache(List.of());
+
+		// when:
+		boolean verdict = isActive(complexKey, cache, ONLY_IF_SIG_IS_VALID, characteristics);
+
+		// then:
+		assertFalse(verdict);
+		assertEquals(null, cache.verdictFor(complexKey, ONLY_IF_SIG_IS_VALID));
+		assertEquals(
+				Boolean.FALSE,
+				cache.verdictFor(complexKey.getKeyList().getKeysList().get(0), ONLY_IF_SIG_IS_VALID));
+	}
 }
@@ -31,6 +31,7 @@ import com.hedera.services.ledger.properties.ChangeSummaryManager;
 import com.hedera.services.ledger.ids.EntityIdSource;
 import com.hedera.services.ledger.properties.AccountProperty;
 import com.hedera.services.records.AccountRecordsHistorian;
+import com.hedera.services.records.PayerRecordStore;
 import com.hedera.services.state.expiry.ExpiringCreations;
 import com.hedera.test.utils.IdUtils;
 import com.hedera.test.utils.TxnUtils;
@@ -95,6 +96,7 @@ public class HederaLedgerTest {
 	EntityIdSource ids;
 	ExpiringCreations creator;
 	AccountRecordsHistorian historian;
+	PayerRecordStore payerRecords;
 	TransactionalLedger<AccountID, AccountProperty, MerkleAccount> ledger;
 
 	@BeforeEach
@@ -119,7 +121,9 @@ public class HederaLedgerTest {
 		addToLedger(genesis, GENESIS_BALANCE, noopCustomizer);
 		addDeletedAccountToLedger(deleted, noopCustomizer);
 		historian = mock(AccountRecordsHistorian.class);
+		payerRecords = mock(PayerRecordStore.class);
 		subject = new HederaLedger(ids, creator, historian, ledger);
+		subject.setPayerRecords(payerRecords);
 	}
 
 	private void setupWithLiveLedger() {
@@ -237,6 +241,15 @@ public class HederaLedgerTest {
 		verify(ledger).destroy(genesis);
 	}
 
+	@Test
+	public void delegatesFlushOfDeferredCommits() {
+		// when:
+		subject.flushDeferredCommits();
+
+		// then:
+		verify(ledger).flushDeferredCommits();
+	}
+
 	@Test
 	public void indicatesNoChangeSetIfNotInTx() {
 		// when:
@@ -475,7 +488,7 @@ public class HederaLedgerTest {
 		subject.fundsReceivedRecordThreshold(genesis);
 
 		// then:
-		verify(ledger).get(genesis, FUNDS_RECEIVED_RECORD_THRESHOLD);
+		verify(ledger).getLong(genesis, FUNDS_RECEIVED_RECORD_THRESHOLD);
 	}
 
 	@Test
@@ -484,7 +497,7 @@ public class HederaLedgerTest {
 		subject.fundsSentRecordThreshold(genesis);
 
 		// then:
-		verify(ledger).get(genesis, FUNDS_SENT_RECORD_THRESHOLD);
+		verify(ledger).getLong(genesis, FUNDS_SENT_RECORD_THRESHOLD);
 	}
 
 	@Test
@@ -511,7 +524,7 @@ public class HederaLedgerTest {
 		subject.expiry(genesis);
 
 		// then:
-		verify(ledger).get(genesis, EXPIRY);
+		verify(ledger).getLong(genesis, EXPIRY);
 	}
 
 	@Test
@@ -608,30 +621,33 @@ public class HederaLedgerTest {
 	}
 
 	@Test
-	public void addsNewPayerRecordLast() {
+	public void stagesNewPayerRecordInStore() {
 		// setup:
-		FCQueue<ExpirableTxnRecord> records = asExpirableRecords(100L, 50L, 200L, 311L);
-		addPayerRecords(misc, records);
-		// and:
 		ExpirableTxnRecord newRecord = asExpirableRecords(1_000L).peek();
 
 		// when:
-		subject.addPayerRecord(misc, newRecord);
+		long expiry = subject.addPayerRecord(misc, newRecord);
 
 		// then:
-		ArgumentCaptor<FCQueue> captor = ArgumentCaptor.forClass(FCQueue.class);
-		verify(ledger).set(
-				argThat(misc::equals),
-				argThat(PAYER_RECORDS::equals),
-				captor.capture());
-		// and:
-		assertTrue(captor.getValue() == records);
-		assertThat(
-				((FCQueue<ExpirableTxnRecord>)captor.getValue())
-						.stream()
-						.map(ExpirableTxnRecord::getExpiry)
-						.collect(Collectors.toList()),
-				contains(100L, 50L, 200L, 311L, 1_000L));
+		assertEquals(1_000L, expiry);
+		verify(payerRecords).stage(newRecord);
+		verify(ledger, never()).set(any(), argThat(PAYER_RECORDS::equals), any());
+	}
+
+	@Test
+	public void toleratesMissingPayerRecordStore() {
+		// setup:
+		ExpirableTxnRecord newRecord = asExpirableRecords(1_000L).peek();
+
+		// given:
+		subject.setPayerRecords(null);
+
+		// when:
+		long expiry = subject.addPayerRecord(misc, newRecord);
+
+		// then:
+		assertEquals(1_000L, expiry);
+		verify(payerRecords, never()).stage(any());
 	}
 
 	@Test
@@ -681,9 +697,9 @@ public class HederaLedgerTest {
 
 		// then:
 		assertEquals(NEXT_ID, created.getAccountNum());
-		verify(ledger).set(rand, BALANCE, RAND_BALANCE - 1_000L);
+		verify(ledger).setLong(rand, BALANCE, RAND_BALANCE - 1_000L);
 		verify(ledger).create(created);
-		verify(ledger).set(created, BALANCE, 1_000L);
+		verify(ledger).setLong(created, BALANCE, 1_000L);
 		verify(customizer).customize(created, ledger);
 	}
 
@@ -701,7 +717,7 @@ public class HederaLedgerTest {
 
 		// then:
 		verify(ledger).create(contract);
-		verify(ledger).set(contract, BALANCE, balance);
+		verify(ledger).setLong(contract, BALANCE, balance);
 		verify(customizer).customize(contract, ledger);
 	}
 
@@ -711,8 +727,8 @@ public class HederaLedgerTest {
 		subject.delete(rand, misc);
 
 		// expect:
-		verify(ledger).set(rand, BALANCE, 0L);
-		verify(ledger).set(misc, BALANCE, MISC_BALANCE + RAND_BALANCE);
+		verify(ledger).setLong(rand, BALANCE, 0L);
+		verify(ledger).setLong(misc, BALANCE, MISC_BALANCE + RAND_BALANCE);
 		verify(ledger).set(rand, IS_DELETED, true);
 	}
 
@@ -749,7 +765,7 @@ public class HederaLedgerTest {
 
 		// then:
 		assertEquals("0.0.3456", e.getMessage());
-		verify(ledger, never()).set(any(), any(), any());
+		verify(ledger, never()).setLong(any(), any(), anyLong());
 	}
 
 	@Test
@@ -766,7 +782,7 @@ public class HederaLedgerTest {
 
 		// then:
 		assertEquals("0.0.3456", e.getMessage());
-		verify(ledger, never()).set(any(), any(), any());
+		verify(ledger, never()).setLong(any(), any(), anyLong());
 	}
 
 	@Test
@@ -784,7 +800,7 @@ public class HederaLedgerTest {
 
 		// then:
 		assertEquals("0.0.3456", e.getMessage());
-		verify(ledger, never()).set(any(), any(), any());
+		verify(ledger, never()).setLong(any(), any(), anyLong());
 	}
 
 	@Test
@@ -796,9 +812,9 @@ public class HederaLedgerTest {
 		subject.doTransfers(accountAmounts);
 
 		// then:
-		verify(ledger).set(misc, BALANCE, MISC_BALANCE + 1);
-		verify(ledger).set(rand, BALANCE, RAND_BALANCE - 2);
-		verify(ledger).set(genesis, BALANCE, GENESIS_BALANCE + 1);
+		verify(ledger).setLong(misc, BALANCE, MISC_BALANCE + 1);
+		verify(ledger).setLong(rand, BALANCE, RAND_BALANCE - 2);
+		verify(ledger).setLong(genesis, BALANCE, GENESIS_BALANCE + 1);
 	}
 
 	@Test
@@ -819,8 +835,8 @@ public class HederaLedgerTest {
 		subject.doTransfer(genesis, misc, amount);
 
 		// then:
-		verify(ledger).set(genesis, BALANCE, GENESIS_BALANCE - amount);
-		verify(ledger).set(misc, BALANCE, MISC_BALANCE + amount);
+		verify(ledger).setLong(genesis, BALANCE, GENESIS_BALANCE - amount);
+		verify(ledger).setLong(misc, BALANCE, MISC_BALANCE + amount);
 	}
 
 	@Test
@@ -838,7 +854,7 @@ public class HederaLedgerTest {
 
 		// then:
 		assertEquals(messageFor(genesis, -1 * amount), e.getMessage());
-		verify(ledger, never()).set(any(), any(), any());
+		verify(ledger, never()).setLong(any(), any(), anyLong());
 	}
 
 	@Test
@@ -850,7 +866,7 @@ public class HederaLedgerTest {
 		subject.adjustBalance(genesis, amount);
 
 		// then:
-		verify(ledger).set(genesis, BALANCE, GENESIS_BALANCE + amount);
+		verify(ledger).setLong(genesis, BALANCE, GENESIS_BALANCE + amount);
 	}
 
 	@Test
@@ -868,7 +884,7 @@ public class HederaLedgerTest {
 
 		// then:
 		assertEquals(messageFor(genesis, overdraftAdjustment), e.getMessage());
-		verify(ledger, never()).set(any(), any(), any());
+		verify(ledger, never()).setLong(any(), any(), anyLong());
 	}
 
 	@Test
@@ -883,7 +899,7 @@ public class HederaLedgerTest {
 	@Test
 	public void forwardsTransactionalSemantics() {
 		// setup:
-		InOrder inOrder = inOrder(ledger);
+		InOrder inOrder = inOrder(ledger, payerRecords);
 
 		// when:
 		subject.begin();
@@ -894,21 +910,28 @@ public class HederaLedgerTest {
 		// then:
 		inOrder.verify(ledger).begin();
 		inOrder.verify(ledger).commit();
+		inOrder.verify(payerRecords).commitStaged();
 		inOrder.verify(ledger).begin();
 		inOrder.verify(ledger).rollback();
+		inOrder.verify(payerRecords).discardStaged();
 	}
 
 	private void addToLedger(AccountID id, long balance, HederaAccountCustomizer customizer) {
 		when(ledger.get(id, EXPIRY)).thenReturn(1_234_567_890L);
+		when(ledger.getLong(id, EXPIRY)).thenReturn(1_234_567_890L);
 		when(ledger.get(id, BALANCE)).thenReturn(balance);
+		when(ledger.getLong(id, BALANCE)).thenReturn(balance);
 		when(ledger.get(id, IS_DELETED)).thenReturn(false);
 		when(ledger.get(id, IS_SMART_CONTRACT)).thenReturn(false);
 		when(ledger.get(id, FUNDS_SENT_RECORD_THRESHOLD)).thenReturn(1L);
+		when(ledger.getLong(id, FUNDS_SENT_RECORD_THRESHOLD)).thenReturn(1L);
 		when(ledger.get(id, FUNDS_RECEIVED_RECORD_THRESHOLD)).thenReturn(2L);
+		when(ledger.getLong(id, FUNDS_RECEIVED_RECORD_THRESHOLD)).thenReturn(2L);
 		when(ledger.exists(id)).thenReturn(true);
 	}
 	private void addDeletedAccountToLedger(AccountID id, HederaAccountCustomizer customizer) {
 		when(ledger.get(id, BALANCE)).thenReturn(0L);
+		when(ledger.getLong(id, BALANCE)).thenReturn(0L);
 		when(ledger.get(id, IS_DELETED)).thenReturn(true);
 	}
 	private void addPayerRecords(AccountID id, FCQueue<ExpirableTxnRecord> records) {
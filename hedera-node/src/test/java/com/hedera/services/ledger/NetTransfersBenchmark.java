@@ -0,0 +1,157 @@
+package com.hedera.services.ledger;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hederahashgraph.api.proto.java.AccountAmount;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.TransferList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.hedera.services.ledger.HederaLedger.ACCOUNT_ID_COMPARATOR;
+
+/**
+ * Compares the {@link NetTransfers} accumulator with the {@link TransferList.Builder}
+ * scans it replaced, for the adjustments of a 10-leg {@code CryptoTransfer} plus its
+ * fee-charging legs (node, funding, and cache record fees), with the net transfers read
+ * as often as a commit reads them. Run with
+ * {@code java -cp <test classpath> com.hedera.services.ledger.NetTransfersBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NetTransfersBenchmark {
+	private static final int NUM_LEGS = 10;
+	private static final int NUM_READS_PER_COMMIT = 3;
+
+	AccountID payer, node, funding;
+	AccountID[] legs;
+
+	NetTransfers accumulator;
+	TransferList.Builder legacy;
+
+	@Setup
+	public void setup() {
+		payer = AccountID.newBuilder().setAccountNum(1_001L).build();
+		node = AccountID.newBuilder().setAccountNum(3L).build();
+		funding = AccountID.newBuilder().setAccountNum(98L).build();
+		legs = new AccountID[NUM_LEGS];
+		for (int i = 0; i < NUM_LEGS; i++) {
+			/* Descending, so every new leg lands at the front of the sorted list. */
+			legs[i] = AccountID.newBuilder().setAccountNum(2_000L - i).build();
+		}
+
+		accumulator = new NetTransfers();
+		legacy = TransferList.newBuilder();
+	}
+
+	@Benchmark
+	public void accumulated(Blackhole bh) {
+		accumulator.adjust(payer, -100_000L);
+		accumulator.adjust(node, 10_000L);
+		accumulator.adjust(funding, 90_000L);
+		for (int i = 0; i < NUM_LEGS; i++) {
+			accumulator.adjust(legs[i], (i % 2 == 0) ? -1_000L : 1_000L);
+		}
+		accumulator.adjust(payer, -500L);
+		accumulator.adjust(funding, 500L);
+		for (int i = 0; i < NUM_READS_PER_COMMIT; i++) {
+			bh.consume(accumulator.toGrpc());
+		}
+		accumulator.clear();
+	}
+
+	@Benchmark
+	public void builderScans(Blackhole bh) {
+		legacyUpdate(payer, -100_000L);
+		legacyUpdate(node, 10_000L);
+		legacyUpdate(funding, 90_000L);
+		for (int i = 0; i < NUM_LEGS; i++) {
+			legacyUpdate(legs[i], (i % 2 == 0) ? -1_000L : 1_000L);
+		}
+		legacyUpdate(payer, -500L);
+		legacyUpdate(funding, 500L);
+		for (int i = 0; i < NUM_READS_PER_COMMIT; i++) {
+			bh.consume(legacyNetTransfers());
+		}
+		legacy.clear();
+	}
+
+	private TransferList legacyNetTransfers() {
+		int lastZeroRemoved;
+		do {
+			lastZeroRemoved = -1;
+			for (int i = 0; i < legacy.getAccountAmountsCount(); i++) {
+				if (legacy.getAccountAmounts(i).getAmount() == 0) {
+					legacy.removeAccountAmounts(i);
+					lastZeroRemoved = i;
+					break;
+				}
+			}
+		} while (lastZeroRemoved != -1);
+		return legacy.build();
+	}
+
+	private void legacyUpdate(AccountID account, long amount) {
+		int loc = 0, diff = -1;
+		var soFar = legacy.getAccountAmountsBuilderList();
+		for (; loc < soFar.size(); loc++) {
+			diff = ACCOUNT_ID_COMPARATOR.compare(account, soFar.get(loc).getAccountID());
+			if (diff <= 0) {
+				break;
+			}
+		}
+		if (diff == 0) {
+			var aa = soFar.get(loc);
+			aa.setAmount(aa.getAmount() + amount);
+		} else {
+			var aa = AccountAmount.newBuilder().setAccountID(account).setAmount(amount);
+			if (loc == soFar.size()) {
+				legacy.addAccountAmounts(aa);
+			} else {
+				legacy.addAccountAmounts(loc, aa);
+			}
+		}
+	}
+
+	public static void main(String... args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+				.include(NetTransfersBenchmark.class.getSimpleName())
+				.build()).run();
+	}
+}
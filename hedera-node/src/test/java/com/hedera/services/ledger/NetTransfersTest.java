@@ -0,0 +1,115 @@
+package com.hedera.services.ledger;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.TransferList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import static com.hedera.test.utils.IdUtils.asAccount;
+import static com.hedera.test.utils.TxnUtils.withAdjustments;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@RunWith(JUnitPlatform.class)
+class NetTransfersTest {
+	AccountID a = asAccount("0.0.1001");
+	AccountID b = asAccount("0.0.2");
+	AccountID c = asAccount("1.0.2");
+	AccountID d = asAccount("0.0.98");
+
+	NetTransfers subject;
+
+	@BeforeEach
+	private void setup() {
+		subject = new NetTransfers(1);
+	}
+
+	@Test
+	public void keepsAccountIdOrderAndSkipsZeros() {
+		// given:
+		subject.adjust(a, -10L);
+		subject.adjust(c, 3L);
+		subject.adjust(d, 7L);
+		subject.adjust(b, 5L);
+		subject.adjust(b, -5L);
+
+		// expect:
+		assertEquals(withAdjustments(c, 3L, d, 7L, a, -10L), subject.toGrpc());
+		assertEquals(4, subject.size());
+		assertEquals(0L, subject.netAdjustment(b));
+		assertEquals(-10L, subject.netAdjustment(a));
+	}
+
+	@Test
+	public void reusesBuiltListUntilChanged() {
+		// given:
+		subject.adjust(a, -1L);
+		subject.adjust(d, 1L);
+
+		// when:
+		var first = subject.toGrpc();
+
+		// then:
+		assertSame(first, subject.toGrpc());
+
+		// and when:
+		subject.adjust(a, -1L);
+
+		// then:
+		assertNotSame(first, subject.toGrpc());
+		assertEquals(-2L, subject.toGrpc().getAccountAmounts(1).getAmount());
+	}
+
+	@Test
+	public void removesAccountEntirely() {
+		// given:
+		subject.adjust(a, -2L);
+		subject.adjust(b, 1L);
+		subject.adjust(c, 1L);
+		subject.adjust(d, 1L);
+
+		// when:
+		subject.remove(d);
+		subject.remove(asAccount("0.0.12345"));
+
+		// then:
+		assertEquals(withAdjustments(b, 1L, c, 1L, a, -2L), subject.toGrpc());
+	}
+
+	@Test
+	public void clearsEverything() {
+		// given:
+		subject.adjust(a, -1L);
+		subject.toGrpc();
+
+		// when:
+		subject.clear();
+
+		// then:
+		assertEquals(0, subject.size());
+		assertEquals(TransferList.getDefaultInstance(), subject.toGrpc());
+	}
+}
@@ -0,0 +1,104 @@
+package com.hedera.services.ledger;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.ledger.accounts.HashMapBackingAccounts;
+import com.hedera.services.ledger.properties.AccountProperty;
+import com.hedera.services.ledger.properties.ChangeSummaryManager;
+import com.hedera.services.state.merkle.MerkleAccount;
+import com.hederahashgraph.api.proto.java.AccountID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.hedera.services.ledger.properties.AccountProperty.BALANCE;
+
+/**
+ * Measures a begin/commit cycle of the {@link TransactionalLedger} for a
+ * transfer touching the given number of accounts. Run with
+ * {@code java -cp <test classpath> com.hedera.services.ledger.TransactionalLedgerBenchmark},
+ * adding {@code -prof gc} via the JMH command line to see the allocation rate.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransactionalLedgerBenchmark {
+	private static final long INITIAL_BALANCE = 1_000_000_000L;
+
+	@Param({ "2", "10", "50" })
+	int numAccounts;
+
+	AccountID[] ids;
+	TransactionalLedger<AccountID, AccountProperty, MerkleAccount> subject;
+
+	@Setup
+	public void setup() {
+		subject = new TransactionalLedger<>(
+				AccountProperty.class,
+				MerkleAccount::new,
+				new HashMapBackingAccounts(),
+				new ChangeSummaryManager<>());
+		subject.setKeyComparator(HederaLedger.ACCOUNT_ID_COMPARATOR);
+
+		ids = new AccountID[numAccounts];
+		subject.begin();
+		for (int i = 0; i < numAccounts; i++) {
+			ids[i] = AccountID.newBuilder().setAccountNum(1_001L + i).build();
+			subject.create(ids[i]);
+			subject.setLong(ids[i], BALANCE, INITIAL_BALANCE);
+		}
+		subject.commit();
+	}
+
+	@Benchmark
+	public void commitTransfer() {
+		subject.begin();
+		long credit = 0L;
+		for (int i = 1; i < numAccounts; i++) {
+			subject.setLong(ids[i], BALANCE, subject.getLong(ids[i], BALANCE) - 1L);
+			credit++;
+		}
+		subject.setLong(ids[0], BALANCE, subject.getLong(ids[0], BALANCE) + credit);
+		subject.commit();
+	}
+
+	public static void main(String... args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+				.include(TransactionalLedgerBenchmark.class.getSimpleName())
+				.build()).run();
+	}
+}
@@ -29,7 +29,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.platform.runner.JUnitPlatform;
 import org.junit.runner.RunWith;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.function.Supplier;
 import java.util.stream.LongStream;
@@ -37,6 +39,7 @@ import java.util.stream.LongStream;
 import static java.util.stream.Collectors.toList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.*;
@@ -79,6 +82,21 @@ public class TransactionalLedgerTest {
 		verify(backingAccounts).flushMutableRefs();
 	}
 
+	@Test
+	public void flushesDeferredCommitsOnlyOutsideTxn() {
+		// given:
+		subject.begin();
+
+		// expect:
+		assertThrows(IllegalStateException.class, () -> subject.flushDeferredCommits());
+		// and when:
+		subject.commit();
+		subject.flushDeferredCommits();
+
+		// then:
+		verify(backingAccounts).flushDeferredRefs();
+	}
+
 	@Test
 	public void getUsesMutableRefIfPendingChanges() {
 		// given:
@@ -409,4 +427,86 @@ public class TransactionalLedgerTest {
 		// expect:
 		assertEquals(account1, subject.get(1L));
 	}
+
+	@Test
+	public void getsAndSetsLongsWithoutBoxing() {
+		// given:
+		subject.begin();
+
+		// when:
+		subject.setLong(1L, LONG, 5L);
+
+		// then:
+		assertEquals(5L, subject.getLong(1L, LONG));
+		assertEquals(5L, (long)subject.get(1L, LONG));
+		assertEquals(1L, account1.getValue());
+	}
+
+	@Test
+	public void getLongUsesAccountIfNoPendingChange() {
+		// expect:
+		assertEquals(1L, subject.getLong(1L, LONG));
+	}
+
+	@Test
+	public void recyclesChangeSetsAcrossTransactions() {
+		// given:
+		subject.begin();
+		subject.set(1L, OBJ, things[0]);
+		var firstChangeSet = subject.changes.get(1L);
+		subject.commit();
+
+		// when:
+		subject.begin();
+		subject.setLong(1L, LONG, 2L);
+
+		// then:
+		assertSame(firstChangeSet, subject.changes.get(1L));
+		assertFalse(subject.changes.get(1L).contains(OBJ));
+	}
+
+	@Test
+	public void notifiesObserverOfCommittedChangesToObservedProperties() {
+		// setup:
+		List<Long> observed = new ArrayList<>();
+
+		// given:
+		subject.observeCommitsTo(EnumSet.of(FLAG), observed::add);
+
+		// when:
+		subject.begin();
+		subject.set(1L, FLAG, !account1.flag);
+		subject.create(3L);
+		subject.setLong(3L, LONG, 3L);
+		subject.commit();
+		// and:
+		subject.begin();
+		subject.destroy(1L);
+		subject.commit();
+
+		// then:
+		assertEquals(List.of(1L, 1L), observed);
+	}
+
+	@Test
+	public void notifiesCreationObserverOfNewAccountsOnly() {
+		// setup:
+		List<Long> created = new ArrayList<>();
+
+		// given:
+		subject.observeCreations(created::add);
+
+		// when:
+		subject.begin();
+		subject.set(1L, FLAG, !account1.flag);
+		subject.create(3L);
+		subject.commit();
+		// and:
+		subject.begin();
+		subject.create(4L);
+		subject.rollback();
+
+		// then:
+		assertEquals(List.of(3L), created);
+	}
 }
@@ -0,0 +1,144 @@
+package com.hedera.services.ledger.accounts;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hederahashgraph.api.proto.java.AccountID;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static com.hedera.test.utils.IdUtils.asAccount;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@RunWith(JUnitPlatform.class)
+class AccountIdSetTest {
+	AccountID homeId = asAccount("0.0.1234");
+	AccountID otherId = asAccount("1.2.1234");
+	AccountID zeroId = asAccount("0.0.0");
+
+	AccountIdSet subject = new AccountIdSet();
+
+	@Test
+	public void addsAndContainsBothKindsOfIds() {
+		// when:
+		assertTrue(subject.add(homeId));
+		assertTrue(subject.add(otherId));
+		assertTrue(subject.add(zeroId));
+		// and:
+		assertFalse(subject.add(homeId));
+		assertFalse(subject.add(0, 0, 1234));
+		assertFalse(subject.add(otherId));
+
+		// then:
+		assertEquals(3, subject.size());
+		assertTrue(subject.contains(homeId));
+		assertTrue(subject.contains(otherId));
+		assertTrue(subject.contains(zeroId));
+		assertFalse(subject.contains(asAccount("0.0.1235")));
+		assertFalse(subject.contains("0.0.1234"));
+	}
+
+	@Test
+	public void removesBothKindsOfIds() {
+		// given:
+		subject.add(homeId);
+		subject.add(otherId);
+
+		// expect:
+		assertTrue(subject.remove(homeId));
+		assertFalse(subject.remove(homeId));
+		assertTrue(subject.remove(otherId));
+		assertFalse(subject.remove("0.0.1234"));
+		// and:
+		assertTrue(subject.isEmpty());
+	}
+
+	@Test
+	public void iteratesOverAllIds() {
+		// given:
+		subject.add(homeId);
+		subject.add(otherId);
+
+		// when:
+		Set<AccountID> actual = new HashSet<>(subject);
+
+		// then:
+		assertEquals(Set.of(homeId, otherId), actual);
+	}
+
+	@Test
+	public void iteratorThrowsWhenExhausted() {
+		// given:
+		subject.add(homeId);
+		Iterator<AccountID> iterator = subject.iterator();
+
+		// when:
+		iterator.next();
+
+		// then:
+		assertFalse(iterator.hasNext());
+		assertThrows(NoSuchElementException.class, iterator::next);
+	}
+
+	@Test
+	public void clearsEverything() {
+		// given:
+		subject.add(homeId);
+		subject.add(otherId);
+
+		// when:
+		subject.clear();
+
+		// then:
+		assertTrue(subject.isEmpty());
+		assertFalse(subject.contains(homeId));
+		assertTrue(subject.add(homeId));
+	}
+
+	@Test
+	public void agreesWithHashSetUnderRandomChurn() {
+		// setup:
+		var random = new SplittableRandom(1_234L);
+		Set<AccountID> expected = new HashSet<>();
+
+		for (int i = 0; i < 100_000; i++) {
+			var id = asAccount(String.format("0.0.%d", 1 + random.nextInt(5_000)));
+			if (random.nextBoolean()) {
+				assertEquals(expected.add(id), subject.add(id));
+			} else {
+				assertEquals(expected.remove(id), subject.remove(id));
+			}
+		}
+
+		// expect:
+		assertEquals(expected.size(), subject.size());
+		assertEquals(expected, new HashSet<>(subject));
+	}
+}
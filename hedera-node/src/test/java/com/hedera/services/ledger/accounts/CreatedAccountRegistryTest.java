@@ -0,0 +1,102 @@
+package com.hedera.services.ledger.accounts;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.test.utils.IdUtils;
+import com.hederahashgraph.api.proto.java.AccountID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@RunWith(JUnitPlatform.class)
+class CreatedAccountRegistryTest {
+	AccountID account = IdUtils.asAccount("0.0.1337");
+
+	CreatedAccountRegistry subject;
+
+	@BeforeEach
+	private void setup() {
+		subject = new CreatedAccountRegistry();
+	}
+
+	@Test
+	public void sharesPendingCreationAmongWaiters() {
+		// expect:
+		assertSame(subject.pendingCreationOf(account), subject.pendingCreationOf(account));
+		assertEquals(1, subject.numPending());
+	}
+
+	@Test
+	public void publishCompletesAndRemovesPendingCreation() {
+		// given:
+		var creation = subject.pendingCreationOf(account);
+
+		// when:
+		subject.publish(account);
+
+		// then:
+		assertTrue(creation.isDone());
+		assertEquals(0, subject.numPending());
+		assertNotSame(creation, subject.pendingCreationOf(account));
+	}
+
+	@Test
+	public void publishWithoutWaitersIsNoop() {
+		// when:
+		subject.publish(account);
+
+		// then:
+		assertEquals(0, subject.numPending());
+	}
+
+	@Test
+	public void awaitWakesUpOnPublish() throws Exception {
+		// given:
+		var creation = subject.pendingCreationOf(account);
+
+		// when:
+		var wait = CompletableFuture.supplyAsync(() -> subject.await(account, creation, 10_000L));
+		subject.publish(account);
+
+		// then:
+		assertTrue(wait.get(10, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void awaitTimesOutAndForgetsPendingCreation() {
+		// given:
+		var creation = subject.pendingCreationOf(account);
+
+		// expect:
+		assertFalse(subject.await(account, creation, 1L));
+		assertEquals(0, subject.numPending());
+	}
+}
@@ -80,6 +80,26 @@ class FCMapBackingAccountsTest {
 		assertTrue(subject.existingAccounts.contains(b));
 	}
 
+	@Test
+	public void usesGivenIndexOfExistingIds() {
+		// setup:
+		var existing = new AccountIdSet();
+		existing.add(a);
+
+		// given:
+		subject = new FCMapBackingAccounts(() -> map, existing);
+
+		// expect:
+		assertSame(existing, subject.idSet());
+		assertTrue(subject.contains(a));
+		// and when:
+		subject.put(b, bValue);
+
+		// then:
+		assertTrue(existing.contains(b));
+		verify(map).put(bKey, bValue);
+	}
+
 	@Test
 	public void containsDelegatesToKnownActive() {
 		// setup:
@@ -223,6 +243,97 @@ class FCMapBackingAccountsTest {
 		inOrder.verify(map).replace(dKey, dValue);
 	}
 
+	@Test
+	public void batchesFlushesOfConsecutiveTxns() {
+		// setup:
+		subject.existingAccounts = Set.of(a, b);
+		// and:
+		given(map.getForModify(aKey)).willReturn(aValue);
+		given(map.getForModify(bKey)).willReturn(bValue);
+
+		// given:
+		subject.setMaxTxnsPerFlush(3);
+
+		// when:
+		subject.getRef(a);
+		subject.flushMutableRefs();
+		subject.getRef(a);
+		subject.getRef(b);
+		subject.flushMutableRefs();
+
+		// then:
+		verify(map, times(1)).getForModify(aKey);
+		verify(map, never()).replace(any(), any());
+		assertSame(aValue, subject.getUnsafeRef(a));
+		verify(map, never()).get(aKey);
+
+		// and when:
+		subject.getRef(a);
+		subject.flushMutableRefs();
+
+		// then:
+		verify(map, times(1)).getForModify(aKey);
+		verify(map).replace(aKey, aValue);
+		verify(map).replace(bKey, bValue);
+		assertTrue(subject.cache.isEmpty());
+	}
+
+	@Test
+	public void flushesDeferredRefsOnDemand() {
+		// setup:
+		subject.existingAccounts = Set.of(a);
+		given(map.getForModify(aKey)).willReturn(aValue);
+
+		// given:
+		subject.setMaxTxnsPerFlush(100);
+		subject.getRef(a);
+		subject.flushMutableRefs();
+
+		// when:
+		subject.flushDeferredRefs();
+
+		// then:
+		verify(map).replace(aKey, aValue);
+		assertTrue(subject.cache.isEmpty());
+	}
+
+	@Test
+	public void flushesEveryTxnByDefault() {
+		// setup:
+		subject.existingAccounts = Set.of(a);
+		given(map.getForModify(aKey)).willReturn(aValue);
+
+		// given:
+		subject.setMaxTxnsPerFlush(0);
+		subject.getRef(a);
+
+		// when:
+		subject.flushMutableRefs();
+
+		// then:
+		verify(map).replace(aKey, aValue);
+	}
+
+	@Test
+	public void removeDropsDeferredRef() {
+		// setup:
+		subject.existingAccounts = new AccountIdSet();
+		subject.existingAccounts.add(a);
+		given(map.getForModify(aKey)).willReturn(aValue);
+
+		// given:
+		subject.setMaxTxnsPerFlush(2);
+		subject.getRef(a);
+
+		// when:
+		subject.remove(a);
+		subject.flushDeferredRefs();
+
+		// then:
+		verify(map).remove(aKey);
+		verify(map, never()).replace(any(), any());
+	}
+
 	@Test
 	public void returnsExpectedIds() {
 		// setup:
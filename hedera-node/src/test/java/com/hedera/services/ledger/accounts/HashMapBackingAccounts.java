@@ -45,6 +45,9 @@ public class HashMapBackingAccounts implements BackingAccounts<AccountID, Merkle
 	@Override
 	public void flushMutableRefs() { }
 
+	@Override
+	public void flushDeferredRefs() { }
+
 	@Override
 	public MerkleAccount getRef(AccountID id) {
 		return accounts.get(id);
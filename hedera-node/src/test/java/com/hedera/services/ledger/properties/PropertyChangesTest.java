@@ -0,0 +1,126 @@
+package com.hedera.services.ledger.properties;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.ledger.accounts.TestAccount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.util.EnumMap;
+
+import static com.hedera.services.ledger.properties.TestAccountProperty.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@RunWith(JUnitPlatform.class)
+public class PropertyChangesTest {
+	private PropertyChanges<TestAccount, TestAccountProperty> subject;
+
+	@BeforeEach
+	private void setup() {
+		subject = new PropertyChanges<>(TestAccountProperty.class);
+	}
+
+	@Test
+	public void startsEmpty() {
+		// expect:
+		assertTrue(subject.isEmpty());
+		assertEquals(0, subject.size());
+		assertNull(subject.get(OBJ));
+	}
+
+	@Test
+	public void tracksPrimitiveAndBoxedValues() {
+		// given:
+		Object thing = new Object();
+
+		// when:
+		subject.setLong(LONG, 5L);
+		subject.set(FLAG, true);
+		subject.set(OBJ, thing);
+
+		// then:
+		assertEquals(3, subject.size());
+		assertEquals(5L, subject.getLong(LONG));
+		assertEquals(Long.valueOf(5L), subject.get(LONG));
+		assertEquals(Boolean.TRUE, subject.get(FLAG));
+		assertEquals(thing, subject.get(OBJ));
+	}
+
+	@Test
+	public void unboxesLongsSetAsObjects() {
+		// when:
+		subject.set(LONG, 7L);
+
+		// then:
+		assertEquals(7L, subject.getLong(LONG));
+	}
+
+	@Test
+	public void persistsExpectedChanges() {
+		// given:
+		Object thing = new Object();
+		TestAccount a = new TestAccount(1L, thing, false);
+
+		// when:
+		subject.setLong(LONG, 5L);
+		subject.set(FLAG, true);
+		// and:
+		subject.persistTo(a);
+
+		// then:
+		assertEquals(new TestAccount(5L, thing, true), a);
+	}
+
+	@Test
+	public void clearForgetsAllChanges() {
+		// given:
+		subject.setLong(LONG, 5L);
+		subject.set(OBJ, new Object());
+
+		// when:
+		subject.clear();
+
+		// then:
+		assertTrue(subject.isEmpty());
+		assertFalse(subject.contains(LONG));
+		assertNull(subject.get(OBJ));
+	}
+
+	@Test
+	public void mapViewIsEquivalent() {
+		// setup:
+		EnumMap<TestAccountProperty, Object> expected = new EnumMap<>(TestAccountProperty.class);
+		expected.put(LONG, 5L);
+		expected.put(FLAG, false);
+
+		// given:
+		subject.setLong(LONG, 5L);
+		subject.set(FLAG, false);
+
+		// expect:
+		assertEquals(expected, subject.asMap());
+	}
+}
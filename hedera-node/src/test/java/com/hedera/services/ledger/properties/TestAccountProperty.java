@@ -24,6 +24,8 @@ import com.hedera.services.ledger.accounts.TestAccount;
 
 import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.ObjLongConsumer;
+import java.util.function.ToLongFunction;
 
 public enum TestAccountProperty implements BeanProperty<TestAccount> {
 	FLAG {
@@ -47,6 +49,21 @@ public enum TestAccountProperty implements BeanProperty<TestAccount> {
 		public Function<TestAccount, Object> getter() {
 			return TestAccount::getValue;
 		}
+
+		@Override
+		public boolean isPrimitiveLong() {
+			return true;
+		}
+
+		@Override
+		public ObjLongConsumer<TestAccount> longSetter() {
+			return TestAccount::setValue;
+		}
+
+		@Override
+		public ToLongFunction<TestAccount> longGetter() {
+			return TestAccount::getValue;
+		}
 	},
 	OBJ {
 		@Override
@@ -20,6 +20,7 @@ package com.hedera.services.legacy;
  * ‍
  */
 
+import com.hedera.services.context.properties.GlobalDynamicProperties;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import com.hedera.services.ledger.HederaLedger;
@@ -79,7 +80,7 @@ public class RepoNewCacheTest {
             mock(ExpiringCreations.class),
             mock(AccountRecordsHistorian.class),
             delegate);
-    Source<byte[], AccountState> repDatabase = new LedgerAccountsSource(ledger, TestProperties.TEST_PROPERTIES);
+    Source<byte[], AccountState> repDatabase = new LedgerAccountsSource(ledger, new GlobalDynamicProperties(TestProperties.TEST_PROPERTIES));
     ServicesRepositoryRoot repository = new ServicesRepositoryRoot(repDatabase, repDBFile);
     String key = Hex.toHexString(EntityIdUtils.asSolidityAddress(0, 0, 1));
     byte[] keyByte = null;
@@ -195,7 +196,7 @@ public class RepoNewCacheTest {
             mock(ExpiringCreations.class),
             mock(AccountRecordsHistorian.class),
             delegate);
-    Source<byte[], AccountState> accountSource = new LedgerAccountsSource(ledger, TestProperties.TEST_PROPERTIES);
+    Source<byte[], AccountState> accountSource = new LedgerAccountsSource(ledger, new GlobalDynamicProperties(TestProperties.TEST_PROPERTIES));
     ServicesRepositoryRoot repository = new ServicesRepositoryRoot(accountSource, repDBFile);
 
     String someKey = Hex.toHexString(EntityIdUtils.asSolidityAddress(0, 0, 1));
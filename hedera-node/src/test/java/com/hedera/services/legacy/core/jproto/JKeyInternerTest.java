@@ -0,0 +1,177 @@
+package com.hedera.services.legacy.core.jproto;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hederahashgraph.api.proto.java.Key;
+import com.hederahashgraph.api.proto.java.KeyList;
+import com.hederahashgraph.api.proto.java.ThresholdKey;
+import com.google.protobuf.ByteString;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@RunWith(JUnitPlatform.class)
+class JKeyInternerTest {
+	Key aKey = Key.newBuilder().setEd25519(ByteString.copyFrom("01234567890123456789012345678901".getBytes())).build();
+	Key bKey = Key.newBuilder().setEd25519(ByteString.copyFrom("abcdefghijabcdefghijabcdefghijab".getBytes())).build();
+	Key thresholdKey = Key.newBuilder()
+			.setThresholdKey(ThresholdKey.newBuilder()
+					.setThreshold(1)
+					.setKeys(KeyList.newBuilder().addKeys(aKey).addKeys(bKey)))
+			.build();
+
+	@Test
+	public void mapKeyInternsIdenticalKeyGraphs() throws Exception {
+		// when:
+		var first = JKey.mapKey(thresholdKey);
+		var second = JKey.mapKey(thresholdKey);
+
+		// then:
+		assertSame(first, second);
+		assertNotSame(first, JKey.mapKey(aKey));
+	}
+
+	@Test
+	public void deserializationSharesInternedNodes() throws Exception {
+		// setup:
+		var repr = JKeySerializer.serialize(JKey.convertKey(thresholdKey, 1));
+
+		// when:
+		JKey first = JKeySerializer.deserialize(new DataInputStream(new ByteArrayInputStream(repr)));
+		JKey second = JKeySerializer.deserialize(new DataInputStream(new ByteArrayInputStream(repr)));
+
+		// then:
+		assertSame(first, second);
+		assertSame(JKey.mapKey(aKey), first.getThresholdKey().getKeys().getKeysList().get(0));
+	}
+
+	@Test
+	public void cachesProtoForm() throws Exception {
+		// given:
+		var jKey = JKey.convertKey(thresholdKey, 1);
+
+		// expect:
+		assertSame(JKey.mapJKey(jKey), JKey.mapJKey(jKey));
+		assertEquals(thresholdKey, JKey.mapJKey(jKey));
+	}
+
+	@Test
+	public void doesNotInternUnmappableKeys() {
+		// given:
+		var unmappable = new JECDSA_384Key("ecdsa".getBytes());
+
+		// expect:
+		assertSame(unmappable, JKeyInterner.intern(unmappable));
+		assertNull(JKeyInterner.intern(null));
+	}
+
+	@Test
+	public void internsEd25519KeysByRawBytes() {
+		// given:
+		var a = new JEd25519Key("01234567890123456789012345678901".getBytes());
+		var b = new JEd25519Key("01234567890123456789012345678901".getBytes());
+		var c = new JEd25519Key("abcdefghijabcdefghijabcdefghijab".getBytes());
+
+		// when:
+		var canonical = JKeyInterner.intern(a);
+
+		// then:
+		assertSame(canonical, JKeyInterner.intern(b));
+		assertNotSame(canonical, JKeyInterner.intern(c));
+	}
+
+	@Test
+	public void internsCompositesByChildIdentity() {
+		// setup:
+		var leaf = new JEd25519Key("01234567890123456789012345678901".getBytes());
+		var sameLeaf = new JEd25519Key("01234567890123456789012345678901".getBytes());
+
+		// given:
+		var list = new JKeyList(List.of(leaf));
+		var sameList = new JKeyList(List.of(sameLeaf));
+		var nestedList = new JKeyList(List.of(new JKeyList(List.of(leaf))));
+		var threshold = new JThresholdKey(new JKeyList(List.of(leaf)), 0);
+
+		// when:
+		var canonical = JKeyInterner.intern(list);
+
+		// then:
+		assertSame(canonical, JKeyInterner.intern(sameList));
+		assertSame(JKeyInterner.intern(sameLeaf), canonical.getKeyList().getKeysList().get(0));
+		// and:
+		var canonicalNested = JKeyInterner.intern(nestedList);
+		var canonicalThreshold = JKeyInterner.intern(threshold);
+		assertNotSame(canonicalNested, canonicalThreshold);
+		assertSame(canonical, canonicalNested.getKeyList().getKeysList().get(0));
+		assertSame(canonical, canonicalThreshold.getThresholdKey().getKeys());
+	}
+
+	@Test
+	public void doesNotInternCompositesWithUninternableChildren() {
+		// given:
+		var list = new JKeyList(List.of(
+				new JEd25519Key("01234567890123456789012345678901".getBytes()),
+				new JECDSA_384Key("ecdsa".getBytes())));
+		var sameList = new JKeyList(List.of(
+				new JEd25519Key("01234567890123456789012345678901".getBytes()),
+				new JECDSA_384Key("ecdsa".getBytes())));
+
+		// expect:
+		assertSame(list, JKeyInterner.intern(list));
+		assertSame(sameList, JKeyInterner.intern(sameList));
+	}
+
+	@Test
+	public void cloneSharesImmutableKey() throws Exception {
+		// given:
+		var jKey = JKey.convertKey(thresholdKey, 1);
+
+		// expect:
+		assertSame(jKey, jKey.clone());
+		assertThrows(UnsupportedOperationException.class,
+				() -> jKey.getThresholdKey().getKeys().getKeysList().add(new JEd25519Key(new byte[32])));
+	}
+
+	@Test
+	public void listsCopyTheirKeys() {
+		// setup:
+		var keys = new java.util.ArrayList<JKey>(List.of(new JEd25519Key(new byte[32])));
+
+		// given:
+		var subject = new JKeyList(keys);
+
+		// when:
+		keys.clear();
+
+		// then:
+		assertEquals(1, subject.getKeysList().size());
+	}
+}
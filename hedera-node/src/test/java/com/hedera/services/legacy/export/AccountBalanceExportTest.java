@@ -41,9 +41,15 @@ import java.io.DataInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileReader;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Set;
+
+import org.apache.commons.lang3.tuple.Pair;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -267,4 +273,83 @@ public class AccountBalanceExportTest {
     }
     Assert.assertTrue(exceptionCaught);
   }
+
+  @Test
+  public void hashesWhileWriting() throws Exception {
+    BalanceSnapshot snapshot = accountBalanceExport.snapshotOf(getMockState(), consensusTimestamp);
+    Pair<String, byte[]> exported = accountBalanceExport.export(snapshot, BalanceFileFormat.CSV);
+
+    Assert.assertArrayEquals(AccountBalanceExport.getFileHash(exported.getLeft()), exported.getRight());
+
+    new File(exported.getLeft()).delete();
+  }
+
+  @Test
+  public void exportsCompactBinaryFormat() throws Exception {
+    BalanceSnapshot snapshot = accountBalanceExport.snapshotOf(getMockState(), consensusTimestamp);
+    Pair<String, byte[]> exported = accountBalanceExport.export(snapshot, BalanceFileFormat.BINARY);
+    Assert.assertTrue(exported.getLeft().endsWith("_Balances.bin"));
+    Assert.assertArrayEquals(AccountBalanceExport.getFileHash(exported.getLeft()), exported.getRight());
+
+    ByteBuffer contents = ByteBuffer.wrap(Files.readAllBytes(Paths.get(exported.getLeft())));
+    Assert.assertEquals(BalanceFileFormat.BINARY_FORMAT_VERSION, contents.getInt());
+    Assert.assertEquals(consensusTimestamp.getEpochSecond(), contents.getLong());
+    Assert.assertEquals(consensusTimestamp.getNano(), contents.getInt());
+    Assert.assertEquals(4, contents.getInt());
+    // 0.0.2 has a nine-byte varint balance
+    Assert.assertEquals(12, contents.get());
+    Assert.assertEquals(0, contents.get());
+    Assert.assertEquals(0, contents.get());
+    Assert.assertEquals(2, contents.get());
+    byte[] balance = new byte[9];
+    contents.get(balance);
+    Assert.assertEquals(4999999999999969300L, varint(balance));
+    // 0.0.3 has a two-byte varint balance
+    Assert.assertEquals(5, contents.get());
+    Assert.assertEquals(0, contents.get());
+    Assert.assertEquals(0, contents.get());
+    Assert.assertEquals(3, contents.get());
+    Assert.assertEquals(200L, varint(new byte[] { contents.get(), contents.get() }));
+    Assert.assertEquals(7 + 6, contents.remaining());
+
+    new File(exported.getLeft()).delete();
+  }
+
+  @Test
+  public void snapshotSortsStablyByNum() {
+    BalanceSnapshot snapshot = new BalanceSnapshot("0.0.3", consensusTimestamp, 1);
+    snapshot.add(1, 1, 70_000L, 1);
+    snapshot.add(0, 0, 5L, 2);
+    snapshot.add(2, 2, 70_000L, 3);
+    snapshot.add(0, 0, Long.MAX_VALUE, 4);
+    snapshot.add(0, 0, 0L, 5);
+
+    snapshot.sortByNum();
+
+    Assert.assertEquals(5, snapshot.size());
+    long[] expectedBalances = { 5, 2, 1, 3, 4 };
+    for (int i = 0; i < expectedBalances.length; i++) {
+      Assert.assertEquals(expectedBalances[i], snapshot.balanceAt(i));
+    }
+    Assert.assertEquals(1L, snapshot.shardAt(2));
+    Assert.assertEquals(2L, snapshot.realmAt(3));
+    Assert.assertEquals(Long.MAX_VALUE, snapshot.numAt(4));
+  }
+
+  @Test
+  public void parsesFormatsLeniently() {
+    Assert.assertEquals(Set.of(BalanceFileFormat.CSV), BalanceFileFormat.allFrom(null));
+    Assert.assertEquals(Set.of(BalanceFileFormat.CSV), BalanceFileFormat.allFrom("parquet"));
+    Assert.assertEquals(
+        Set.of(BalanceFileFormat.CSV, BalanceFileFormat.BINARY),
+        BalanceFileFormat.allFrom("binary, CSV, parquet"));
+  }
+
+  private long varint(byte[] bytes) {
+    long v = 0;
+    for (int i = 0; i < bytes.length; i++) {
+      v |= (long)(bytes[i] & 0x7F) << (7 * i);
+    }
+    return v;
+  }
 }
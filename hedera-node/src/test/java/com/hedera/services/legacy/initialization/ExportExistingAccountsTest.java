@@ -20,6 +20,7 @@ package com.hedera.services.legacy.initialization;
  * ‍
  */
 
+import com.hedera.services.state.initialization.AccountsScan;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleEntityId;
 import com.hedera.services.utils.EntityIdUtils;
@@ -96,6 +97,30 @@ class ExportExistingAccountsTest {
 		Assertions.assertEquals(expected, actual);
 	}
 
+	@Test
+	public void reproducesLegacyFileFromScan() throws IOException {
+		// setup:
+		FCMap<MerkleEntityId, MerkleAccount> savedAccounts = new FCMap<>(
+				new MerkleEntityId.Provider(),
+				MerkleAccount.LEGACY_PROVIDER);
+		// and:
+		var in = new SerializableDataInputStream(Files.newInputStream(Paths.get(LEGACY_ACCOUNTS_LOC)));
+		// and:
+		savedAccounts.copyFrom(in);
+		savedAccounts.copyFromExtra(in);
+
+		// given:
+		String expected = Files.readString(Paths.get(LEGACY_EXPORT_LOC));
+
+		// when:
+		ExportExistingAccounts.exportAccounts(TMP_EXPORT_LOC, AccountsScan.of(savedAccounts));
+		// and:
+		String actual = Files.readString(Paths.get(TMP_EXPORT_LOC));
+
+		// then:
+		Assertions.assertEquals(expected, actual);
+	}
+
 	@AfterAll
 	public static void cleanup() {
 		var f = new File(TMP_EXPORT_LOC);
@@ -21,6 +21,7 @@ package com.hedera.services.legacy.services.state;
  */
 
 import com.hedera.services.context.ServicesContext;
+import com.hedera.services.utils.TxnAccessorCache;
 import com.hedera.test.utils.IdUtils;
 import com.hederahashgraph.api.proto.java.TransactionBody;
 import com.hederahashgraph.api.proto.java.TransactionID;
@@ -69,6 +70,7 @@ class AwareProcessLogicTest {
 		given(book.getAddress(1)).willReturn(stakedAddress);
 		given(book.getAddress(666L)).willReturn(zeroStakeAddress);
 		given(ctx.addressBook()).willReturn(book);
+		given(ctx.txnAccessorCache()).willReturn(new TxnAccessorCache(0));
 
 		subject = new AwareProcessLogic(ctx);
 	}
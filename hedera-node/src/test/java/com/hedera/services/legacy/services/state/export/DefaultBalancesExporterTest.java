@@ -0,0 +1,116 @@
+package com.hedera.services.legacy.services.state.export;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.ServicesState;
+import com.hedera.services.legacy.exception.InvalidTotalAccountBalanceException;
+import com.hedera.services.legacy.export.AccountBalanceExport;
+import com.hedera.services.legacy.export.BalanceSnapshot;
+import com.swirlds.common.Platform;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Instant;
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.*;
+
+@RunWith(JUnitPlatform.class)
+class DefaultBalancesExporterTest {
+	Instant now = Instant.ofEpochSecond(1_234_567L);
+
+	Platform platform;
+	ServicesState signedState;
+	BalanceSnapshot snapshot;
+	ExecutorService exportExecutor;
+	AccountBalanceExport delegate;
+
+	DefaultBalancesExporter subject;
+
+	@BeforeEach
+	private void setup() {
+		platform = mock(Platform.class);
+		signedState = mock(ServicesState.class);
+		snapshot = mock(BalanceSnapshot.class);
+		exportExecutor = mock(ExecutorService.class);
+		delegate = mock(AccountBalanceExport.class);
+
+		subject = new DefaultBalancesExporter(platform, delegate, exportExecutor);
+	}
+
+	@Test
+	public void snapshotsSynchronouslyButWritesInBackground() throws Exception {
+		// setup:
+		var task = ArgumentCaptor.forClass(Runnable.class);
+
+		given(delegate.snapshotOf(signedState, now)).willReturn(snapshot);
+
+		// when:
+		subject.toCsvFile(signedState, now);
+
+		// then:
+		verify(exportExecutor).execute(task.capture());
+		verify(delegate, never()).exportAndSign(any(), any());
+		// and when:
+		task.getValue().run();
+		// then:
+		verify(delegate).exportAndSign(platform, snapshot);
+	}
+
+	@Test
+	public void backgroundFailuresAreContained() throws Exception {
+		// setup:
+		var task = ArgumentCaptor.forClass(Runnable.class);
+
+		given(delegate.snapshotOf(signedState, now)).willReturn(snapshot);
+		willThrow(IllegalStateException.class).given(delegate).exportAndSign(platform, snapshot);
+
+		// when:
+		subject.toCsvFile(signedState, now);
+		verify(exportExecutor).execute(task.capture());
+
+		// expect:
+		assertDoesNotThrow(() -> task.getValue().run());
+	}
+
+	@Test
+	public void invalidTotalIsThrownToCaller() throws Exception {
+		given(delegate.snapshotOf(signedState, now)).willThrow(InvalidTotalAccountBalanceException.class);
+
+		// expect:
+		assertThrows(InvalidTotalAccountBalanceException.class, () -> subject.toCsvFile(signedState, now));
+		verifyNoInteractions(exportExecutor);
+	}
+
+	@Test
+	public void delegatesTimeToExport() {
+		given(delegate.timeToExport(now)).willReturn(true);
+
+		// expect:
+		assertTrue(subject.isTimeToExport(now));
+	}
+}
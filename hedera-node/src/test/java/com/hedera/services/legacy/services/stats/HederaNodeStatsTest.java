@@ -20,6 +20,7 @@ package com.hedera.services.legacy.services.stats;
  * ‍
  */
 
+import com.hedera.services.grpc.WorkerPools;
 import com.hedera.services.grpc.controllers.ConsensusController;
 import com.hedera.services.grpc.controllers.CryptoController;
 import com.hedera.services.grpc.controllers.FileController;
@@ -59,7 +60,7 @@ public class HederaNodeStatsTest {
 	public void setUp() {
 		MockitoAnnotations.initMocks(this);
 		stats = new HederaNodeStats(platform, 0, log);
-		verify(platform, times(213)).addAppStatEntry(any(StatEntry.class));
+		verify(platform, times(224)).addAppStatEntry(any(StatEntry.class));
 		verify(platform, times(1)).appStatInit();
 	}
 
@@ -306,6 +307,33 @@ public class HederaNodeStatsTest {
 		assertEquals(4567, stats.getRecordStreamQueueSize());
 	}
 
+	@Test
+	public void shouldUpdatePrecheckSigVerifyStats() {
+		assertEquals(0, stats.getPrecheckSigVerifyQueueSize());
+		stats.updatePrecheckSigVerifyQueueSize(12);
+		stats.precheckSigsVerified(3.0);
+		assertEquals(12, stats.getPrecheckSigVerifyQueueSize());
+		assertEquals(3.0, stats.getAvgPrecheckSigVerifyMs());
+	}
+
+	@Test
+	public void shouldUpdateRecordPurgeStats() {
+		stats.recordPurgeDone(4, 250.0);
+		assertEquals(4.0, stats.getAvgRecordPurgesPerTxn());
+		assertEquals(250.0, stats.getAvgRecordPurgeMicrosPerTxn());
+	}
+
+	@Test
+	public void shouldUpdateGrpcPoolStats() {
+		for (WorkerPools.Pool pool : WorkerPools.Pool.values()) {
+			stats.grpcWorkDequeued(pool, 2.5);
+			assertEquals(2.5, stats.getAvgGrpcQueueMs(pool));
+			assertEquals(0.0, stats.getGrpcBusyPerSecond(pool));
+			stats.grpcWorkRejected(pool);
+			assertTrue(stats.getGrpcBusyPerSecond(pool) > 0.0);
+		}
+	}
+
 	@Test
 	public void shouldUpdatePlatformTxnNotCreatedPerSecond() {
 		assertEquals(0.0, stats.getPlatformTxnNotCreatedPerSecond());
@@ -0,0 +1,140 @@
+package com.hedera.services.legacy.stream;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@RunWith(JUnitPlatform.class)
+class RecordFileWriterTest {
+	private static final int TINY_CHUNK_SIZE = 7;
+
+	byte[] header = "HEADER".getBytes();
+	SerializedRecord a = new SerializedRecord("abcdefghijklm".getBytes(), "no".getBytes(), Instant.EPOCH);
+	SerializedRecord b = new SerializedRecord(new byte[0], "pqrstuvwxyz0123456789".getBytes(), Instant.EPOCH);
+
+	@TempDir
+	Path tmpDir;
+
+	@Test
+	public void writesV2FramingAndHashesOnlyRecords() throws Exception {
+		// setup:
+		var digest = MessageDigest.getInstance("SHA-384");
+		var path = tmpDir.resolve("a.rcd");
+		var subject = new RecordFileWriter(RecordStreamCompression.NONE, TINY_CHUNK_SIZE, digest);
+
+		// when:
+		writeBothTo(subject, path);
+
+		// then:
+		assertFalse(subject.isOpen());
+		assertArrayEquals(concat(header, legacyFramed()), Files.readAllBytes(path));
+		assertArrayEquals(MessageDigest.getInstance("SHA-384").digest(legacyFramed()), digest.digest());
+	}
+
+	@Test
+	public void gzipFramesTheSameBytesWithTheSameHash() throws Exception {
+		// setup:
+		var digest = MessageDigest.getInstance("SHA-384");
+		var path = tmpDir.resolve("a.rcd.gz");
+		var subject = new RecordFileWriter(RecordStreamCompression.GZIP, TINY_CHUNK_SIZE, digest);
+
+		// when:
+		writeBothTo(subject, path);
+
+		// then:
+		try (InputStream in = new GZIPInputStream(Files.newInputStream(path))) {
+			assertArrayEquals(concat(header, legacyFramed()), in.readAllBytes());
+		}
+		assertArrayEquals(MessageDigest.getInstance("SHA-384").digest(legacyFramed()), digest.digest());
+	}
+
+	@Test
+	public void refusesToOverwriteExistingFile() throws Exception {
+		// setup:
+		var path = tmpDir.resolve("b.rcd");
+		var subject = new RecordFileWriter(
+				RecordStreamCompression.NONE, TINY_CHUNK_SIZE, MessageDigest.getInstance("SHA-384"));
+
+		// given:
+		Files.write(path, header);
+
+		// expect:
+		assertThrows(IOException.class, () -> subject.open(path, header));
+		assertFalse(subject.isOpen());
+	}
+
+	@Test
+	public void parsesCompressionLeniently() {
+		// expect:
+		assertEquals(RecordStreamCompression.NONE, RecordStreamCompression.from(null));
+		assertEquals(RecordStreamCompression.NONE, RecordStreamCompression.from("zstd"));
+		assertEquals(RecordStreamCompression.GZIP, RecordStreamCompression.from(" gzip "));
+	}
+
+	private void writeBothTo(RecordFileWriter subject, Path path) throws IOException {
+		subject.open(path, header);
+		assertTrue(subject.isOpen());
+		subject.append(a);
+		subject.flush();
+		subject.append(b);
+		subject.close();
+	}
+
+	private byte[] legacyFramed() throws IOException {
+		var baos = new ByteArrayOutputStream();
+		var dos = new DataOutputStream(baos);
+		for (var record : new SerializedRecord[] { a, b }) {
+			dos.write(RecordStream.TYPE_RECORD);
+			dos.writeInt(record.txnBytes.length);
+			dos.write(record.txnBytes);
+			dos.writeInt(record.recordBytes.length);
+			dos.write(record.recordBytes);
+		}
+		dos.flush();
+		return baos.toByteArray();
+	}
+
+	private byte[] concat(byte[] x, byte[] y) {
+		var both = new byte[x.length + y.length];
+		System.arraycopy(x, 0, both, 0, x.length);
+		System.arraycopy(y, 0, both, x.length, y.length);
+		return both;
+	}
+}
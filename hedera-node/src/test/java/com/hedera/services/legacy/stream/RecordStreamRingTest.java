@@ -0,0 +1,220 @@
+package com.hedera.services.legacy.stream;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@RunWith(JUnitPlatform.class)
+class RecordStreamRingTest {
+	RecordStreamRing subject;
+
+	@BeforeEach
+	private void setup() {
+		subject = new RecordStreamRing(3);
+	}
+
+	@Test
+	public void roundsCapacityUpToPowerOfTwo() {
+		// expect:
+		assertEquals(4, subject.capacity());
+		assertEquals(1, new RecordStreamRing(1).capacity());
+		assertEquals(512, new RecordStreamRing(500).capacity());
+		assertThrows(IllegalArgumentException.class, () -> new RecordStreamRing(0));
+	}
+
+	@Test
+	public void spillsWhenRingIsFullButKeepsOrder() throws InterruptedException {
+		// setup:
+		var records = new SerializedRecord[9];
+
+		// when:
+		for (int i = 0; i < 5; i++) {
+			records[i] = record(i);
+			subject.offer(records[i]);
+		}
+		// and:
+		assertSame(records[0], subject.poll());
+		assertSame(records[1], subject.poll());
+		// and:
+		for (int i = 5; i < 9; i++) {
+			records[i] = record(i);
+			subject.offer(records[i]);
+		}
+
+		// then:
+		assertEquals(7, subject.size());
+		for (int i = 2; i < 9; i++) {
+			assertSame(records[i], subject.poll());
+		}
+		assertNull(subject.poll());
+		assertTrue(subject.isEmpty());
+	}
+
+	@Test
+	public void blocksProducerWhenRingAndSpillAreFull() throws InterruptedException {
+		// setup:
+		var offered = new AtomicInteger();
+		var producer = new Thread(() -> {
+			for (int i = 0; i < 8; i++) {
+				subject.offer(record(i));
+				offered.incrementAndGet();
+			}
+		});
+
+		// when:
+		producer.start();
+		while (producer.getState() != Thread.State.WAITING) {
+			Thread.sleep(1L);
+		}
+
+		// then:
+		assertEquals(7, offered.get());
+		assertEquals(7, subject.size());
+		// and when:
+		for (int i = 0; i < 5; i++) {
+			assertEquals(i, subject.poll().consensusTime.getNano());
+		}
+		producer.join();
+		// then:
+		assertEquals(8, offered.get());
+		for (int i = 5; i < 8; i++) {
+			assertEquals(i, subject.poll().consensusTime.getNano());
+		}
+		assertTrue(subject.isEmpty());
+	}
+
+	@Test
+	public void interruptedProducerStillQueuesRecordAndKeepsInterrupt() throws InterruptedException {
+		// setup:
+		var offered = new AtomicInteger();
+		var interruptedAfterOffers = new AtomicBoolean();
+		var producer = new Thread(() -> {
+			for (int i = 0; i < 8; i++) {
+				subject.offer(record(i));
+				offered.incrementAndGet();
+			}
+			interruptedAfterOffers.set(Thread.currentThread().isInterrupted());
+		});
+
+		// given:
+		producer.start();
+		while (producer.getState() != Thread.State.WAITING) {
+			Thread.sleep(1L);
+		}
+
+		// when:
+		producer.interrupt();
+		Thread.sleep(50L);
+
+		// then:
+		assertEquals(7, offered.get());
+		// and when:
+		for (int i = 0; i < 8; i++) {
+			SerializedRecord next;
+			while ((next = subject.poll(10, TimeUnit.SECONDS)) == null) {
+				/* Tolerate spurious wake-ups. */
+			}
+			// then:
+			assertEquals(i, next.consensusTime.getNano());
+		}
+		producer.join();
+		assertEquals(8, offered.get());
+		assertTrue(interruptedAfterOffers.get());
+		assertTrue(subject.isEmpty());
+	}
+
+	@Test
+	public void timedPollReturnsNullWhenNothingOffered() throws InterruptedException {
+		// expect:
+		assertNull(subject.poll(1, TimeUnit.MILLISECONDS));
+	}
+
+	@Test
+	public void timedPollIsWokenByProducer() throws InterruptedException {
+		// setup:
+		var record = record(0);
+		var producer = new Thread(() -> {
+			try {
+				Thread.sleep(50L);
+				subject.offer(record);
+			} catch (InterruptedException ignore) { }
+		});
+
+		// when:
+		producer.start();
+		var polled = subject.poll(10, TimeUnit.SECONDS);
+
+		// then:
+		assertSame(record, polled);
+		producer.join();
+	}
+
+	@Test
+	public void timedPollPropagatesInterrupt() {
+		// given:
+		Thread.currentThread().interrupt();
+
+		// expect:
+		assertThrows(InterruptedException.class, () -> subject.poll(10, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void concurrentProducerAndConsumerSeeSameOrder() throws InterruptedException {
+		// setup:
+		int n = 100_000;
+		var producer = new Thread(() -> {
+			for (int i = 0; i < n; i++) {
+				subject.offer(record(i));
+			}
+		});
+
+		// when:
+		producer.start();
+		for (int i = 0; i < n; i++) {
+			SerializedRecord next;
+			while ((next = subject.poll(10, TimeUnit.SECONDS)) == null) {
+				/* Tolerate spurious wake-ups. */
+			}
+			// then:
+			assertEquals(i, next.consensusTime.getNano());
+		}
+		producer.join();
+		assertTrue(subject.isEmpty());
+	}
+
+	private SerializedRecord record(int i) {
+		return new SerializedRecord(new byte[] { (byte)i }, new byte[0], Instant.ofEpochSecond(1_234_567L, i));
+	}
+}
@@ -0,0 +1,82 @@
+package com.hedera.services.legacy.unit;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.legacy.logic.CustomProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.util.Properties;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@RunWith(JUnitPlatform.class)
+class CustomPropertiesTest {
+	CustomProperties subject;
+
+	@BeforeEach
+	private void setup() {
+		var props = new Properties();
+		props.setProperty("txReceiptTTL", "180");
+		props.setProperty("txMaximumDuration", "a long time");
+		props.setProperty("txReceiptTTl", "90");
+		props.setProperty("exchangeRateAllowedPercentage", "5");
+
+		subject = new CustomProperties(props);
+	}
+
+	@Test
+	public void tracksUnreadNames() {
+		// when:
+		subject.getInt("txReceiptTTL", 1);
+		subject.getLong("txMaximumDuration", 2L);
+		subject.getString("neverSet", "default");
+
+		// then:
+		assertEquals(Set.of("exchangeRateAllowedPercentage", "txReceiptTTl"), subject.getUnreadNames());
+	}
+
+	@Test
+	public void tracksMalformedButNotMissingNames() {
+		// when:
+		var duration = subject.getLong("txMaximumDuration", 2L);
+		var missing = subject.getInt("neverSet", 3);
+
+		// then:
+		assertEquals(2L, duration);
+		assertEquals(3, missing);
+		assertEquals(Set.of("txMaximumDuration"), subject.getMalformedNames());
+	}
+
+	@Test
+	public void hasNoMalformedNamesIfAllParse() {
+		// when:
+		subject.getInt("txReceiptTTL", 1);
+		subject.getDouble("exchangeRateAllowedPercentage", 1.0);
+
+		// expect:
+		assertTrue(subject.getMalformedNames().isEmpty());
+	}
+}
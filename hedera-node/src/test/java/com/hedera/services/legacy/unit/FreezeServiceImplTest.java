@@ -20,6 +20,7 @@ package com.hedera.services.legacy.unit;
  * ‍
  */
 
+import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.google.common.cache.CacheBuilder;
 import com.google.protobuf.ByteString;
 import com.hedera.services.config.MockAccountNumbers;
@@ -155,7 +156,7 @@ public class FreezeServiceImplTest {
             exchange,
             TestFeesFactory.FEES_FACTORY.getWithExchange(exchange),
             () -> new StateView(() -> topicFCMap, () -> accountFCMap),
-            new BasicPrecheck(TestProperties.TEST_PROPERTIES, TestContextValidator.TEST_VALIDATOR),
+            new BasicPrecheck(new GlobalDynamicProperties(TestProperties.TEST_PROPERTIES), TestContextValidator.TEST_VALIDATOR),
             new QueryFeeCheck(() -> accountFCMap),
             new MockAccountNumbers(),
             policies,
@@ -20,6 +20,7 @@ package com.hedera.services.legacy.unit;
  * ‍
  */
 
+import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.google.common.cache.CacheBuilder;
 import com.hedera.services.config.MockAccountNumbers;
 import com.hedera.services.config.MockEntityNumbers;
@@ -181,7 +182,7 @@ class PreCheckValidationTest {
 				TEST_USAGE_PRICES,
 				TEST_EXCHANGE,
 				TestFeesFactory.FEES_FACTORY.get(), () -> new StateView(() -> topicFCMap, () -> accountFCMap),
-				new BasicPrecheck(TestProperties.TEST_PROPERTIES, TestContextValidator.TEST_VALIDATOR),
+				new BasicPrecheck(new GlobalDynamicProperties(TestProperties.TEST_PROPERTIES), TestContextValidator.TEST_VALIDATOR),
 				new QueryFeeCheck(() -> accountFCMap),
 				new MockAccountNumbers(),
 				policies,
@@ -419,7 +420,7 @@ class PreCheckValidationTest {
 				TEST_EXCHANGE,
 				TestFeesFactory.FEES_FACTORY.get(),
 				() -> new StateView(() -> topicFCMap, () -> accountFCMap),
-				new BasicPrecheck(TestProperties.TEST_PROPERTIES, TestContextValidator.TEST_VALIDATOR),
+				new BasicPrecheck(new GlobalDynamicProperties(TestProperties.TEST_PROPERTIES), TestContextValidator.TEST_VALIDATOR),
 				new QueryFeeCheck(() -> accountFCMap),
 				new MockAccountNumbers(),
 				policies,
@@ -466,7 +467,7 @@ class PreCheckValidationTest {
 				TEST_EXCHANGE,
 				TestFeesFactory.FEES_FACTORY.get(),
 				() -> new StateView(() -> topicFCMap, () -> accountFCMap),
-				new BasicPrecheck(TestProperties.TEST_PROPERTIES, TestContextValidator.TEST_VALIDATOR),
+				new BasicPrecheck(new GlobalDynamicProperties(TestProperties.TEST_PROPERTIES), TestContextValidator.TEST_VALIDATOR),
 				new QueryFeeCheck(() -> accountFCMap),
 				new MockAccountNumbers(),
 				policies,
@@ -20,6 +20,7 @@ package com.hedera.services.legacy.unit;
  * ‍
  */
 
+import com.hedera.services.context.properties.GlobalDynamicProperties;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import com.hedera.services.config.MockAccountNumbers;
@@ -130,7 +131,7 @@ class QueryValidationTest {
             new StandardExemptions(new MockAccountNumbers(), policies),
             platformStatus);
     transactionHandler.setBasicPrecheck(
-            new BasicPrecheck(TestProperties.TEST_PROPERTIES, TestContextValidator.TEST_VALIDATOR));
+            new BasicPrecheck(new GlobalDynamicProperties(TestProperties.TEST_PROPERTIES), TestContextValidator.TEST_VALIDATOR));
     byte[] pubKey = ((EdDSAPublicKey) payerKeyGenerated.getPublic()).getAbyte();
     onboardAccount(payerAccount, pubKey, payerAccountInitialBalance);
     onboardAccount(lowBalanceAccount, pubKey, 100L);
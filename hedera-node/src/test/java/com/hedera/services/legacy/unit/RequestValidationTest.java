@@ -20,6 +20,7 @@ package com.hedera.services.legacy.unit;
  * ‍
  */
 
+import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.google.protobuf.ByteString;
 import com.hedera.services.config.MockAccountNumbers;
 import com.hedera.services.config.MockEntityNumbers;
@@ -94,7 +95,7 @@ public class RequestValidationTest {
                 TestExchangeRates.TEST_EXCHANGE,
                 TestFeesFactory.FEES_FACTORY.get(),
                 () -> StateView.EMPTY_VIEW,
-                new BasicPrecheck(TestProperties.TEST_PROPERTIES, TestContextValidator.TEST_VALIDATOR),
+                new BasicPrecheck(new GlobalDynamicProperties(TestProperties.TEST_PROPERTIES), TestContextValidator.TEST_VALIDATOR),
                 null,
                 null,
                 new MockAccountNumbers(),
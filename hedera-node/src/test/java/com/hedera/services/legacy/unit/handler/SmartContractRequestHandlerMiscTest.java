@@ -20,6 +20,7 @@ package com.hedera.services.legacy.unit.handler;
  * ‍
  */
 
+import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.services.fees.HbarCentExchange;
@@ -174,7 +175,7 @@ public class SmartContractRequestHandlerMiscTest {
             mock(ExpiringCreations.class),
             mock(AccountRecordsHistorian.class),
             delegate);
-    ledgerSource = new LedgerAccountsSource(ledger, TestProperties.TEST_PROPERTIES);
+    ledgerSource = new LedgerAccountsSource(ledger, new GlobalDynamicProperties(TestProperties.TEST_PROPERTIES));
     Source<byte[], AccountState> repDatabase = ledgerSource;
     ServicesRepositoryRoot repository = new ServicesRepositoryRoot(repDatabase, repDBFile);
     repository.setStoragePersistence(new StoragePersistenceImpl(storageMap));
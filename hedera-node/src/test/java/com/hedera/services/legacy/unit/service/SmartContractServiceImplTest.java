@@ -20,6 +20,7 @@ package com.hedera.services.legacy.unit.service;
  * ‍
  */
 
+import com.hedera.services.context.properties.GlobalDynamicProperties;
 import static com.hedera.services.context.ServicesNodeType.STAKED_NODE;
 import static com.hedera.test.mocks.TestUsagePricesProvider.TEST_USAGE_PRICES;
 import static com.hedera.test.mocks.TestExchangeRates.TEST_EXCHANGE;
@@ -34,6 +35,7 @@ import static org.mockito.Mockito.when;
 
 import com.google.common.cache.CacheBuilder;
 import com.google.protobuf.ByteString;
+import com.hedera.services.grpc.WorkerPools;
 import com.hedera.services.config.MockAccountNumbers;
 import com.hedera.services.config.MockEntityNumbers;
 import com.hedera.services.context.ServicesNodeType;
@@ -228,7 +230,7 @@ public class SmartContractServiceImplTest {
 				mock(ExpiringCreations.class),
 				mock(AccountRecordsHistorian.class),
 				delegate);
-		ledgerSource = new LedgerAccountsSource(ledger, TestProperties.TEST_PROPERTIES);
+		ledgerSource = new LedgerAccountsSource(ledger, new GlobalDynamicProperties(TestProperties.TEST_PROPERTIES));
 		Source<byte[], AccountState> accountSource = ledgerSource;
 		repository = new ServicesRepositoryRoot(accountSource, repDBFile);
 		repository.setStoragePersistence(new StoragePersistenceImpl(storageMap));
@@ -279,7 +281,7 @@ public class SmartContractServiceImplTest {
 				TestExchangeRates.TEST_EXCHANGE,
 				TestFeesFactory.FEES_FACTORY.get(),
 				() -> new StateView(() -> topicFCMap, () -> accountFCMap),
-				new BasicPrecheck(TestProperties.TEST_PROPERTIES, TestContextValidator.TEST_VALIDATOR),
+				new BasicPrecheck(new GlobalDynamicProperties(TestProperties.TEST_PROPERTIES), TestContextValidator.TEST_VALIDATOR),
 				new QueryFeeCheck(() -> accountFCMap),
 				new MockAccountNumbers(),
 				policies,
@@ -480,7 +482,7 @@ public class SmartContractServiceImplTest {
 		smartContractImpl = new SmartContractServiceImpl(transactionHandler,
 				smartContractHandler, hederaNodeStats,
 				TEST_USAGE_PRICES, TEST_EXCHANGE, STAKED_NODE,
-				submissionManager, null, null);
+				submissionManager, null, null, WorkerPools.inline());
 		smartContractImpl.createContract(trx, responseObserver);
 
 		verify(hederaNodeStats, times(1)).smartContractTransactionReceived("createContract");
@@ -515,7 +517,7 @@ public class SmartContractServiceImplTest {
 			smartContractImpl = new SmartContractServiceImpl(transactionHandler,
 					smartContractHandler, hederaNodeStats,
 					TEST_USAGE_PRICES, TEST_EXCHANGE, STAKED_NODE,
-					submissionManager, null, null);
+					submissionManager, null, null, WorkerPools.inline());
 
 			StreamObserver<Response> respOb = new StreamObserver<Response>() {
 
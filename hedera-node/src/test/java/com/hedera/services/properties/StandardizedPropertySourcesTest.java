@@ -162,12 +162,20 @@ public class StandardizedPropertySourcesTest {
 		assertTrue(properties.containsProperty("dev.defaultListeningNodeAccount"));
 		assertTrue(properties.containsProperty("dev.onlyDefaultNodeListens"));
 		assertTrue(properties.containsProperty("exchangeRates.intradayChange.limitPercent"));
+		assertTrue(properties.containsProperty("fees.resultCache.maxSize"));
 		assertTrue(properties.containsProperty("files.maxSizeKb"));
 		assertTrue(properties.containsProperty("grpc.port"));
 		assertTrue(properties.containsProperty("hedera.accountsExportPath"));
 		assertTrue(properties.containsProperty("hedera.exportAccountsOnStartup"));
 		assertTrue(properties.containsProperty("hedera.exportBalancesOnNewSignedState"));
 		assertTrue(properties.containsProperty("hedera.profiles.active"));
+		assertTrue(properties.containsProperty("hedera.recordStream.compression"));
+		assertTrue(properties.containsProperty("grpc.workers.txns.threads"));
+		assertTrue(properties.containsProperty("grpc.workers.txns.queueCapacity"));
+		assertTrue(properties.containsProperty("grpc.workers.queries.threads"));
+		assertTrue(properties.containsProperty("grpc.workers.queries.queueCapacity"));
+		assertTrue(properties.containsProperty("grpc.workers.expensiveQueries.threads"));
+		assertTrue(properties.containsProperty("grpc.workers.expensiveQueries.queueCapacity"));
 		assertTrue(properties.containsProperty("hedera.recordStream.logDir"));
 		assertTrue(properties.containsProperty("hedera.recordStream.logPeriod"));
 		assertTrue(properties.containsProperty("hedera.transaction.maxMemoUtf8Bytes"));
@@ -21,6 +21,7 @@ package com.hedera.services.queries.answering;
  */
 
 import com.hedera.services.context.primitives.StateView;
+import com.hedera.services.grpc.WorkerPools;
 import com.hedera.services.queries.AnswerFlow;
 import com.hedera.services.queries.AnswerService;
 import com.hederahashgraph.api.proto.java.Query;
@@ -33,6 +34,9 @@ import org.junit.platform.runner.JUnitPlatform;
 import org.junit.runner.RunWith;
 import org.mockito.InOrder;
 
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.ContractCallLocal;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoGetInfo;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.BUSY;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.FAIL_INVALID;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_TRANSACTION_START;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
@@ -64,7 +68,45 @@ class QueryResponseHelperTest {
 		okResponse = mock(Response.class);
 		notOkResponse = mock(Response.class);
 
-		subject = new QueryResponseHelper(answerFlow, stats);
+		subject = new QueryResponseHelper(answerFlow, stats, WorkerPools.inline());
+	}
+
+	@Test
+	public void answersBusyIfPoolIsFull() {
+		// setup:
+		var workers = mock(WorkerPools.class);
+		given(workers.tryRun(argThat(WorkerPools.Pool.EXPENSIVE_QUERIES::equals), any())).willReturn(false);
+		// and:
+		subject = new QueryResponseHelper(answerFlow, stats, workers);
+
+		given(answer.canonicalFunction()).willReturn(ContractCallLocal);
+		given(answer.responseGiven(query, StateView.EMPTY_VIEW, BUSY, 0L)).willReturn(notOkResponse);
+
+		// when:
+		subject.respondToContract(query, observer, answer, metric);
+
+		// then:
+		verify(stats).smartContractQueryReceived(metric);
+		verify(answerFlow, never()).satisfyUsing(any(), any());
+		verify(observer).onNext(notOkResponse);
+		verify(observer).onCompleted();
+	}
+
+	@Test
+	public void usesCheapPoolForCheapQueries() {
+		// setup:
+		var workers = mock(WorkerPools.class);
+		given(workers.tryRun(any(), any())).willReturn(true);
+		// and:
+		subject = new QueryResponseHelper(answerFlow, stats, workers);
+
+		given(answer.canonicalFunction()).willReturn(CryptoGetInfo);
+
+		// when:
+		subject.respondToCrypto(query, observer, answer, metric);
+
+		// then:
+		verify(workers).tryRun(argThat(WorkerPools.Pool.QUERIES::equals), any());
 	}
 
 	@Test
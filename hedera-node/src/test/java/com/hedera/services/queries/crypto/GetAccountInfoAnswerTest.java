@@ -163,7 +163,7 @@ class GetAccountInfoAnswerTest {
 		// then:
 		assertEquals(ACCOUNT_DELETED, validity);
 		// and:
-		verify(optionValidator).queryableAccountStatus(any(), any());
+		verify(optionValidator).queryableAccountStatus(any(), any(FCMap.class));
 	}
 
 	@Test
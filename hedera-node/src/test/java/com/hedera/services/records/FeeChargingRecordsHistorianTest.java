@@ -21,7 +21,7 @@ package com.hedera.services.records;
  */
 
 import com.hedera.services.context.TransactionContext;
-import com.hedera.services.context.properties.PropertySource;
+import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.fees.FeeCalculator;
 import com.hedera.services.fees.FeeExemptions;
 import com.hedera.services.fees.charging.ItemizableFeeCharging;
@@ -29,6 +29,7 @@ import com.hedera.services.ledger.HederaLedger;
 import com.hedera.services.legacy.core.jproto.TxnId;
 import com.hedera.services.state.expiry.ExpiringCreations;
 import com.hedera.services.state.expiry.ExpiryManager;
+import com.hedera.services.state.initialization.AccountsScan;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleEntityId;
 import com.hedera.services.state.submerkle.ExpirableTxnRecord;
@@ -59,8 +60,6 @@ import java.util.stream.IntStream;
 import static com.hedera.services.ledger.properties.AccountProperty.FUNDS_RECEIVED_RECORD_THRESHOLD;
 import static com.hedera.services.ledger.properties.AccountProperty.FUNDS_SENT_RECORD_THRESHOLD;
 import static com.hedera.services.ledger.properties.AccountProperty.HISTORY_RECORDS;
-import static com.hedera.services.ledger.properties.AccountProperty.IS_DELETED;
-import static com.hedera.services.ledger.properties.AccountProperty.IS_SMART_CONTRACT;
 import static com.hedera.test.utils.IdUtils.asAccount;
 import static com.hedera.test.utils.IdUtils.asContract;
 import static com.hedera.test.utils.TxnUtils.withAdjustments;
@@ -158,7 +157,7 @@ public class FeeChargingRecordsHistorianTest {
 	private ExpiryManager expiries;
 	private FeeCalculator fees;
 	private FeeExemptions exemptions;
-	private PropertySource properties;
+	private GlobalDynamicProperties properties;
 	private ExpiringCreations creator;
 	private TransactionContext txnCtx;
 	private ItemizableFeeCharging itemizableFeeCharging;
@@ -332,12 +331,12 @@ public class FeeChargingRecordsHistorianTest {
 		verify(ledger).getBalance(d);
 		verify(ledger).fundsSentRecordThreshold(d);
 		// and:
-		verify(properties, times(1)).getAccountProperty("ledger.funding.account");
+		verify(properties, times(1)).fundingAccount();
 		verify(ledger).doTransfer(b, funding, recordFee);
 		verify(ledger, never()).doTransfer(c, funding, recordFee);
 		verify(ledger).doTransfer(d, funding, recordFee);
 		// and:
-		verify(properties, never()).getIntProperty("ledger.records.ttl");
+		verify(properties, never()).ledgerRecordsTtl();
 		verify(txnCtx, times(1)).consensusTime();
 		// and:
 		verify(creator).createExpiringHistoricalRecord(b, finalRecord, now.getEpochSecond(), submittingMember);
@@ -369,6 +368,20 @@ public class FeeChargingRecordsHistorianTest {
 		verify(expiries).resumeTrackingFrom(accounts);
 	}
 
+	@Test
+	public void managesReviewFromScanCorrectly() {
+		setupForReview();
+		// and:
+		var scan = mock(AccountsScan.class);
+		given(scan.recordExpiries()).willReturn(List.of());
+
+		// when:
+		subject.reviewExistingRecords(scan);
+
+		// then:
+		verify(expiries).resumeTrackingFrom(List.of());
+	}
+
 	@Test
 	public void managesExpirationsCorrectly() {
 		setupForPurge();
@@ -392,9 +405,8 @@ public class FeeChargingRecordsHistorianTest {
 
 		given(txnCtx.accessor()).willReturn(accessor);
 
-		MerkleAccount v = new MerkleAccount();
-		IS_SMART_CONTRACT.setter().accept(v, false);
-		given(accounts.get(MerkleEntityId.fromAccountId(asAccount(contract)))).willReturn(v);
+		given(ledger.exists(asAccount(contract))).willReturn(true);
+		given(ledger.isSmartContract(asAccount(contract))).willReturn(false);
 	}
 
 	private void addSetupForCallToDeletedContract() {
@@ -409,10 +421,9 @@ public class FeeChargingRecordsHistorianTest {
 
 		given(txnCtx.accessor()).willReturn(accessor);
 
-		MerkleAccount v = new MerkleAccount();
-		IS_SMART_CONTRACT.setter().accept(v, true);
-		IS_DELETED.setter().accept(v, true);
-		given(accounts.get(MerkleEntityId.fromAccountId(asAccount(contract)))).willReturn(v);
+		given(ledger.exists(asAccount(contract))).willReturn(true);
+		given(ledger.isSmartContract(asAccount(contract))).willReturn(true);
+		given(ledger.isDeleted(asAccount(contract))).willReturn(true);
 	}
 
 	private void addSetupForValidContractCall() {
@@ -429,9 +440,8 @@ public class FeeChargingRecordsHistorianTest {
 
 		given(txnCtx.accessor()).willReturn(accessor);
 
-		MerkleAccount v = new MerkleAccount();
-		IS_SMART_CONTRACT.setter().accept(v, true);
-		given(accounts.get(MerkleEntityId.fromAccountId(asAccount(contract)))).willReturn(v);
+		given(ledger.exists(asAccount(contract))).willReturn(true);
+		given(ledger.isSmartContract(asAccount(contract))).willReturn(true);
 	}
 
 	private void addSetupForValidContractCreate() {
@@ -473,9 +483,9 @@ public class FeeChargingRecordsHistorianTest {
 		exemptions = mock(FeeExemptions.class);
 		given(exemptions.isExemptFromRecordFees(c)).willReturn(true);
 
-		properties = mock(PropertySource.class);
-		given(properties.getAccountProperty("ledger.funding.account")).willReturn(funding);
-		given(properties.getIntProperty("ledger.records.ttl")).willReturn(accountRecordTtl);
+		properties = mock(GlobalDynamicProperties.class);
+		given(properties.fundingAccount()).willReturn(funding);
+		given(properties.ledgerRecordsTtl()).willReturn(accountRecordTtl);
 
 		creator = mock(ExpiringCreations.class);
 		given(creator.createExpiringPayerRecord(effPayer, finalRecord, nows, submittingMember)).willReturn(payerRecord);
@@ -37,6 +37,7 @@ class NoopRecordsHistorianTest {
 		assertDoesNotThrow(NOOP_RECORDS_HISTORIAN::purgeExpiredRecords);
 		assertDoesNotThrow(() -> NOOP_RECORDS_HISTORIAN.setLedger(null));
 		assertDoesNotThrow(() -> NOOP_RECORDS_HISTORIAN.reviewExistingRecords());
+		assertDoesNotThrow(() -> NOOP_RECORDS_HISTORIAN.reviewExistingRecords(null));
 		assertTrue(NOOP_RECORDS_HISTORIAN.lastCreatedRecord().isEmpty());
 	}
 }
@@ -0,0 +1,159 @@
+package com.hedera.services.records;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.legacy.core.jproto.TxnId;
+import com.hedera.services.legacy.core.jproto.TxnReceipt;
+import com.hedera.services.state.submerkle.ExpirableTxnRecord;
+import com.hedera.services.state.submerkle.RichInstant;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.Timestamp;
+import com.hederahashgraph.api.proto.java.TransactionID;
+import com.hederahashgraph.api.proto.java.TransactionReceipt;
+import com.swirlds.fcqueue.FCQueue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static com.hedera.test.utils.IdUtils.asAccount;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.SUCCESS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.verify;
+
+@RunWith(JUnitPlatform.class)
+class PayerRecordStoreTest {
+	AccountID a = asAccount("0.0.1001");
+	AccountID b = asAccount("0.0.1002");
+
+	FCQueue<ExpirableTxnRecord> records;
+
+	PayerRecordStore subject;
+
+	@BeforeEach
+	private void setup() {
+		records = new FCQueue<>(ExpirableTxnRecord.LEGACY_PROVIDER);
+
+		subject = new PayerRecordStore(() -> records);
+	}
+
+	@Test
+	public void appendsOnlyWhenCommitted() {
+		// given:
+		subject.stage(recordOf(a, 1, 100));
+		subject.stage(recordOf(b, 2, 100));
+
+		// expect:
+		assertEquals(0, subject.size());
+
+		// when:
+		subject.commitStaged();
+
+		// then:
+		assertEquals(2, subject.size());
+	}
+
+	@Test
+	public void discardsStagedOnRollback() {
+		// given:
+		subject.stage(recordOf(a, 1, 100));
+
+		// when:
+		subject.discardStaged();
+		subject.commitStaged();
+
+		// then:
+		assertEquals(0, subject.size());
+	}
+
+	@Test
+	public void purgesFromHead() {
+		// setup:
+		Consumer<ExpirableTxnRecord> cb = (Consumer<ExpirableTxnRecord>)mock(Consumer.class);
+		// and:
+		var first = recordOf(a, 1, 100);
+		var second = recordOf(b, 2, 100);
+		var third = recordOf(a, 3, 101);
+
+		// given:
+		subject.stage(first);
+		subject.stage(second);
+		subject.stage(third);
+		subject.commitStaged();
+
+		// when:
+		int numPurged = subject.purgeExpiredAt(100, cb);
+
+		// then:
+		assertEquals(2, numPurged);
+		verify(cb).accept(first);
+		verify(cb).accept(second);
+		verify(cb, never()).accept(third);
+		// and:
+		assertEquals(1, subject.size());
+		assertSame(third, records.peek());
+	}
+
+	@Test
+	public void visitsRecordsInStateInOrder() {
+		// setup:
+		List<ExpirableTxnRecord> seen = new ArrayList<>();
+		var first = recordOf(a, 1, 100);
+		var second = recordOf(b, 2, 100);
+
+		// given:
+		records.offer(first);
+		records.offer(second);
+
+		// when:
+		subject.forEach(seen::add);
+
+		// then:
+		assertEquals(List.of(first, second), seen);
+	}
+
+	private ExpirableTxnRecord recordOf(AccountID payer, long validStartSecs, long expiry) {
+		var txnId = TransactionID.newBuilder()
+				.setAccountID(payer)
+				.setTransactionValidStart(Timestamp.newBuilder().setSeconds(validStartSecs))
+				.build();
+		var record = new ExpirableTxnRecord(
+				TxnReceipt.fromGrpc(TransactionReceipt.newBuilder().setStatus(SUCCESS).build()),
+				"NOPE".getBytes(),
+				TxnId.fromGrpc(txnId),
+				RichInstant.fromJava(Instant.now()),
+				null,
+				0,
+				null,
+				null,
+				null);
+		record.setExpiry(expiry);
+		return record;
+	}
+}
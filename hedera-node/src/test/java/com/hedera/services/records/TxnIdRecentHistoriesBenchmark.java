@@ -0,0 +1,136 @@
+package com.hedera.services.records;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.Timestamp;
+import com.hederahashgraph.api.proto.java.TransactionID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Compares a {@link TxnIdRecentHistories} index with the {@link ConcurrentHashMap} it
+ * replaces, for the put/get/remove cycle of a handled transaction against an index already
+ * holding the given number of recent ids. Before running the JMH benchmarks, {@code main}
+ * prints the approximate retained heap of each index at the largest size. Run with
+ * {@code java -cp <test classpath> com.hedera.services.records.TxnIdRecentHistoriesBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TxnIdRecentHistoriesBenchmark {
+	private static final int NUM_PAYERS = 1_000;
+	private static final int HEAP_COMPARISON_SIZE = 1_000_000;
+	private static final long FIRST_VALID_START = 1_600_000_000L;
+
+	@Param({ "10000", "1000000" })
+	int numRecentIds;
+
+	@Param({ "compact", "concurrent" })
+	String index;
+
+	int next;
+	TxnIdRecentHistory history = new TxnIdRecentHistory();
+	Map<TransactionID, TxnIdRecentHistory> subject;
+
+	@Setup
+	public void setup() {
+		subject = "compact".equals(index) ? new TxnIdRecentHistories() : new ConcurrentHashMap<>();
+		fill(subject, numRecentIds);
+		next = numRecentIds;
+	}
+
+	@Benchmark
+	public TxnIdRecentHistory handleCycle() {
+		var newId = txnId(next);
+		var oldId = txnId(next - numRecentIds);
+		next++;
+		subject.computeIfAbsent(newId, ignore -> history);
+		subject.get(newId);
+		return subject.remove(oldId);
+	}
+
+	private static void fill(Map<TransactionID, TxnIdRecentHistory> index, int n) {
+		var history = new TxnIdRecentHistory();
+		for (int i = 0; i < n; i++) {
+			index.put(txnId(i), history);
+		}
+	}
+
+	private static TransactionID txnId(int i) {
+		return TransactionID.newBuilder()
+				.setAccountID(AccountID.newBuilder().setAccountNum(1_001L + i % NUM_PAYERS))
+				.setTransactionValidStart(Timestamp.newBuilder()
+						.setSeconds(FIRST_VALID_START + i / NUM_PAYERS)
+						.setNanos(i % NUM_PAYERS))
+				.build();
+	}
+
+	private static long retainedBytes(Supplier<Map<TransactionID, TxnIdRecentHistory>> factory) {
+		long before = usedHeapAfterGc();
+		var index = factory.get();
+		fill(index, HEAP_COMPARISON_SIZE);
+		long after = usedHeapAfterGc();
+		if (index.size() != HEAP_COMPARISON_SIZE) {
+			throw new IllegalStateException("Index lost entries!");
+		}
+		return after - before;
+	}
+
+	private static long usedHeapAfterGc() {
+		var runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	public static void main(String... args) throws RunnerException {
+		System.out.println(String.format(
+				"Retained heap for %d recent ids :: compact=%dMB, concurrent=%dMB",
+				HEAP_COMPARISON_SIZE,
+				retainedBytes(TxnIdRecentHistories::new) >> 20,
+				retainedBytes(ConcurrentHashMap::new) >> 20));
+		new Runner(new OptionsBuilder()
+				.include(TxnIdRecentHistoriesBenchmark.class.getSimpleName())
+				.build()).run();
+	}
+}
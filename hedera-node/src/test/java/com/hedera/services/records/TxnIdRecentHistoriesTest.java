@@ -0,0 +1,205 @@
+package com.hedera.services.records;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.Timestamp;
+import com.hederahashgraph.api.proto.java.TransactionID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@RunWith(JUnitPlatform.class)
+class TxnIdRecentHistoriesTest {
+	TransactionID packable = txnId(0, 0, 1001, 1_234_567L, 890);
+	TransactionID otherPackable = txnId(0, 0, 1001, 1_234_567L, 891);
+	TransactionID inOtherShard = txnId(1, 0, 1001, 1_234_567L, 890);
+	TransactionID withNegativeSeconds = txnId(0, 0, 1001, -1L, 890);
+
+	TxnIdRecentHistories subject;
+
+	@BeforeEach
+	private void setup() {
+		subject = new TxnIdRecentHistories(4);
+	}
+
+	@Test
+	public void packsOnlyCanonicalIds() {
+		// expect:
+		assertTrue(TxnIdRecentHistories.isPackable(packable));
+		assertTrue(TxnIdRecentHistories.isPackable(TransactionID.getDefaultInstance()));
+		assertFalse(TxnIdRecentHistories.isPackable(inOtherShard));
+		assertFalse(TxnIdRecentHistories.isPackable(withNegativeSeconds));
+		assertFalse(TxnIdRecentHistories.isPackable(txnId(0, 1, 1001, 1L, 0)));
+		assertFalse(TxnIdRecentHistories.isPackable(txnId(0, 0, -1, 1L, 0)));
+		assertFalse(TxnIdRecentHistories.isPackable(txnId(0, 0, 1001, 1L << 33, 0)));
+		assertFalse(TxnIdRecentHistories.isPackable(txnId(0, 0, 1001, 1L, 1 << 30)));
+	}
+
+	@Test
+	public void roundTripsPackedIds() {
+		// given:
+		var txnId = txnId(0, 0, Long.MAX_VALUE, (1L << 33) - 1, 999_999_999);
+
+		// expect:
+		assertEquals(txnId, TxnIdRecentHistories.txnIdFrom(Long.MAX_VALUE, (((1L << 33) - 1) << 30) | 999_999_999));
+	}
+
+	@Test
+	public void getsPutsAndRemovesBothKinds() {
+		// setup:
+		var a = new TxnIdRecentHistory();
+		var b = new TxnIdRecentHistory();
+
+		// when:
+		assertNull(subject.put(packable, a));
+		assertNull(subject.put(inOtherShard, b));
+
+		// then:
+		assertSame(a, subject.get(packable));
+		assertSame(b, subject.get(inOtherShard));
+		assertTrue(subject.containsKey(packable));
+		assertFalse(subject.containsKey(otherPackable));
+		assertFalse(subject.containsKey("nonsense"));
+		assertEquals(2, subject.size());
+
+		// and when:
+		assertSame(a, subject.remove(packable));
+		assertSame(b, subject.remove(inOtherShard));
+
+		// then:
+		assertNull(subject.remove(packable));
+		assertNull(subject.remove("nonsense"));
+		assertTrue(subject.isEmpty());
+	}
+
+	@Test
+	public void putReplacesExisting() {
+		// setup:
+		var a = new TxnIdRecentHistory();
+		var b = new TxnIdRecentHistory();
+
+		// when:
+		subject.put(packable, a);
+
+		// then:
+		assertSame(a, subject.put(packable, b));
+		assertSame(b, subject.get(packable));
+		assertEquals(1, subject.size());
+	}
+
+	@Test
+	public void rejectsNullHistories() {
+		// expect:
+		assertThrows(IllegalArgumentException.class, () -> subject.put(packable, null));
+	}
+
+	@Test
+	public void computeIfAbsentOnlyCreatesOnce() {
+		// when:
+		var first = subject.computeIfAbsent(packable, ignore -> new TxnIdRecentHistory());
+		var second = subject.computeIfAbsent(packable, ignore -> new TxnIdRecentHistory());
+		var third = subject.computeIfAbsent(withNegativeSeconds, ignore -> new TxnIdRecentHistory());
+		var fourth = subject.computeIfAbsent(withNegativeSeconds, ignore -> new TxnIdRecentHistory());
+		var none = subject.computeIfAbsent(otherPackable, ignore -> null);
+
+		// then:
+		assertSame(first, second);
+		assertSame(third, fourth);
+		assertNull(none);
+		assertEquals(2, subject.size());
+	}
+
+	@Test
+	public void entrySetSnapshotsBothKinds() {
+		// setup:
+		var a = new TxnIdRecentHistory();
+		var b = new TxnIdRecentHistory();
+
+		// given:
+		subject.put(packable, a);
+		subject.put(inOtherShard, b);
+
+		// expect:
+		assertEquals(Map.of(packable, a, inOtherShard, b), new HashMap<>(subject));
+		assertEquals(2, subject.values().size());
+	}
+
+	@Test
+	public void clearForgetsEverything() {
+		// given:
+		subject.put(packable, new TxnIdRecentHistory());
+		subject.put(inOtherShard, new TxnIdRecentHistory());
+
+		// when:
+		subject.clear();
+
+		// then:
+		assertTrue(subject.isEmpty());
+		assertNull(subject.get(packable));
+	}
+
+	@Test
+	public void agreesWithHashMapUnderRandomChurn() {
+		// setup:
+		var r = new SplittableRandom(1_234_567L);
+		Map<TransactionID, TxnIdRecentHistory> expected = new HashMap<>();
+
+		for (int i = 0; i < 100_000; i++) {
+			var txnId = txnId(0, 0, r.nextInt(64), 1_600_000_000L + r.nextInt(16), r.nextInt(4));
+			if (r.nextBoolean()) {
+				var history = new TxnIdRecentHistory();
+				assertSame(expected.put(txnId, history), subject.put(txnId, history));
+			} else {
+				assertSame(expected.remove(txnId), subject.remove(txnId));
+			}
+		}
+
+		// expect:
+		assertEquals(expected.size(), subject.size());
+		assertEquals(expected, new HashMap<>(subject));
+		expected.forEach((txnId, history) -> assertSame(history, subject.get(txnId)));
+	}
+
+	private TransactionID txnId(long shard, long realm, long num, long seconds, int nanos) {
+		return TransactionID.newBuilder()
+				.setAccountID(AccountID.newBuilder()
+						.setShardNum(shard)
+						.setRealmNum(realm)
+						.setAccountNum(num))
+				.setTransactionValidStart(Timestamp.newBuilder()
+						.setSeconds(seconds)
+						.setNanos(nanos))
+				.build();
+	}
+}
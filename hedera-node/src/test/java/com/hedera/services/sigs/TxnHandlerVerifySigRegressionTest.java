@@ -20,6 +20,7 @@ package com.hedera.services.sigs;
  * ‍
  */
 
+import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.google.protobuf.ByteString;
 import com.hedera.services.config.MockAccountNumbers;
 import com.hedera.services.config.MockEntityNumbers;
@@ -63,10 +64,12 @@ import java.util.function.BiPredicate;
 import java.util.function.Predicate;
 
 import static com.hedera.services.security.ops.SystemOpAuthorization.AUTHORIZED;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_TRANSACTION_BODY;
 import static com.hedera.services.sigs.metadata.DelegatingSigMetadataLookup.defaultLookupsFor;
 import static com.hedera.services.sigs.metadata.DelegatingSigMetadataLookup.defaultLookupsPlusAccountRetriesFor;
 import static com.hedera.test.factories.txns.SignedTxnFactory.DEFAULT_NODE;
 import static com.hedera.test.mocks.TestUsagePricesProvider.TEST_USAGE_PRICES;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -116,7 +119,7 @@ public class TxnHandlerVerifySigRegressionTest {
 				TestExchangeRates.TEST_EXCHANGE,
 				TestFeesFactory.FEES_FACTORY.get(),
 				() -> new StateView(StateView.EMPTY_TOPICS_SUPPLIER, () -> accounts),
-				new BasicPrecheck(TestProperties.TEST_PROPERTIES, TestContextValidator.TEST_VALIDATOR),
+				new BasicPrecheck(new GlobalDynamicProperties(TestProperties.TEST_PROPERTIES), TestContextValidator.TEST_VALIDATOR),
 				new QueryFeeCheck(() -> accounts),
 				new MockAccountNumbers(),
 				policies,
@@ -124,7 +127,9 @@ public class TxnHandlerVerifySigRegressionTest {
 				platformStatus);
 
 		// expect:
-		assertFalse(subject.verifySignature(invalidSignedTxn));
+		assertEquals(
+				INVALID_TRANSACTION_BODY,
+				subject.validateTransactionPreConsensus(invalidSignedTxn, false).getValidity());
 	}
 
 	@Test
@@ -136,7 +141,7 @@ public class TxnHandlerVerifySigRegressionTest {
 
 		// expect:
 		assertThrows(KeySignatureCountMismatchException.class, () ->
-				subject.verifySignature(platformTxn.getSignedTxn()));
+				precheckVerifier.hasNecessarySignatures(platformTxn));
 	}
 
 	@Test
@@ -148,7 +153,7 @@ public class TxnHandlerVerifySigRegressionTest {
 
 		// expect:
 		assertThrows(KeySignatureTypeMismatchException.class, () ->
-				subject.verifySignature(platformTxn.getSignedTxn()));
+				precheckVerifier.hasNecessarySignatures(platformTxn));
 	}
 
 	@Test
@@ -160,7 +165,7 @@ public class TxnHandlerVerifySigRegressionTest {
 
 		// expect:
 		assertThrows(KeySignatureTypeMismatchException.class, () ->
-				subject.verifySignature(platformTxn.getSignedTxn()));
+				precheckVerifier.hasNecessarySignatures(platformTxn));
 	}
 
 	@Test
@@ -171,7 +176,7 @@ public class TxnHandlerVerifySigRegressionTest {
 
 		// expect:
 		assertThrows(KeySignatureCountMismatchException.class, () ->
-				subject.verifySignature(platformTxn.getSignedTxn()));
+				precheckVerifier.hasNecessarySignatures(platformTxn));
 	}
 
 	@Test
@@ -183,7 +188,7 @@ public class TxnHandlerVerifySigRegressionTest {
 
 		// expect:
 		assertThrows(KeySignatureTypeMismatchException.class, () ->
-				subject.verifySignature(platformTxn.getSignedTxn()));
+				precheckVerifier.hasNecessarySignatures(platformTxn));
 	}
 
 	@Test
@@ -195,7 +200,7 @@ public class TxnHandlerVerifySigRegressionTest {
 
 		// expect:
 		assertThrows(KeySignatureCountMismatchException.class, () ->
-				subject.verifySignature(platformTxn.getSignedTxn()));
+				precheckVerifier.hasNecessarySignatures(platformTxn));
 	}
 
 	@Test
@@ -206,7 +211,7 @@ public class TxnHandlerVerifySigRegressionTest {
 		setupFor(FULL_PAYER_SIGS_VIA_MAP_SCENARIO);
 
 		// expect:
-		assertTrue(subject.verifySignature(platformTxn.getSignedTxn()));
+		assertTrue(precheckVerifier.hasNecessarySignatures(platformTxn));
 	}
 
 	@Test
@@ -217,7 +222,7 @@ public class TxnHandlerVerifySigRegressionTest {
 		setupFor(FULL_PAYER_SIGS_VIA_LIST_SCENARIO);
 
 		// expect:
-		assertTrue(subject.verifySignature(platformTxn.getSignedTxn()));
+		assertTrue(precheckVerifier.hasNecessarySignatures(platformTxn));
 	}
 
 	@Test
@@ -228,7 +233,7 @@ public class TxnHandlerVerifySigRegressionTest {
 		setupFor(MISSING_PAYER_SIGS_VIA_MAP_SCENARIO);
 
 		// expect:
-		assertFalse(subject.verifySignature(platformTxn.getSignedTxn()));
+		assertFalse(precheckVerifier.hasNecessarySignatures(platformTxn));
 	}
 
 	@Test
@@ -239,7 +244,7 @@ public class TxnHandlerVerifySigRegressionTest {
 		setupFor(MISSING_PAYER_SIGS_VIA_LIST_SCENARIO);
 
 		// expect:
-		assertFalse(subject.verifySignature(platformTxn.getSignedTxn()));
+		assertFalse(precheckVerifier.hasNecessarySignatures(platformTxn));
 	}
 
 	@Test
@@ -250,7 +255,7 @@ public class TxnHandlerVerifySigRegressionTest {
 		setupFor(INVALID_PAYER_SIGS_VIA_MAP_SCENARIO);
 
 		// expect:
-		assertFalse(subject.verifySignature(platformTxn.getSignedTxn()));
+		assertFalse(precheckVerifier.hasNecessarySignatures(platformTxn));
 	}
 
 	@Test
@@ -261,7 +266,7 @@ public class TxnHandlerVerifySigRegressionTest {
 		setupFor(CRYPTO_TRANSFER_RECEIVER_SIG_SCENARIO);
 
 		// expect:
-		assertTrue(subject.verifySignature(platformTxn.getSignedTxn()));
+		assertTrue(precheckVerifier.hasNecessarySignatures(platformTxn));
 	}
 
 	@Test
@@ -272,7 +277,7 @@ public class TxnHandlerVerifySigRegressionTest {
 		setupFor(VALID_QUERY_PAYMENT_SCENARIO);
 
 		// expect:
-		assertTrue(subject.verifySignature(platformTxn.getSignedTxn()));
+		assertTrue(precheckVerifier.hasNecessarySignatures(platformTxn));
 	}
 
 	@Test
@@ -284,7 +289,7 @@ public class TxnHandlerVerifySigRegressionTest {
 
 		// expect:
 		assertThrows(KeySignatureCountMismatchException.class,
-				() -> subject.verifySignature(platformTxn.getSignedTxn()));
+				() -> precheckVerifier.hasNecessarySignatures(platformTxn));
 	}
 
 	@Test
@@ -295,7 +300,7 @@ public class TxnHandlerVerifySigRegressionTest {
 		setupFor(INVALID_PAYER_ID_SCENARIO);
 
 		// expect:
-		assertFalse(subject.verifySignature(platformTxn.getSignedTxn()));
+		assertFalse(precheckVerifier.hasNecessarySignatures(platformTxn));
 	}
 
 	@Test
@@ -307,7 +312,7 @@ public class TxnHandlerVerifySigRegressionTest {
 
 		// expect:
 		assertThrows(InvalidAccountIDException.class,
-				() -> subject.verifySignature(platformTxn.getSignedTxn()));
+				() -> precheckVerifier.hasNecessarySignatures(platformTxn));
 		verify(stats).lookupRetries(anyInt(), anyDouble());
 	}
 
@@ -320,7 +325,7 @@ public class TxnHandlerVerifySigRegressionTest {
 
 		// expect:
 		assertThrows(KeyPrefixMismatchException.class,
-				() -> subject.verifySignature(platformTxn.getSignedTxn()));
+				() -> precheckVerifier.hasNecessarySignatures(platformTxn));
 	}
 
 	@Test
@@ -331,7 +336,7 @@ public class TxnHandlerVerifySigRegressionTest {
 		setupFor(QUERY_PAYMENT_MISSING_SIGS_SCENARIO);
 
 		// expect:
-		assertFalse(subject.verifySignature(platformTxn.getSignedTxn()));
+		assertFalse(precheckVerifier.hasNecessarySignatures(platformTxn));
 	}
 
 	private void setupFor(TxnHandlingScenario scenario)	throws Throwable {
@@ -354,19 +359,6 @@ public class TxnHandlerVerifySigRegressionTest {
 		SyncVerifier syncVerifier = new CryptoEngine()::verifySync;
 		precheckKeyReqs = new PrecheckKeyReqs(keyOrder, retryingKeyOrder, isQueryPayment);
 		precheckVerifier = new PrecheckVerifier(syncVerifier, precheckKeyReqs, DefaultSigBytesProvider.DEFAULT_SIG_BYTES);
-
-		var policies = new SystemOpPolicies(new MockEntityNumbers());
-		var platformStatus = new ContextPlatformStatus();
-		platformStatus.set(PlatformStatus.ACTIVE);
-		subject = new TransactionHandler(
-				null,
-				precheckVerifier,
-				() -> accounts,
-				DEFAULT_NODE,
-				new MockAccountNumbers(),
-				policies,
-				new StandardExemptions(new MockAccountNumbers(), policies),
-				platformStatus);
 	}
 }
 
@@ -0,0 +1,103 @@
+package com.hedera.services.sigs.metadata.lookups;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.ledger.accounts.FCMapBackingAccounts;
+import com.hedera.services.legacy.core.jproto.JContractIDKey;
+import com.hedera.services.legacy.core.jproto.JKey;
+import com.hedera.services.legacy.core.jproto.JKeyList;
+import com.hedera.services.legacy.exception.AdminKeyNotExistException;
+import com.hedera.services.legacy.exception.InvalidContractIDException;
+import com.hedera.test.utils.IdUtils;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.ContractID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import static com.hedera.test.factories.accounts.MapValueFactory.newAccount;
+import static com.hedera.test.factories.accounts.MapValueFactory.newContract;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.mock;
+
+@RunWith(JUnitPlatform.class)
+class BackedContractLookupTest {
+	ContractID contract = IdUtils.asContract("0.0.1337");
+	AccountID contractAccount = IdUtils.asAccount("0.0.1337");
+
+	FCMapBackingAccounts accounts;
+
+	BackedContractLookup subject;
+
+	@BeforeEach
+	public void setup() {
+		accounts = mock(FCMapBackingAccounts.class);
+
+		subject = new BackedContractLookup(accounts);
+	}
+
+	@Test
+	public void throwsOnMissing() {
+		given(accounts.contains(contractAccount)).willReturn(false);
+
+		// expect:
+		assertThrows(InvalidContractIDException.class, () -> subject.lookup(contract));
+	}
+
+	@Test
+	public void throwsOnDeletedOrNonContract() throws Exception {
+		given(accounts.contains(contractAccount)).willReturn(true);
+		given(accounts.getUnsafeRef(contractAccount))
+				.willReturn(newContract().deleted(true).get())
+				.willReturn(newAccount().get());
+
+		// expect:
+		assertThrows(InvalidContractIDException.class, () -> subject.lookup(contract));
+		assertThrows(InvalidContractIDException.class, () -> subject.lookup(contract));
+	}
+
+	@Test
+	public void throwsWithoutAdminKey() throws Exception {
+		given(accounts.contains(contractAccount)).willReturn(true);
+		given(accounts.getUnsafeRef(contractAccount))
+				.willReturn(newContract().get())
+				.willReturn(newContract().accountKeys(new JContractIDKey(contract)).get());
+
+		// expect:
+		assertThrows(AdminKeyNotExistException.class, () -> subject.lookup(contract));
+		assertThrows(AdminKeyNotExistException.class, () -> subject.lookup(contract));
+	}
+
+	@Test
+	public void returnsAdminKeyIfAvailable() throws Exception {
+		// setup:
+		JKey adminKey = new JKeyList();
+
+		given(accounts.contains(contractAccount)).willReturn(true);
+		given(accounts.getUnsafeRef(contractAccount)).willReturn(newContract().accountKeys(adminKey).get());
+
+		// expect:
+		assertSame(adminKey, subject.lookup(contract).getKey());
+	}
+}
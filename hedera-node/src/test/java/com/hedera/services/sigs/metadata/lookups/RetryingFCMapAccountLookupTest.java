@@ -21,6 +21,7 @@ package com.hedera.services.sigs.metadata.lookups;
  */
 
 import com.hedera.services.context.properties.PropertySource;
+import com.hedera.services.ledger.accounts.CreatedAccountRegistry;
 import com.hedera.services.sigs.metadata.AccountSigningMetadata;
 import com.hedera.services.utils.Pause;
 import com.hedera.services.utils.SleepingPause;
@@ -43,6 +44,8 @@ import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 
+import java.util.concurrent.CompletableFuture;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentCaptor.forClass;
 import static org.mockito.BDDMockito.*;
@@ -172,4 +175,59 @@ public class RetryingFCMapAccountLookupTest {
 		inOrder.verify(pause).forMs(RETRY_WAIT_MS * 2);
 		verifyNoInteractions(stats);
 	}
+
+	@Test
+	public void withRegistryNeverWaitsIfAccountFoundOnRecheck() throws Exception {
+		// setup:
+		var createdAccounts = new CreatedAccountRegistry();
+
+		given(accounts.get(accountKey)).willReturn(null).willReturn(accountValue);
+		// and:
+		subject = new RetryingFCMapAccountLookup(createdAccounts, properties, stats, () -> accounts);
+
+		// when:
+		AccountSigningMetadata meta = subject.lookup(account);
+
+		// then:
+		verify(stats).lookupRetries(eq(1), anyDouble());
+		assertTrue(meta.isReceiverSigRequired());
+		assertEquals(0, createdAccounts.numPending());
+	}
+
+	@Test
+	public void withRegistryWakesUpOnPublishedCreation() throws Exception {
+		// setup:
+		var createdAccounts = mock(CreatedAccountRegistry.class);
+		var creation = new CompletableFuture<Void>();
+
+		given(createdAccounts.pendingCreationOf(account)).willReturn(creation);
+		given(createdAccounts.await(account, creation, 30L)).willReturn(true);
+		given(accounts.get(accountKey)).willReturn(null).willReturn(null).willReturn(accountValue);
+		// and:
+		subject = new RetryingFCMapAccountLookup(createdAccounts, properties, stats, () -> accounts);
+
+		// when:
+		AccountSigningMetadata meta = subject.lookup(account);
+
+		// then:
+		verify(createdAccounts).await(account, creation, 30L);
+		verify(stats).lookupRetries(eq(2), anyDouble());
+		assertTrue(meta.isReceiverSigRequired());
+	}
+
+	@Test
+	public void withRegistryFailsIfNeverCreated() {
+		// setup:
+		var createdAccounts = new CreatedAccountRegistry();
+		given(properties.getIntProperty("validation.preConsensus.accountKey.retryBackoffIncrementMs"))
+				.willReturn(1);
+
+		// and:
+		subject = new RetryingFCMapAccountLookup(createdAccounts, properties, stats, () -> accounts);
+
+		// expect:
+		assertThrows(InvalidAccountIDException.class, () -> subject.lookup(account));
+		verify(stats).lookupRetries(eq(2), anyDouble());
+		assertEquals(0, createdAccounts.numPending());
+	}
 }
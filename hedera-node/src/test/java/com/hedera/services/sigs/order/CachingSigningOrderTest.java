@@ -0,0 +1,120 @@
+package com.hedera.services.sigs.order;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.config.MockEntityNumbers;
+import com.hedera.services.legacy.core.jproto.JEd25519Key;
+import com.hedera.services.legacy.core.jproto.JKey;
+import com.hedera.services.legacy.crypto.SignatureStatus;
+import com.hedera.services.sigs.metadata.AccountSigningMetadata;
+import com.hedera.services.sigs.metadata.SigMetadataLookup;
+import com.hederahashgraph.api.proto.java.AccountAmount;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.CryptoTransferTransactionBody;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+import com.hederahashgraph.api.proto.java.TransactionID;
+import com.hederahashgraph.api.proto.java.TransferList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.util.List;
+
+import static com.hedera.test.utils.IdUtils.asAccount;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.*;
+
+@RunWith(JUnitPlatform.class)
+public class CachingSigningOrderTest {
+	AccountID payer = asAccount("0.0.2");
+	AccountID receiver = asAccount("0.0.1001");
+	JKey payerKey = new JEd25519Key("PAYER".getBytes());
+	JKey receiverKey = new JEd25519Key("RECEIVER".getBytes());
+	TransactionBody txn = TransactionBody.newBuilder()
+			.setTransactionID(TransactionID.newBuilder().setAccountID(payer))
+			.setCryptoTransfer(CryptoTransferTransactionBody.newBuilder()
+					.setTransfers(TransferList.newBuilder()
+							.addAccountAmounts(AccountAmount.newBuilder().setAccountID(payer).setAmount(-1L))
+							.addAccountAmounts(AccountAmount.newBuilder().setAccountID(receiver).setAmount(1L))))
+			.build();
+	SigStatusOrderResultFactory factory = new SigStatusOrderResultFactory(true);
+
+	SigMetadataLookup sigMetaLookup;
+	SigningOrderResultCache cache;
+	CachingSigningOrder subject;
+
+	@BeforeEach
+	private void setup() throws Exception {
+		sigMetaLookup = mock(SigMetadataLookup.class);
+		given(sigMetaLookup.lookup(payer)).willReturn(new AccountSigningMetadata(payerKey, false));
+		given(sigMetaLookup.lookup(receiver)).willReturn(new AccountSigningMetadata(receiverKey, true));
+
+		cache = new SigningOrderResultCache(10);
+		subject = new CachingSigningOrder(
+				new MockEntityNumbers(),
+				sigMetaLookup,
+				ignore -> true,
+				(ignore, alsoIgnore) -> true,
+				cache);
+	}
+
+	@Test
+	public void reusesCachedPayerOrder() throws Exception {
+		// when:
+		SigningOrderResult<SignatureStatus> first = subject.keysForPayer(txn, factory);
+		SigningOrderResult<SignatureStatus> second = subject.keysForPayer(txn, factory);
+
+		// then:
+		assertEquals(List.of(payerKey), first.getOrderedKeys());
+		assertEquals(List.of(payerKey), second.getOrderedKeys());
+		verify(sigMetaLookup, times(1)).lookup(payer);
+	}
+
+	@Test
+	public void recomputesOtherPartiesOrderAfterInvalidation() throws Exception {
+		// given:
+		subject.keysForOtherParties(txn, factory);
+
+		// when:
+		cache.invalidate(receiver);
+		SigningOrderResult<SignatureStatus> result = subject.keysForOtherParties(txn, factory);
+
+		// then:
+		assertEquals(List.of(payerKey, receiverKey), result.getOrderedKeys());
+		verify(sigMetaLookup, times(2)).lookup(receiver);
+	}
+
+	@Test
+	public void doesNotCacheErrors() throws Exception {
+		given(sigMetaLookup.lookup(payer)).willThrow(IllegalStateException.class);
+
+		// when:
+		SigningOrderResult<SignatureStatus> first = subject.keysForPayer(txn, factory);
+		subject.keysForPayer(txn, factory);
+
+		// then:
+		assertTrue(first.hasErrorReport());
+		verify(sigMetaLookup, times(2)).lookup(payer);
+		assertEquals(0, cache.size());
+	}
+}
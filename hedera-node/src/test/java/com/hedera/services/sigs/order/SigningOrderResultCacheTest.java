@@ -0,0 +1,180 @@
+package com.hedera.services.sigs.order;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.legacy.core.jproto.JEd25519Key;
+import com.hedera.services.legacy.core.jproto.JKey;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.ConsensusUpdateTopicTransactionBody;
+import com.hederahashgraph.api.proto.java.FileID;
+import com.hederahashgraph.api.proto.java.FileUpdateTransactionBody;
+import com.hederahashgraph.api.proto.java.TopicID;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.util.List;
+import java.util.Set;
+
+import static com.hedera.test.utils.IdUtils.asAccount;
+import static com.hedera.test.utils.IdUtils.asContract;
+import static com.hedera.test.utils.IdUtils.asFile;
+import static com.hedera.test.utils.IdUtils.asTopic;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@RunWith(JUnitPlatform.class)
+public class SigningOrderResultCacheTest {
+	AccountID payer = asAccount("0.0.2");
+	AccountID other = asAccount("0.0.1001");
+	FileID file = asFile("0.0.111");
+	TopicID topic = asTopic("0.0.222");
+	JKey payerKey = new JEd25519Key("PAYER".getBytes());
+	JKey otherKey = new JEd25519Key("OTHER".getBytes());
+	TransactionBody firstTxn = TransactionBody.newBuilder().setMemo("First").build();
+	TransactionBody secondTxn = TransactionBody.newBuilder().setMemo("Second").build();
+
+	SigningOrderResultCache subject;
+
+	@BeforeEach
+	private void setup() {
+		subject = new SigningOrderResultCache(2);
+	}
+
+	@Test
+	public void rejectsNegativeSize() {
+		// expect:
+		assertThrows(IllegalArgumentException.class, () -> new SigningOrderResultCache(-1));
+	}
+
+	@Test
+	public void cachesOffersForCurrentGeneration() {
+		// when:
+		subject.offerPayerKeys(firstTxn, List.of(payerKey), Set.of(payer), subject.generation());
+		subject.offerOtherPartyKeys(firstTxn, List.of(otherKey), Set.of(other), subject.generation());
+
+		// then:
+		assertEquals(List.of(payerKey), subject.payerKeysFor(firstTxn));
+		assertEquals(List.of(otherKey), subject.otherPartyKeysFor(firstTxn));
+		assertNull(subject.payerKeysFor(secondTxn));
+		assertEquals(1, subject.size());
+		assertEquals(2, subject.numIndexedEntities());
+	}
+
+	@Test
+	public void ignoresOffersFromStaleGeneration() {
+		// given:
+		long generation = subject.generation();
+
+		// when:
+		subject.invalidate(file);
+		subject.offerPayerKeys(firstTxn, List.of(payerKey), Set.of(payer), generation);
+
+		// then:
+		assertNull(subject.payerKeysFor(firstTxn));
+		assertEquals(0, subject.size());
+	}
+
+	@Test
+	public void invalidatesOnlyDependentEntries() {
+		// given:
+		subject.offerPayerKeys(firstTxn, List.of(payerKey), Set.of(payer), subject.generation());
+		subject.offerPayerKeys(secondTxn, List.of(otherKey), Set.of(other), subject.generation());
+
+		// when:
+		subject.invalidate(payer);
+
+		// then:
+		assertNull(subject.payerKeysFor(firstTxn));
+		assertEquals(List.of(otherKey), subject.payerKeysFor(secondTxn));
+		assertEquals(1, subject.numIndexedEntities());
+	}
+
+	@Test
+	public void indexesContractsAsAccounts() {
+		// given:
+		subject.offerOtherPartyKeys(firstTxn, List.of(otherKey), Set.of(other), subject.generation());
+
+		// when:
+		subject.invalidate(asContract("0.0.1001"));
+
+		// then:
+		assertNull(subject.otherPartyKeysFor(firstTxn));
+	}
+
+	@Test
+	public void evictsLeastRecentlyUsedAndUnindexes() {
+		// setup:
+		TransactionBody thirdTxn = TransactionBody.newBuilder().setMemo("Third").build();
+
+		// given:
+		subject.offerPayerKeys(firstTxn, List.of(payerKey), Set.of(payer), subject.generation());
+		subject.offerPayerKeys(secondTxn, List.of(otherKey), Set.of(other), subject.generation());
+		subject.payerKeysFor(firstTxn);
+
+		// when:
+		subject.offerPayerKeys(thirdTxn, List.of(otherKey), Set.of(file), subject.generation());
+
+		// then:
+		assertEquals(2, subject.size());
+		assertNull(subject.payerKeysFor(secondTxn));
+		assertEquals(List.of(payerKey), subject.payerKeysFor(firstTxn));
+		assertEquals(2, subject.numIndexedEntities());
+	}
+
+	@Test
+	public void invalidatesFileAndTopicTargets() {
+		// setup:
+		TransactionBody fileUpdate = TransactionBody.newBuilder()
+				.setFileUpdate(FileUpdateTransactionBody.newBuilder().setFileID(file))
+				.build();
+		TransactionBody topicUpdate = TransactionBody.newBuilder()
+				.setConsensusUpdateTopic(ConsensusUpdateTopicTransactionBody.newBuilder().setTopicID(topic))
+				.build();
+
+		// given:
+		subject.offerOtherPartyKeys(firstTxn, List.of(otherKey), Set.of(file), subject.generation());
+		subject.offerOtherPartyKeys(secondTxn, List.of(otherKey), Set.of(topic), subject.generation());
+
+		// when:
+		subject.invalidateTargetsOf(fileUpdate);
+		subject.invalidateTargetsOf(topicUpdate);
+
+		// then:
+		assertEquals(0, subject.size());
+		assertEquals(0, subject.numIndexedEntities());
+	}
+
+	@Test
+	public void zeroSizeCachesNothing() {
+		// given:
+		subject = new SigningOrderResultCache(0);
+
+		// when:
+		subject.offerPayerKeys(firstTxn, List.of(payerKey), Set.of(payer), subject.generation());
+
+		// then:
+		assertEquals(0, subject.size());
+	}
+}
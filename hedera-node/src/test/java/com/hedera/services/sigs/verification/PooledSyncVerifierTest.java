@@ -0,0 +1,157 @@
+package com.hedera.services.sigs.verification;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.legacy.services.stats.HederaNodeStats;
+import com.swirlds.common.crypto.Signature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.*;
+
+@RunWith(JUnitPlatform.class)
+public class PooledSyncVerifierTest {
+	Signature a, b, aVerified, bVerified;
+	Map<Signature, Signature> verifications;
+	HederaNodeStats stats;
+
+	PooledSyncVerifier subject;
+
+	@BeforeEach
+	private void setup() {
+		a = mock(Signature.class);
+		b = mock(Signature.class);
+		aVerified = mock(Signature.class);
+		bVerified = mock(Signature.class);
+		verifications = Map.of(a, aVerified, b, bVerified);
+		stats = mock(HederaNodeStats.class);
+	}
+
+	@Test
+	public void rejectsNonsensePoolDimensions() {
+		// expect:
+		assertThrows(IllegalArgumentException.class, () ->
+				new PooledSyncVerifier(replacingVerifier(), stats, 0, 1, 1));
+		assertThrows(IllegalArgumentException.class, () ->
+				new PooledSyncVerifier(replacingVerifier(), stats, 1, 0, 1));
+		assertThrows(IllegalArgumentException.class, () ->
+				new PooledSyncVerifier(replacingVerifier(), stats, 1, 1, 0));
+	}
+
+	@Test
+	public void returnsVerifiedSigsToCaller() {
+		// given:
+		subject = new PooledSyncVerifier(replacingVerifier(), stats, 1, 4, 4);
+		List<Signature> sigs = new ArrayList<>(List.of(a, b));
+
+		// when:
+		subject.verifySync(sigs);
+
+		// then:
+		assertSame(aVerified, sigs.get(0));
+		assertSame(bVerified, sigs.get(1));
+		verify(stats).precheckSigsVerified(anyDouble());
+	}
+
+	@Test
+	public void ignoresEmptyList() {
+		// given:
+		SyncVerifier delegate = mock(SyncVerifier.class);
+		subject = new PooledSyncVerifier(delegate, stats, 1, 4, 4);
+
+		// when:
+		subject.verifySync(new ArrayList<>());
+
+		// then:
+		verify(delegate, never()).verifySync(any());
+	}
+
+	@Test
+	public void propagatesDelegateFailure() {
+		// given:
+		subject = new PooledSyncVerifier(l -> { throw new IllegalStateException(); }, stats, 1, 4, 4);
+
+		// expect:
+		assertThrows(IllegalStateException.class, () -> subject.verifySync(new ArrayList<>(List.of(a))));
+	}
+
+	@Test
+	public void verifiesInlineWhenQueueIsFull() throws InterruptedException {
+		// setup:
+		CountDownLatch workerBusy = new CountDownLatch(1);
+		CountDownLatch releaseWorker = new CountDownLatch(1);
+		AtomicBoolean isFirst = new AtomicBoolean(true);
+		SyncVerifier replacing = replacingVerifier();
+		SyncVerifier blockingOnce = l -> {
+			if (isFirst.getAndSet(false)) {
+				workerBusy.countDown();
+				try {
+					releaseWorker.await();
+				} catch (InterruptedException ignore) { }
+			}
+			replacing.verifySync(l);
+		};
+		// and:
+		subject = new PooledSyncVerifier(blockingOnce, stats, 1, 1, 1);
+
+		// given:
+		Thread first = new Thread(() -> subject.verifySync(new ArrayList<>(List.of(a))));
+		first.start();
+		workerBusy.await();
+		Thread second = new Thread(() -> subject.verifySync(new ArrayList<>(List.of(a))));
+		second.start();
+		while (subject.numPending() == 0) {
+			Thread.sleep(1);
+		}
+		List<Signature> sigs = new ArrayList<>(List.of(b));
+
+		// when:
+		subject.verifySync(sigs);
+
+		// then:
+		assertSame(bVerified, sigs.get(0));
+		verify(stats).precheckSigVerifyOverflowed();
+		// and:
+		releaseWorker.countDown();
+		first.join();
+		second.join();
+		assertEquals(0, subject.numPending());
+	}
+
+	private SyncVerifier replacingVerifier() {
+		return l -> {
+			for (int i = 0; i < l.size(); i++) {
+				l.set(i, verifications.get(l.get(i)));
+			}
+		};
+	}
+}
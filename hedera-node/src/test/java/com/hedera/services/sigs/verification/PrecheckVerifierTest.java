@@ -43,6 +43,7 @@ import org.junit.runner.RunWith;
 import static java.util.Collections.EMPTY_LIST;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
@@ -133,6 +134,28 @@ public class PrecheckVerifierTest {
 		assertFalse(hasPrechekSigs);
 	}
 
+	@Test
+	public void verifiesThresholdKeySigsInOneBatch() throws Exception {
+		// setup:
+		List<JKey> thresholdReqKeys = List.of(
+				KeyTree.withRoot(list(ed25519(), threshold(1, ed25519(), ed25519(), ed25519()))).asJKey());
+		List<Integer> batchSizes = new ArrayList<>();
+
+		given(precheckKeyReqs.getRequiredKeys(txn)).willReturn(thresholdReqKeys);
+		given(provider.allPartiesSigBytesFor(signedTxn)).willReturn(VALID_PROVIDER_FACTORY.get());
+		givenImpliedSubject(sigs -> {
+			batchSizes.add(sigs.size());
+			ALWAYS_VALID.verifySync(sigs);
+		});
+
+		// when:
+		boolean hasPrechekSigs = subject.hasNecessarySignatures(accessor);
+
+		// then:
+		assertTrue(hasPrechekSigs);
+		assertEquals(List.of(4), batchSizes);
+	}
+
 	@Test
 	public void propagatesSigCreationFailure() throws Exception {
 		given(precheckKeyReqs.getRequiredKeys(txn)).willReturn(reqKeys);
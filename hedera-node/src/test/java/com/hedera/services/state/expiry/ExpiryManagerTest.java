@@ -21,9 +21,12 @@ package com.hedera.services.state.expiry;
  */
 
 import com.hedera.services.ledger.HederaLedger;
+import com.hedera.services.legacy.services.stats.HederaNodeStats;
 import com.hedera.services.legacy.core.jproto.TxnId;
 import com.hedera.services.legacy.core.jproto.TxnReceipt;
+import com.hedera.services.records.PayerRecordStore;
 import com.hedera.services.records.TxnIdRecentHistory;
+import com.hedera.services.state.initialization.AccountsScan;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleEntityId;
 import com.hedera.services.state.submerkle.ExpirableTxnRecord;
@@ -52,6 +55,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.doubleThat;
+import static org.mockito.ArgumentMatchers.intThat;
 import static org.mockito.ArgumentMatchers.longThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.inOrder;
@@ -71,6 +76,8 @@ class ExpiryManagerTest {
 	AccountID payer = IdUtils.asAccount("0.0.13257");
 
 	HederaLedger ledger;
+	HederaNodeStats stats;
+	PayerRecordStore payerRecords;
 	FCMap<MerkleEntityId, MerkleAccount> accounts;
 	Map<TransactionID, TxnIdRecentHistory> txnHistories;
 
@@ -82,8 +89,10 @@ class ExpiryManagerTest {
 		txnHistories = new HashMap<>();
 
 		ledger = mock(HederaLedger.class);
+		stats = mock(HederaNodeStats.class);
+		payerRecords = mock(PayerRecordStore.class);
 
-		subject = new ExpiryManager(txnHistories);
+		subject = new ExpiryManager(payerRecords, txnHistories, stats);
 	}
 
 	@Test
@@ -109,8 +118,24 @@ class ExpiryManagerTest {
 				longThat(l -> l == 33),
 				any());
 		// and:
-		System.out.println("Final payerExpiries: " + subject.payerExpiries.allExpiries);
-		System.out.println("Final historicalExpiries: " + subject.historicalExpiries.allExpiries);
+		verify(stats).recordPurgeDone(intThat(n -> n == 4), doubleThat(micros -> micros >= 0.0));
+		// and:
+		assertFalse(subject.historicalExpiries.hasExpiringAt(33));
+		assertTrue(subject.historicalExpiries.hasExpiringAt(50));
+		assertTrue(subject.payerExpiries.hasExpiringAt(55));
+	}
+
+	@Test
+	public void purgesFromPayerRecordStore() {
+		given(payerRecords.purgeExpiredAt(longThat(l -> l == 33), any())).willReturn(3);
+
+		// when:
+		subject.purgeExpiredRecordsAt(33, ledger);
+
+		// then:
+		verify(payerRecords).purgeExpiredAt(longThat(l -> l == 33), any());
+		// and:
+		verify(stats).recordPurgeDone(intThat(n -> n == 3), doubleThat(micros -> micros >= 0.0));
 	}
 
 	private AccountID asAccount(long num) {
@@ -128,27 +153,22 @@ class ExpiryManagerTest {
 		subject.resumeTrackingFrom(accounts);
 
 		// then:
-		var e1 = subject.payerExpiries.allExpiries.poll();
-		assertEquals(b, e1.getId());
-		assertEquals(33, e1.getExpiry());
-		var e2 = subject.payerExpiries.allExpiries.poll();
-		assertEquals(a, e2.getId());
-		assertEquals(55, e2.getExpiry());
+		verify(payerRecords).reindex(any());
+		assertFalse(subject.payerExpiries.hasExpiringAt(32));
+		assertEquals(b, subject.payerExpiries.expireNextNumAt(33));
+		assertFalse(subject.payerExpiries.hasExpiringAt(54));
+		assertEquals(a, subject.payerExpiries.expireNextNumAt(55));
 		// and:
-		assertTrue(subject.payerExpiries.allExpiries.isEmpty());
+		assertEquals(0, subject.payerExpiries.size());
 		// and:
-		var e3 = subject.historicalExpiries.allExpiries.poll();
-		assertEquals(a, e3.getId());
-		assertEquals(10, e3.getExpiry());
-		var e4 = subject.historicalExpiries.allExpiries.poll();
-		assertEquals(b, e4.getId());
-		assertEquals(10, e4.getExpiry());
-		var e5 = subject.historicalExpiries.allExpiries.poll();
-		assertEquals(a, e5.getId());
-		assertEquals(20, e5.getExpiry());
-		var e6 = subject.historicalExpiries.allExpiries.poll();
-		assertEquals(b, e6.getId());
-		assertEquals(50, e6.getExpiry());
+		assertFalse(subject.historicalExpiries.hasExpiringAt(9));
+		assertEquals(a, subject.historicalExpiries.expireNextNumAt(10));
+		assertEquals(b, subject.historicalExpiries.expireNextNumAt(10));
+		assertFalse(subject.historicalExpiries.hasExpiringAt(19));
+		assertEquals(a, subject.historicalExpiries.expireNextNumAt(20));
+		assertFalse(subject.historicalExpiries.hasExpiringAt(49));
+		assertEquals(b, subject.historicalExpiries.expireNextNumAt(50));
+		assertEquals(0, subject.historicalExpiries.size());
 		// and:
 		long[] allPayerTs = Stream.of(aPayer, bPayer)
 				.flatMap(a -> Arrays.stream(a).boxed())
@@ -164,6 +184,32 @@ class ExpiryManagerTest {
 		assertTrue(txnHistories.values().stream().noneMatch(TxnIdRecentHistory::isStagePending));
 	}
 
+	@Test
+	public void resumesTrackingFromScanAsExpected() {
+		givenAccount(a, aHistorical, aPayer);
+		givenAccount(b, bHistorical, bPayer);
+
+		// when:
+		txnHistories.clear();
+		// and:
+		subject.resumeTrackingFrom(AccountsScan.of(accounts).recordExpiries());
+
+		// then:
+		verify(payerRecords).reindex(any());
+		assertEquals(b, subject.payerExpiries.expireNextNumAt(33));
+		assertEquals(a, subject.payerExpiries.expireNextNumAt(55));
+		assertEquals(0, subject.payerExpiries.size());
+		// and:
+		assertEquals(a, subject.historicalExpiries.expireNextNumAt(10));
+		assertEquals(b, subject.historicalExpiries.expireNextNumAt(10));
+		assertEquals(a, subject.historicalExpiries.expireNextNumAt(20));
+		assertEquals(b, subject.historicalExpiries.expireNextNumAt(50));
+		assertEquals(0, subject.historicalExpiries.size());
+		// and:
+		assertTrue(Arrays.stream(aPayer).mapToObj(t -> txnIdOf(t).toGrpc()).allMatch(txnHistories::containsKey));
+		assertTrue(txnHistories.values().stream().noneMatch(TxnIdRecentHistory::isStagePending));
+	}
+
 	private void givenAccount(long num, long[] historicalExpiries, long[] payerExpiries) {
 		var account = new MerkleAccount();
 		for (long t : payerExpiries) {
@@ -293,24 +339,24 @@ class ExpiryManagerTest {
 	@Test
 	public void addsExpectedExpiryForPayer() {
 		// setup:
-		subject.payerExpiries = (MonotonicFullQueueExpiries<Long>) mock(MonotonicFullQueueExpiries.class);
+		subject.payerExpiries = mock(TimingWheelExpiries.class);
 
 		// when:
 		subject.trackPayerRecord(payer, expiry);
 
 		// then:
-		verify(subject.payerExpiries).track(Long.valueOf(13257), expiry);
+		verify(subject.payerExpiries).trackNum(13257L, expiry);
 	}
 
 	@Test
 	public void addsExpectedExpiryForThreshold() {
 		// setup:
-		subject.historicalExpiries = (MonotonicFullQueueExpiries<Long>) mock(MonotonicFullQueueExpiries.class);
+		subject.historicalExpiries = mock(TimingWheelExpiries.class);
 
 		// when:
 		subject.trackHistoricalRecord(payer, expiry);
 
 		// then:
-		verify(subject.historicalExpiries).track(Long.valueOf(13257), expiry);
+		verify(subject.historicalExpiries).trackNum(13257L, expiry);
 	}
 }
\ No newline at end of file
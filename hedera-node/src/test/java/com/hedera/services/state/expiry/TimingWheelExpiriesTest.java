@@ -0,0 +1,164 @@
+package com.hedera.services.state.expiry;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@RunWith(JUnitPlatform.class)
+class TimingWheelExpiriesTest {
+	long a = 13257, b = 75231, c = 1001;
+
+	TimingWheelExpiries subject;
+
+	@BeforeEach
+	public void setup() {
+		subject = new TimingWheelExpiries(8);
+	}
+
+	@Test
+	public void rejectsNonPowerOfTwoWheel() {
+		// expect:
+		assertThrows(IllegalArgumentException.class, () -> new TimingWheelExpiries(6));
+		assertThrows(IllegalArgumentException.class, () -> new TimingWheelExpiries(0));
+	}
+
+	@Test
+	public void rejectsNegativeIds() {
+		// expect:
+		assertThrows(IllegalArgumentException.class, () -> subject.trackNum(-1, 100));
+	}
+
+	@Test
+	public void throwsWhenNothingTracked() {
+		// expect:
+		assertFalse(subject.hasExpiringAt(Long.MAX_VALUE));
+		assertThrows(IllegalStateException.class, () -> subject.expireNextNumAt(100));
+	}
+
+	@Test
+	public void throwsIfNextExpiryIsFuture() {
+		// given:
+		subject.trackNum(a, 100);
+
+		// expect:
+		assertThrows(IllegalArgumentException.class, () -> subject.expireNextNumAt(99));
+	}
+
+	@Test
+	public void coalescesRepeatsInSameSecond() {
+		// given:
+		subject.trackNum(a, 100);
+		subject.trackNum(b, 100);
+		subject.trackNum(a, 100);
+		subject.trackNum(a, 101);
+
+		// expect:
+		assertEquals(3, subject.size());
+		assertEquals(a, subject.expireNextNumAt(100));
+		assertEquals(b, subject.expireNextNumAt(100));
+		assertFalse(subject.hasExpiringAt(100));
+		assertEquals(a, subject.expireNextNumAt(101));
+		assertEquals(0, subject.size());
+	}
+
+	@Test
+	public void cascadesFromOverflowAsWheelTurns() {
+		// given:
+		subject.trackNum(a, 100);
+		subject.trackNum(b, 120);
+		subject.trackNum(c, 105);
+		subject.trackNum(a, 120);
+		subject.trackNum(b, 120);
+
+		// expect:
+		assertEquals(5, subject.size());
+		assertEquals(a, subject.expireNextNumAt(110));
+		assertEquals(c, subject.expireNextNumAt(110));
+		assertFalse(subject.hasExpiringAt(119));
+		assertTrue(subject.hasExpiringAt(120));
+		assertEquals(a, subject.expireNextNumAt(120));
+		assertEquals(b, subject.expireNextNumAt(120));
+		assertEquals(0, subject.size());
+	}
+
+	@Test
+	public void treatsEarlierExpiryAsDueAtCursor() {
+		// given:
+		subject.trackNum(a, 100);
+		subject.trackNum(b, 90);
+
+		// expect:
+		assertFalse(subject.hasExpiringAt(99));
+		assertEquals(a, subject.expireNextNumAt(100));
+		assertEquals(b, subject.expireNextNumAt(100));
+	}
+
+	@Test
+	public void bulkLoadStartsAtEarliestAndSortsBuckets() {
+		// setup:
+		long[] ids = { b, a, c, a };
+		long[] expiries = { 50, 50, 10, 1000 };
+
+		// given:
+		subject.trackAll(ids, expiries, ids.length);
+		subject.sortBuckets();
+
+		// expect:
+		assertEquals(c, subject.expireNextNumAt(10));
+		assertEquals(a, subject.expireNextNumAt(50));
+		assertEquals(b, subject.expireNextNumAt(50));
+		assertFalse(subject.hasExpiringAt(999));
+		assertEquals(a, subject.expireNextNumAt(1000));
+	}
+
+	@Test
+	public void boxedMethodsDelegate() {
+		// given:
+		subject.track(a, 100);
+
+		// expect:
+		assertTrue(subject.hasExpiringAt(100));
+		assertEquals(Long.valueOf(a), subject.expireNextAt(100));
+	}
+
+	@Test
+	public void growsBuckets() {
+		// given:
+		for (long id = 0; id < 100; id++) {
+			subject.trackNum(id, 100);
+			subject.trackNum(id, 100);
+		}
+
+		// expect:
+		assertEquals(100, subject.size());
+		for (long id = 0; id < 100; id++) {
+			assertEquals(id, subject.expireNextNumAt(100));
+		}
+	}
+}
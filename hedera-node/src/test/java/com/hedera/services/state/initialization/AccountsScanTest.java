@@ -0,0 +1,160 @@
+package com.hedera.services.state.initialization;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.legacy.exception.NegativeAccountBalanceException;
+import com.hedera.services.state.merkle.MerkleAccount;
+import com.hedera.services.state.merkle.MerkleEntityId;
+import com.swirlds.fcmap.FCMap;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.hedera.test.utils.IdUtils.asAccount;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.any;
+import static org.mockito.BDDMockito.eq;
+import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.verify;
+
+@RunWith(JUnitPlatform.class)
+class AccountsScanTest {
+	FCMap<MerkleEntityId, MerkleAccount> accounts;
+	Logger mockLog;
+
+	@BeforeEach
+	private void setup() {
+		accounts = new FCMap<>();
+		mockLog = mock(Logger.class);
+
+		AccountsScan.log = mockLog;
+	}
+
+	@AfterEach
+	public void cleanup() {
+		AccountsScan.log = LogManager.getLogger(AccountsScan.class);
+	}
+
+	@Test
+	public void summarizesSmallMap() throws NegativeAccountBalanceException {
+		// given:
+		accounts.put(new MerkleEntityId(0, 0, 2), withBalance(10));
+		accounts.put(new MerkleEntityId(0, 0, 7), withBalance(20));
+
+		// when:
+		var subject = AccountsScan.of(accounts);
+
+		// then:
+		assertEquals(2, subject.size());
+		assertEquals(30, subject.totalBalance());
+		assertEquals(2, subject.recordExpiries().size());
+		// and:
+		assertTrue(subject.existingIds().contains(asAccount("0.0.2")));
+		assertTrue(subject.existingIds().contains(asAccount("0.0.7")));
+		assertFalse(subject.existingIds().contains(asAccount("0.0.3")));
+		// and:
+		assertTrue(subject.hasOnlyIdsWithin(0, 0, 1, 7));
+		assertFalse(subject.hasOnlyIdsWithin(0, 0, 3, 7));
+		assertFalse(subject.hasOnlyIdsWithin(0, 0, 1, 6));
+		assertFalse(subject.hasOnlyIdsWithin(1, 0, 1, 7));
+		assertFalse(subject.hasOnlyIdsWithin(0, 1, 1, 7));
+		// and:
+		verify(mockLog).info(any(String.class), eq(2), any(), any(), any());
+	}
+
+	@Test
+	public void snapshotsInMapOrder() throws NegativeAccountBalanceException {
+		// setup:
+		List<MerkleEntityId> expectedIds = new ArrayList<>();
+		List<MerkleAccount> expectedAccounts = new ArrayList<>();
+
+		// given:
+		accounts.put(new MerkleEntityId(0, 0, 5), withBalance(1));
+		accounts.put(new MerkleEntityId(0, 0, 3), withBalance(2));
+		accounts.put(new MerkleEntityId(1, 2, 4), withBalance(3));
+		accounts.forEach((id, account) -> {
+			expectedIds.add(id);
+			expectedAccounts.add(account);
+		});
+
+		// when:
+		var subject = AccountsScan.of(accounts);
+
+		// then:
+		assertEquals(expectedIds, subject.ids());
+		for (int i = 0; i < expectedAccounts.size(); i++) {
+			assertSame(expectedAccounts.get(i), subject.accounts().get(i));
+		}
+		assertTrue(subject.existingIds().contains(asAccount("1.2.4")));
+		assertFalse(subject.hasOnlyIdsWithin(0, 0, 1, 5));
+	}
+
+	@Test
+	public void forksOverLargeMap() throws NegativeAccountBalanceException {
+		// setup:
+		int n = 4 * AccountsScan.LEAF_SIZE + 123;
+
+		// given:
+		for (int i = 1; i <= n; i++) {
+			accounts.put(new MerkleEntityId(0, 0, i), withBalance(i));
+		}
+
+		// when:
+		var subject = AccountsScan.of(accounts, new ForkJoinPool(4));
+
+		// then:
+		assertEquals(n, subject.size());
+		assertEquals((long) n * (n + 1) / 2, subject.totalBalance());
+		assertEquals(n, subject.existingIds().size());
+		assertEquals(n, subject.recordExpiries().size());
+		assertTrue(subject.recordExpiries().stream().allMatch(scan -> scan != null));
+		assertTrue(subject.hasOnlyIdsWithin(0, 0, 1, n));
+		assertFalse(subject.hasOnlyIdsWithin(0, 0, 1, n - 1));
+	}
+
+	@Test
+	public void acceptsAnyBoundsWhenEmpty() {
+		// when:
+		var subject = AccountsScan.of(accounts);
+
+		// then:
+		assertEquals(0, subject.size());
+		assertEquals(0, subject.totalBalance());
+		assertTrue(subject.hasOnlyIdsWithin(0, 0, 1, 1));
+	}
+
+	private MerkleAccount withBalance(long balance) throws NegativeAccountBalanceException {
+		var account = new MerkleAccount();
+		account.setBalance(balance);
+		return account;
+	}
+}
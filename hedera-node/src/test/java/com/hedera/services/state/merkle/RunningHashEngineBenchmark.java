@@ -0,0 +1,104 @@
+package com.hedera.services.state.merkle;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.protobuf.ByteString;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.TopicID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import static com.hedera.services.state.merkle.RunningHashEngineTest.objectStreamRunningHash;
+
+/**
+ * Compares the work left on the handle path for a {@code ConsensusSubmitMessage}, given
+ * a message like those sent by {@code SubmitMessagePerfSuite} (or a maximum-size one):
+ * the {@link RunningHashEngine} with a precomputed message digest, versus the
+ * {@code ObjectOutputStream} serialization and two fresh digests it replaced. Run with
+ * {@code java -cp <test classpath> com.hedera.services.state.merkle.RunningHashEngineBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RunningHashEngineBenchmark {
+	@Param({ "testMessage1234", "1024" })
+	String message;
+
+	byte[] runningHash;
+	byte[] messageDigest;
+	ByteString messageBytes;
+	long sequenceNumber;
+	AccountID payer = AccountID.newBuilder().setAccountNum(1_001L).build();
+	TopicID topicId = TopicID.newBuilder().setTopicNum(1_002L).build();
+	Instant consensusTime = Instant.ofEpochSecond(1_234_567L, 890);
+
+	RunningHashEngine engine;
+
+	@Setup
+	public void setup() {
+		messageBytes = message.matches("\\d+")
+				? ByteString.copyFrom(new byte[Integer.parseInt(message)])
+				: ByteString.copyFromUtf8(message);
+		engine = new RunningHashEngine();
+		messageDigest = engine.messageDigestOf(messageBytes);
+		runningHash = new byte[MerkleTopic.RUNNING_HASH_BYTE_ARRAY_SIZE];
+	}
+
+	@Benchmark
+	public byte[] engineWithPrecomputedDigest() {
+		runningHash = engine.nextRunningHash(
+				runningHash, payer, topicId, consensusTime, ++sequenceNumber, messageDigest);
+		return runningHash;
+	}
+
+	@Benchmark
+	public byte[] objectStreamWithMessageCopy() throws Exception {
+		var digest = MessageDigest.getInstance("SHA-384").digest(messageBytes.toByteArray());
+		runningHash = objectStreamRunningHash(
+				runningHash, payer, topicId, consensusTime, ++sequenceNumber, digest);
+		return runningHash;
+	}
+
+	public static void main(String... args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+				.include(RunningHashEngineBenchmark.class.getSimpleName())
+				.build()).run();
+	}
+}
@@ -0,0 +1,123 @@
+package com.hedera.services.state.merkle;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.protobuf.ByteString;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.TopicID;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectOutputStream;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Random;
+
+import static com.hedera.services.state.merkle.MerkleTopic.RUNNING_HASH_VERSION;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@RunWith(JUnitPlatform.class)
+class RunningHashEngineTest {
+	Random r = new Random(1_234_567L);
+
+	@Test
+	public void isThreadConfined() {
+		// expect:
+		assertSame(RunningHashEngine.forCurrentThread(), RunningHashEngine.forCurrentThread());
+	}
+
+	@Test
+	public void digestsMessagesAsExpected() throws Exception {
+		// setup:
+		var message = randomBytes(1024);
+		var expected = MessageDigest.getInstance("SHA-384").digest(message);
+
+		// given:
+		var subject = new RunningHashEngine();
+
+		// expect:
+		assertArrayEquals(expected, subject.messageDigestOf(message));
+		assertArrayEquals(expected, subject.messageDigestOf(ByteString.copyFrom(message)));
+	}
+
+	@Test
+	public void matchesObjectStreamRunningHashes() throws Exception {
+		// given:
+		var subject = new RunningHashEngine();
+
+		for (int i = 0; i < 1_000; i++) {
+			// setup:
+			var priorRunningHash = randomBytes((i % 10 == 0) ? 1 + r.nextInt(256) : 48);
+			var messageDigest = MessageDigest.getInstance("SHA-384").digest(randomBytes(r.nextInt(2048)));
+			var payer = AccountID.newBuilder()
+					.setShardNum(r.nextLong()).setRealmNum(r.nextLong()).setAccountNum(r.nextLong()).build();
+			var topicId = TopicID.newBuilder()
+					.setShardNum(r.nextLong()).setRealmNum(r.nextLong()).setTopicNum(r.nextLong()).build();
+			var consensusTime = Instant.ofEpochSecond(r.nextInt(Integer.MAX_VALUE), r.nextInt(1_000_000_000));
+			long sequenceNumber = r.nextLong();
+
+			// when:
+			var expected = objectStreamRunningHash(
+					priorRunningHash, payer, topicId, consensusTime, sequenceNumber, messageDigest);
+			var actual = subject.nextRunningHash(
+					priorRunningHash, payer, topicId, consensusTime, sequenceNumber, messageDigest);
+
+			// then:
+			assertArrayEquals(expected, actual);
+		}
+	}
+
+	private byte[] randomBytes(int n) {
+		var bytes = new byte[n];
+		r.nextBytes(bytes);
+		return bytes;
+	}
+
+	static byte[] objectStreamRunningHash(
+			byte[] priorRunningHash,
+			AccountID payer,
+			TopicID topicId,
+			Instant consensusTime,
+			long sequenceNumber,
+			byte[] messageDigest
+	) throws Exception {
+		var boas = new ByteArrayOutputStream();
+		try (var out = new ObjectOutputStream(boas)) {
+			out.writeObject(priorRunningHash);
+			out.writeLong(RUNNING_HASH_VERSION);
+			out.writeLong(payer.getShardNum());
+			out.writeLong(payer.getRealmNum());
+			out.writeLong(payer.getAccountNum());
+			out.writeLong(topicId.getShardNum());
+			out.writeLong(topicId.getRealmNum());
+			out.writeLong(topicId.getTopicNum());
+			out.writeLong(consensusTime.getEpochSecond());
+			out.writeInt(consensusTime.getNano());
+			out.writeLong(sequenceNumber);
+			out.writeObject(messageDigest);
+			out.flush();
+			return MessageDigest.getInstance("SHA-384").digest(boas.toByteArray());
+		}
+	}
+}
@@ -21,32 +21,85 @@ package com.hedera.services.state.migrations;
  */
 
 import com.hedera.services.context.ServicesContext;
+import com.hedera.services.state.merkle.MerkleBlobMeta;
+import com.hedera.services.state.merkle.MerkleOptionalBlob;
 import com.hedera.services.state.migration.DefaultStateMigrations;
 import com.hedera.services.utils.Pause;
+import com.swirlds.fcmap.FCMap;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.platform.runner.JUnitPlatform;
 import org.junit.runner.RunWith;
 
-import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
-import static org.mockito.BDDMockito.mock;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.*;
 
 @RunWith(JUnitPlatform.class)
 public class DefaultStateMigrationsTest {
+	private static final String LAYOUT_VERSION_PATH = "/0/pagedStorageLayout";
+
+	byte[] contents = "abcdefghij".getBytes();
+
 	Pause pause;
 	ServicesContext ctx;
+	Map<String, byte[]> blobs;
+	FCMap<MerkleBlobMeta, MerkleOptionalBlob> storage;
 	DefaultStateMigrations subject;
 
 	@BeforeEach
 	private void setup() {
+		blobs = new HashMap<>();
+		storage = mock(FCMap.class);
+		given(storage.keySet()).willAnswer(invocation -> Set.of(new MerkleBlobMeta("/1/d1001")));
 		ctx = mock(ServicesContext.class);
+		given(ctx.blobStore()).willReturn(blobs);
+		given(ctx.storage()).willReturn(storage);
 		pause = mock(Pause.class);
 		subject = new DefaultStateMigrations(pause);
 	}
 
 	@Test
-	public void isNoop() {
-		// expect:
-		assertDoesNotThrow(() -> subject.runAllFor(ctx));
+	public void migratesLegacyStorageOnceAcrossRestarts() {
+		// given:
+		blobs.put("/1/d1001", contents);
+
+		// when:
+		subject.runAllFor(ctx);
+
+		// then:
+		assertFalse(blobs.containsKey("/1/d1001"));
+		assertTrue(blobs.containsKey("/1/m1001"));
+		assertEquals(1, ByteBuffer.wrap(blobs.get(LAYOUT_VERSION_PATH)).getInt());
+		// and given:
+		var migrated = new HashMap<>(blobs);
+
+		// when:
+		new DefaultStateMigrations(pause).runAllFor(ctx);
+
+		// then:
+		verify(storage, times(1)).keySet();
+		assertEquals(migrated.keySet(), blobs.keySet());
+		migrated.forEach((path, blob) -> assertArrayEquals(blob, blobs.get(path)));
+	}
+
+	@Test
+	public void skipsStateReceivedOnReconnectWithPagedLayout() {
+		// given:
+		blobs.put(LAYOUT_VERSION_PATH, ByteBuffer.allocate(Integer.BYTES).putInt(1).array());
+
+		// when:
+		subject.runAllFor(ctx);
+
+		// then:
+		verify(ctx, never()).storage();
+		assertEquals(Set.of(LAYOUT_VERSION_PATH), blobs.keySet());
 	}
 }
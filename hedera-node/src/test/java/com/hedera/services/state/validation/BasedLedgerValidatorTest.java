@@ -24,6 +24,7 @@ import com.hedera.services.config.HederaNumbers;
 import com.hedera.services.context.properties.PropertySource;
 import com.hedera.services.ledger.accounts.HederaAccountCustomizer;
 import com.hedera.services.legacy.exception.NegativeAccountBalanceException;
+import com.hedera.services.state.initialization.AccountsScan;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleEntityId;
 import com.swirlds.fcmap.FCMap;
@@ -130,6 +131,55 @@ class BasedLedgerValidatorTest {
 		assertThrows(IllegalStateException.class, () -> subject.assertIdsAreValid(accounts));
 	}
 
+	@Test
+	public void recognizesRightFloatInScan() throws NegativeAccountBalanceException {
+		// given:
+		accounts.put(new MerkleEntityId(shard, realm, 1L), expectedWith(50L));
+		accounts.put(new MerkleEntityId(shard, realm, 2L), expectedWith(50L));
+
+		// expect:
+		assertTrue(subject.hasExpectedTotalBalance(AccountsScan.of(accounts)));
+	}
+
+	@Test
+	public void recognizesWrongFloatInScan() throws NegativeAccountBalanceException {
+		// given:
+		accounts.put(new MerkleEntityId(shard, realm, 1L), expectedWith(50L));
+		accounts.put(new MerkleEntityId(shard, realm, 2L), expectedWith(51L));
+
+		// expect:
+		assertFalse(subject.hasExpectedTotalBalance(AccountsScan.of(accounts)));
+	}
+
+	@Test
+	public void doesntThrowWithValidScannedIds() throws NegativeAccountBalanceException {
+		// given:
+		accounts.put(new MerkleEntityId(shard, realm, 1L), expectedWith(50L));
+		accounts.put(new MerkleEntityId(shard, realm, 5L), expectedWith(50L));
+
+		// expect:
+		assertDoesNotThrow(() -> subject.assertIdsAreValid(AccountsScan.of(accounts)));
+	}
+
+	@Test
+	public void throwsOnScannedIdWithInvalidRealm() throws NegativeAccountBalanceException {
+		// given:
+		accounts.put(new MerkleEntityId(shard, realm, 1L), expectedWith(50L));
+		accounts.put(new MerkleEntityId(shard, realm + 1, 3L), expectedWith(50L));
+
+		// expect:
+		assertThrows(IllegalStateException.class, () -> subject.assertIdsAreValid(AccountsScan.of(accounts)));
+	}
+
+	@Test
+	public void throwsOnScannedIdWithNumTooLarge() throws NegativeAccountBalanceException {
+		// given:
+		accounts.put(new MerkleEntityId(shard, realm, 6L), expectedWith(100L));
+
+		// expect:
+		assertThrows(IllegalStateException.class, () -> subject.assertIdsAreValid(AccountsScan.of(accounts)));
+	}
+
 	private MerkleAccount expectedWith(long balance) throws NegativeAccountBalanceException {
 		MerkleAccount hAccount = new HederaAccountCustomizer()
 				.fundsSentRecordThreshold(123)
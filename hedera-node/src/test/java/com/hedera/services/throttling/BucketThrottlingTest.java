@@ -24,9 +24,10 @@ import com.hedera.services.context.properties.PropertySource;
 import com.hedera.services.throttling.bucket.BucketConfig;
 import com.hedera.services.throttling.bucket.BucketThrottle;
 import com.hedera.services.throttling.bucket.CapacityTest;
+import com.hedera.services.throttling.bucket.TokenBucket;
+import com.hedera.test.utils.IdUtils;
 import com.hederahashgraph.api.proto.java.HederaFunctionality;
 import com.swirlds.common.AddressBook;
-import com.swirlds.throttle.Throttle;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.platform.runner.JUnitPlatform;
@@ -57,8 +58,8 @@ class BucketThrottlingTest {
 	double queryRequired = 1.0;
 	double txnRequired = 10.0;
 
-	Throttle unitThrottle;
-	Throttle deciThrottle;
+	TokenBucket unitThrottle;
+	TokenBucket deciThrottle;
 	BucketConfig txnBucketConfig;
 	BucketConfig queryBucketConfig;
 	BucketConfig bucketConfig;
@@ -84,8 +85,8 @@ class BucketThrottlingTest {
 	@BeforeEach
 	@SuppressWarnings("unchecked")
 	private void setup() {
-		unitThrottle = new Throttle(1.0, 1.0);
-		deciThrottle = new Throttle(10.0, 1.0);
+		unitThrottle = new TokenBucket(1.0, 1.0);
+		deciThrottle = new TokenBucket(10.0, 1.0);
 		bucket = new BucketThrottle(unitThrottle);
 		overflow = new BucketThrottle(deciThrottle);
 		queryBucket = new BucketThrottle(deciThrottle);
@@ -266,6 +267,35 @@ class BucketThrottlingTest {
 		verify(test).isAvailable();
 	}
 
+	@Test
+	void throttlesPayerIfCapNotAvail() {
+		// setup:
+		var test = mock(CapacityTest.class);
+		var payer = IdUtils.asAccount("0.0.1234");
+		subject.capacities = new EnumMap<>(HederaFunctionality.class);
+
+		given(test.isAvailable(payer)).willReturn(false);
+		// and:
+		subject.capacities.put(txn, test);
+
+		// when:
+		var flag = subject.shouldThrottle(txn, payer);
+
+		// then:
+		assertTrue(flag);
+		verify(test).isAvailable(payer);
+		verify(test, never()).isAvailable();
+	}
+
+	@Test
+	void throttlesPayerByDefault() {
+		// setup:
+		subject.capacities = new EnumMap<>(HederaFunctionality.class);
+
+		// expect:
+		assertTrue(subject.shouldThrottle(txn, IdUtils.asAccount("0.0.1234")));
+	}
+
 	@Test
 	void throttlesByDefault() {
 		// setup:
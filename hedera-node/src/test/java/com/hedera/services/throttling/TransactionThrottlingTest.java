@@ -20,11 +20,13 @@ package com.hedera.services.throttling;
  * ‍
  */
 
+import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.ConsensusCreateTopicTransactionBody;
 import com.hederahashgraph.api.proto.java.ConsensusDeleteTopicTransactionBody;
 import com.hederahashgraph.api.proto.java.ConsensusSubmitMessageTransactionBody;
 import com.hederahashgraph.api.proto.java.ConsensusUpdateTopicTransactionBody;
 import com.hederahashgraph.api.proto.java.TransactionBody;
+import com.hederahashgraph.api.proto.java.TransactionID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.platform.runner.JUnitPlatform;
@@ -66,18 +68,20 @@ class TransactionThrottlingTest {
 	@Test
 	public void delegatesTopicCreateToFunctionalThrottling() {
 		// setup:
+		var payer = asAccount("0.0.1234");
 		TransactionBody createTxn = TransactionBody.newBuilder()
+				.setTransactionID(TransactionID.newBuilder().setAccountID(payer))
 				.setConsensusCreateTopic(ConsensusCreateTopicTransactionBody.newBuilder().setMemo("Hi!"))
 				.build();
 
-		given(functionalThrottling.shouldThrottle(ConsensusCreateTopic)).willReturn(true);
+		given(functionalThrottling.shouldThrottle(ConsensusCreateTopic, payer)).willReturn(true);
 
 		// when:
 		boolean should = subject.shouldThrottle(createTxn);
 
 		// then:
 		assertTrue(should);
-		verify(functionalThrottling).shouldThrottle(ConsensusCreateTopic);
+		verify(functionalThrottling).shouldThrottle(ConsensusCreateTopic, payer);
 	}
 
 	@Test
@@ -90,14 +94,14 @@ class TransactionThrottlingTest {
 				.setConsensusUpdateTopic(op)
 				.build();
 
-		given(functionalThrottling.shouldThrottle(ConsensusUpdateTopic)).willReturn(true);
+		given(functionalThrottling.shouldThrottle(ConsensusUpdateTopic, AccountID.getDefaultInstance())).willReturn(true);
 
 		// when:
 		boolean should = subject.shouldThrottle(updateTxn);
 
 		// then:
 		assertTrue(should);
-		verify(functionalThrottling).shouldThrottle(ConsensusUpdateTopic);
+		verify(functionalThrottling).shouldThrottle(ConsensusUpdateTopic, AccountID.getDefaultInstance());
 	}
 
 	@Test
@@ -110,14 +114,14 @@ class TransactionThrottlingTest {
 				.setConsensusDeleteTopic(op)
 				.build();
 
-		given(functionalThrottling.shouldThrottle(ConsensusDeleteTopic)).willReturn(true);
+		given(functionalThrottling.shouldThrottle(ConsensusDeleteTopic, AccountID.getDefaultInstance())).willReturn(true);
 
 		// when:
 		boolean should = subject.shouldThrottle(deleteTxn);
 
 		// then:
 		assertTrue(should);
-		verify(functionalThrottling).shouldThrottle(ConsensusDeleteTopic);
+		verify(functionalThrottling).shouldThrottle(ConsensusDeleteTopic, AccountID.getDefaultInstance());
 	}
 
 	@Test
@@ -130,13 +134,13 @@ class TransactionThrottlingTest {
 				.setConsensusSubmitMessage(op)
 				.build();
 
-		given(functionalThrottling.shouldThrottle(ConsensusSubmitMessage)).willReturn(true);
+		given(functionalThrottling.shouldThrottle(ConsensusSubmitMessage, AccountID.getDefaultInstance())).willReturn(true);
 
 		// when:
 		boolean should = subject.shouldThrottle(submitTxn);
 
 		// then:
 		assertTrue(should);
-		verify(functionalThrottling).shouldThrottle(ConsensusSubmitMessage);
+		verify(functionalThrottling).shouldThrottle(ConsensusSubmitMessage, AccountID.getDefaultInstance());
 	}
 }
@@ -33,6 +33,7 @@ import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.*;
 import static com.hedera.services.throttling.bucket.BucketConfig.*;
 
@@ -61,12 +62,13 @@ class BucketConfigTest {
 				API_THROTTLING_BUCKETS_PREFIX + ".one.capacity",
 				API_THROTTLING_BUCKETS_PREFIX + ".five.burstPeriod",
 				API_THROTTLING_BUCKETS_PREFIX + ".seven.overflow",
+				API_THROTTLING_BUCKETS_PREFIX + ".eight.payerShare",
 				API_THROTTLING_BUCKETS_PREFIX + ".two.capaicty",
 				API_THROTTLING_BUCKETS_PREFIX + ".three.overflow"
 		);
 		// and:
 		List<String> expected = List.of(
-			"zero", "one", "three", "four", "five", "six", "seven").stream().sorted().collect(Collectors.toList());
+			"zero", "one", "three", "four", "five", "six", "seven", "eight").stream().sorted().collect(Collectors.toList());
 
 		given(properties.getStringProperty(DEFAULT_QUERY_BUCKET_PROPERTY)).willReturn("zero");
 		given(properties.getStringProperty(DEFAULT_TXN_BUCKET_PROPERTY)).willReturn("six");
@@ -154,6 +156,39 @@ class BucketConfigTest {
 		assertFalse(config.hasOverflow());
 	}
 
+	@Test
+	public void attachesPayerFairnessIfShareConfigured() {
+		givenCapacityProp(bucket, 500);
+		givenBurstProp(bucket, 2);
+		givenPayerShareProp(bucket, 0.25);
+
+		// when:
+		var config = namedIn(properties, bucket);
+		// and:
+		var throttle = config.asNodeThrottle(5);
+
+		// then:
+		assertTrue(config.hasPayerShare());
+		assertEquals(0.25, config.payerShare());
+		// and:
+		assertTrue(throttle.hasPayerFairness());
+		assertEquals(0.25, throttle.payerFairness().share());
+		assertEquals(50.0, throttle.primary().getTps());
+	}
+
+	@Test
+	public void ignoresInvalidPayerShare() {
+		givenPayerShareProp(bucket, 1.5);
+
+		// when:
+		var config = namedIn(properties, bucket);
+
+		// then:
+		assertFalse(config.hasPayerShare());
+		assertEquals(DEFAULT_PAYER_SHARE, config.payerShare());
+		assertFalse(config.asNodeThrottle(1).hasPayerFairness());
+	}
+
 	@Test
 	public void omitsOverflowIfMissing() {
 		givenCapacityProp(bucket, 555);
@@ -183,6 +218,11 @@ class BucketConfigTest {
 		given(properties.containsProperty(burstProperty.apply(bucket))).willReturn(true);
 	}
 
+	private void givenPayerShareProp(String bucket, double value) {
+		given(properties.getDoubleProperty(payerShareProperty.apply(bucket))).willReturn(value);
+		given(properties.containsProperty(payerShareProperty.apply(bucket))).willReturn(true);
+	}
+
 	private void givenOverflowProp(String bucket, String value) {
 		given(properties.getStringProperty(overflowProperty.apply(bucket))).willReturn(value);
 		given(properties.containsProperty(overflowProperty.apply(bucket))).willReturn(true);
@@ -0,0 +1,104 @@
+package com.hedera.services.throttling.bucket;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.swirlds.throttle.Throttle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Measures the cost of a capacity check when 64 threads share one bucket, comparing the
+ * {@link Throttle} that buckets used to wrap with a striped {@link TokenBucket}, with and
+ * without a {@link PayerFairness} sub-bucket per payer. The smaller capacity keeps the
+ * bucket saturated; the larger one mostly allows. Run with
+ * {@code java -cp <test classpath> com.hedera.services.throttling.bucket.BucketThrottleBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(64)
+@Fork(1)
+public class BucketThrottleBenchmark {
+	private static final int NUM_PAYERS = 16;
+	private static final double PAYER_SHARE = 0.1;
+	private static final AtomicInteger NEXT_PAYER = new AtomicInteger();
+
+	@Param({ "1000", "500000" })
+	double capacity;
+
+	@Param({ "legacy", "striped", "fair" })
+	String bucket;
+
+	Throttle legacy;
+	BucketThrottle subject;
+
+	@State(Scope.Thread)
+	public static class Payer {
+		AccountID id;
+
+		@Setup
+		public void setup() {
+			id = AccountID.newBuilder().setAccountNum(1_001L + NEXT_PAYER.getAndIncrement() % NUM_PAYERS).build();
+		}
+	}
+
+	@Setup
+	public void setup() {
+		if ("legacy".equals(bucket)) {
+			legacy = new Throttle(capacity, 1.0);
+		} else {
+			subject = new BucketThrottle("B", new TokenBucket(capacity, 1.0));
+			if ("fair".equals(bucket)) {
+				subject.setPayerFairness(new PayerFairness(PAYER_SHARE, capacity, 1.0));
+			}
+		}
+	}
+
+	@Benchmark
+	public boolean hasAvailableCapacity(Payer payer) {
+		return (legacy != null) ? legacy.allow(1.0) : subject.hasAvailableCapacity(1.0, payer.id);
+	}
+
+	public static void main(String... args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+				.include(BucketThrottleBenchmark.class.getSimpleName())
+				.build()).run();
+	}
+}
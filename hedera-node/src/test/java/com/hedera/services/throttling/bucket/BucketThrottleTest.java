@@ -20,7 +20,7 @@ package com.hedera.services.throttling.bucket;
  * ‍
  */
 
-import com.swirlds.throttle.Throttle;
+import com.hederahashgraph.api.proto.java.AccountID;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,17 +28,21 @@ import org.junit.platform.runner.JUnitPlatform;
 import org.junit.runner.RunWith;
 
 import static com.hedera.services.throttling.bucket.BucketThrottle.EFFECTIVELY_UNLIMITED_CAPACITY;
+import static com.hedera.test.utils.IdUtils.asAccount;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.*;
 
 @RunWith(JUnitPlatform.class)
 class BucketThrottleTest {
 	double amount = 123.0;
+	AccountID payer = asAccount("0.0.1234");
 
-	Throttle p;
-	Throttle o;
-	Throttle s;
+	TokenBucket p;
+	TokenBucket o;
+	TokenBucket s;
+	PayerFairness fairness;
 
 	BucketThrottle subject;
 	BucketThrottle overflow;
@@ -46,9 +50,10 @@ class BucketThrottleTest {
 
 	@BeforeEach
 	private void setup() {
-		p = mock(Throttle.class);
-		o = mock(Throttle.class);
-		s = mock(Throttle.class);
+		p = mock(TokenBucket.class);
+		o = mock(TokenBucket.class);
+		s = mock(TokenBucket.class);
+		fairness = mock(PayerFairness.class);
 
 		subject = new BucketThrottle("P", p);
 		overflow = new BucketThrottle("O", o);
@@ -89,18 +94,83 @@ class BucketThrottleTest {
 		assertTrue(subject.hasAvailableCapacity(amount));
 	}
 
+	@Test
+	void ignoresPayerWithoutFairness() {
+		given(p.allow(amount)).willReturn(true);
+
+		// expect:
+		assertTrue(subject.hasAvailableCapacity(amount, payer));
+		assertFalse(subject.hasPayerFairness());
+	}
+
+	@Test
+	void rejectsPayerOverShareWithoutTouchingPrimary() {
+		// setup:
+		subject.setPayerFairness(fairness);
+
+		given(fairness.allow(payer, amount)).willReturn(false);
+
+		// expect:
+		assertFalse(subject.hasAvailableCapacity(amount, payer));
+		// and:
+		verify(p, never()).allow(anyDouble());
+	}
+
+	@Test
+	void refundsPayerShareIfPrimaryFull() {
+		// setup:
+		subject.setPayerFairness(fairness);
+
+		given(fairness.allow(payer, amount)).willReturn(true);
+		given(p.allow(amount)).willReturn(false);
+
+		// expect:
+		assertFalse(subject.hasAvailableCapacity(amount, payer));
+		// and:
+		verify(fairness).refund(payer, amount);
+	}
+
+	@Test
+	void usesPrimaryIfPayerWithinShare() {
+		// setup:
+		subject.setPayerFairness(fairness);
+
+		given(fairness.allow(payer, amount)).willReturn(true);
+		given(p.allow(amount)).willReturn(true);
+
+		// expect:
+		assertTrue(subject.hasAvailableCapacity(amount, payer));
+		assertEquals(fairness, subject.payerFairness());
+		// and:
+		verify(fairness, never()).refund(any(), anyDouble());
+	}
+
+	@Test
+	void skipsFairnessWithoutPayer() {
+		// setup:
+		subject.setPayerFairness(fairness);
+
+		given(p.allow(amount)).willReturn(true);
+
+		// expect:
+		assertTrue(subject.hasAvailableCapacity(amount));
+		// and:
+		verify(fairness, never()).allow(any(), anyDouble());
+	}
+
 	@Test
 	public void representsExpected() {
 		givenRealThrottles();
 		// and:
 		overflow.setOverflow(spillover);
+		overflow.setPayerFairness(new PayerFairness(0.25, EFFECTIVELY_UNLIMITED_CAPACITY, 1.0));
 		subject.setOverflow(overflow);
 
 		// when:
 		var repr = subject.toString();
 		// and:
 		var expected = "Bucket{name=P, cap=100.0, bp=2.0, " +
-				"overflow=Bucket{name=O, cap=UNLIMITED, bp=1.0, " +
+				"overflow=Bucket{name=O, cap=UNLIMITED, bp=1.0, payerShare=0.25, " +
 				"overflow=Bucket{name=S, cap=100.0, bp=0.5}}}";
 
 		// then:
@@ -108,9 +178,9 @@ class BucketThrottleTest {
 	}
 
 	private void givenRealThrottles() {
-		p = new Throttle(50.0, 2.0);
-		o = new Throttle(EFFECTIVELY_UNLIMITED_CAPACITY, 1.0);
-		s = new Throttle(200.0, 0.5);
+		p = new TokenBucket(50.0, 2.0);
+		o = new TokenBucket(EFFECTIVELY_UNLIMITED_CAPACITY, 1.0);
+		s = new TokenBucket(200.0, 0.5);
 
 		subject = new BucketThrottle("P", p);
 		overflow = new BucketThrottle("O", o);
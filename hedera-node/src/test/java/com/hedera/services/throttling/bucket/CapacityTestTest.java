@@ -20,7 +20,7 @@ package com.hedera.services.throttling.bucket;
  * ‍
  */
 
-import com.swirlds.throttle.Throttle;
+import com.hedera.test.utils.IdUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.platform.runner.JUnitPlatform;
@@ -59,10 +59,26 @@ class CapacityTestTest {
 		verify(bucket).hasAvailableCapacity(req);
 	}
 
+	@Test
+	public void delegatesWithPayerAsExpected() {
+		// setup:
+		var payer = IdUtils.asAccount("0.0.1234");
+
+		given(bucket.hasAvailableCapacity(req, payer)).willReturn(true);
+
+		// when:
+		boolean flag = subject.isAvailable(payer);
+
+		// then:
+		assertTrue(flag);
+		// and:
+		verify(bucket).hasAvailableCapacity(req, payer);
+	}
+
 	@Test
 	void toStringWorks() {
 		// setup:
-		var t = new Throttle(5.0, 1.0);
+		var t = new TokenBucket(5.0, 1.0);
 
 		// given:
 		subject = new CapacityTest(1.011, new BucketThrottle("B", t));
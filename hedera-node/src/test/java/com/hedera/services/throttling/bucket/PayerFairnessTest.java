@@ -0,0 +1,104 @@
+package com.hedera.services.throttling.bucket;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hederahashgraph.api.proto.java.AccountID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.hedera.services.throttling.bucket.TokenBucket.NANOS_PER_SECOND;
+import static com.hedera.test.utils.IdUtils.asAccount;
+import static org.junit.jupiter.api.Assertions.*;
+
+@RunWith(JUnitPlatform.class)
+class PayerFairnessTest {
+	AccountID hot = asAccount("0.0.1234");
+	AccountID cold = asAccount("0.0.4321");
+
+	AtomicLong now;
+	PayerFairness subject;
+
+	@BeforeEach
+	private void setup() {
+		now = new AtomicLong(0L);
+
+		subject = new PayerFairness(0.25, 20.0, 1.0, now::get);
+	}
+
+	@Test
+	public void rejectsInvalidShares() {
+		// expect:
+		assertThrows(IllegalArgumentException.class, () -> new PayerFairness(0.0, 1.0, 1.0));
+		assertThrows(IllegalArgumentException.class, () -> new PayerFairness(1.0, 1.0, 1.0));
+	}
+
+	@Test
+	public void limitsEachPayerToItsShare() {
+		// expect:
+		for (int i = 0; i < 5; i++) {
+			assertTrue(subject.allow(hot, 1.0));
+		}
+		assertFalse(subject.allow(hot, 1.0));
+		// and:
+		assertTrue(subject.allow(cold, 1.0));
+		assertEquals(2, subject.numTracked());
+		assertEquals(0.25, subject.share());
+	}
+
+	@Test
+	public void refundsToPayer() {
+		// given:
+		for (int i = 0; i < 5; i++) {
+			subject.allow(hot, 1.0);
+		}
+
+		// when:
+		subject.refund(hot, 1.0);
+		subject.refund(cold, 1.0);
+
+		// then:
+		assertTrue(subject.allow(hot, 1.0));
+		assertFalse(subject.allow(hot, 1.0));
+		assertEquals(1, subject.numTracked());
+	}
+
+	@Test
+	public void prunesOnlyRefilledPayers() {
+		// given:
+		for (int i = 0; i < PayerFairness.PRUNE_THRESHOLD - 1; i++) {
+			subject.allow(asAccount("0.0." + (i + 1)), 1.0);
+		}
+		subject.allow(hot, 5.0);
+
+		// when:
+		now.addAndGet(NANOS_PER_SECOND / 2);
+		subject.allow(cold, 1.0);
+
+		// then:
+		assertEquals(2, subject.numTracked());
+		assertFalse(subject.allow(hot, 3.0));
+		assertTrue(subject.allow(hot, 2.0));
+	}
+}
@@ -0,0 +1,206 @@
+package com.hedera.services.throttling.bucket;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.hedera.services.throttling.bucket.BucketThrottle.EFFECTIVELY_UNLIMITED_CAPACITY;
+import static com.hedera.services.throttling.bucket.TokenBucket.MIN_STRIPE_CAPACITY;
+import static com.hedera.services.throttling.bucket.TokenBucket.NANOS_PER_SECOND;
+import static org.junit.jupiter.api.Assertions.*;
+
+@RunWith(JUnitPlatform.class)
+class TokenBucketTest {
+	AtomicLong now;
+
+	@BeforeEach
+	private void setup() {
+		now = new AtomicLong(-1_234_567_890L);
+	}
+
+	@Test
+	public void rejectsNonPowerOfTwoStripes() {
+		// expect:
+		assertThrows(IllegalArgumentException.class, () -> new TokenBucket(1.0, 1.0, 3, now::get));
+		assertThrows(IllegalArgumentException.class, () -> new TokenBucket(1.0, 1.0, 0, now::get));
+	}
+
+	@Test
+	public void choosesStripesByCapacity() {
+		// expect:
+		assertEquals(1, TokenBucket.stripesFor(MIN_STRIPE_CAPACITY, 8));
+		assertEquals(2, TokenBucket.stripesFor(2 * MIN_STRIPE_CAPACITY, 8));
+		assertEquals(4, TokenBucket.stripesFor(7 * MIN_STRIPE_CAPACITY, 8));
+		assertEquals(8, TokenBucket.stripesFor(1_000 * MIN_STRIPE_CAPACITY, 8));
+		assertEquals(1, TokenBucket.stripesFor(1_000 * MIN_STRIPE_CAPACITY, 1));
+	}
+
+	@Test
+	public void allowsUpToCapacityThenRefills() {
+		// given:
+		var subject = new TokenBucket(5.0, 2.0, 1, now::get);
+
+		// expect:
+		for (int i = 0; i < 10; i++) {
+			assertTrue(subject.allow(1.0));
+		}
+		assertFalse(subject.allow(1.0));
+		assertFalse(subject.isFull());
+
+		// and when:
+		now.addAndGet(NANOS_PER_SECOND / 5);
+
+		// then:
+		assertTrue(subject.allow(1.0));
+		assertFalse(subject.allow(1.0));
+
+		// and when:
+		now.addAndGet(10 * NANOS_PER_SECOND);
+
+		// then:
+		assertTrue(subject.isFull());
+		assertTrue(subject.allow(10.0));
+		assertFalse(subject.allow(0.5));
+	}
+
+	@Test
+	public void neverAllowsMoreThanCapacity() {
+		// given:
+		var subject = new TokenBucket(5.0, 1.0, 1, now::get);
+
+		// expect:
+		assertFalse(subject.allow(5.5));
+		assertTrue(subject.allow(5.0));
+	}
+
+	@Test
+	public void refundRestoresButNeverOverfills() {
+		// given:
+		var subject = new TokenBucket(1.0, 2.0, 1, now::get);
+
+		// when:
+		subject.allow(2.0);
+		subject.refund(1.0);
+
+		// then:
+		assertTrue(subject.allow(1.0));
+		assertFalse(subject.allow(1.0));
+
+		// and when:
+		subject.refund(100.0);
+
+		// then:
+		assertTrue(subject.isFull());
+		assertTrue(subject.allow(2.0));
+		assertFalse(subject.allow(0.1));
+	}
+
+	@Test
+	public void stripesShareCapacityExactly() {
+		// given:
+		var subject = new TokenBucket(8.0, 1.0, 4, now::get);
+
+		// expect:
+		for (int i = 0; i < 8; i++) {
+			assertTrue(subject.allow(1.0));
+		}
+		assertFalse(subject.allow(1.0));
+		assertEquals(4, subject.stripes());
+	}
+
+	@Test
+	public void largeRequestsTakeFromAllStripesOrNone() {
+		// given:
+		var subject = new TokenBucket(8.0, 1.0, 4, now::get);
+
+		// when:
+		assertTrue(subject.allow(4.0));
+		// and:
+		assertTrue(subject.allow(1.0));
+
+		// then:
+		assertFalse(subject.allow(4.0));
+		assertTrue(subject.allow(1.0));
+		assertTrue(subject.allow(1.0));
+		assertTrue(subject.allow(1.0));
+		assertFalse(subject.allow(1.0));
+
+		// and when:
+		now.addAndGet(NANOS_PER_SECOND);
+
+		// then:
+		assertTrue(subject.allow(8.0));
+		assertFalse(subject.allow(16.0));
+	}
+
+	@Test
+	public void unlimitedAlwaysAllows() {
+		// given:
+		var subject = new TokenBucket(EFFECTIVELY_UNLIMITED_CAPACITY, 1.0, 1, now::get);
+
+		// expect:
+		assertTrue(subject.allow(EFFECTIVELY_UNLIMITED_CAPACITY * 2));
+		assertTrue(subject.isFull());
+		assertDoesNotThrow(() -> subject.refund(1.0));
+	}
+
+	@Test
+	public void concurrentCallersNeverExceedCapacity() throws InterruptedException {
+		// setup:
+		int numThreads = 16, attemptsPerThread = 1_000;
+		var allowed = new AtomicInteger();
+		var start = new CountDownLatch(1);
+		var done = new CountDownLatch(numThreads);
+
+		// given:
+		var subject = new TokenBucket(1_000.0, 1.0, 8, now::get);
+
+		// when:
+		for (int i = 0; i < numThreads; i++) {
+			new Thread(() -> {
+				try {
+					start.await();
+					for (int j = 0; j < attemptsPerThread; j++) {
+						if (subject.allow(1.0)) {
+							allowed.incrementAndGet();
+						}
+					}
+				} catch (InterruptedException ignore) {
+					Thread.currentThread().interrupt();
+				} finally {
+					done.countDown();
+				}
+			}).start();
+		}
+		start.countDown();
+		done.await();
+
+		// then:
+		assertEquals(1_000, allowed.get());
+	}
+}
@@ -22,6 +22,7 @@ package com.hedera.services.txns.consensus;
 
 
 import com.hedera.services.context.TransactionContext;
+import com.hedera.services.ledger.accounts.BackingAccounts;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleTopic;
 import com.hedera.services.ledger.ids.EntityIdSource;
@@ -72,8 +73,7 @@ class MerkleTopicCreateTransitionLogicTest {
 	private PlatformTxnAccessor accessor;
 	private OptionValidator validator;
 	private TopicCreateTransitionLogic subject;
-	private FCMap<MerkleEntityId, MerkleAccount> accounts =
-			new FCMap<>(new MerkleEntityId.Provider(), MerkleAccount.LEGACY_PROVIDER);
+	private BackingAccounts<AccountID, MerkleAccount> accounts;
 	private FCMap<MerkleEntityId, MerkleTopic> topics =
 			new FCMap<>(new MerkleEntityId.Provider(), new MerkleTopic.Provider());
 	private EntityIdSource entityIdSource;
@@ -96,11 +96,11 @@ class MerkleTopicCreateTransitionLogicTest {
 		given(validator.isValidEntityMemo(TOO_LONG_MEMO)).willReturn(false);
 		entityIdSource = mock(EntityIdSource.class);
 		given(entityIdSource.newAccountId(any())).willReturn(NEW_TOPIC_ID);
-		accounts.clear();
+		accounts = mock(BackingAccounts.class);
 		topics.clear();
 
 		subject = new TopicCreateTransitionLogic(
-				() -> accounts, () -> topics, entityIdSource, validator, transactionContext);
+				accounts, () -> topics, entityIdSource, validator, transactionContext);
 	}
 
 	@Test
@@ -22,6 +22,7 @@ package com.hedera.services.txns.consensus;
 
 import com.google.protobuf.StringValue;
 import com.hedera.services.context.TransactionContext;
+import com.hedera.services.ledger.accounts.BackingAccounts;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleTopic;
 import com.hedera.services.txns.validation.OptionValidator;
@@ -78,8 +79,7 @@ class MerkleTopicUpdateTransitionLogicTest {
 	private TransactionContext transactionContext;
 	private PlatformTxnAccessor accessor;
 	private OptionValidator validator;
-	private FCMap<MerkleEntityId, MerkleAccount> accounts =
-			new FCMap<>(new MerkleEntityId.Provider(), MerkleAccount.LEGACY_PROVIDER);
+	private BackingAccounts<AccountID, MerkleAccount> accounts;
 	private FCMap<MerkleEntityId, MerkleTopic> topics = new FCMap<>(new MerkleEntityId.Provider(), new MerkleTopic.Provider());
 	private TopicUpdateTransitionLogic subject;
 	final private AccountID payer = AccountID.newBuilder().setAccountNum(1_234L).build();
@@ -100,8 +100,9 @@ class MerkleTopicUpdateTransitionLogicTest {
 		given(validator.isValidEntityMemo("")).willReturn(true);
 		given(validator.isValidEntityMemo(VALID_MEMO)).willReturn(true);
 		given(validator.isValidEntityMemo(TOO_LONG_MEMO)).willReturn(false);
+		accounts = mock(BackingAccounts.class);
 
-		subject = new TopicUpdateTransitionLogic(() -> accounts, () -> topics, validator, transactionContext);
+		subject = new TopicUpdateTransitionLogic(accounts, () -> topics, validator, transactionContext);
 	}
 
 	@Test
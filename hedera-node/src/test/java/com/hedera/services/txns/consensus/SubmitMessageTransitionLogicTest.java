@@ -23,6 +23,7 @@ package com.hedera.services.txns.consensus;
 import com.google.protobuf.ByteString;
 import com.hedera.services.context.TransactionContext;
 import com.hedera.services.state.merkle.MerkleTopic;
+import com.hedera.services.state.merkle.RunningHashEngine;
 import com.hedera.services.txns.validation.OptionValidator;
 import com.hedera.services.utils.MiscUtils;
 import com.hedera.services.utils.PlatformTxnAccessor;
@@ -219,6 +220,8 @@ class SubmitMessageTransitionLogicTest {
 				.setConsensusSubmitMessage(body.build())
 				.build();
 		given(accessor.getTxn()).willReturn(transactionBody);
+		given(accessor.getSubmitMessageDigest())
+				.willReturn(RunningHashEngine.forCurrentThread().messageDigestOf(body.getMessage()));
 		given(transactionContext.accessor()).willReturn(accessor);
 	}
 
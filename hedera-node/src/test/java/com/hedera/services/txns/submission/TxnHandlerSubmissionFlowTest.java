@@ -33,6 +33,7 @@ import static com.hedera.services.context.ServicesNodeType.*;
 import com.google.protobuf.ByteString;
 import com.hedera.services.txns.TransitionLogic;
 import com.hedera.services.txns.TransitionLogicLookup;
+import com.hedera.services.utils.SignedTxnAccessor;
 import com.hederahashgraph.api.proto.java.CryptoTransferTransactionBody;
 import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
 import com.hederahashgraph.api.proto.java.Transaction;
@@ -128,7 +129,7 @@ class TxnHandlerSubmissionFlowTest {
 		// setup:
 		TxnValidityAndFeeReq metaValidity = new TxnValidityAndFeeReq(INSUFFICIENT_PAYER_BALANCE, feeRequired);
 
-		given(txnHandler.validateTransactionPreConsensus(signedTxn, false)).willReturn(metaValidity);
+		given(txnHandler.validateTransactionPreConsensus(any(SignedTxnAccessor.class), eq(false))).willReturn(metaValidity);
 
 		// when:
 		TransactionResponse response = subject.submit(signedTxn);
@@ -140,7 +141,7 @@ class TxnHandlerSubmissionFlowTest {
 
 	@Test
 	public void rejectsInvalidSyntax() {
-		given(txnHandler.validateTransactionPreConsensus(signedTxn, false)).willReturn(okMeta);
+		given(txnHandler.validateTransactionPreConsensus(any(SignedTxnAccessor.class), eq(false))).willReturn(okMeta);
 		given(syntaxCheck.apply(any())).willReturn(INVALID_ACCOUNT_ID);
 
 		// when:
@@ -152,7 +153,7 @@ class TxnHandlerSubmissionFlowTest {
 
 	@Test
 	public void catchesPlatformCreateEx() throws Exception {
-		given(txnHandler.validateTransactionPreConsensus(signedTxn, false)).willReturn(okMeta);
+		given(txnHandler.validateTransactionPreConsensus(any(SignedTxnAccessor.class), eq(false))).willReturn(okMeta);
 		given(syntaxCheck.apply(any())).willReturn(OK);
 		given(submissionManager.trySubmission(any())).willReturn(PLATFORM_TRANSACTION_NOT_CREATED);
 
@@ -165,7 +166,7 @@ class TxnHandlerSubmissionFlowTest {
 
 	@Test
 	public void followsHappyPathToOk() throws Exception {
-		given(txnHandler.validateTransactionPreConsensus(signedTxn, false)).willReturn(okMeta);
+		given(txnHandler.validateTransactionPreConsensus(any(SignedTxnAccessor.class), eq(false))).willReturn(okMeta);
 		given(syntaxCheck.apply(any())).willReturn(OK);
 		given(submissionManager.trySubmission(any())).willReturn(OK);
 
@@ -178,7 +179,7 @@ class TxnHandlerSubmissionFlowTest {
 
 	@Test
 	public void usesFallbackSyntaxCheckIfNotSupported() throws Exception {
-		given(txnHandler.validateTransactionPreConsensus(signedTxn, false)).willReturn(okMeta);
+		given(txnHandler.validateTransactionPreConsensus(any(SignedTxnAccessor.class), eq(false))).willReturn(okMeta);
 		given(logicLookup.lookupFor(any(), any())).willReturn(Optional.empty());
 
 		// when:
@@ -22,6 +22,7 @@ package com.hedera.services.txns.submission;
 
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
 
+import com.hedera.services.grpc.WorkerPools;
 import com.hedera.services.txns.SubmissionFlow;
 import com.hederahashgraph.api.proto.java.Transaction;
 import com.hederahashgraph.api.proto.java.TransactionResponse;
@@ -55,7 +56,26 @@ class TxnResponseHelperTest {
 		given(okResponse.getNodeTransactionPrecheckCode()).willReturn(OK);
 		notOkResponse = mock(TransactionResponse.class);
 
-		subject = new TxnResponseHelper(submissionFlow, stats);
+		subject = new TxnResponseHelper(submissionFlow, stats, WorkerPools.inline());
+	}
+
+	@Test
+	public void answersBusyIfPoolIsFull() {
+		// setup:
+		var workers = mock(WorkerPools.class);
+		given(workers.tryRun(argThat(WorkerPools.Pool.TXNS::equals), any())).willReturn(false);
+		// and:
+		subject = new TxnResponseHelper(submissionFlow, stats, workers);
+
+		// when:
+		subject.respondToCrypto(txn, observer, metric);
+
+		// then:
+		verify(stats).cryptoTransactionReceived(metric);
+		verify(submissionFlow, never()).submit(any());
+		verify(observer).onNext(TxnResponseHelper.BUSY_RESPONSE);
+		verify(observer).onCompleted();
+		verify(stats, never()).cryptoTransactionSubmitted(metric);
 	}
 
 	@Test
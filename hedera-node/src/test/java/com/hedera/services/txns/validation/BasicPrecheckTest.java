@@ -20,7 +20,7 @@ package com.hedera.services.txns.validation;
  * ‍
  */
 
-import com.hedera.services.context.properties.PropertySource;
+import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.Duration;
 import com.hederahashgraph.api.proto.java.TransactionBody;
@@ -64,7 +64,7 @@ class BasicPrecheckTest {
 	String memo = "Our souls, which to advance their state / Were gone out, hung twixt her and me.";
 	TransactionBody txn;
 
-	PropertySource properties;
+	GlobalDynamicProperties properties;
 	OptionValidator validator;
 
 	BasicPrecheck subject;
@@ -72,7 +72,7 @@ class BasicPrecheckTest {
 	@BeforeEach
 	private void setup() {
 		validator = mock(OptionValidator.class);
-		properties = mock(PropertySource.class);
+		properties = mock(GlobalDynamicProperties.class);
 
 		given(validator.isValidTxnDuration(anyLong())).willReturn(true);
 		given(validator.isPlausibleTxnFee(anyLong())).willReturn(true);
@@ -80,7 +80,7 @@ class BasicPrecheckTest {
 		given(validator.isPlausibleAccount(payer)).willReturn(true);
 		given(validator.isValidEntityMemo(memo)).willReturn(true);
 		given(validator.chronologyStatusForTxn(any(), anyLong(), any())).willReturn(OK);
-		given(properties.getIntProperty("hedera.transaction.minValidityBufferSecs"))
+		given(properties.minValidityBuffer())
 				.willReturn(validityBufferOverride);
 
 		subject = new BasicPrecheck(properties, validator);
@@ -23,8 +23,9 @@ package com.hedera.services.txns.validation;
 import com.hedera.services.context.TransactionContext;
 import com.hedera.services.state.merkle.MerkleTopic;
 import com.hedera.services.context.primitives.StateView;
-import com.hedera.services.context.properties.PropertySource;
+import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.ledger.HederaLedger;
+import com.hedera.services.ledger.accounts.BackingAccounts;
 import com.hedera.services.state.merkle.MerkleEntityId;
 import com.hedera.services.utils.SignedTxnAccessor;
 import com.hedera.test.factories.accounts.MapValueFactory;
@@ -95,7 +96,7 @@ public class ContextOptionValidatorTest {
 	private FCMap topics;
 	private FCMap accounts;
 	private HederaLedger ledger;
-	private PropertySource properties;
+	private GlobalDynamicProperties properties;
 	private TransactionContext txnCtx;
 	private ContextOptionValidator subject;
 	private JKey wacl;
@@ -114,8 +115,8 @@ public class ContextOptionValidatorTest {
 		given(ledger.isSmartContract(b)).willReturn(false);
 		given(ledger.isSmartContract(c)).willReturn(true);
 		given(ledger.isSmartContract(d)).willReturn(false);
-		properties = mock(PropertySource.class);
-		given(properties.getIntProperty("hedera.transaction.maxMemoUtf8Bytes")).willReturn(100);
+		properties = mock(GlobalDynamicProperties.class);
+		given(properties.maxMemoUtf8Bytes()).willReturn(100);
 		accounts = mock(FCMap.class);
 		given(accounts.get(MerkleEntityId.fromAccountId(a))).willReturn(aV);
 		given(accounts.get(MerkleEntityId.fromAccountId(deleted))).willReturn(deletedV);
@@ -238,6 +239,26 @@ public class ContextOptionValidatorTest {
 		assertEquals(OK, subject.queryableAccountStatus(a, accounts));
 	}
 
+	@Test
+	public void recognizesAccountStatusesViaBackingAccounts() {
+		// setup:
+		var outOfPlace = IdUtils.asAccount("0.0.5432");
+		BackingAccounts<AccountID, MerkleAccount> backingAccounts = mock(BackingAccounts.class);
+
+		given(backingAccounts.contains(a)).willReturn(true);
+		given(backingAccounts.getUnsafeRef(a)).willReturn(aV);
+		given(backingAccounts.contains(deleted)).willReturn(true);
+		given(backingAccounts.getUnsafeRef(deleted)).willReturn(deletedV);
+		given(backingAccounts.contains(outOfPlace)).willReturn(true);
+		given(backingAccounts.getUnsafeRef(outOfPlace)).willReturn(contractV);
+
+		// expect:
+		assertEquals(OK, subject.queryableAccountStatus(a, backingAccounts));
+		assertEquals(ACCOUNT_DELETED, subject.queryableAccountStatus(deleted, backingAccounts));
+		assertEquals(INVALID_ACCOUNT_ID, subject.queryableAccountStatus(outOfPlace, backingAccounts));
+		assertEquals(INVALID_ACCOUNT_ID, subject.queryableAccountStatus(missing, backingAccounts));
+	}
+
 	@Test
 	public void recognizesMissingContractStatus() {
 		// expect:
@@ -268,25 +289,25 @@ public class ContextOptionValidatorTest {
 
 	@Test
 	public void rejectsBriefTxnDuration() {
-		given(properties.getLongProperty("hedera.transaction.minValidDuration")).willReturn(2L);
-		given(properties.getLongProperty("hedera.transaction.maxValidDuration")).willReturn(10L);
+		given(properties.minTxnDuration()).willReturn(2L);
+		given(properties.maxTxnDuration()).willReturn(10L);
 
 		// expect:
 		assertFalse(subject.isValidTxnDuration(1L));
 		// and:
-		verify(properties).getLongProperty("hedera.transaction.minValidDuration");
+		verify(properties).minTxnDuration();
 	}
 
 	@Test
 	public void rejectsProlongedTxnDuration() {
-		given(properties.getLongProperty("hedera.transaction.minValidDuration")).willReturn(2L);
-		given(properties.getLongProperty("hedera.transaction.maxValidDuration")).willReturn(10L);
+		given(properties.minTxnDuration()).willReturn(2L);
+		given(properties.maxTxnDuration()).willReturn(10L);
 
 		// expect:
 		assertFalse(subject.isValidTxnDuration(11L));
 		// and:
-		verify(properties).getLongProperty("hedera.transaction.minValidDuration");
-		verify(properties).getLongProperty("hedera.transaction.maxValidDuration");
+		verify(properties).minTxnDuration();
+		verify(properties).maxTxnDuration();
 	}
 
 	@Test
@@ -294,13 +315,13 @@ public class ContextOptionValidatorTest {
 		// setup:
 		Duration autoRenewPeriod = Duration.newBuilder().setSeconds(55L).build();
 
-		given(properties.getLongProperty("ledger.autoRenewPeriod.minDuration")).willReturn(1_000L);
-		given(properties.getLongProperty("ledger.autoRenewPeriod.maxDuration")).willReturn(1_000_000L);
+		given(properties.minAutoRenewDuration()).willReturn(1_000L);
+		given(properties.maxAutoRenewDuration()).willReturn(1_000_000L);
 
 		// expect:
 		assertFalse(subject.isValidAutoRenewPeriod(autoRenewPeriod));
 		// and:
-		verify(properties).getLongProperty("ledger.autoRenewPeriod.minDuration");
+		verify(properties).minAutoRenewDuration();
 	}
 
 	@Test
@@ -308,14 +329,14 @@ public class ContextOptionValidatorTest {
 		// setup:
 		Duration autoRenewPeriod = Duration.newBuilder().setSeconds(500_000L).build();
 
-		given(properties.getLongProperty("ledger.autoRenewPeriod.minDuration")).willReturn(1_000L);
-		given(properties.getLongProperty("ledger.autoRenewPeriod.maxDuration")).willReturn(1_000_000L);
+		given(properties.minAutoRenewDuration()).willReturn(1_000L);
+		given(properties.maxAutoRenewDuration()).willReturn(1_000_000L);
 
 		// expect:
 		assertTrue(subject.isValidAutoRenewPeriod(autoRenewPeriod));
 		// and:
-		verify(properties).getLongProperty("ledger.autoRenewPeriod.minDuration");
-		verify(properties).getLongProperty("ledger.autoRenewPeriod.maxDuration");
+		verify(properties).minAutoRenewDuration();
+		verify(properties).maxAutoRenewDuration();
 	}
 
 	@Test
@@ -323,14 +344,14 @@ public class ContextOptionValidatorTest {
 		// setup:
 		Duration autoRenewPeriod = Duration.newBuilder().setSeconds(5_555_555L).build();
 
-		given(properties.getLongProperty("ledger.autoRenewPeriod.minDuration")).willReturn(1_000L);
-		given(properties.getLongProperty("ledger.autoRenewPeriod.maxDuration")).willReturn(1_000_000L);
+		given(properties.minAutoRenewDuration()).willReturn(1_000L);
+		given(properties.maxAutoRenewDuration()).willReturn(1_000_000L);
 
 		// expect:
 		assertFalse(subject.isValidAutoRenewPeriod(autoRenewPeriod));
 		// and:
-		verify(properties).getLongProperty("ledger.autoRenewPeriod.minDuration");
-		verify(properties).getLongProperty("ledger.autoRenewPeriod.maxDuration");
+		verify(properties).minAutoRenewDuration();
+		verify(properties).maxAutoRenewDuration();
 	}
 
 	@Test
@@ -338,12 +359,12 @@ public class ContextOptionValidatorTest {
 		// setup:
 		TransferList wrapper = withAdjustments(a, 2L, b, -3L, d, 1L);
 
-		given(properties.getIntProperty("ledger.transfers.maxLen")).willReturn(3);
+		given(properties.maxTransferListSize()).willReturn(3);
 
 		// expect:
 		assertTrue(subject.isAcceptableLength(wrapper));
 		// and:
-		verify(properties).getIntProperty("ledger.transfers.maxLen");
+		verify(properties).maxTransferListSize();
 	}
 
 	@Test
@@ -351,12 +372,12 @@ public class ContextOptionValidatorTest {
 		// setup:
 		TransferList wrapper = withAdjustments(a, 2L, b, -3L, d, 1L);
 
-		given(properties.getIntProperty("ledger.transfers.maxLen")).willReturn(2);
+		given(properties.maxTransferListSize()).willReturn(2);
 
 		// expect:
 		assertFalse(subject.isAcceptableLength(wrapper));
 		// and:
-		verify(properties).getIntProperty("ledger.transfers.maxLen");
+		verify(properties).maxTransferListSize();
 	}
 
 	@Test
@@ -25,6 +25,7 @@ import com.google.protobuf.InvalidProtocolBufferException;
 import com.goterl.lazycode.lazysodium.interfaces.Sign;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.ConsensusCreateTopicTransactionBody;
+import com.hederahashgraph.api.proto.java.ConsensusSubmitMessageTransactionBody;
 import com.hederahashgraph.api.proto.java.HederaFunctionality;
 import com.hederahashgraph.api.proto.java.SignatureMap;
 import com.hederahashgraph.api.proto.java.SignaturePair;
@@ -41,8 +42,12 @@ import static org.mockito.BDDMockito.*;
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.ConsensusCreateTopic;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import org.junit.runner.RunWith;
 
+import java.security.MessageDigest;
 import java.util.List;
 import java.util.function.Function;
 
@@ -81,6 +86,40 @@ public class PlatformTxnAccessorTest {
 		assertArrayEquals(signedTxnWithBody.toByteArray(), subject.getSignedTxnBytes());
 	}
 
+	@Test
+	public void memoizesSubmitMessageDigest() throws Exception {
+		// setup:
+		var message = ByteString.copyFrom(NONSENSE);
+		var submitTxn = someTxn.toBuilder()
+				.setConsensusSubmitMessage(ConsensusSubmitMessageTransactionBody.newBuilder()
+						.setMessage(message))
+				.build();
+		var expected = MessageDigest.getInstance("SHA-384").digest(NONSENSE);
+
+		// given:
+		var subject = new SignedTxnAccessor(Transaction.newBuilder()
+				.setBodyBytes(submitTxn.toByteString())
+				.build());
+
+		// when:
+		var digest = subject.getSubmitMessageDigest();
+
+		// then:
+		assertArrayEquals(expected, digest);
+		assertSame(digest, subject.getSubmitMessageDigest());
+	}
+
+	@Test
+	public void hasNoSubmitMessageDigestForOtherTxns() throws Exception {
+		// given:
+		var subject = new SignedTxnAccessor(Transaction.newBuilder()
+				.setBodyBytes(someTxn.toByteString())
+				.build());
+
+		// expect:
+		assertNull(subject.getSubmitMessageDigest());
+	}
+
 	@Test
 	public void extractorReturnsExpectedFunction() {
 		// given:
@@ -241,4 +280,26 @@ public class PlatformTxnAccessorTest {
 		// then:
 		assertEquals(payer, subject.getPayer());
 	}
+
+	@Test
+	public void reusesActivationCacheUntilReset() throws Exception {
+		// given:
+		Transaction signedTxnWithBody = Transaction.newBuilder()
+				.setBodyBytes(someTxn.toByteString())
+				.build();
+		com.swirlds.common.Transaction platformTxn =
+				new com.swirlds.common.Transaction(signedTxnWithBody.toByteArray());
+		PlatformTxnAccessor subject = new PlatformTxnAccessor(platformTxn);
+
+		// when:
+		var firstCache = subject.activationCache();
+		var secondCache = subject.activationCache();
+		// and:
+		subject.resetActivationCache();
+		var resetCache = subject.activationCache();
+
+		// then:
+		assertSame(firstCache, secondCache);
+		assertNotSame(firstCache, resetCache);
+	}
 }
@@ -0,0 +1,168 @@
+package com.hedera.services.utils;
+
+/*-
+ * ‌
+ * Hedera Services Node
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.google.protobuf.ByteString;
+import com.hederahashgraph.api.proto.java.ConsensusSubmitMessageTransactionBody;
+import com.hederahashgraph.api.proto.java.Transaction;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+import com.hederahashgraph.api.proto.java.TransactionID;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import static com.hedera.test.utils.IdUtils.asAccount;
+import static com.hedera.services.utils.PlatformTxnAccessor.uncheckedAccessorFor;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.spy;
+import static org.mockito.BDDMockito.verify;
+
+@RunWith(JUnitPlatform.class)
+class TxnAccessorCacheTest {
+	TransactionBody someTxn = TransactionBody.newBuilder()
+			.setTransactionID(TransactionID.newBuilder().setAccountID(asAccount("0.0.2")))
+			.setMemo("Hi!")
+			.build();
+	byte[] contents = Transaction.newBuilder()
+			.setBodyBytes(someTxn.toByteString())
+			.build()
+			.toByteArray();
+
+	@Test
+	public void rejectsNegativeSize() {
+		// expect:
+		assertThrows(IllegalArgumentException.class, () -> new TxnAccessorCache(-1));
+	}
+
+	@Test
+	public void takesOfferedAccessorOnlyOnce() throws Exception {
+		// setup:
+		var platformTxn = new com.swirlds.common.Transaction(contents);
+		var accessor = uncheckedAccessorFor(platformTxn);
+		var subject = new TxnAccessorCache(2);
+
+		// given:
+		subject.offer(accessor);
+
+		// when:
+		var first = subject.take(platformTxn);
+		var second = subject.take(platformTxn);
+
+		// then:
+		assertSame(accessor, first);
+		assertNotSame(accessor, second);
+		assertEquals(accessor.getTxn(), second.getTxn());
+		assertEquals(0, subject.size());
+	}
+
+	@Test
+	public void keysByIdentityNotContents() throws Exception {
+		// setup:
+		var platformTxn = new com.swirlds.common.Transaction(contents);
+		var sameContentsTxn = new com.swirlds.common.Transaction(contents.clone());
+		var accessor = uncheckedAccessorFor(platformTxn);
+		var subject = new TxnAccessorCache(2);
+
+		// given:
+		subject.offer(accessor);
+
+		// expect:
+		assertNotSame(accessor, subject.take(sameContentsTxn));
+		assertEquals(1, subject.size());
+	}
+
+	@Test
+	public void evictsEldestWhenFull() throws Exception {
+		// setup:
+		var aTxn = new com.swirlds.common.Transaction(contents);
+		var bTxn = new com.swirlds.common.Transaction(contents);
+		var aAccessor = uncheckedAccessorFor(aTxn);
+		var bAccessor = uncheckedAccessorFor(bTxn);
+		var subject = new TxnAccessorCache(1);
+
+		// given:
+		subject.offer(aAccessor);
+		subject.offer(bAccessor);
+
+		// expect:
+		assertEquals(1, subject.size());
+		assertNotSame(aAccessor, subject.take(aTxn));
+		assertSame(bAccessor, subject.take(bTxn));
+	}
+
+	@Test
+	public void precomputesSubmitMessageDigestForHandleToReuse() throws Exception {
+		// setup:
+		var submitTxn = TransactionBody.newBuilder()
+				.setTransactionID(TransactionID.newBuilder().setAccountID(asAccount("0.0.2")))
+				.setConsensusSubmitMessage(ConsensusSubmitMessageTransactionBody.newBuilder()
+						.setMessage(ByteString.copyFromUtf8("Hello world!")))
+				.build();
+		var platformTxn = new com.swirlds.common.Transaction(Transaction.newBuilder()
+				.setBodyBytes(submitTxn.toByteString())
+				.build()
+				.toByteArray());
+		var accessor = spy(uncheckedAccessorFor(platformTxn));
+		var subject = new TxnAccessorCache(2);
+
+		// when:
+		subject.offer(accessor);
+		// and:
+		verify(accessor).getSubmitMessageDigest();
+		var precomputed = accessor.getSubmitMessageDigest();
+		var taken = subject.take(platformTxn);
+
+		// then:
+		assertSame(accessor, taken);
+		assertSame(precomputed, taken.getSubmitMessageDigest());
+	}
+
+	@Test
+	public void skipsMessageDigestForOtherFunctions() throws Exception {
+		// setup:
+		var platformTxn = new com.swirlds.common.Transaction(contents);
+		var accessor = spy(uncheckedAccessorFor(platformTxn));
+		var subject = new TxnAccessorCache(2);
+
+		// when:
+		subject.offer(accessor);
+
+		// then:
+		verify(accessor, never()).getSubmitMessageDigest();
+	}
+
+	@Test
+	public void cachesNothingIfSizeZero() throws Exception {
+		// setup:
+		var platformTxn = new com.swirlds.common.Transaction(contents);
+		var subject = new TxnAccessorCache(0);
+
+		// when:
+		subject.offer(uncheckedAccessorFor(platformTxn));
+
+		// then:
+		assertEquals(0, subject.size());
+	}
+}
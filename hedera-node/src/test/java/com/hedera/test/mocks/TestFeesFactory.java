@@ -22,11 +22,12 @@ package com.hedera.test.mocks;
 
 import com.google.common.cache.CacheBuilder;
 import com.hedera.services.context.properties.BootstrapProperties;
-import com.hedera.services.context.properties.PropertySource;
+import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.context.properties.PropertySources;
 import com.hedera.services.context.properties.StandardizedPropertySources;
 import com.hedera.services.fees.FeeCalculator;
 import com.hedera.services.fees.HbarCentExchange;
+import com.hedera.services.fees.calculation.FeeResultCache;
 import com.hedera.services.fees.calculation.TxnResourceUsageEstimator;
 import com.hedera.services.fees.calculation.UsageBasedFeeCalculator;
 import com.hedera.services.fees.calculation.consensus.queries.GetTopicInfoResourceUsage;
@@ -100,8 +101,8 @@ public enum TestFeesFactory {
 		FileFeeBuilder fileFees = new FileFeeBuilder();
 		CryptoFeeBuilder cryptoFees = new CryptoFeeBuilder();
 		SmartContractFeeBuilder contractFees = new SmartContractFeeBuilder();
-		PropertySource properties =
-				new StandardizedPropertySources(new BootstrapProperties(), ignore -> true).asResolvingSource();
+		GlobalDynamicProperties properties = new GlobalDynamicProperties(
+				new StandardizedPropertySources(new BootstrapProperties(), ignore -> true).asResolvingSource());
 		AnswerFunctions answerFunctions = new AnswerFunctions();
 		RecordCache recordCache = new RecordCache(
 				null,
@@ -121,7 +122,8 @@ public enum TestFeesFactory {
 						/* Consensus */
 						new GetTopicInfoResourceUsage()
 				),
-				txnUsageFn(fileFees, cryptoFees, contractFees)
+				txnUsageFn(fileFees, cryptoFees, contractFees),
+				new FeeResultCache(0)
 		);
 	}
 
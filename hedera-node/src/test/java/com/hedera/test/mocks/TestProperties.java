@@ -35,16 +35,43 @@ public enum TestProperties implements PropertySource {
 
 	@Override
 	public Object getProperty(String name) {
-		if (name.equals("contracts.defaultSendThreshold")) {
-			return PropertiesLoader.getDefaultContractSenderThreshold();
-		} else if (name.equals("contracts.defaultReceiveThreshold")) {
-			return PropertiesLoader.getDefaultContractReceiverThreshold();
-		} else if (name.equals("contracts.maxStorageKb")) {
-			return PropertiesLoader.getMaxContractStateSize();
-		} else if (name.equals("hedera.transaction.minValidityBufferSecs")) {
-			return 10;
-		} else {
-			return null;
+		switch (name) {
+			case "cache.records.ttl":
+				return PropertiesLoader.getTxReceiptTTL();
+			case "contracts.defaultSendThreshold":
+				return PropertiesLoader.getDefaultContractSenderThreshold();
+			case "contracts.defaultReceiveThreshold":
+				return PropertiesLoader.getDefaultContractReceiverThreshold();
+			case "contracts.maxStorageKb":
+				return PropertiesLoader.getMaxContractStateSize();
+			case "exchangeRates.intradayChange.limitPercent":
+				return PropertiesLoader.getExchangeRateAllowedPercentage();
+			case "files.maxSizeKb":
+				return PropertiesLoader.getMaxFileSize();
+			case "hedera.recordStream.logPeriod":
+				return PropertiesLoader.getRecordLogPeriod();
+			case "hedera.transaction.maxMemoUtf8Bytes":
+				return 100;
+			case "hedera.transaction.maxValidDuration":
+				return (long)PropertiesLoader.getTxMaxDuration();
+			case "hedera.transaction.minValidDuration":
+				return (long)PropertiesLoader.getTxMinDuration();
+			case "hedera.transaction.minValidityBufferSecs":
+				return 10;
+			case "iss.reset.periodSecs":
+				return 60;
+			case "ledger.autoRenewPeriod.maxDuration":
+				return PropertiesLoader.getMaximumAutorenewDuration();
+			case "ledger.autoRenewPeriod.minDuration":
+				return PropertiesLoader.getMinimumAutorenewDuration();
+			case "ledger.funding.account":
+				return "0.0.98";
+			case "ledger.records.ttl":
+				return PropertiesLoader.getThresholdTxRecordTTL();
+			case "ledger.transfers.maxLen":
+				return PropertiesLoader.getTransferAccountListSize();
+			default:
+				return null;
 		}
 	}
 
@@ -0,0 +1,150 @@
+package com.hedera.services.bdd.suites.perf;
+
+/*-
+ * ‌
+ * Hedera Services Test Clients
+ * ​
+ * Copyright (C) 2018 - 2020 Hedera Hashgraph, LLC
+ * ​
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ‍
+ */
+
+import com.hedera.services.bdd.spec.HapiApiSpec;
+import com.hedera.services.bdd.spec.HapiSpecOperation;
+import com.hedera.services.bdd.suites.HapiApiSuite;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static com.hedera.services.bdd.spec.HapiApiSpec.defaultHapiSpec;
+import static com.hedera.services.bdd.spec.queries.QueryVerbs.contractCallLocal;
+import static com.hedera.services.bdd.spec.queries.QueryVerbs.getAccountBalance;
+import static com.hedera.services.bdd.spec.transactions.TxnVerbs.contractCreate;
+import static com.hedera.services.bdd.spec.transactions.TxnVerbs.cryptoCreate;
+import static com.hedera.services.bdd.spec.transactions.TxnVerbs.cryptoTransfer;
+import static com.hedera.services.bdd.spec.transactions.TxnVerbs.fileCreate;
+import static com.hedera.services.bdd.spec.transactions.crypto.HapiCryptoTransfer.tinyBarsFromTo;
+import static com.hedera.services.bdd.spec.utilops.UtilVerbs.inParallel;
+import static com.hedera.services.bdd.spec.utilops.UtilVerbs.logIt;
+import static com.hedera.services.bdd.spec.utilops.UtilVerbs.runLoadTest;
+import static com.hedera.services.bdd.spec.utilops.UtilVerbs.withOpContext;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.BUSY;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.DUPLICATE_TRANSACTION;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.PLATFORM_TRANSACTION_NOT_CREATED;
+import static java.util.concurrent.TimeUnit.MINUTES;
+
+/**
+ * Mixes transfers, cheap balance queries, and expensive local contract calls, so the
+ * reported latency stats show whether slow queries delay the cheap traffic behind them.
+ */
+public class MixedTransferAndQueryLoadTest extends HapiApiSuite {
+	private static final Logger log = LogManager.getLogger(MixedTransferAndQueryLoadTest.class);
+
+	final String PATH_TO_LOOKUP_BYTECODE = "src/main/resource/testfiles/BalanceLookup.bin";
+	final String LOOKUP_ABI = "{\"constant\":true,\"inputs\":[{\"internalType\":\"uint64\",\"name\":\"accountNum\"," +
+			"\"type\":\"uint64\"}],\"name\":\"lookup\",\"outputs\":[{\"internalType\":\"uint256\",\"name\":\"\"," +
+			"\"type\":\"uint256\"}],\"payable\":false,\"stateMutability\":\"view\",\"type\":\"function\"}";
+
+	public static void main(String... args) {
+		/* Has a static initializer whose behavior seems influenced by initialization of ForkJoinPool#commonPool. */
+		new org.ethereum.crypto.HashUtil();
+
+		MixedTransferAndQueryLoadTest suite = new MixedTransferAndQueryLoadTest();
+		suite.setReportStats(true);
+		suite.runSuiteSync();
+	}
+
+	@Override
+	protected List<HapiApiSpec> getSpecsInSuite() {
+		return List.of(runMixedTransfersAndQueries());
+	}
+
+	@Override
+	public boolean hasInterestingStats() {
+		return true;
+	}
+
+	private HapiApiSpec runMixedTransfersAndQueries() {
+		PerfTestLoadSettings settings = new PerfTestLoadSettings();
+		final AtomicInteger submittedSoFar = new AtomicInteger(0);
+
+		Supplier<HapiSpecOperation[]> mixedBurst = () -> new HapiSpecOperation[] {
+				inParallel(flattened(
+						IntStream.range(0, settings.getBurstSize() / 2)
+								.mapToObj(ignore ->
+										cryptoTransfer(tinyBarsFromTo("sender", "receiver", 1L))
+												.noLogging()
+												.hasPrecheckFrom(
+													OK, BUSY, DUPLICATE_TRANSACTION, PLATFORM_TRANSACTION_NOT_CREATED)
+												.deferStatusResolution())
+								.toArray(n -> new HapiSpecOperation[n]),
+						IntStream.range(0, settings.getBurstSize() / 2)
+								.mapToObj(ignore ->
+										getAccountBalance("receiver")
+												.noLogging()
+												.hasAnswerOnlyPrecheckFrom(OK, BUSY))
+								.toArray(n -> new HapiSpecOperation[n]),
+						IntStream.range(0, settings.getBurstSize() / 25)
+								.mapToObj(ignore ->
+										contractCallLocal(
+												"contract",
+												LOOKUP_ABI,
+												spec -> new Object[] {
+														spec.registry().getAccountID("receiver").getAccountNum()
+												})
+												.nodePayment(spec -> spec.registry().getAmount("cost"))
+												.noLogging()
+												.hasAnswerOnlyPrecheckFrom(OK, BUSY))
+								.toArray(n -> new HapiSpecOperation[n])
+				)),
+				logIt(ignore ->
+						String.format(
+								"Now a 25:1 ratio of %d transfers+balance queries : local calls submitted in total.",
+								submittedSoFar.addAndGet(settings.getBurstSize() / 25 * 26))),
+		};
+
+		return defaultHapiSpec("RunMixedTransfersAndQueries")
+				.given(
+						withOpContext((spec, ignore) -> settings.setFrom(spec.setup().ciPropertiesMap())),
+						logIt(ignore -> settings.toString())
+				).when(
+						cryptoCreate("sender").balance(999_999_999_999_999L),
+						cryptoCreate("receiver"),
+						fileCreate("bytecode").path(PATH_TO_LOOKUP_BYTECODE),
+						contractCreate("contract").bytecode("bytecode").balance(1_000L),
+						contractCallLocal(
+								"contract",
+								LOOKUP_ABI,
+								spec -> new Object[] {
+										spec.registry().getAccountID("receiver").getAccountNum()
+								}).recordNodePaymentAs("cost")
+				).then(
+						runLoadTest(mixedBurst)
+								.tps(settings::getTps)
+								.tolerance(settings::getTolerancePercentage)
+								.allowedSecsBelow(settings::getAllowedSecsBelow)
+								.lasting(settings::getMins, () -> MINUTES)
+				);
+	}
+
+	@Override
+	protected Logger getResultsLogger() {
+		return log;
+	}
+}